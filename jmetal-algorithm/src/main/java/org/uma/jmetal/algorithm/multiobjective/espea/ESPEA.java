@@ -83,6 +83,12 @@ public class ESPEA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
     this.evaluator = evaluator;
   }
 
+  /** The archive keeps references to the evaluated solutions */
+  @Override
+  protected boolean keepsReferencesToEvaluatedSolutions() {
+    return true;
+  }
+
   @Override
   public String getName() {
     return "ESPEA";
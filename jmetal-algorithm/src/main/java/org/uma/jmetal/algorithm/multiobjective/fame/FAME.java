@@ -291,6 +291,21 @@ public class FAME<S extends DoubleSolution> extends SteadyStateNSGAII<S> {
     return offspringPopulation;
   }
 
+  /** The archive keeps references to the evaluated solutions */
+  @Override
+  protected boolean keepsReferencesToEvaluatedSolutions() {
+    return true;
+  }
+
+  /**
+   * The archive, which is filled when the initial population is created, and the statistics of the
+   * operators are not saved in the checkpoints
+   */
+  @Override
+  public boolean supportsCheckpoints() {
+    return false;
+  }
+
   @Override
   public String getName() {
     return "FAME";
@@ -12,9 +12,14 @@ import org.uma.jmetal.util.solutionattribute.impl.Fitness;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
- * This class implements the IBEA algorithm
+ * This class implements the IBEA algorithm. The indicator values of the pairs of solutions, and
+ * their fitness, can be computed by the threads of a {@link ForkJoinPool} (see {@link
+ * #setForkJoinPool(ForkJoinPool)}); the result does not depend on the number of threads.
  */
 @SuppressWarnings("serial")
 public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
@@ -22,7 +27,16 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
 
   public static final int TOURNAMENTS_ROUNDS = 1;
 
-  protected List<List<Double>> indicatorValues;
+  /**
+   * Indicator values of each pair of elements, stored row-major in a matrix of
+   * numberOfIndicatorValues x numberOfIndicatorValues values. The i-th element of the current
+   * solution list is the positions[i]-th row (and column) of the matrix.
+   */
+  protected double[] indicatorValues;
+  protected int numberOfIndicatorValues;
+  protected int[] positions;
+  protected int numberOfPositions;
+  protected double[] fitnessValues;
   protected double maxIndicatorValue;
 
   protected int populationSize;
@@ -37,6 +51,9 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
 
   protected Fitness<S> solutionFitness = new Fitness<S>();
 
+  private final DominanceComparator<S> dominanceComparator = new DominanceComparator<S>();
+  private transient ForkJoinPool forkJoinPool;
+
   /**
    * Constructor
    */
@@ -125,6 +142,16 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
    */
   double calculateHypervolumeIndicator(Solution<?> solutionA, Solution<?> solutionB, int d,
       double maximumValues[], double minimumValues[]) {
+    return calculateHypervolumeIndicator(solutionA.getObjectives(),
+        solutionB == null ? null : solutionB.getObjectives(), d, maximumValues, minimumValues);
+  }
+
+  /**
+   * Calculates the hypervolume of that portion of the objective space that
+   * is dominated by the objectives a but not by the objectives b (null for the reference point)
+   */
+  double calculateHypervolumeIndicator(double[] objectivesA, double[] objectivesB, int d,
+      double maximumValues[], double minimumValues[]) {
     double a, b, r, max;
     double volume ;
     double rho = 2.0;
@@ -132,11 +159,11 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     r = rho * (maximumValues[d - 1] - minimumValues[d - 1]);
     max = minimumValues[d - 1] + r;
 
-    a = solutionA.getObjective(d - 1);
-    if (solutionB == null) {
+    a = objectivesA[d - 1];
+    if (objectivesB == null) {
       b = max;
     } else {
-      b = solutionB.getObjective(d - 1);
+      b = objectivesB[d - 1];
     }
 
     if (d == 1) {
@@ -148,14 +175,14 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     } else {
       if (a < b) {
         volume =
-            calculateHypervolumeIndicator(solutionA, null, d - 1, maximumValues, minimumValues) * (b
+            calculateHypervolumeIndicator(objectivesA, null, d - 1, maximumValues, minimumValues) * (b
                 - a) / r;
         volume +=
-            calculateHypervolumeIndicator(solutionA, solutionB, d - 1, maximumValues, minimumValues)
+            calculateHypervolumeIndicator(objectivesA, objectivesB, d - 1, maximumValues, minimumValues)
                 * (max - b) / r;
       } else {
         volume =
-            calculateHypervolumeIndicator(solutionA, solutionB, d - 1, maximumValues, minimumValues)
+            calculateHypervolumeIndicator(objectivesA, objectivesB, d - 1, maximumValues, minimumValues)
                 * (max - a) / r;
       }
     }
@@ -164,43 +191,57 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
   }
 
   /**
-   * This structure stores the indicator values of each pair of elements
+   * This structure stores the indicator values of each pair of elements. The rows of the matrix
+   * are computed by the threads of the fork join pool, if it has been set.
    */
   public void computeIndicatorValuesHD(List<S> solutionSet, double[] maximumValues,
       double[] minimumValues) {
-    List<S> A, B;
     // Initialize the structures
-    indicatorValues = new ArrayList<List<Double>>();
-    maxIndicatorValue = -Double.MAX_VALUE;
-
-    for (int j = 0; j < solutionSet.size(); j++) {
-      A = new ArrayList<>(1);
-      A.add(solutionSet.get(j));
+    int size = solutionSet.size();
+    indicatorValues = new double[size * size];
+    numberOfIndicatorValues = size;
+    positions = new int[size];
+    numberOfPositions = size;
+    fitnessValues = new double[size];
+    for (int i = 0; i < size; i++) {
+      positions[i] = i;
+    }
 
-      List<Double> aux = new ArrayList<Double>();
-      for (S solution : solutionSet) {
-        B = new ArrayList<>(1);
-        B.add(solution);
+    double[][] objectives = new double[size][];
+    for (int i = 0; i < size; i++) {
+      objectives[i] = solutionSet.get(i).getObjectives();
+    }
 
-        int flag = (new DominanceComparator<S>()).compare(A.get(0), B.get(0));
+    double[] maxRowValues = new double[size];
+    forEachPosition(size, j -> {
+      S solutionA = solutionSet.get(j);
+      double maxRowValue = -Double.MAX_VALUE;
+      for (int i = 0; i < size; i++) {
+        int flag = dominanceComparator.compare(solutionA, solutionSet.get(i));
 
         double value;
         if (flag == -1) {
-          value =
-              -calculateHypervolumeIndicator(A.get(0), B.get(0), problem.getNumberOfObjectives(),
-                  maximumValues, minimumValues);
+          value = -calculateHypervolumeIndicator(objectives[j], objectives[i],
+              problem.getNumberOfObjectives(), maximumValues, minimumValues);
         } else {
-          value = calculateHypervolumeIndicator(B.get(0), A.get(0), problem.getNumberOfObjectives(),
-              maximumValues, minimumValues);
+          value = calculateHypervolumeIndicator(objectives[i], objectives[j],
+              problem.getNumberOfObjectives(), maximumValues, minimumValues);
         }
 
-        //Update the max value of the indicator
-        if (Math.abs(value) > maxIndicatorValue) {
-          maxIndicatorValue = Math.abs(value);
+        if (Math.abs(value) > maxRowValue) {
+          maxRowValue = Math.abs(value);
         }
-        aux.add(value);
+        indicatorValues[j * size + i] = value;
+      }
+      maxRowValues[j] = maxRowValue;
+    });
+
+    //Update the max value of the indicator
+    maxIndicatorValue = -Double.MAX_VALUE;
+    for (double maxRowValue : maxRowValues) {
+      if (maxRowValue > maxIndicatorValue) {
+        maxIndicatorValue = maxRowValue;
       }
-      indicatorValues.add(aux);
     }
   }
 
@@ -208,15 +249,25 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
    * Calculate the fitness for the individual at position pos
    */
   public void fitness(List<S> solutionSet, int pos) {
+    double fitness = computeFitness(pos);
+    fitnessValues[positions[pos]] = fitness;
+    solutionFitness.setAttribute(solutionSet.get(pos), fitness);
+  }
+
+  private double computeFitness(int pos) {
     double fitness = 0.0;
     double kappa = 0.05;
 
-    for (int i = 0; i < solutionSet.size(); i++) {
+    int column = positions[pos];
+    for (int i = 0; i < numberOfPositions; i++) {
       if (i != pos) {
-        fitness += Math.exp((-1 * indicatorValues.get(i).get(pos) / maxIndicatorValue) / kappa);
+        fitness += Math.exp(
+            (-1 * indicatorValues[positions[i] * numberOfIndicatorValues + column] / maxIndicatorValue)
+                / kappa);
       }
     }
-    solutionFitness.setAttribute(solutionSet.get(pos), fitness);
+
+    return fitness;
   }
 
   /**
@@ -245,46 +296,68 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     }
 
     computeIndicatorValuesHD(solutionSet, maximumValues, minimumValues);
+    forEachPosition(solutionSet.size(), pos -> fitnessValues[pos] = computeFitness(pos));
     for (int pos = 0; pos < solutionSet.size(); pos++) {
-      fitness(solutionSet, pos);
+      solutionFitness.setAttribute(solutionSet.get(pos), fitnessValues[pos]);
     }
   }
 
   /**
-   * Update the fitness before removing an individual
+   * Update the fitness before removing an individual. The indicator values of the removed
+   * individual are not deleted from the matrix; only its position is.
    */
   public void removeWorst(List<S> solutionSet) {
 
     // Find the worst;
-    double worst = (double) solutionFitness.getAttribute(solutionSet.get(0));
+    double worst = fitnessValues[positions[0]];
     int worstIndex = 0;
     double kappa = 0.05;
 
-    for (int i = 1; i < solutionSet.size(); i++) {
-      if ((double) solutionFitness.getAttribute(solutionSet.get(i)) > worst) {
-        worst = (double) solutionFitness.getAttribute(solutionSet.get(i));
+    for (int i = 1; i < numberOfPositions; i++) {
+      if (fitnessValues[positions[i]] > worst) {
+        worst = fitnessValues[positions[i]];
         worstIndex = i;
       }
     }
 
     // Update the population
-    for (int i = 0; i < solutionSet.size(); i++) {
+    int row = positions[worstIndex] * numberOfIndicatorValues;
+    for (int i = 0; i < numberOfPositions; i++) {
       if (i != worstIndex) {
-        double fitness = (double) solutionFitness.getAttribute(solutionSet.get(i));
-        fitness -= Math.exp((-indicatorValues.get(worstIndex).get(i) / maxIndicatorValue) / kappa);
+        int position = positions[i];
+        double fitness = fitnessValues[position];
+        fitness -= Math.exp((-indicatorValues[row + position] / maxIndicatorValue) / kappa);
+        fitnessValues[position] = fitness;
         solutionFitness.setAttribute(solutionSet.get(i), fitness);
       }
     }
 
-    // remove worst from the indicatorValues list
-    indicatorValues.remove(worstIndex);
-    for (List<Double> anIndicatorValues_ : indicatorValues) {
-      anIndicatorValues_.remove(worstIndex);
-    }
+    // remove worst from the positions of the indicatorValues matrix
+    System.arraycopy(positions, worstIndex + 1, positions, worstIndex,
+        numberOfPositions - worstIndex - 1);
+    numberOfPositions--;
 
     solutionSet.remove(worstIndex);
   }
 
+  /**
+   * Sets the pool computing the indicator values and the fitness in parallel (null, the default
+   * value, to compute them sequentially)
+   */
+  public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+  }
+
+  private void forEachPosition(int size, IntConsumer action) {
+    if (forkJoinPool == null) {
+      for (int i = 0; i < size; i++) {
+        action.accept(i);
+      }
+    } else {
+      forkJoinPool.submit(() -> IntStream.range(0, size).parallel().forEach(action)).join();
+    }
+  }
+
   @Override public String getName() {
     return "IBEA" ;
   }
@@ -11,6 +11,7 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class implements the IBEA algorithm
@@ -24,6 +25,7 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
   private CrossoverOperator<DoubleSolution> crossover;
   private MutationOperator<DoubleSolution> mutation;
   private SelectionOperator<List<DoubleSolution>, DoubleSolution> selection;
+  private ForkJoinPool forkJoinPool;
 
   /**
    * Constructor
@@ -108,8 +110,21 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
     return this;
   }
 
+  /**
+   * Sets the pool computing the indicator values and the fitness in parallel (null, the default
+   * value, to compute them sequentially)
+   */
+  public IBEABuilder setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+
+    return this;
+  }
+
   public IBEA<DoubleSolution> build() {
-    return new IBEA<DoubleSolution>(problem, populationSize, archiveSize, maxEvaluations, selection, crossover,
-        mutation);
+    IBEA<DoubleSolution> algorithm = new IBEA<DoubleSolution>(problem, populationSize, archiveSize,
+        maxEvaluations, selection, crossover, mutation);
+    algorithm.setForkJoinPool(forkJoinPool);
+
+    return algorithm;
   }
 }
@@ -173,6 +173,12 @@ public class MOCell<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
     return population;
   }
 
+  /** The archive keeps references to the evaluated solutions */
+  @Override
+  protected boolean keepsReferencesToEvaluatedSolutions() {
+    return true;
+  }
+
   @Override
   public String getName() {
     return "MOCell";
@@ -75,6 +75,18 @@ public class DynamicNSGAII<S extends Solution<?>> extends NSGAII<S>
     this.lastReceivedFront = null;
   }
 
+  /** The dynamic problem and the restarts are not saved in the checkpoints */
+  @Override
+  public boolean supportsCheckpoints() {
+    return false;
+  }
+
+  /** The last front received by the observers is compared with the next ones */
+  @Override
+  protected boolean keepsReferencesToEvaluatedSolutions() {
+    return true;
+  }
+
   @Override
   protected boolean isStoppingConditionReached() {
     if (evaluations >= maxEvaluations) {
@@ -8,6 +8,7 @@ import org.uma.jmetal.operator.selection.impl.RankingAndCrowdingSelection;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
@@ -75,6 +76,22 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
     return evaluations >= maxEvaluations;
   }
 
+  @Override public boolean supportsCheckpoints() {
+    return true ;
+  }
+
+  @Override protected Checkpoint<S> createCheckpoint() {
+    Checkpoint<S> checkpoint = super.createCheckpoint() ;
+    checkpoint.getState().put("EVALUATIONS", (long) evaluations) ;
+
+    return checkpoint ;
+  }
+
+  @Override protected void restoreCheckpoint(Checkpoint<S> checkpoint) {
+    super.restoreCheckpoint(checkpoint);
+    evaluations = checkpoint.getState().get("EVALUATIONS").intValue() ;
+  }
+
   @Override protected List<S> evaluatePopulation(List<S> population) {
     population = evaluator.evaluate(population, getProblem());
 
@@ -34,6 +34,7 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
   private CrossoverOperator<S> crossoverOperator;
   private MutationOperator<S> mutationOperator;
   private SelectionOperator<List<S>, S> selectionOperator;
+  private boolean defaultSelectionOperator;
   private SolutionListEvaluator<S> evaluator;
   private Comparator<S> dominanceComparator ;
 
@@ -52,6 +53,7 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
     this.crossoverOperator = crossoverOperator ;
     this.mutationOperator = mutationOperator ;
     selectionOperator = new BinaryTournamentSelection<S>(new RankingAndCrowdingDistanceComparator<S>()) ;
+    defaultSelectionOperator = true ;
     evaluator = new SequentialSolutionListEvaluator<S>();
     dominanceComparator = new DominanceComparator<>()  ;
 
@@ -91,6 +93,7 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
       throw new JMetalException("selectionOperator is null");
     }
     this.selectionOperator = selectionOperator;
+    defaultSelectionOperator = false ;
 
     return this;
   }
@@ -127,8 +130,14 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
               crossoverOperator,
           mutationOperator, selectionOperator, dominanceComparator, evaluator);
     } else if (variant.equals(NSGAIIVariant.SteadyStateNSGAII)) {
-      algorithm = new SteadyStateNSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
-          mutationOperator, selectionOperator, dominanceComparator, evaluator);
+      // The default comparator does not read the attributes of the steady-state ranking
+      if (defaultSelectionOperator) {
+        algorithm = new SteadyStateNSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
+            mutationOperator, dominanceComparator, evaluator);
+      } else {
+        algorithm = new SteadyStateNSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
+            mutationOperator, selectionOperator, dominanceComparator, evaluator);
+      }
     } else if (variant.equals(NSGAIIVariant.Measures)) {
       algorithm = new NSGAIIMeasures<S>(problem, maxEvaluations, populationSize, matingPoolSize, offspringPopulationSize,
               crossoverOperator, mutationOperator, selectionOperator, dominanceComparator, evaluator);
@@ -39,4 +39,9 @@ public class NSGAIIStoppingByTime<S extends Solution<?>> extends NSGAII<S> {
     long currentComputingTime = System.currentTimeMillis() - initComputingTime ;
     return currentComputingTime > thresholdComputingTime ;
   }
+
+  /** The computing time is not saved in the checkpoints */
+  @Override public boolean supportsCheckpoints() {
+    return false ;
+  }
 }
@@ -3,27 +3,85 @@ package org.uma.jmetal.algorithm.multiobjective.nsgaii;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.operator.selection.impl.BinaryTournamentSelection;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.MultiComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
 /**
+ * Steady-state version of NSGA-II, which creates one offspring solution per iteration. The
+ * population is kept in an {@link IncrementalNonDominatedSortRanking}, so that the replacement only
+ * updates the ranks and crowding distances of the fronts affected by the new solution and by the
+ * removed one instead of ranking the whole population again.
+ *
+ * <p>The ranks and crowding distances are stored in the attributes of the ranking and of {@link
+ * CrowdingDistanceDensityEstimator}, which are compared by the selection operator of {@link
+ * #createSelectionOperator()}. If another selection operator is given, they are also copied into
+ * the attributes of the deprecated {@link DominanceRanking} and {@link CrowdingDistance} classes,
+ * which are read by comparators such as {@link
+ * org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator}.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
+  private IncrementalNonDominatedSortRanking<S> ranking ;
+  private List<S> rankedPopulation ;
+  private final boolean legacyAttributes ;
+
   /**
    * Constructor
    */
   public SteadyStateNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
                            CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
                            SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator, SolutionListEvaluator<S> evaluator) {
+    this(problem, maxEvaluations, populationSize, crossoverOperator, mutationOperator,
+        selectionOperator, dominanceComparator, evaluator, true);
+  }
+
+  /**
+   * Constructor. The solutions are selected with the binary tournament of {@link
+   * #createSelectionOperator()}.
+   */
+  public SteadyStateNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+                           CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+                           Comparator<S> dominanceComparator, SolutionListEvaluator<S> evaluator) {
+    this(problem, maxEvaluations, populationSize, crossoverOperator, mutationOperator,
+        createSelectionOperator(), dominanceComparator, evaluator, false);
+  }
+
+  private SteadyStateNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+                            CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+                            SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator,
+                            SolutionListEvaluator<S> evaluator, boolean legacyAttributes) {
     super(problem, maxEvaluations, populationSize,100, 100, crossoverOperator, mutationOperator,
         selectionOperator, dominanceComparator, evaluator);
+    ranking = new IncrementalNonDominatedSortRanking<>(dominanceComparator) ;
+    this.legacyAttributes = legacyAttributes ;
+  }
+
+  /**
+   * Returns a binary tournament comparing the ranks and then the crowding distances of the
+   * solutions, as stored by this algorithm
+   */
+  public static <S extends Solution<?>> SelectionOperator<List<S>, S> createSelectionOperator() {
+    Comparator<S> comparator =
+        new MultiComparator<>(
+            Arrays.asList(
+                new IncrementalNonDominatedSortRanking<S>().getSolutionComparator(),
+                new CrowdingDistanceDensityEstimator<S>().getSolutionComparator()));
+
+    return new BinaryTournamentSelection<>(comparator) ;
   }
 
   @Override protected void updateProgress() {
@@ -54,6 +112,43 @@ public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
     return offspringPopulation;
   }
 
+  @Override protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+    if ((population != rankedPopulation) || (ranking.size() != population.size())) {
+      ranking.computeRanking(population) ;
+    }
+
+    for (S solution : offspringPopulation) {
+      ranking.add(solution) ;
+    }
+    while (ranking.size() > getMaxPopulationSize()) {
+      ranking.remove(ranking.getWorstSolution()) ;
+    }
+
+    if (legacyAttributes) {
+      setLegacyAttributes() ;
+    }
+
+    rankedPopulation = ranking.getSolutions() ;
+
+    return rankedPopulation ;
+  }
+
+  /**
+   * Copies the ranks and the crowding distances into the attributes read by the comparators based
+   * on the deprecated solution attributes
+   */
+  @SuppressWarnings("deprecation")
+  private void setLegacyAttributes() {
+    DominanceRanking<S> dominanceRanking = new DominanceRanking<>() ;
+    CrowdingDistance<S> crowdingDistance = new CrowdingDistance<>() ;
+    for (int rank = 0; rank < ranking.getNumberOfSubFronts(); rank++) {
+      for (S solution : ranking.getSubFront(rank)) {
+        dominanceRanking.setAttribute(solution, rank);
+        crowdingDistance.setAttribute(solution, ranking.getCrowdingDistance(solution));
+      }
+    }
+  }
+
   @Override public String getName() {
     return "ssNSGAII" ;
   }
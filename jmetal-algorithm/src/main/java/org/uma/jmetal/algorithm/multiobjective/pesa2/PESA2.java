@@ -110,6 +110,11 @@ public class PESA2<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
     return archive.getSolutionList();
   }
 
+  /** The archive keeps references to the evaluated solutions */
+  @Override protected boolean keepsReferencesToEvaluatedSolutions() {
+    return true ;
+  }
+
   @Override public String getName() {
     return "PESA2" ;
   }
@@ -71,6 +71,11 @@ public class RNSGAII<S extends Solution<?>> extends NSGAII<S> implements
     return evaluations.get() >= maxEvaluations;
   }
 
+  /** The evaluations are counted by a measure which is not saved in the checkpoints */
+  @Override public boolean supportsCheckpoints() {
+    return false ;
+  }
+
   @Override
   public void run() {
     durationMeasure.reset();
@@ -12,6 +12,7 @@ import org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Juan J. Durillo
@@ -30,6 +31,20 @@ public class SPEA2<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
                CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
                SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator,
                int k) {
+    this(problem, maxIterations, populationSize, crossoverOperator, mutationOperator,
+        selectionOperator, evaluator, k, null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param forkJoinPool Pool computing the fitness values and truncating the archive in parallel,
+   *     or null to do it sequentially
+   */
+  public SPEA2(Problem<S> problem, int maxIterations, int populationSize,
+               CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+               SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator,
+               int k, ForkJoinPool forkJoinPool) {
     super(problem);
     this.maxIterations = maxIterations;
     this.setMaxPopulationSize(populationSize);
@@ -38,7 +53,8 @@ public class SPEA2<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
     this.crossoverOperator = crossoverOperator;
     this.mutationOperator = mutationOperator;
     this.selectionOperator = selectionOperator;
-    this.environmentalSelection = new EnvironmentalSelection<S>(populationSize, k);
+    this.environmentalSelection = new EnvironmentalSelection<S>(populationSize, k, forkJoinPool);
+    this.strenghtRawFitness.setForkJoinPool(forkJoinPool);
 
     this.archive = new ArrayList<>(populationSize);
 
@@ -106,6 +122,12 @@ public class SPEA2<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
     return archive;
   }
 
+  /** The archive is built from the previous one and the population, so it keeps their solutions */
+  @Override
+  protected boolean keepsReferencesToEvaluatedSolutions() {
+    return true;
+  }
+
   @Override public String getName() {
     return "SPEA2" ;
   }
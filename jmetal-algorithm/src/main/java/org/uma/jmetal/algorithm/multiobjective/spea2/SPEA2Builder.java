@@ -12,6 +12,7 @@ import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Juan J. Durillo
@@ -28,6 +29,7 @@ public class SPEA2Builder<S extends Solution<?>> implements AlgorithmBuilder<SPE
   protected SelectionOperator<List<S>, S> selectionOperator;
   protected SolutionListEvaluator<S> evaluator;
   protected int k ;
+  protected ForkJoinPool forkJoinPool ;
 
   /**
    * SPEA2Builder constructor
@@ -87,10 +89,20 @@ public class SPEA2Builder<S extends Solution<?>> implements AlgorithmBuilder<SPE
     return this;
   }
 
+  /**
+   * Sets the pool computing the fitness values and truncating the archive in parallel (null, the
+   * default value, to do it sequentially)
+   */
+  public SPEA2Builder<S> setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool ;
+
+    return this;
+  }
+
   public SPEA2<S> build() {
     SPEA2<S> algorithm = null ;
     algorithm = new SPEA2<S>(problem, maxIterations, populationSize, crossoverOperator,
-          mutationOperator, selectionOperator, evaluator, k);
+          mutationOperator, selectionOperator, evaluator, k, forkJoinPool);
     
     return algorithm ;
   }
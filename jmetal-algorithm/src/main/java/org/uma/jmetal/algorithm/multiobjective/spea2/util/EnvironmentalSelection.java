@@ -1,19 +1,22 @@
 package org.uma.jmetal.algorithm.multiobjective.spea2.util;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.StrengthFitnessComparator;
-import org.uma.jmetal.util.solutionattribute.impl.LocationAttribute;
+import org.uma.jmetal.util.densityestimator.util.NearestNeighbourDistances;
 import org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
+ * Environmental selection of SPEA2. When there are more non-dominated solutions than solutions to
+ * select, the archive is truncated by removing iteratively the solution with the smallest distance
+ * to its nearest neighbours; the sorted distances are computed once and updated after each removal
+ * (see {@link NearestNeighbourDistances}).
+ *
  * @author Juanjo Durillo
  * @param <S>
  */
@@ -22,14 +25,28 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
 
   private int solutionsToSelect ;
   private StrengthRawFitness<S> strengthRawFitness ;
+  private transient ForkJoinPool forkJoinPool ;
 
   public EnvironmentalSelection(int solutionsToSelect) {
     this(solutionsToSelect, 1) ;
   }
 
   public EnvironmentalSelection(int solutionsToSelect, int k) {
+    this(solutionsToSelect, k, null) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param solutionsToSelect Number of solutions to select
+   * @param k Neighbour used in the density estimation
+   * @param forkJoinPool Pool computing the distances in parallel, or null to compute them
+   *     sequentially
+   */
+  public EnvironmentalSelection(int solutionsToSelect, int k, ForkJoinPool forkJoinPool) {
     this.solutionsToSelect = solutionsToSelect ;
     this.strengthRawFitness = new StrengthRawFitness<>(k) ;
+    this.forkJoinPool = forkJoinPool ;
   }
 
   @Override
@@ -68,74 +85,24 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
       return aux;
     }
 
-    double [][] distance = SolutionListUtils.distanceMatrix(aux);
-    List<List<Pair<Integer, Double>> > distanceList = new ArrayList<>();
-    LocationAttribute<S> location = new LocationAttribute<S>(aux);
-    for (int pos = 0; pos < aux.size(); pos++) {
-      List<Pair<Integer, Double>> distanceNodeList = new ArrayList<>();
-      for (int ref = 0; ref < aux.size(); ref++) {
-        if (pos != ref) {
-          distanceNodeList.add(Pair.of(ref, distance[pos][ref]));
-        }
-      }
-      distanceList.add(distanceNodeList);
+    double[][] objectives = new double[aux.size()][];
+    for (i = 0; i < aux.size(); i++) {
+      objectives[i] = aux.get(i).getObjectives();
     }
 
-    for (int q = 0; q < distanceList.size(); q++){
-      Collections.sort(distanceList.get(q), (pair1, pair2) -> {
-        if (pair1.getRight()  < pair2.getRight()) {
-          return -1;
-        } else if (pair1.getRight()  > pair2.getRight()) {
-          return 1;
-        } else {
-          return 0;
-        }
-      });
+    NearestNeighbourDistances distances = new NearestNeighbourDistances(objectives, forkJoinPool);
+    while (distances.getNumberOfPoints() > size) {
+      distances.remove(distances.getMostCrowdedPoint());
     }
 
-    while (aux.size() > size) {
-      double minDistance = Double.MAX_VALUE;
-      int toRemove = 0;
-      i = 0;
-      Iterator<List<Pair<Integer, Double>>> iterator = distanceList.iterator();
-      while (iterator.hasNext()){
-        List<Pair<Integer, Double>> dn = iterator.next();
-        if (dn.get(0).getRight() < minDistance){
-          toRemove = i;
-          minDistance = dn.get(0).getRight();
-          //i y toRemove have the same distance to the first solution
-        } else if (dn.get(0).getRight().equals(minDistance)) {
-          int k = 0;
-          while ((dn.get(k).getRight().equals(
-              distanceList.get(toRemove).get(k).getRight())) &&
-              k < (distanceList.get(i).size()-1)) {
-            k++;
-          }
-
-          if (dn.get(k).getRight() <
-              distanceList.get(toRemove).get(k).getRight()) {
-            toRemove = i;
-          }
-        }
-        i++;
-      }
-
-      int tmp =  (int) location.getAttribute(aux.get(toRemove));
-      aux.remove(toRemove);
-      distanceList.remove(toRemove);
-
-      Iterator<List<Pair<Integer, Double>>> externIterator = distanceList.iterator();
-      while (externIterator.hasNext()){
-        Iterator<Pair<Integer, Double>> interIterator = externIterator.next().iterator();
-        while (interIterator.hasNext()){
-          if (interIterator.next().getLeft() == tmp){
-            interIterator.remove();
-            continue;
-          }
-        }
+    List<S> selected = new ArrayList<>(size);
+    for (i = 0; i < aux.size(); i++) {
+      if (!distances.isRemoved(i)) {
+        selected.add(aux.get(i));
       }
     }
-    return aux;
+
+    return selected;
   }
 
 }
@@ -12,10 +12,12 @@ import org.uma.jmetal.problem.multiobjective.zdt.ZDT4;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
 
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class MOCellIT {
@@ -77,4 +79,20 @@ public class MOCellIT {
 
     assertTrue(hv > 0.64);
   }
+
+  @Test
+  public void shouldTheSolutionsNotBeRecycledWhenTheAlgorithmHasAnArchive() {
+    MOCell<DoubleSolution> moCell =
+        new MOCellBuilder<DoubleSolution>(problem, crossover, mutation)
+            .setArchive(new CrowdingDistanceArchive<DoubleSolution>(100))
+            .setMaxEvaluations(2000)
+            .build();
+    SolutionPool<DoubleSolution> solutionPool = new SolutionPool<>();
+    moCell.setSolutionPool(solutionPool);
+
+    moCell.run();
+
+    assertEquals(0, solutionPool.size());
+    assertEquals(0, solutionPool.getNumberOfReusedSolutions());
+  }
 }
@@ -0,0 +1,211 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.fame.FAME;
+import org.uma.jmetal.algorithm.multiobjective.spea2.SPEA2;
+import org.uma.jmetal.algorithm.multiobjective.spea2.SPEA2Builder;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.operator.selection.impl.SpatialSpreadDeviationSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class NSGAIICheckpointTest {
+  private Path directory;
+  private Problem<DoubleSolution> problem;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("NSGAIICheckpointTest");
+    problem = new ZDT1();
+  }
+
+  @After
+  public void cleanup() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  private NSGAII<DoubleSolution> createAlgorithm(
+      int maxEvaluations, CountingEvaluator evaluator) {
+    return createAlgorithm(NSGAIIBuilder.NSGAIIVariant.NSGAII, maxEvaluations, evaluator);
+  }
+
+  private NSGAII<DoubleSolution> createAlgorithm(
+      NSGAIIBuilder.NSGAIIVariant variant, int maxEvaluations, CountingEvaluator evaluator) {
+    NSGAII<DoubleSolution> algorithm =
+        new NSGAIIBuilder<>(
+                problem, new SBXCrossover(0.9, 20.0), new PolynomialMutation(1.0 / 30, 20.0), 100)
+            .setMaxEvaluations(maxEvaluations)
+            .setSolutionListEvaluator(evaluator)
+            .setVariant(variant)
+            .build();
+    if (algorithm instanceof DNSGAII) {
+      double[][] referenceVectors = new double[100][];
+      for (int i = 0; i < referenceVectors.length; i++) {
+        double weight = i / (referenceVectors.length - 1.0);
+        referenceVectors[i] = new double[] {weight, 1.0 - weight};
+      }
+      ((DNSGAII<DoubleSolution>) algorithm).setReferenceVectors(referenceVectors);
+    }
+
+    return algorithm;
+  }
+
+  private int run(NSGAII<DoubleSolution> algorithm) {
+    return run(algorithm, true);
+  }
+
+  private int run(NSGAII<DoubleSolution> algorithm, boolean randomGeneratorSaved) {
+    try (CheckpointManager<DoubleSolution> checkpointManager =
+        new CheckpointManager<>(directory.toString(), problem, 0)) {
+      checkpointManager.setRandomGeneratorSaved(randomGeneratorSaved);
+      algorithm.setCheckpointManager(checkpointManager);
+      algorithm.run();
+    }
+
+    return algorithm.evaluations;
+  }
+
+  @Test
+  public void shouldAResumedRunOnlyPerformTheRemainingEvaluations() {
+    CountingEvaluator evaluator = new CountingEvaluator();
+    assertEquals(1000, run(createAlgorithm(1000, evaluator)));
+    assertEquals(1000, evaluator.evaluations);
+
+    evaluator = new CountingEvaluator();
+    assertEquals(2500, run(createAlgorithm(2500, evaluator)));
+    assertEquals(1500, evaluator.evaluations);
+  }
+
+  @Test
+  public void shouldAResumedRunWhichHasFinishedPerformNoEvaluations() {
+    run(createAlgorithm(1000, new CountingEvaluator()));
+
+    CountingEvaluator evaluator = new CountingEvaluator();
+    assertEquals(1000, run(createAlgorithm(1000, evaluator)));
+    assertEquals(0, evaluator.evaluations);
+  }
+
+  @Test
+  public void shouldAResumedSteadyStateRunOnlyPerformTheRemainingEvaluations() {
+    NSGAIIBuilder.NSGAIIVariant variant = NSGAIIBuilder.NSGAIIVariant.SteadyStateNSGAII;
+    CountingEvaluator evaluator = new CountingEvaluator();
+    assertEquals(1000, run(createAlgorithm(variant, 1000, evaluator)));
+    assertEquals(1000, evaluator.evaluations);
+
+    evaluator = new CountingEvaluator();
+    assertEquals(1500, run(createAlgorithm(variant, 1500, evaluator)));
+    assertEquals(500, evaluator.evaluations);
+  }
+
+  @Test
+  public void shouldAResumedDNSGAIIRunOnlyPerformTheRemainingEvaluations() {
+    NSGAIIBuilder.NSGAIIVariant variant = NSGAIIBuilder.NSGAIIVariant.DNSGAII;
+    CountingEvaluator evaluator = new CountingEvaluator();
+    assertEquals(1000, run(createAlgorithm(variant, 1000, evaluator)));
+    assertEquals(1000, evaluator.evaluations);
+
+    evaluator = new CountingEvaluator();
+    assertEquals(2500, run(createAlgorithm(variant, 2500, evaluator)));
+    assertEquals(1500, evaluator.evaluations);
+  }
+
+  @Test
+  public void shouldAResumedRunRestoreTheRandomGeneratorIfItIsSaved() {
+    PseudoRandomGenerator randomGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    try {
+      JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+      run(createAlgorithm(1000, new CountingEvaluator()));
+
+      PseudoRandomGenerator generatorOfTheResumedRun = new JavaRandomGenerator(2);
+      JMetalRandom.getInstance().setRandomGenerator(generatorOfTheResumedRun);
+      run(createAlgorithm(1500, new CountingEvaluator()));
+
+      assertNotSame(generatorOfTheResumedRun, JMetalRandom.getInstance().getRandomGenerator());
+    } finally {
+      JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+    }
+  }
+
+  @Test
+  public void shouldAResumedRunNotReplaceTheRandomGeneratorIfItIsNotSaved() {
+    PseudoRandomGenerator randomGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    try {
+      JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1));
+      run(createAlgorithm(1000, new CountingEvaluator()));
+
+      PseudoRandomGenerator generatorOfTheResumedRun = new JavaRandomGenerator(2);
+      JMetalRandom.getInstance().setRandomGenerator(generatorOfTheResumedRun);
+      CountingEvaluator evaluator = new CountingEvaluator();
+      assertEquals(1500, run(createAlgorithm(1500, evaluator), false));
+
+      assertEquals(500, evaluator.evaluations);
+      assertSame(generatorOfTheResumedRun, JMetalRandom.getInstance().getRandomGenerator());
+    } finally {
+      JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetCheckpointManagerFailForFAME() {
+    FAME<DoubleSolution> algorithm =
+        new FAME<>(
+            problem,
+            25,
+            100,
+            1000,
+            new SpatialSpreadDeviationSelection<>(5),
+            new CountingEvaluator());
+    assertFalse(algorithm.supportsCheckpoints());
+
+    try (CheckpointManager<DoubleSolution> checkpointManager =
+        new CheckpointManager<>(directory.toString(), problem, 0)) {
+      algorithm.setCheckpointManager(checkpointManager);
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetCheckpointManagerFailIfTheAlgorithmDoesNotSupportCheckpoints() {
+    SPEA2<DoubleSolution> algorithm =
+        new SPEA2Builder<>(problem, new SBXCrossover(0.9, 20.0), new PolynomialMutation(1.0 / 30, 20.0))
+            .build();
+    assertFalse(algorithm.supportsCheckpoints());
+
+    try (CheckpointManager<DoubleSolution> checkpointManager =
+        new CheckpointManager<>(directory.toString(), problem, 0)) {
+      algorithm.setCheckpointManager(checkpointManager);
+    }
+  }
+
+  private static class CountingEvaluator extends SequentialSolutionListEvaluator<DoubleSolution> {
+    private int evaluations;
+
+    @Override
+    public List<DoubleSolution> evaluate(
+        List<DoubleSolution> solutionList, Problem<DoubleSolution> problem) {
+      evaluations += solutionList.size();
+      return super.evaluate(solutionList, problem);
+    }
+  }
+}
@@ -7,19 +7,24 @@ import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.operator.selection.impl.BinaryTournamentSelection;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.problem.multiobjective.ConstrEx;
 import org.uma.jmetal.problem.multiobjective.Kursawe;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
 import org.uma.jmetal.util.front.util.FrontNormalizer;
 import org.uma.jmetal.util.front.util.FrontUtils;
 import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 import java.util.List;
 
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 public class NSGAIIIT {
@@ -89,4 +94,90 @@ public class NSGAIIIT {
     assertTrue(population.size() >= 98) ;
     assertTrue(hv > 0.77) ;
   }
+
+  @Test
+  public void shouldTheSteadyStateVariantReturnAGoodQualityFrontWhenSolvingAConstrainedProblem() throws Exception {
+    ConstrEx problem = new ConstrEx() ;
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    double crossoverProbability = 0.9 ;
+    double crossoverDistributionIndex = 20.0 ;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    int populationSize  = 100 ;
+    algorithm = new NSGAIIBuilder<DoubleSolution>(problem, crossover, mutation, populationSize)
+        .setVariant(NSGAIIBuilder.NSGAIIVariant.SteadyStateNSGAII)
+        .build() ;
+
+    algorithm.run();
+
+    List<DoubleSolution> population = algorithm.getResult() ;
+
+    String referenceFrontFileName = "../resources/referenceFrontsCSV/ConstrEx.csv" ;
+
+    Front referenceFront = new ArrayFront(referenceFrontFileName);
+    FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront) ;
+
+    Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront) ;
+    Front normalizedFront = frontNormalizer.normalize(new ArrayFront(population)) ;
+    List<PointSolution> normalizedPopulation = FrontUtils
+        .convertFrontToSolutionList(normalizedFront) ;
+
+    double hv = new PISAHypervolume<PointSolution>(normalizedReferenceFront).evaluate(normalizedPopulation) ;
+
+    assertTrue(population.size() >= 98) ;
+    assertTrue(hv > 0.77) ;
+  }
+  @SuppressWarnings("deprecation")
+  @Test
+  public void shouldTheSteadyStateVariantSetTheAttributesReadByALegacySelectionComparator() throws Exception {
+    ConstrEx problem = new ConstrEx() ;
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    double crossoverProbability = 0.9 ;
+    double crossoverDistributionIndex = 20.0 ;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    int populationSize  = 100 ;
+    algorithm = new NSGAIIBuilder<DoubleSolution>(problem, crossover, mutation, populationSize)
+        .setVariant(NSGAIIBuilder.NSGAIIVariant.SteadyStateNSGAII)
+        .setSelectionOperator(
+            new BinaryTournamentSelection<DoubleSolution>(new RankingAndCrowdingDistanceComparator<>()))
+        .build() ;
+
+    algorithm.run();
+
+    List<DoubleSolution> population = algorithm.getResult() ;
+
+    DominanceRanking<DoubleSolution> dominanceRanking = new DominanceRanking<>() ;
+    CrowdingDistance<DoubleSolution> crowdingDistance = new CrowdingDistance<>() ;
+    for (DoubleSolution solution : population) {
+      assertNotNull(dominanceRanking.getAttribute(solution)) ;
+      assertNotNull(crowdingDistance.getAttribute(solution)) ;
+    }
+
+    String referenceFrontFileName = "../resources/referenceFrontsCSV/ConstrEx.csv" ;
+
+    Front referenceFront = new ArrayFront(referenceFrontFileName);
+    FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront) ;
+
+    Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront) ;
+    Front normalizedFront = frontNormalizer.normalize(new ArrayFront(population)) ;
+    List<PointSolution> normalizedPopulation = FrontUtils
+        .convertFrontToSolutionList(normalizedFront) ;
+
+    double hv = new PISAHypervolume<PointSolution>(normalizedReferenceFront).evaluate(normalizedPopulation) ;
+
+    assertTrue(hv > 0.77) ;
+  }
 }
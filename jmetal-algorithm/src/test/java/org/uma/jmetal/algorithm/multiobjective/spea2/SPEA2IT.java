@@ -0,0 +1,41 @@
+package org.uma.jmetal.algorithm.multiobjective.spea2;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class SPEA2IT {
+  @Test
+  public void shouldTheSolutionsNotBeRecycledAsTheArchiveKeepsThem() {
+    DoubleProblem problem = new ZDT1();
+    SPEA2<DoubleSolution> spea2 =
+        new SPEA2Builder<DoubleSolution>(
+                problem,
+                new SBXCrossover(0.9, 20.0),
+                new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+            .setMaxIterations(50)
+            .build();
+    SolutionPool<DoubleSolution> solutionPool = new SolutionPool<>();
+    spea2.setSolutionPool(solutionPool);
+
+    spea2.run();
+
+    List<DoubleSolution> result = spea2.getResult();
+    Set<DoubleSolution> distinctSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    distinctSolutions.addAll(result);
+
+    assertEquals(result.size(), distinctSolutions.size());
+    assertEquals(0, solutionPool.getNumberOfReusedSolutions());
+  }
+}
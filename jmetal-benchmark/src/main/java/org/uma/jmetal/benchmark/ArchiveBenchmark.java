@@ -0,0 +1,78 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the insertion of solutions into unbounded non-dominated archives. The solutions are
+ * a mix of random solutions and solutions of a non-dominated front, so that many of them are
+ * accepted by the archive.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArchiveBenchmark {
+  @Param({"NonDominatedSolutionListArchive", "NonDominatedSolutionTreeArchive"})
+  public String archive;
+
+  @Param({"1000", "10000"})
+  public int numberOfSolutions;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> solutionList;
+
+  @Setup
+  public void setup() {
+    solutionList = new ArrayList<>();
+    solutionList.addAll(
+        BenchmarkUtils.createRandomSolutions(numberOfSolutions / 2, numberOfObjectives, 1));
+    solutionList.addAll(
+        BenchmarkUtils.createNonDominatedSolutions(numberOfSolutions / 2, numberOfObjectives));
+  }
+
+  @Benchmark
+  public Archive<DoubleSolution> addSolutions() {
+    Archive<DoubleSolution> result = createArchive();
+    for (DoubleSolution solution : solutionList) {
+      result.add(solution);
+    }
+
+    return result;
+  }
+
+  private Archive<DoubleSolution> createArchive() {
+    switch (archive) {
+      case "NonDominatedSolutionListArchive":
+        return new NonDominatedSolutionListArchive<>();
+      case "NonDominatedSolutionTreeArchive":
+        return new NonDominatedSolutionTreeArchive<>();
+      default:
+        throw new JMetalException("Archive does not exist: " + archive);
+    }
+  }
+}
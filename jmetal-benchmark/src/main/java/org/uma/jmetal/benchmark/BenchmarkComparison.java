@@ -0,0 +1,217 @@
+package org.uma.jmetal.benchmark;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Program comparing the results of two executions of the benchmarks (e.g., with two versions of
+ * jMetal) and reporting the changes of their scores. The results must be written by JMH in CSV
+ * format:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar -rf csv -rff baseline.csv
+ * (upgrade jMetal)
+ * java -jar target/benchmarks.jar -rf csv -rff current.csv
+ * java -cp target/benchmarks.jar org.uma.jmetal.benchmark.BenchmarkComparison baseline.csv current.csv [threshold]
+ * </pre>
+ *
+ * <p>A benchmark is reported as a regression if its score is worse than the baseline by more than
+ * the threshold (a percentage, 5% by default) and the difference is greater than the sum of the
+ * score errors. The program exits with status 1 if any regression is found, so it can be used in a
+ * continuous integration job. The benchmarks without a valid score in both files (e.g., a NaN
+ * score or a baseline score of 0) are reported but not compared.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BenchmarkComparison {
+  public static final double DEFAULT_THRESHOLD = 5.0;
+
+  public static void main(String[] args) {
+    if ((args.length != 2) && (args.length != 3)) {
+      throw new JMetalException(
+          "Wrong number of arguments: baseline results file, current results file, and threshold"
+              + " (optional)");
+    }
+    double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+
+    Map<String, Result> baseline = readResults(args[0]);
+    Map<String, Result> current = readResults(args[1]);
+
+    int numberOfRegressions = 0;
+    System.out.println(
+        String.format(
+            "%-90s %14s %14s %9s  %s", "Benchmark", "Baseline", "Current", "Change", "Unit"));
+    for (Map.Entry<String, Result> entry : current.entrySet()) {
+      Result result = entry.getValue();
+      Result baselineResult = baseline.get(entry.getKey());
+      if (baselineResult == null) {
+        System.out.println(
+            String.format(
+                "%-90s %14s %14.3f %9s  %s", entry.getKey(), "-", result.score, "new", result.unit));
+        continue;
+      }
+      if (Double.isNaN(result.score)
+          || Double.isNaN(baselineResult.score)
+          || (baselineResult.score == 0.0)) {
+        System.out.println(
+            String.format(
+                "%-90s %14.3f %14.3f %9s  %s",
+                entry.getKey(),
+                baselineResult.score,
+                result.score,
+                "skipped",
+                result.unit));
+        continue;
+      }
+
+      double change = 100.0 * (result.score - baselineResult.score) / baselineResult.score;
+      double worsening = result.higherIsBetter() ? -change : change;
+      boolean regression =
+          (worsening > threshold)
+              && (Math.abs(result.score - baselineResult.score)
+                  > result.error + baselineResult.error);
+      if (regression) {
+        numberOfRegressions++;
+      }
+
+      System.out.println(
+          String.format(
+              "%-90s %14.3f %14.3f %+8.1f%%  %s%s",
+              entry.getKey(),
+              baselineResult.score,
+              result.score,
+              change,
+              result.unit,
+              regression ? "  REGRESSION" : ""));
+    }
+
+    System.out.println();
+    System.out.println("Regressions (threshold " + threshold + "%): " + numberOfRegressions);
+    if (numberOfRegressions > 0) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Reads a file of results written by JMH in CSV format. The results are indexed by the name of
+   * the benchmark followed by the values of its parameters.
+   */
+  public static Map<String, Result> readResults(String fileName) {
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(Paths.get(fileName));
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file " + fileName, e);
+    }
+    if (lines.isEmpty()) {
+      throw new JMetalException("The file " + fileName + " is empty");
+    }
+
+    List<String> header = split(lines.get(0));
+    int benchmarkColumn = header.indexOf("Benchmark");
+    int modeColumn = header.indexOf("Mode");
+    int scoreColumn = header.indexOf("Score");
+    int errorColumn = header.indexOf("Score Error (99.9%)");
+    int unitColumn = header.indexOf("Unit");
+    if ((benchmarkColumn < 0) || (modeColumn < 0) || (scoreColumn < 0) || (unitColumn < 0)) {
+      throw new JMetalException("The file " + fileName + " is not a JMH file in CSV format");
+    }
+
+    Map<String, Result> results = new LinkedHashMap<>();
+    for (String line : lines.subList(1, lines.size())) {
+      if (line.trim().isEmpty()) {
+        continue;
+      }
+      List<String> values = split(line);
+
+      StringBuilder key = new StringBuilder(values.get(benchmarkColumn));
+      for (int i = 0; i < header.size(); i++) {
+        if (header.get(i).startsWith("Param: ") && !values.get(i).isEmpty()) {
+          key.append(' ').append(header.get(i).substring(7)).append('=').append(values.get(i));
+        }
+      }
+
+      Result result = new Result();
+      result.mode = values.get(modeColumn);
+      result.score = parseNumber(values.get(scoreColumn));
+      result.error = errorColumn >= 0 ? parseNumber(values.get(errorColumn)) : Double.NaN;
+      if (Double.isNaN(result.error)) {
+        result.error = 0.0;
+      }
+      result.unit = values.get(unitColumn);
+      results.put(key.toString(), result);
+    }
+
+    return results;
+  }
+
+  /** Returns the value of a number, or NaN if it is empty */
+  private static double parseNumber(String value) {
+    if (value.isEmpty() || value.equals("NaN")) {
+      return Double.NaN;
+    }
+    return Double.parseDouble(value.replace(',', '.'));
+  }
+
+  /** Splits a line of a CSV file; the values can be quoted */
+  private static List<String> split(String line) {
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        if (quoted && (i + 1 < line.length()) && (line.charAt(i + 1) == '"')) {
+          value.append('"');
+          i++;
+        } else {
+          quoted = !quoted;
+        }
+      } else if ((c == ',') && !quoted) {
+        values.add(value.toString());
+        value.setLength(0);
+      } else {
+        value.append(c);
+      }
+    }
+    values.add(value.toString());
+
+    return values;
+  }
+
+  /** Score of a benchmark */
+  public static class Result {
+    private String mode;
+    private double score;
+    private double error;
+    private String unit;
+
+    /** In throughput mode the score is a number of operations per time unit */
+    boolean higherIsBetter() {
+      return mode.equals("thrpt");
+    }
+
+    public String getMode() {
+      return mode;
+    }
+
+    public double getScore() {
+      return score;
+    }
+
+    public double getError() {
+      return error;
+    }
+
+    public String getUnit() {
+      return unit;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package org.uma.jmetal.benchmark;
+
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Methods to create the input data of the benchmarks. The data are generated with a fixed seed, so
+ * that all the runs of a benchmark (and the runs of different versions of jMetal) use the same
+ * solutions.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BenchmarkUtils {
+  public static final long SEED = 1234;
+
+  /**
+   * Creates a list of solutions with random variables in [0, 1] and random objective values in [0,
+   * 1], which are distributed in several non-dominated fronts
+   */
+  public static List<DoubleSolution> createRandomSolutions(
+      int numberOfSolutions, int numberOfObjectives, int numberOfVariables) {
+    Random random = new Random(SEED);
+    DummyDoubleProblem problem =
+        new DummyDoubleProblem(numberOfVariables, numberOfObjectives, 0);
+
+    List<DoubleSolution> solutionList = new ArrayList<>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfVariables; j++) {
+        solution.setVariable(j, random.nextDouble());
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, random.nextDouble());
+      }
+      solutionList.add(solution);
+    }
+
+    return solutionList;
+  }
+
+  /**
+   * Creates a list of mutually non-dominated solutions, whose objective values are random points of
+   * the unit hypersphere in the positive orthant
+   */
+  public static List<DoubleSolution> createNonDominatedSolutions(
+      int numberOfSolutions, int numberOfObjectives) {
+    Random random = new Random(SEED);
+    DummyDoubleProblem problem = new DummyDoubleProblem(1, numberOfObjectives, 0);
+
+    List<DoubleSolution> solutionList = new ArrayList<>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      double[] point = new double[numberOfObjectives];
+      double norm = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] = Math.abs(random.nextGaussian());
+        norm += point[j] * point[j];
+      }
+      norm = Math.sqrt(norm);
+
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, point[j] / norm);
+      }
+      solutionList.add(solution);
+    }
+
+    return solutionList;
+  }
+
+  /** Returns copies of the solutions of a list */
+  public static List<DoubleSolution> copy(List<DoubleSolution> solutionList) {
+    List<DoubleSolution> copies = new ArrayList<>(solutionList.size());
+    for (DoubleSolution solution : solutionList) {
+      copies.add((DoubleSolution) solution.copy());
+    }
+
+    return copies;
+  }
+}
@@ -0,0 +1,66 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.cec2015OptBigDataCompetition.BigOpt2015;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the evaluation of {@link BigOpt2015}, implemented with {@link
+ * org.uma.jmetal.util.DenseMatrix} ("DenseMatrix") and with lists of boxed doubles ("Lists", see
+ * {@link ListBasedBigOpt2015}). The allocation rate of the evaluations can be measured by running
+ * the benchmark with the GC profiler ({@code -prof gc}).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BigOpt2015Benchmark {
+  @Param({"DenseMatrix", "Lists"})
+  public String implementation;
+
+  @Param({"D4", "D12", "D19"})
+  public String instance;
+
+  private DoubleProblem problem;
+  private DoubleSolution solution;
+
+  @Setup
+  public void setup() {
+    switch (implementation) {
+      case "DenseMatrix":
+        problem = new BigOpt2015(instance);
+        break;
+      case "Lists":
+        problem = new ListBasedBigOpt2015(instance);
+        break;
+      default:
+        throw new JMetalException("Implementation does not exist: " + implementation);
+    }
+    solution = problem.createSolution();
+  }
+
+  @Benchmark
+  public double evaluate() {
+    problem.evaluate(solution);
+
+    return solution.getObjective(0);
+  }
+}
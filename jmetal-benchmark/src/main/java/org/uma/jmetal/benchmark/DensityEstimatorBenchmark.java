@@ -0,0 +1,92 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.IncrementalKnnDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the crowding distance and KNN {@link DensityEstimator}s, applied to a non-dominated
+ * front. Besides computing the density estimator once, the benchmark removes a few solutions one at
+ * a time, as the sequential truncation of {@code RankingAndDensityEstimatorReplacement} does. Note
+ * that {@link IncrementalKnnDensityEstimator} reuses the distances computed in the previous
+ * invocation when it is applied again to the same solutions.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DensityEstimatorBenchmark {
+  private static final int SOLUTIONS_TO_REMOVE = 10;
+
+  @Param({"CrowdingDistance", "Knn", "IncrementalKnn"})
+  public String densityEstimator;
+
+  @Param({"100", "1000"})
+  public int populationSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> solutionList;
+  private DensityEstimator<DoubleSolution> estimator;
+
+  @Setup
+  public void setup() {
+    solutionList = BenchmarkUtils.createNonDominatedSolutions(populationSize, numberOfObjectives);
+    switch (densityEstimator) {
+      case "CrowdingDistance":
+        estimator = new CrowdingDistanceDensityEstimator<>();
+        break;
+      case "Knn":
+        estimator = new KnnDensityEstimator<>(1);
+        break;
+      case "IncrementalKnn":
+        estimator = new IncrementalKnnDensityEstimator<>(1);
+        break;
+      default:
+        throw new JMetalException("Density estimator does not exist: " + densityEstimator);
+    }
+  }
+
+  @Benchmark
+  public List<DoubleSolution> computeDensityEstimator() {
+    estimator.computeDensityEstimator(solutionList);
+
+    return solutionList;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> sequentialTruncation() {
+    List<DoubleSolution> resultList = new ArrayList<>(solutionList);
+    estimator.computeDensityEstimator(resultList);
+    for (int i = 0; i < SOLUTIONS_TO_REMOVE; i++) {
+      estimator.sort(resultList);
+      resultList.remove(resultList.size() - 1);
+      estimator.computeDensityEstimator(resultList);
+    }
+
+    return resultList;
+  }
+}
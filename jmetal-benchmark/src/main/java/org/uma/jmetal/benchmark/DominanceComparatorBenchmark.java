@@ -0,0 +1,58 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link DominanceComparator}: all the pairs of solutions of a list are compared.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DominanceComparatorBenchmark {
+  @Param({"100", "1000"})
+  public int populationSize;
+
+  @Param({"2", "3", "5", "10"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> solutionList;
+  private DominanceComparator<DoubleSolution> comparator;
+
+  @Setup
+  public void setup() {
+    solutionList = BenchmarkUtils.createRandomSolutions(populationSize, numberOfObjectives, 1);
+    comparator = new DominanceComparator<>();
+  }
+
+  @Benchmark
+  public int compareAllPairs() {
+    int result = 0;
+    for (DoubleSolution solution1 : solutionList) {
+      for (DoubleSolution solution2 : solutionList) {
+        result += comparator.compare(solution1, solution2);
+      }
+    }
+
+    return result;
+  }
+}
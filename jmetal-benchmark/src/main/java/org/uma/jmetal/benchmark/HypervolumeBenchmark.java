@@ -0,0 +1,71 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the WFG and PISA {@link Hypervolume} implementations, applied to a non-dominated
+ * front with reference point (1.1, ..., 1.1)
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HypervolumeBenchmark {
+  @Param({"WFG", "PISA"})
+  public String hypervolume;
+
+  @Param({"100", "500"})
+  public int frontSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> front;
+  private Hypervolume<DoubleSolution> indicator;
+
+  @Setup
+  public void setup() {
+    front = BenchmarkUtils.createNonDominatedSolutions(frontSize, numberOfObjectives);
+
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 1.1);
+    switch (hypervolume) {
+      case "WFG":
+        indicator = new WFGHypervolume<>(referencePoint);
+        break;
+      case "PISA":
+        indicator = new PISAHypervolume<>(referencePoint);
+        break;
+      default:
+        throw new JMetalException("Hypervolume does not exist: " + hypervolume);
+    }
+  }
+
+  @Benchmark
+  public double computeHypervolume() {
+    return indicator.evaluate(front);
+  }
+}
@@ -0,0 +1,87 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark of NSGA-II: a run of a given number of generations is measured. The
+ * problems are ZDT1 (2 objectives) and DTLZ2 and WFG2 (3 objectives).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class NSGAIIBenchmark {
+  private static final int NUMBER_OF_OBJECTIVES = 3;
+
+  @Param({"ZDT1", "DTLZ2", "WFG2"})
+  public String problemName;
+
+  @Param({"100", "500"})
+  public int populationSize;
+
+  @Param({"100"})
+  public int numberOfGenerations;
+
+  private DoubleProblem problem;
+
+  @Setup
+  public void setup() {
+    switch (problemName) {
+      case "ZDT1":
+        problem = new ZDT1();
+        break;
+      case "DTLZ2":
+        problem = new DTLZ2(NUMBER_OF_OBJECTIVES + 9, NUMBER_OF_OBJECTIVES);
+        break;
+      case "WFG2":
+        problem = new WFG2(2 * (NUMBER_OF_OBJECTIVES - 1), 20, NUMBER_OF_OBJECTIVES);
+        break;
+      default:
+        throw new JMetalException("Problem does not exist: " + problemName);
+    }
+    JMetalRandom.getInstance().setSeed(BenchmarkUtils.SEED);
+  }
+
+  @Benchmark
+  public List<DoubleSolution> run() {
+    NSGAII<DoubleSolution> algorithm =
+        new NSGAIIBuilder<>(
+                problem,
+                new SBXCrossover(1.0, 20.0),
+                new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+                populationSize)
+            .setMaxEvaluations(populationSize * (numberOfGenerations + 1))
+            .build();
+    algorithm.run();
+
+    return algorithm.getResult();
+  }
+}
@@ -0,0 +1,85 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.AdaptiveNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.DivideAndConquerNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ExperimentalFastNonDominanceRanking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ParallelFastNonDominatedSortRanking;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the non-dominated sorting {@link Ranking} implementations
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RankingBenchmark {
+  @Param({
+    "FastNonDominatedSort",
+    "MergeNonDominatedSort",
+    "ExperimentalFastNonDominance",
+    "DivideAndConquerNonDominatedSort",
+    "AdaptiveNonDominatedSort",
+    "ParallelFastNonDominatedSort"
+  })
+  public String ranking;
+
+  @Param({"100", "1000"})
+  public int populationSize;
+
+  @Param({"2", "3", "5", "10"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> solutionList;
+
+  @Setup
+  public void setup() {
+    solutionList = BenchmarkUtils.createRandomSolutions(populationSize, numberOfObjectives, 1);
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> computeRanking() {
+    return createRanking().computeRanking(solutionList);
+  }
+
+  private Ranking<DoubleSolution> createRanking() {
+    switch (ranking) {
+      case "FastNonDominatedSort":
+        return new FastNonDominatedSortRanking<>();
+      case "MergeNonDominatedSort":
+        return new MergeNonDominatedSortRanking<>();
+      case "ExperimentalFastNonDominance":
+        return new ExperimentalFastNonDominanceRanking<>();
+      case "DivideAndConquerNonDominatedSort":
+        return new DivideAndConquerNonDominatedSortRanking<>();
+      case "AdaptiveNonDominatedSort":
+        return new AdaptiveNonDominatedSortRanking<>();
+      case "ParallelFastNonDominatedSort":
+        return new ParallelFastNonDominatedSortRanking<>();
+      default:
+        throw new JMetalException("Ranking does not exist: " + ranking);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the {@link SBXCrossover} and {@link PolynomialMutation} operators. The crossover and
+ * mutation probabilities are 1.0 and 1/n (n being the number of variables), as usual in NSGA-II.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VariationBenchmark {
+  @Param({"10", "30", "100", "1000"})
+  public int numberOfVariables;
+
+  private List<DoubleSolution> parents;
+  private DoubleSolution solution;
+  private SBXCrossover crossover;
+  private PolynomialMutation mutation;
+
+  @Setup
+  public void setup() {
+    List<DoubleSolution> solutionList =
+        BenchmarkUtils.createRandomSolutions(3, 2, numberOfVariables);
+    parents = Arrays.asList(solutionList.get(0), solutionList.get(1));
+    solution = solutionList.get(2);
+
+    crossover = new SBXCrossover(1.0, 20.0);
+    mutation = new PolynomialMutation(1.0 / numberOfVariables, 20.0);
+  }
+
+  @Benchmark
+  public List<DoubleSolution> sbxCrossover() {
+    return crossover.execute(parents);
+  }
+
+  @Benchmark
+  public DoubleSolution polynomialMutation() {
+    return mutation.execute(solution);
+  }
+}
@@ -2,6 +2,14 @@ package org.uma.jmetal.algorithm.impl;
 
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
+import org.uma.jmetal.util.measure.phase.Phase;
+import org.uma.jmetal.util.measure.phase.PhaseMetrics;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.ThreadLocalRandomGenerator;
 
 import java.util.List;
 
@@ -16,6 +24,8 @@ import java.util.List;
 public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<R>{
   protected List<S> population;
   protected Problem<S> problem ;
+  protected transient PhaseMetrics phaseMetrics ;
+  protected transient CheckpointManager<S> checkpointManager ;
 
   public List<S> getPopulation() {
     return population;
@@ -31,6 +41,34 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
     return problem ;
   }
 
+  /**
+   * Sets the metrics where the time spent in the evaluation, selection, variation and replacement
+   * phases of {@link #run()} is recorded. No metrics are recorded by default.
+   */
+  public void setPhaseMetrics(PhaseMetrics phaseMetrics) {
+    this.phaseMetrics = phaseMetrics ;
+  }
+  public PhaseMetrics getPhaseMetrics() {
+    return phaseMetrics ;
+  }
+
+  /**
+   * Sets the manager of the checkpoints of the algorithm. If it is set, {@link #run()} resumes the
+   * run from the latest checkpoint, if any, and saves a new checkpoint at the end of the
+   * iterations in which {@link CheckpointManager#isDue()}.
+   *
+   * @throws JMetalException if the algorithm does not {@link #supportsCheckpoints()}
+   */
+  public void setCheckpointManager(CheckpointManager<S> checkpointManager) {
+    if ((null != checkpointManager) && !supportsCheckpoints()) {
+      throw new JMetalException("The algorithm " + getName() + " does not support checkpoints") ;
+    }
+    this.checkpointManager = checkpointManager ;
+  }
+  public CheckpointManager<S> getCheckpointManager() {
+    return checkpointManager ;
+  }
+
   protected abstract void initProgress();
 
   protected abstract void updateProgress();
@@ -47,21 +85,126 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
 
   protected abstract List<S> replacement(List<S> population, List<S> offspringPopulation);
 
+  /**
+   * Called after each replacement with the previous population, the offspring population and the
+   * new population, so that the discarded solutions can be recycled (see {@link
+   * org.uma.jmetal.solution.util.pool.SolutionPool}). By default, it does nothing.
+   */
+  protected void discard(List<S> population, List<S> offspringPopulation, List<S> newPopulation) {
+  }
+
+  /**
+   * Called after each evaluation with the evaluated solutions, so that they can be added to an
+   * archive. By default, it does nothing.
+   */
+  protected void updateArchive(List<S> solutionList) {
+  }
+
+  /**
+   * Returns true if {@link #createCheckpoint()} and {@link #restoreCheckpoint(Checkpoint)} save and
+   * restore the whole state of the algorithm, including the counters used by {@link
+   * #isStoppingConditionReached()} and the archive, if any. Otherwise, a resumed run would start
+   * its budget again, so the algorithms have to opt in by overriding this method.
+   */
+  public boolean supportsCheckpoints() {
+    return false ;
+  }
+
+  /**
+   * Returns the state of the algorithm from which it can be resumed. By default, it includes the
+   * population and the random generator, unless it is a {@link ThreadLocalRandomGenerator}, whose
+   * state is kept by each thread, or the checkpoint manager does not save it (see {@link
+   * CheckpointManager#setRandomGeneratorSaved(boolean)}); subclasses supporting checkpoints add
+   * their counters (e.g., the number of evaluations) and archive.
+   */
+  protected Checkpoint<S> createCheckpoint() {
+    PseudoRandomGenerator randomGenerator = JMetalRandom.getInstance().getRandomGenerator() ;
+    if ((randomGenerator instanceof ThreadLocalRandomGenerator) || !isRandomGeneratorSaved()) {
+      randomGenerator = null ;
+    }
+
+    return new Checkpoint<>(population, randomGenerator) ;
+  }
+
+  /**
+   * Restores the state of the algorithm from a checkpoint. It is invoked by {@link #run()} instead
+   * of creating and evaluating the initial population and invoking {@link #initProgress()}. The
+   * random generator of the checkpoint, if any, is only restored if the checkpoint manager saves it.
+   */
+  protected void restoreCheckpoint(Checkpoint<S> checkpoint) {
+    population = checkpoint.getPopulation() ;
+    if ((null != checkpoint.getRandomGenerator()) && isRandomGeneratorSaved()) {
+      JMetalRandom.getInstance().setRandomGenerator(checkpoint.getRandomGenerator());
+    }
+  }
+
+  private boolean isRandomGeneratorSaved() {
+    return (null == checkpointManager) || checkpointManager.isRandomGeneratorSaved() ;
+  }
+
+  /**
+   * Records a phase in the phase metrics, if they have been set
+   *
+   * @param phase Phase
+   * @param startTime Value of {@link System#nanoTime()} when the phase started
+   * @param solutionList Solutions processed in the phase
+   */
+  protected void recordPhase(Phase phase, long startTime, List<S> solutionList) {
+    if (null != phaseMetrics) {
+      phaseMetrics.record(phase, System.nanoTime() - startTime, solutionList.size());
+    }
+  }
+
   @Override public abstract R getResult();
 
   @Override public void run() {
     List<S> offspringPopulation;
     List<S> matingPopulation;
-
-    population = createInitialPopulation();
-    population = evaluatePopulation(population);
-    initProgress();
+    long startTime;
+
+    Checkpoint<S> checkpoint = null == checkpointManager ? null : checkpointManager.loadLatest() ;
+    if (null == checkpoint) {
+      population = createInitialPopulation();
+      population = evaluate(population);
+      initProgress();
+    } else {
+      restoreCheckpoint(checkpoint);
+    }
     while (!isStoppingConditionReached()) {
+      startTime = System.nanoTime();
       matingPopulation = selection(population);
+      recordPhase(Phase.SELECTION, startTime, matingPopulation);
+
+      startTime = System.nanoTime();
       offspringPopulation = reproduction(matingPopulation);
-      offspringPopulation = evaluatePopulation(offspringPopulation);
-      population = replacement(population, offspringPopulation);
+      recordPhase(Phase.VARIATION, startTime, offspringPopulation);
+
+      offspringPopulation = evaluate(offspringPopulation);
+
+      startTime = System.nanoTime();
+      List<S> newPopulation = replacement(population, offspringPopulation);
+      recordPhase(Phase.REPLACEMENT, startTime, newPopulation);
+
+      discard(population, offspringPopulation, newPopulation);
+      population = newPopulation;
       updateProgress();
+
+      if ((null != checkpointManager) && checkpointManager.isDue()) {
+        checkpointManager.save(createCheckpoint());
+      }
     }
+
+    if (null != checkpointManager) {
+      checkpointManager.flush();
+    }
+  }
+
+  private List<S> evaluate(List<S> solutionList) {
+    long startTime = System.nanoTime();
+    List<S> evaluatedSolutions = evaluatePopulation(solutionList);
+    recordPhase(Phase.EVALUATION, startTime, evaluatedSolutions);
+    updateArchive(evaluatedSolutions);
+
+    return evaluatedSolutions;
   }
 }
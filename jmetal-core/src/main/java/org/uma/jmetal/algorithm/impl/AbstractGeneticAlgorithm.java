@@ -4,6 +4,8 @@ import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
+import org.uma.jmetal.solution.util.pool.SolutionPoolAware;
 import org.uma.jmetal.util.JMetalException;
 
 import java.util.ArrayList;
@@ -20,6 +22,7 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
   protected SelectionOperator<List<S>, S> selectionOperator ;
   protected CrossoverOperator<S> crossoverOperator ;
   protected MutationOperator<S> mutationOperator ;
+  protected SolutionPool<S> solutionPool ;
 
   /* Setters and getters */
   public void setMaxPopulationSize(int maxPopulationSize) {
@@ -42,6 +45,27 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
     return mutationOperator;
   }
 
+  public SolutionPool<S> getSolutionPool() {
+    return solutionPool;
+  }
+
+  /**
+   * Sets a pool where the solutions discarded in each replacement are recycled, so that the
+   * crossover operator (if it is {@link SolutionPoolAware}) reuses them to create the offspring
+   * instead of allocating new solutions. The solutions are not recycled if the algorithm keeps
+   * references to them (see {@link #keepsReferencesToEvaluatedSolutions()}); the pool must not be
+   * used either when the discarded solutions are still referenced by an observer.
+   *
+   * @param solutionPool The pool, or null to stop recycling solutions
+   */
+  @SuppressWarnings("unchecked")
+  public void setSolutionPool(SolutionPool<S> solutionPool) {
+    this.solutionPool = solutionPool ;
+    if (crossoverOperator instanceof SolutionPoolAware) {
+      ((SolutionPoolAware<S>) crossoverOperator).setSolutionPool(solutionPool);
+    }
+  }
+
   /**
    * Constructor
    * @param problem The problem to solve
@@ -113,6 +137,22 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
     return offspringPopulation;
   }
 
+  /**
+   * Returns true if the algorithm keeps references to evaluated solutions which are not in the
+   * population (e.g., in an archive), so that the solutions discarded by the replacement are not
+   * recycled in {@link #discard(List, List, List)}. The algorithms doing so must override it.
+   */
+  protected boolean keepsReferencesToEvaluatedSolutions() {
+    return false ;
+  }
+
+  @Override
+  protected void discard(List<S> population, List<S> offspringPopulation, List<S> newPopulation) {
+    if ((solutionPool != null) && !keepsReferencesToEvaluatedSolutions()) {
+      solutionPool.recycleDiscarded(population, offspringPopulation, newPopulation);
+    }
+  }
+
   /**
    * A crossover operator is applied to a number of parents, and it assumed that the population contains
    * a valid number of solutions. This method checks that.
@@ -2,6 +2,8 @@ package org.uma.jmetal.operator.crossover.impl;
 
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
+import org.uma.jmetal.solution.util.pool.SolutionPoolAware;
 import org.uma.jmetal.solution.util.repairsolution.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.repairsolution.impl.RepairDoubleSolutionWithBoundValue;
 import org.uma.jmetal.util.JMetalException;
@@ -21,11 +23,14 @@ import java.util.List;
  * The implementation is based on the NSGA-II code available in
  * <a href="http://www.iitk.ac.in/kangal/codes.shtml">http://www.iitk.ac.in/kangal/codes.shtml</a>
  *
+ * If a {@link SolutionPool} is set, the offspring are copied into recycled solutions.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
  */
 @SuppressWarnings("serial")
-public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
+public class SBXCrossover
+    implements CrossoverOperator<DoubleSolution>, SolutionPoolAware<DoubleSolution> {
   /** EPS defines the minimum difference allowed between real values */
   private static final double EPS = 1.0e-14;
 
@@ -34,6 +39,7 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
   private RepairDoubleSolution solutionRepair ;
 
   private RandomGenerator<Double> randomGenerator ;
+  private transient SolutionPool<DoubleSolution> solutionPool ;
 
   /** Constructor */
   public SBXCrossover(double crossoverProbability, double distributionIndex) {
@@ -81,6 +87,11 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     this.distributionIndex = distributionIndex ;
   }
 
+  @Override
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    this.solutionPool = solutionPool ;
+  }
+
   /** Execute() method */
   @Override
   public List<DoubleSolution> execute(List<DoubleSolution> solutions) {
@@ -98,8 +109,13 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
       double probability, DoubleSolution parent1, DoubleSolution parent2) {
     List<DoubleSolution> offspring = new ArrayList<DoubleSolution>(2);
 
-    offspring.add((DoubleSolution) parent1.copy()) ;
-    offspring.add((DoubleSolution) parent2.copy()) ;
+    if (solutionPool == null) {
+      offspring.add((DoubleSolution) parent1.copy()) ;
+      offspring.add((DoubleSolution) parent2.copy()) ;
+    } else {
+      offspring.add(solutionPool.copyOf(parent1)) ;
+      offspring.add(solutionPool.copyOf(parent2)) ;
+    }
 
     int i;
     double rand;
@@ -110,8 +126,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
 
     if (randomGenerator.getRandomValue() <= probability) {
       for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-        valueX1 = parent1.getVariable(i);
-        valueX2 = parent2.getVariable(i);
+        valueX1 = parent1.getDoubleVariable(i);
+        valueX2 = parent2.getDoubleVariable(i);
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
             if (valueX1 < valueX2) {
@@ -153,19 +169,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound) ;
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).setVariable(i, c2);
-              offspring.get(1).setVariable(i, c1);
+              offspring.get(0).setDoubleVariable(i, c2);
+              offspring.get(1).setDoubleVariable(i, c1);
             } else {
-              offspring.get(0).setVariable(i, c1);
-              offspring.get(1).setVariable(i, c2);
+              offspring.get(0).setDoubleVariable(i, c1);
+              offspring.get(1).setDoubleVariable(i, c2);
             }
           } else {
-            offspring.get(0).setVariable(i, valueX1);
-            offspring.get(1).setVariable(i, valueX2);
+            offspring.get(0).setDoubleVariable(i, valueX1);
+            offspring.get(1).setDoubleVariable(i, valueX2);
           }
         } else {
-          offspring.get(0).setVariable(i, valueX2);
-          offspring.get(1).setVariable(i, valueX1);
+          offspring.get(0).setDoubleVariable(i, valueX2);
+          offspring.get(1).setDoubleVariable(i, valueX1);
         }
       }
     }
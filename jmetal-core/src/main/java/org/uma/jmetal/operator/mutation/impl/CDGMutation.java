@@ -110,7 +110,7 @@ public class CDGMutation implements MutationOperator<DoubleSolution> {
 
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
       if (randomGenerator.nextDouble() <= probability) {
-        y = solution.getVariable(i);
+        y = solution.getDoubleVariable(i);
         Bounds<Double> bounds = solution.getBounds(i);
         yl = bounds.getLowerBound() ;
         yu = bounds.getUpperBound() ;
@@ -121,7 +121,7 @@ public class CDGMutation implements MutationOperator<DoubleSolution> {
           
         y = y + deltaq * (yu - yl);
         y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
-        solution.setVariable(i, y);
+        solution.setDoubleVariable(i, y);
       }
     }
   }
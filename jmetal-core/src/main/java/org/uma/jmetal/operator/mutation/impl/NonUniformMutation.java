@@ -100,17 +100,17 @@ public class NonUniformMutation implements MutationOperator<DoubleSolution> {
 
         Bounds<Double> bounds = solution.getBounds(i);
         if (rand <= 0.5) {
-          tmp = delta(bounds.getUpperBound() - solution.getVariable(i),
+          tmp = delta(bounds.getUpperBound() - solution.getDoubleVariable(i),
               perturbation);
-          tmp += solution.getVariable(i);
+          tmp += solution.getDoubleVariable(i);
         } else {
-          tmp = delta(bounds.getLowerBound() - solution.getVariable(i),
+          tmp = delta(bounds.getLowerBound() - solution.getDoubleVariable(i),
               perturbation);
-          tmp += solution.getVariable(i);
+          tmp += solution.getDoubleVariable(i);
         }
 
         tmp = bounds.restrict(tmp);
-        solution.setVariable(i, tmp);
+        solution.setDoubleVariable(i, tmp);
       }
     }
   }
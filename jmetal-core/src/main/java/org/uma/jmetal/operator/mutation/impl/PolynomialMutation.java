@@ -178,7 +178,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
 
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
       if (randomGenerator.getRandomValue() <= mutationProbability) {
-        y = solution.getVariable(i);
+        y = solution.getDoubleVariable(i);
         Bounds<Double> bounds = solution.getBounds(i);
         yl = bounds.getLowerBound();
         yu = bounds.getUpperBound();
@@ -201,7 +201,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
           y = y + deltaq * (yu - yl);
           y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
         }
-        solution.setVariable(i, y);
+        solution.setDoubleVariable(i, y);
       }
     }
   }
@@ -65,7 +65,7 @@ public class SimpleRandomMutation implements MutationOperator<DoubleSolution> {
         Double randomValue = randomGenerator.getRandomValue();
         Double value = lowerBound + ((upperBound - lowerBound) * randomValue);
 
-        solution.setVariable(i, value);
+        solution.setDoubleVariable(i, value);
       }
     }
   }
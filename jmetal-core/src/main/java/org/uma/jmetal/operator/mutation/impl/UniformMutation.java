@@ -83,14 +83,14 @@ public class UniformMutation implements MutationOperator<DoubleSolution> {
         double rand = randomGenerator.getRandomValue();
         double tmp = (rand - 0.5) * perturbation;
 
-        tmp += solution.getVariable(i);
+        tmp += solution.getDoubleVariable(i);
 
         Bounds<Double> bounds = solution.getBounds(i);
         tmp =
             solutionRepair.repairSolutionVariableValue(
                 tmp, bounds.getLowerBound(), bounds.getUpperBound());
 
-        solution.setVariable(i, tmp);
+        solution.setDoubleVariable(i, tmp);
       }
     }
   }
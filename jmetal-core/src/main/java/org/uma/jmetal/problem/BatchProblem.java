@@ -0,0 +1,25 @@
+package org.uma.jmetal.problem;
+
+import java.util.List;
+
+/**
+ * Interface representing problems able to evaluate a list of solutions at once, which allows them to
+ * amortize the setup of the evaluation (e.g., the invocation of an external model) among the
+ * solutions. The {@link org.uma.jmetal.util.evaluator.SolutionListEvaluator} implementations invoke
+ * {@link #evaluate(List)} instead of evaluating the solutions one by one when the problem implements
+ * this interface.
+ *
+ * <p>Both evaluation methods must produce the same results. Subclasses of a batch problem adding
+ * some computation to {@link #evaluate(Object)} (e.g., the evaluation of constraints) must also add
+ * it to {@link #evaluate(List)}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Encoding
+ */
+public interface BatchProblem<S> extends Problem<S> {
+  /**
+   * Evaluates a list of solutions. This method can be invoked concurrently on disjoint lists of
+   * solutions by the multithreaded evaluators.
+   */
+  void evaluate(List<S> solutionList);
+}
@@ -0,0 +1,54 @@
+package org.uma.jmetal.problem.doubleproblem;
+
+import org.uma.jmetal.problem.BatchProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.util.List;
+
+/**
+ * Interface representing continuous problems whose objectives are computed from a matrix with the
+ * variables of a set of solutions (a row per solution), so that the whole set is evaluated in a
+ * loop without accessing to the solutions. The evaluation of a single solution and of a list of
+ * solutions are implemented on top of the matrix evaluation.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface DoubleBatchProblem extends DoubleProblem, BatchProblem<DoubleSolution> {
+  /**
+   * Computes the objectives of a set of solutions
+   *
+   * @param variables Matrix with the variables of the solutions (a row per solution). It must not
+   *     be modified, as its rows can be the internal storage of the solutions
+   * @param objectives Matrix where the objectives of the solutions are stored (a row per solution)
+   */
+  void evaluate(double[][] variables, double[][] objectives);
+
+  @Override
+  default void evaluate(DoubleSolution solution) {
+    double[][] objectives = new double[1][getNumberOfObjectives()];
+    evaluate(new double[][] {solution.getDoubleVariables()}, objectives);
+
+    for (int i = 0; i < objectives[0].length; i++) {
+      solution.setObjective(i, objectives[0][i]);
+    }
+  }
+
+  @Override
+  default void evaluate(List<DoubleSolution> solutionList) {
+    int size = solutionList.size();
+    double[][] variables = new double[size][];
+    double[][] objectives = new double[size][getNumberOfObjectives()];
+    for (int i = 0; i < size; i++) {
+      variables[i] = solutionList.get(i).getDoubleVariables();
+    }
+
+    evaluate(variables, objectives);
+
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = solutionList.get(i);
+      for (int j = 0; j < objectives[i].length; j++) {
+        solution.setObjective(j, objectives[i][j]);
+      }
+    }
+  }
+}
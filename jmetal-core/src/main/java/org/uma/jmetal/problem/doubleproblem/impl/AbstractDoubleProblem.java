@@ -4,6 +4,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.problem.AbstractGenericProblem;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
 import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.checking.Check;
@@ -17,6 +18,7 @@ public abstract class AbstractDoubleProblem extends AbstractGenericProblem<Doubl
     implements DoubleProblem {
 
   protected List<Bounds<Double>> bounds;
+  private boolean arrayDoubleSolutions = false;
 
   /**
    * @deprecated Use {@link #getBoundsForVariables()} instead.
@@ -51,8 +53,23 @@ public abstract class AbstractDoubleProblem extends AbstractGenericProblem<Doubl
             .collect(Collectors.toList());
   }
 
+  /**
+   * Sets whether {@link #createSolution()} returns {@link ArrayDoubleSolution}s, which store the
+   * variables in a <code>double[]</code>, instead of {@link DefaultDoubleSolution}s (default)
+   */
+  public void setArrayDoubleSolutions(boolean arrayDoubleSolutions) {
+    this.arrayDoubleSolutions = arrayDoubleSolutions;
+  }
+
+  public boolean isArrayDoubleSolutions() {
+    return arrayDoubleSolutions;
+  }
+
   @Override
   public DoubleSolution createSolution() {
+    if (arrayDoubleSolutions) {
+      return new ArrayDoubleSolution(getNumberOfObjectives(), getNumberOfConstraints(), bounds);
+    }
     return new DefaultDoubleSolution(getNumberOfObjectives(), getNumberOfConstraints(), bounds);
   }
 
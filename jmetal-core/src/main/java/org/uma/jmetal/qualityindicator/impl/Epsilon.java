@@ -2,11 +2,14 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.checking.Check;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.point.util.KDTree;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -76,32 +79,54 @@ public class Epsilon<S extends Solution<?>> extends GenericIndicator<S> {
    * @throws JMetalException
    */
   private double epsilon(Front front, Front referenceFront) throws JMetalException {
-    double eps, epsJ = 0.0, epsK = 0.0, epsTemp;
+    KDTree index = new KDTree(FrontAdapter.toMatrix(front));
 
-    int numberOfObjectives = front.getPointDimensions() ;
+    double eps = Double.MIN_VALUE;
+    for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+      double epsJ = index.nearestDistance(referenceFront.getPoint(i).getValues(),
+          KDTree.Metric.ADDITIVE_EPSILON);
+      if ((i == 0) || (eps < epsJ)) {
+        eps = epsJ;
+      }
+    }
+    return eps;
+  }
 
-    eps = Double.MIN_VALUE;
+  /**
+   * Returns the additive epsilon value for a population matrix. The values are computed on the
+   * primitive objective columns of the matrix.
+   *
+   * @param front The population
+   * @param referenceFront The reference pareto front
+   */
+  public double epsilon(PopulationMatrix<?> front, double[][] referenceFront) {
+    Check.that(front.size() > 0, "The front is empty");
+    int size = front.size();
+    double[] objectives = front.getObjectiveValues();
+    double[] epsK = new double[size];
 
-    for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
-      for (int j = 0; j < front.getNumberOfPoints(); j++) {
-        for (int k = 0; k < numberOfObjectives; k++) {
-          epsTemp = front.getPoint(j).getValue(k)
-              - referenceFront.getPoint(i).getValue(k);
-          if (k == 0) {
-            epsK = epsTemp;
-          } else if (epsK < epsTemp) {
-            epsK = epsTemp;
+    double eps = Double.MIN_VALUE;
+    for (int i = 0; i < referenceFront.length; i++) {
+      double[] referencePoint = referenceFront[i];
+      Arrays.fill(epsK, Double.NEGATIVE_INFINITY);
+      for (int k = 0; k < front.getNumberOfObjectives(); k++) {
+        int offset = k * size;
+        for (int j = 0; j < size; j++) {
+          double epsTemp = objectives[offset + j] - referencePoint[k];
+          if (epsK[j] < epsTemp) {
+            epsK[j] = epsTemp;
           }
         }
-        if (j == 0) {
-          epsJ = epsK;
-        } else if (epsJ > epsK) {
-          epsJ = epsK;
+      }
+
+      double epsJ = epsK[0];
+      for (int j = 1; j < size; j++) {
+        if (epsJ > epsK[j]) {
+          epsJ = epsK[j];
         }
       }
-      if (i == 0) {
-        eps = epsJ;
-      } else if (eps < epsJ) {
+
+      if ((i == 0) || (eps < epsJ)) {
         eps = epsJ;
       }
     }
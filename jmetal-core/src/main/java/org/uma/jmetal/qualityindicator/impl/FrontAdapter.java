@@ -0,0 +1,57 @@
+package org.uma.jmetal.qualityindicator.impl;
+
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.front.Front;
+
+import java.util.Arrays;
+
+/**
+ * Converts the fronts of the deprecated {@link Front} API, which is still used by {@link
+ * GenericIndicator}, into the double[][] matrices on which the indicators based on a {@link
+ * org.uma.jmetal.util.point.util.KDTree} are computed, so that the indicators do not need to
+ * suppress the deprecation warnings of {@link org.uma.jmetal.util.front.util.FrontUtils}. Other
+ * classes, such as {@link org.uma.jmetal.util.front.impl.ArrayFront}, still implement the
+ * deprecated {@link Front} interface.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("deprecation")
+final class FrontAdapter {
+  private FrontAdapter() {}
+
+  /**
+   * Returns a copy of the values of the points of a front, as {@link
+   * org.uma.jmetal.util.front.util.FrontUtils#convertFrontToArray(Front)} does
+   *
+   * @param front Front
+   */
+  static double[][] toMatrix(Front front) {
+    Check.isNotNull(front);
+
+    double[][] matrix = new double[front.getNumberOfPoints()][];
+    for (int i = 0; i < matrix.length; i++) {
+      matrix[i] = front.getPoint(i).getValues().clone();
+    }
+
+    return matrix;
+  }
+
+  /**
+   * Returns true if a front has the same points as a matrix, in the same order
+   *
+   * @param front Front
+   * @param matrix Matrix returned by {@link #toMatrix(Front)}
+   */
+  static boolean hasPoints(Front front, double[][] matrix) {
+    if (front.getNumberOfPoints() != matrix.length) {
+      return false;
+    }
+    for (int i = 0; i < matrix.length; i++) {
+      if (!Arrays.equals(matrix[i], front.getPoint(i).getValues())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
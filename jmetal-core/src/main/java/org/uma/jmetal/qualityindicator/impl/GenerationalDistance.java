@@ -2,11 +2,14 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.checking.Check;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.util.KDTree;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -22,6 +25,9 @@ import java.util.List;
 @SuppressWarnings("serial")
 public class GenerationalDistance<S extends Solution<?>> extends GenericIndicator<S> {
   private double pow = 2.0;
+  /** Points of the reference front from which {@link #referenceFrontIndex} was built */
+  private transient double[][] indexedReferenceFront;
+  private transient KDTree referenceFrontIndex;
 
   /**
    * Default constructor
@@ -80,10 +86,22 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
    * @param referenceFront The reference pareto front
    */
   public double generationalDistance(Front front, Front referenceFront) {
+    KDTree index;
+    synchronized (this) {
+      // The index is kept while the points of the reference front do not change, so that it is
+      // built once for all the evaluations; comparing the points is cheaper than building it
+      if ((indexedReferenceFront == null)
+          || !FrontAdapter.hasPoints(referenceFront, indexedReferenceFront)) {
+        indexedReferenceFront = FrontAdapter.toMatrix(referenceFront);
+        referenceFrontIndex = new KDTree(indexedReferenceFront);
+      }
+      index = referenceFrontIndex;
+    }
     double sum = 0.0;
     for (int i = 0; i < front.getNumberOfPoints(); i++) {
-      sum += Math.pow(FrontUtils.distanceToClosestPoint(front.getPoint(i),
-          referenceFront), pow);
+      double squaredDistance =
+          index.nearestDistance(front.getPoint(i).getValues(), KDTree.Metric.SQUARED_EUCLIDEAN);
+      sum += Math.pow(Math.sqrt(squaredDistance), pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -91,6 +109,38 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
     return sum / front.getNumberOfPoints();
   }
 
+  /**
+   * Returns the generational distance value for a population matrix. The distances are computed on
+   * the primitive objective columns of the matrix.
+   *
+   * @param front The population
+   * @param referenceFront The reference pareto front
+   */
+  public double generationalDistance(PopulationMatrix<?> front, double[][] referenceFront) {
+    Check.that(front.size() > 0, "The front is empty");
+    double[] squaredDistances = new double[front.size()];
+    double[] minSquaredDistances = new double[front.size()];
+    Arrays.fill(minSquaredDistances, Double.POSITIVE_INFINITY);
+
+    for (int i = 0; i < referenceFront.length; i++) {
+      front.squaredDistancesTo(referenceFront[i], squaredDistances);
+      for (int j = 0; j < squaredDistances.length; j++) {
+        if (squaredDistances[j] < minSquaredDistances[j]) {
+          minSquaredDistances[j] = squaredDistances[j];
+        }
+      }
+    }
+
+    double sum = 0.0;
+    for (double minSquaredDistance : minSquaredDistances) {
+      sum += Math.pow(Math.sqrt(minSquaredDistance), pow);
+    }
+
+    sum = Math.pow(sum, 1.0 / pow);
+
+    return sum / front.size();
+  }
+
   @Override public String getName() {
     return "GD" ;
   }
@@ -1,9 +1,11 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.checking.Check;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.util.KDTree;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -76,10 +78,12 @@ public class InvertedGenerationalDistance<S extends Solution<?>> extends Generic
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistance(Front front, Front referenceFront) {
+    KDTree index = new KDTree(FrontAdapter.toMatrix(front));
     double sum = 0.0;
     for (int i = 0 ; i < referenceFront.getNumberOfPoints(); i++) {
-      sum += Math.pow(FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-          front), pow);
+      double squaredDistance = index.nearestDistance(referenceFront.getPoint(i).getValues(),
+          KDTree.Metric.SQUARED_EUCLIDEAN);
+      sum += Math.pow(Math.sqrt(squaredDistance), pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -87,6 +91,34 @@ public class InvertedGenerationalDistance<S extends Solution<?>> extends Generic
     return sum / referenceFront.getNumberOfPoints();
   }
 
+  /**
+   * Returns the inverted generational distance value for a population matrix. The distances are
+   * computed on the primitive objective columns of the matrix.
+   *
+   * @param front The population
+   * @param referenceFront The reference pareto front
+   */
+  public double invertedGenerationalDistance(PopulationMatrix<?> front, double[][] referenceFront) {
+    Check.that(front.size() > 0, "The front is empty");
+    double[] squaredDistances = new double[front.size()];
+
+    double sum = 0.0;
+    for (int i = 0 ; i < referenceFront.length; i++) {
+      front.squaredDistancesTo(referenceFront[i], squaredDistances);
+      double minSquaredDistance = squaredDistances[0];
+      for (int j = 1; j < squaredDistances.length; j++) {
+        if (squaredDistances[j] < minSquaredDistance) {
+          minSquaredDistance = squaredDistances[j];
+        }
+      }
+      sum += Math.pow(Math.sqrt(minSquaredDistance), pow);
+    }
+
+    sum = Math.pow(sum, 1.0 / pow);
+
+    return sum / referenceFront.length;
+  }
+
   @Override public String getName() {
     return "IGD" ;
   }
@@ -1,13 +1,14 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.checking.Check;
-import org.uma.jmetal.util.distance.impl.DominanceDistanceBetweenVectors;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.util.KDTree;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -63,17 +64,54 @@ public class InvertedGenerationalDistancePlus<S extends Solution<?>> extends Gen
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistancePlus(Front front, Front referenceFront) {
-
+    KDTree index = new KDTree(FrontAdapter.toMatrix(front));
     double sum = 0.0;
     for (int i = 0 ; i < referenceFront.getNumberOfPoints(); i++) {
-      sum += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-          front, new DominanceDistanceBetweenVectors());
+      sum += Math.sqrt(index.nearestDistance(referenceFront.getPoint(i).getValues(),
+          KDTree.Metric.SQUARED_DOMINANCE));
     }
 
     // STEP 4. Divide the sum by the maximum number of points of the reference Pareto front
     return sum / referenceFront.getNumberOfPoints();
   }
 
+  /**
+   * Returns the IGD+ value for a population matrix. The dominance distances are computed on the
+   * primitive objective columns of the matrix.
+   *
+   * @param front The population
+   * @param referenceFront The reference pareto front
+   */
+  public double invertedGenerationalDistancePlus(PopulationMatrix<?> front, double[][] referenceFront) {
+    Check.that(front.size() > 0, "The front is empty");
+    int size = front.size();
+    double[] objectives = front.getObjectiveValues();
+    double[] squaredDistances = new double[size];
+
+    double sum = 0.0;
+    for (int i = 0 ; i < referenceFront.length; i++) {
+      double[] referencePoint = referenceFront[i];
+      Arrays.fill(squaredDistances, 0.0);
+      for (int k = 0; k < front.getNumberOfObjectives(); k++) {
+        int offset = k * size;
+        for (int j = 0; j < size; j++) {
+          double max = Math.max(objectives[offset + j] - referencePoint[k], 0.0);
+          squaredDistances[j] += max * max;
+        }
+      }
+
+      double minSquaredDistance = squaredDistances[0];
+      for (int j = 1; j < size; j++) {
+        if (squaredDistances[j] < minSquaredDistance) {
+          minSquaredDistance = squaredDistances[j];
+        }
+      }
+      sum += Math.sqrt(minSquaredDistance);
+    }
+
+    return sum / referenceFront.length;
+  }
+
   @Override public String getName() {
     return "IGD+" ;
   }
@@ -0,0 +1,378 @@
+package org.uma.jmetal.qualityindicator.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.point.util.KDTree;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Distance-based quality indicator (GD, IGD, IGD+ or additive epsilon, see {@link Type}) intended
+ * to be evaluated many times against the same reference front, e.g., to monitor the progress of an
+ * algorithm or to compute the indicators of all the runs of an experiment. The reference front is
+ * prepared once:
+ *
+ * <ul>
+ *   <li>It is normalized with its own minimum and maximum values, as done by {@link
+ *       org.uma.jmetal.util.front.util.FrontNormalizer}, and the fronts to evaluate are normalized
+ *       with the same values.
+ *   <li>It is indexed with a {@link KDTree}, so that the GD indicator finds the closest reference
+ *       points without computing the distances to all of them. The other indicators index the
+ *       evaluated front instead.
+ * </ul>
+ *
+ * The prepared reference fronts read from files are shared by all the instances of this class.
+ * They are cached by absolute path, and a cached front is prepared again when the size or the last
+ * modification time of its file change. The cache keeps the {@link #MAXIMUM_CACHE_SIZE} most
+ * recently used fronts (see also {@link #clearCache()}). The distances of the points are computed in
+ * parallel in a {@link ForkJoinPool}; they are added in a fixed order, so the result does not depend
+ * on the number of threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class PreparedIndicator<S extends Solution<?>> extends GenericIndicator<S> {
+  /** Indicators which can be prepared */
+  public enum Type {
+    GD("GD", "Generational distance quality indicator"),
+    IGD("IGD", "Inverted generational distance quality indicator"),
+    IGD_PLUS("IGD+", "Inverted generational distance quality indicator plus"),
+    EPSILON("EP", "Additive Epsilon quality indicator");
+
+    private final String name;
+    private final String description;
+
+    Type(String name, String description) {
+      this.name = name;
+      this.description = description;
+    }
+  }
+
+  /** Maximum number of prepared reference fronts kept in the cache */
+  public static final int MAXIMUM_CACHE_SIZE = 16;
+
+  private static final Map<Path, ReferenceFront> cache =
+      Collections.synchronizedMap(
+          new LinkedHashMap<Path, ReferenceFront>(MAXIMUM_CACHE_SIZE, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, ReferenceFront> eldest) {
+              return size() > MAXIMUM_CACHE_SIZE;
+            }
+          });
+  private static final double POW = 2.0;
+
+  private final Type type;
+  private transient ReferenceFront preparedReferenceFront;
+  private transient ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+  /**
+   * Constructor
+   *
+   * @param type Indicator to compute
+   * @param referenceParetoFrontFile File of the reference front, which is prepared only once
+   * @throws FileNotFoundException
+   */
+  public PreparedIndicator(Type type, String referenceParetoFrontFile)
+      throws FileNotFoundException {
+    Check.isNotNull(type);
+    this.type = type;
+    setReferenceParetoFront(referenceParetoFrontFile);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param type Indicator to compute
+   * @param referenceParetoFront Objective values of the points of the reference front
+   */
+  public PreparedIndicator(Type type, double[][] referenceParetoFront) {
+    Check.isNotNull(type);
+    this.type = type;
+    setReferenceParetoFront(referenceParetoFront);
+  }
+
+  @Override
+  public void setReferenceParetoFront(String referenceParetoFrontFile)
+      throws FileNotFoundException {
+    Check.isNotNull(referenceParetoFrontFile);
+
+    Path path = Paths.get(referenceParetoFrontFile).toAbsolutePath().normalize();
+    long lastModified = -1;
+    long size = -1;
+    if (Files.isRegularFile(path)) {
+      try {
+        lastModified = Files.getLastModifiedTime(path).toMillis();
+        size = Files.size(path);
+      } catch (IOException e) {
+        throw new JMetalException("Error reading the attributes of " + path, e);
+      }
+    }
+
+    ReferenceFront referenceFront = cache.get(path);
+    if (referenceFront == null
+        || referenceFront.lastModified != lastModified
+        || referenceFront.size != size) {
+      // Files which do not exist are read from the resources by ArrayFront
+      ArrayFront front = new ArrayFront(referenceParetoFrontFile);
+      referenceFront = new ReferenceFront(front, front, lastModified, size);
+      cache.put(path, referenceFront);
+    }
+
+    referenceParetoFront = referenceFront.front;
+    preparedReferenceFront = referenceFront;
+  }
+
+  /**
+   * Sets the reference front
+   *
+   * @param referenceParetoFront Objective values of the points of the reference front
+   */
+  public void setReferenceParetoFront(double[][] referenceParetoFront) {
+    Check.isNotNull(referenceParetoFront);
+
+    int dimensions = referenceParetoFront.length > 0 ? referenceParetoFront[0].length : 0;
+    ArrayFront front = new ArrayFront(referenceParetoFront.length, dimensions);
+    for (int i = 0; i < referenceParetoFront.length; i++) {
+      front.setPoint(i, new ArrayPoint(referenceParetoFront[i]));
+    }
+
+    this.referenceParetoFront = front;
+    preparedReferenceFront = new ReferenceFront(front, front, -1, -1);
+  }
+
+  /** Removes the prepared reference fronts read from files */
+  public static void clearCache() {
+    cache.clear();
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  /**
+   * Sets the pool computing the distances. By default, the common pool is used; a null value makes
+   * the computation sequential.
+   */
+  public PreparedIndicator<S> setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+
+    return this;
+  }
+
+  @Override
+  public Double evaluate(List<S> solutionList) {
+    Check.isNotNull(solutionList);
+
+    double[][] front = new double[solutionList.size()][];
+    for (int i = 0; i < front.length; i++) {
+      front[i] = solutionList.get(i).getObjectives();
+    }
+
+    return evaluate(front);
+  }
+
+  /**
+   * Returns the value of the indicator for a front
+   *
+   * @param front Objective values of the points, which are normalized with the values of the
+   *     reference front (the array is not modified)
+   */
+  public double evaluate(double[][] front) {
+    Check.isNotNull(front);
+    Check.that(front.length > 0, "The front is empty");
+
+    ReferenceFront referenceFront = getPreparedReferenceFront();
+    double[][] normalizedFront = referenceFront.normalize(front);
+
+    switch (type) {
+      case GD:
+        {
+          KDTree index = referenceFront.getIndex();
+          double sum = sum(normalizedFront.length,
+              i -> Math.pow(Math.sqrt(index.nearestDistance(normalizedFront[i],
+                  KDTree.Metric.SQUARED_EUCLIDEAN)), POW));
+          return Math.pow(sum, 1.0 / POW) / normalizedFront.length;
+        }
+      case IGD:
+        {
+          KDTree index = new KDTree(normalizedFront);
+          double[][] points = referenceFront.normalizedPoints;
+          double sum = sum(points.length,
+              i -> Math.pow(Math.sqrt(index.nearestDistance(points[i],
+                  KDTree.Metric.SQUARED_EUCLIDEAN)), POW));
+          return Math.pow(sum, 1.0 / POW) / points.length;
+        }
+      case IGD_PLUS:
+        {
+          KDTree index = new KDTree(normalizedFront);
+          double[][] points = referenceFront.normalizedPoints;
+          double sum = sum(points.length,
+              i -> Math.sqrt(index.nearestDistance(points[i], KDTree.Metric.SQUARED_DOMINANCE)));
+          return sum / points.length;
+        }
+      case EPSILON:
+        {
+          KDTree index = new KDTree(normalizedFront);
+          double[][] points = referenceFront.normalizedPoints;
+          double[] values = compute(points.length,
+              i -> index.nearestDistance(points[i], KDTree.Metric.ADDITIVE_EPSILON));
+          double eps = values[0];
+          for (double value : values) {
+            eps = Math.max(eps, value);
+          }
+          return eps;
+        }
+      default:
+        throw new JMetalException("Unknown indicator: " + type);
+    }
+  }
+
+  /**
+   * Returns the prepared reference front, which is prepared again if the reference front has been
+   * replaced with {@link #setReferenceParetoFront(org.uma.jmetal.util.front.Front)}
+   */
+  private synchronized ReferenceFront getPreparedReferenceFront() {
+    if (preparedReferenceFront == null || preparedReferenceFront.source != referenceParetoFront) {
+      Check.isNotNull(referenceParetoFront);
+      preparedReferenceFront =
+          new ReferenceFront(
+              referenceParetoFront, new ArrayFront(referenceParetoFront), -1, -1);
+    }
+
+    return preparedReferenceFront;
+  }
+
+  private double sum(int numberOfPoints, IntToDoubleFunction distance) {
+    double sum = 0.0;
+    for (double value : compute(numberOfPoints, distance)) {
+      sum += value;
+    }
+
+    return sum;
+  }
+
+  private double[] compute(int numberOfPoints, IntToDoubleFunction distance) {
+    double[] values = new double[numberOfPoints];
+    if (forkJoinPool == null) {
+      for (int i = 0; i < numberOfPoints; i++) {
+        values[i] = distance.applyAsDouble(i);
+      }
+    } else {
+      forkJoinPool
+          .submit(
+              () ->
+                  IntStream.range(0, numberOfPoints)
+                      .parallel()
+                      .forEach(i -> values[i] = distance.applyAsDouble(i)))
+          .join();
+    }
+
+    return values;
+  }
+
+  @Override
+  public String getName() {
+    return type.name;
+  }
+
+  @Override
+  public String getDescription() {
+    return type.description;
+  }
+
+  @Override
+  public boolean isTheLowerTheIndicatorValueTheBetter() {
+    return true;
+  }
+
+  /**
+   * Reference front normalized with its own extreme values, and its index. The source is the
+   * reference front from which it has been prepared, which is compared by identity; the last
+   * modification time and the size of its file are -1 if it has not been read from a file.
+   */
+  private static class ReferenceFront {
+    private final Object source;
+    private final ArrayFront front;
+    private final long lastModified;
+    private final long size;
+    private final double[] minimumValues;
+    private final double[] maximumValues;
+    private final double[][] normalizedPoints;
+    private KDTree index;
+
+    ReferenceFront(Object source, ArrayFront front, long lastModified, long size) {
+      Check.that(front.getNumberOfPoints() > 0, "The reference front is empty");
+      double[][] points = front.getMatrix();
+      this.source = source;
+      this.front = front;
+      this.lastModified = lastModified;
+      this.size = size;
+      this.minimumValues = new double[points[0].length];
+      this.maximumValues = new double[points[0].length];
+      Arrays.fill(minimumValues, Double.POSITIVE_INFINITY);
+      Arrays.fill(maximumValues, Double.NEGATIVE_INFINITY);
+      for (double[] point : points) {
+        for (int j = 0; j < minimumValues.length; j++) {
+          minimumValues[j] = Math.min(minimumValues[j], point[j]);
+          maximumValues[j] = Math.max(maximumValues[j], point[j]);
+        }
+      }
+      this.normalizedPoints = normalize(points);
+    }
+
+    double[][] normalize(double[][] points) {
+      double[][] normalizedPoints = new double[points.length][minimumValues.length];
+      for (int i = 0; i < points.length; i++) {
+        if (points[i].length != minimumValues.length) {
+          throw new InvalidConditionException(
+              "The point "
+                  + i
+                  + " has "
+                  + points[i].length
+                  + " objectives instead of "
+                  + minimumValues.length);
+        }
+        for (int j = 0; j < minimumValues.length; j++) {
+          if ((maximumValues[j] - minimumValues[j]) == 0) {
+            throw new JMetalException(
+                "Maximum and minimum values of index " + j + " are the same: " + maximumValues[j]);
+          }
+          normalizedPoints[i][j] =
+              (points[i][j] - minimumValues[j]) / (maximumValues[j] - minimumValues[j]);
+        }
+      }
+
+      return normalizedPoints;
+    }
+
+    synchronized KDTree getIndex() {
+      if (index == null) {
+        index = new KDTree(normalizedPoints);
+      }
+
+      return index;
+    }
+  }
+}
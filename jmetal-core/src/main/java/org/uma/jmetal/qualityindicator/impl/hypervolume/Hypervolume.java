@@ -1,6 +1,8 @@
 package org.uma.jmetal.qualityindicator.impl.hypervolume;
 
 import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributions;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
 import org.uma.jmetal.util.front.util.FrontUtils;
@@ -18,6 +20,7 @@ import java.util.List;
  */
 @SuppressWarnings("serial")
 public abstract class Hypervolume<S> extends GenericIndicator<S> {
+  private int numberOfMonteCarloSamples = 0;
 
   public Hypervolume() {}
 
@@ -54,6 +57,70 @@ public abstract class Hypervolume<S> extends GenericIndicator<S> {
         solutionList, (List<S>) FrontUtils.convertFrontToSolutionList(referenceParetoFront));
   }
 
+  /**
+   * Returns the objective values of a population matrix as a row-major matrix inverted in the same
+   * way as {@link FrontUtils#getInvertedFront(Front)}, reading the values from the primitive
+   * objective columns
+   */
+  protected static double[][] getInvertedObjectiveMatrix(PopulationMatrix<?> population) {
+    int size = population.size();
+    int numberOfObjectives = population.getNumberOfObjectives();
+    double[] objectives = population.getObjectiveValues();
+
+    double[][] invertedFront = new double[size][numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      int offset = j * size;
+      for (int i = 0; i < size; i++) {
+        double value = objectives[offset + i];
+        if (value > 1.0) {
+          invertedFront[i][j] = 0.0;
+        } else if (value < 0.0) {
+          invertedFront[i][j] = 1.0;
+        } else if (value >= 0.0) {
+          invertedFront[i][j] = 1.0 - value;
+        }
+      }
+    }
+
+    return invertedFront;
+  }
+
+  /**
+   * Calculates how much hypervolume each point dominates exclusively with {@link
+   * HypervolumeContributions}. The points have been transformed beforehand into a maximization
+   * problem whose reference point is the origin, to accommodate the assumptions of Zitzler's
+   * hypervolume code.
+   *
+   * @param front transformed objective values
+   * @return HV contributions
+   */
+  protected double[] computeHypervolumeContributions(double[][] front) {
+    int numberOfObjectives = front[0].length;
+    double[][] minimizedFront = new double[front.length][numberOfObjectives];
+    for (int i = 0; i < front.length; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        minimizedFront[i][j] = -front[i][j];
+      }
+    }
+
+    return new HypervolumeContributions(new double[numberOfObjectives])
+        .setNumberOfMonteCarloSamples(numberOfMonteCarloSamples)
+        .compute(minimizedFront);
+  }
+
+  public int getNumberOfMonteCarloSamples() {
+    return numberOfMonteCarloSamples;
+  }
+
+  /**
+   * Sets the number of samples used to approximate the hypervolume contributions with more than
+   * three objectives (see {@link HypervolumeContributions}). The default value, 0, means that they
+   * are computed exactly.
+   */
+  public void setNumberOfMonteCarloSamples(int numberOfMonteCarloSamples) {
+    this.numberOfMonteCarloSamples = numberOfMonteCarloSamples;
+  }
+
   public abstract double getOffset();
 
   public abstract void setOffset(double offset);
@@ -3,6 +3,7 @@ package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.checking.Check;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
 import org.uma.jmetal.util.front.Front;
@@ -14,7 +15,6 @@ import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribu
 
 import java.io.FileNotFoundException;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -225,6 +225,18 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
         numberOfObjectives);
   }
 
+  /**
+   * Returns the hypervolume value of a population matrix. The objective values are read from the
+   * primitive columns of the matrix instead of building a {@link Front}
+   */
+  public double hypervolume(PopulationMatrix<?> population) {
+    Check.that(population.size() > 0, "The front is empty");
+    int numberOfObjectives = population.getNumberOfObjectives();
+
+    return this.calculateHypervolume(
+        getInvertedObjectiveMatrix(population), population.size(), numberOfObjectives);
+  }
+
   @Override
   public String getDescription() {
     return "PISA implementation of the hypervolume quality indicator";
@@ -270,7 +282,8 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
       HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>();
 
       // calculate contributions and sort
-      double[] contributions = hvContributions(FrontUtils.convertFrontToArray(invertedFront));
+      double[] contributions =
+          computeHypervolumeContributions(FrontUtils.convertFrontToArray(invertedFront));
       for (int i = 0; i < contributions.length; i++) {
         hvContribution.setAttribute(solutionList.get(i), contributions[i]);
       }
@@ -284,34 +297,4 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
   public double getOffset() {
     return offset;
   }
-
-  /**
-   * Calculates how much hypervolume each point dominates exclusively. The points have to be
-   * transformed beforehand, to accommodate the assumptions of Zitzler's hypervolume code.
-   *
-   * @param front transformed objective values
-   * @return HV contributions
-   */
-  private double[] hvContributions(double[][] front) {
-
-    int numberOfObjectives = front[0].length;
-    double[] contributions = new double[front.length];
-    double[][] frontSubset = new double[front.length - 1][front[0].length];
-    LinkedList<double[]> frontCopy = new LinkedList<double[]>();
-    Collections.addAll(frontCopy, front);
-    double[][] totalFront = frontCopy.toArray(frontSubset);
-    double totalVolume =
-        this.calculateHypervolume(totalFront, totalFront.length, numberOfObjectives);
-    for (int i = 0; i < front.length; i++) {
-      double[] evaluatedPoint = frontCopy.remove(i);
-      frontSubset = frontCopy.toArray(frontSubset);
-      // STEP4. The hypervolume (control is passed to java version of Zitzler code)
-      double hv = this.calculateHypervolume(frontSubset, frontSubset.length, numberOfObjectives);
-      double contribution = totalVolume - hv;
-      contributions[i] = contribution;
-      // put point back
-      frontCopy.add(i, evaluatedPoint);
-    }
-    return contributions;
-  }
 }
@@ -0,0 +1,146 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeCalculator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.checking.Check;
+
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Version of {@link WFGHypervolume} intended for large fronts. The value is the same (the
+ * objectives are assumed to be normalized, so they are truncated to [0, 1] and the reference point
+ * is [1, ..., 1]), but it is computed with a {@link HypervolumeCalculator}, which removes the
+ * dominated points before slicing the volume in parallel in a {@link ForkJoinPool}. Fronts stored
+ * in files can be evaluated without loading them in memory with {@link #evaluate(String)}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ParallelWFGHypervolume<S extends Solution<?>> extends WFGHypervolume<S> {
+  private transient ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+  private int chunkSize = HypervolumeCalculator.DEFAULT_CHUNK_SIZE;
+
+  /** Default constructor */
+  public ParallelWFGHypervolume() {}
+
+  /**
+   * Constructor with reference point
+   *
+   * @param referencePoint
+   */
+  public ParallelWFGHypervolume(double[] referencePoint) {
+    super(referencePoint);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFrontFile
+   * @throws FileNotFoundException
+   */
+  public ParallelWFGHypervolume(String referenceParetoFrontFile) throws FileNotFoundException {
+    super(referenceParetoFrontFile);
+  }
+
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  /**
+   * Sets the pool computing the hypervolume. By default, the common pool is used; a null value
+   * makes the computation sequential.
+   */
+  public ParallelWFGHypervolume<S> setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+
+    return this;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Sets the number of points read from a front file before removing the dominated ones (see
+   * {@link #evaluate(String)}). It bounds the memory used when the front is streamed.
+   */
+  public ParallelWFGHypervolume<S> setChunkSize(int chunkSize) {
+    Check.that(chunkSize > 0, "The chunk size is not positive: " + chunkSize);
+    this.chunkSize = chunkSize;
+
+    return this;
+  }
+
+  @Override
+  public Double evaluate(List<S> paretoFrontApproximation) {
+    if (paretoFrontApproximation == null) {
+      throw new JMetalException("The pareto front approximation is null");
+    }
+
+    double[][] front = new double[paretoFrontApproximation.size()][];
+    for (int i = 0; i < front.length; i++) {
+      front[i] = truncate(paretoFrontApproximation.get(i).getObjectives());
+    }
+
+    return createHypervolumeCalculator().compute(front);
+  }
+
+  /**
+   * Returns the hypervolume of a front stored in a file, which is read by chunks of {@link
+   * #getChunkSize()} points so that only the non-dominated points have to be kept in memory
+   *
+   * @param paretoFrontApproximationFile File containing a point per line
+   */
+  public double evaluate(String paretoFrontApproximationFile) {
+    Check.isNotNull(paretoFrontApproximationFile);
+
+    return createHypervolumeCalculator()
+        .compute(paretoFrontApproximationFile, chunkSize, ParallelWFGHypervolume::truncate);
+  }
+
+  @Override
+  public double hypervolume(PopulationMatrix<?> population) {
+    Check.that(population.size() > 0, "The front is empty");
+
+    double[][] front = getInvertedObjectiveMatrix(population);
+    for (double[] point : front) {
+      for (int j = 0; j < point.length; j++) {
+        point[j] = 1.0 - point[j];
+      }
+    }
+
+    return createHypervolumeCalculator().compute(front);
+  }
+
+  @Override
+  public String getDescription() {
+    return "Parallel implementation of the WFG hypervolume quality indicator";
+  }
+
+  private HypervolumeCalculator createHypervolumeCalculator() {
+    Check.isNotNull(referenceParetoFront);
+
+    double[] referencePoint = new double[referenceParetoFront.getPointDimensions()];
+    Arrays.fill(referencePoint, 1.0);
+
+    return new HypervolumeCalculator(referencePoint).setForkJoinPool(forkJoinPool);
+  }
+
+  /**
+   * Truncates the objective values to [0, 1], as done by {@link
+   * org.uma.jmetal.util.front.util.FrontUtils#getInvertedFront(org.uma.jmetal.util.front.Front)}
+   */
+  private static double[] truncate(double[] point) {
+    double[] truncatedPoint = new double[point.length];
+    for (int j = 0; j < point.length; j++) {
+      truncatedPoint[j] = Math.min(Math.max(point[j], 0.0), 1.0);
+    }
+
+    return truncatedPoint;
+  }
+}
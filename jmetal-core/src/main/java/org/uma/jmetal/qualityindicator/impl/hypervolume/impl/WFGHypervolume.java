@@ -3,6 +3,8 @@ package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.checking.Check;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
 import org.uma.jmetal.util.front.impl.ArrayFront;
 import org.uma.jmetal.util.front.util.FrontNormalizer;
@@ -572,6 +574,20 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
         numberOfObjectives);
   }
 
+  /**
+   * Returns the hypervolume value of a population matrix. The objective values are read from the
+   * primitive columns of the matrix instead of building a {@link org.uma.jmetal.util.front.Front}
+   *
+   * @param population
+   *          The population
+   */
+  public double hypervolume(PopulationMatrix<?> population) {
+    Check.that(population.size() > 0, "The front is empty");
+    int numberOfObjectives = population.getNumberOfObjectives();
+
+    return CalculateHypervolume(getInvertedObjectiveMatrix(population), population.size(), numberOfObjectives);
+  }
+
   @Override
   public String getDescription() {
     return "PISA implementation of the hypervolume quality indicator";
@@ -612,7 +628,8 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
       HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>();
 
       // calculate contributions and sort
-      double[] contributions = hvContributions(FrontUtils.convertFrontToArray(invertedFront));
+      double[] contributions =
+          computeHypervolumeContributions(FrontUtils.convertFrontToArray(invertedFront));
       for (int i = 0; i < contributions.length; i++) {
         hvContribution.setAttribute(solutionList.get(i), contributions[i]);
       }
@@ -621,35 +638,4 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
     }
     return solutionList;
   }
-
-  /**
-   * Calculates how much hypervolume each point dominates exclusively. The points
-   * have to be transformed beforehand, to accommodate the assumptions of
-   * Zitzler's hypervolume code.
-   *
-   * @param front
-   *          transformed objective values
-   * @return HV contributions
-   */
-  private double[] hvContributions(double[][] front) {
-
-    int numberOfObjectives = front[0].length;
-    double[] contributions = new double[front.length];
-    double[][] frontSubset = new double[front.length - 1][front[0].length];
-    LinkedList<double[]> frontCopy = new LinkedList<double[]>();
-    Collections.addAll(frontCopy, front);
-    double[][] totalFront = frontCopy.toArray(frontSubset);
-    double totalVolume = CalculateHypervolume(totalFront, totalFront.length, numberOfObjectives);
-    for (int i = 0; i < front.length; i++) {
-      double[] evaluatedPoint = frontCopy.remove(i);
-      frontSubset = frontCopy.toArray(frontSubset);
-      // STEP4. The hypervolume (control is passed to java version of Zitzler code)
-      double hv = CalculateHypervolume(frontSubset, frontSubset.length, numberOfObjectives);
-      double contribution = totalVolume - hv;
-      contributions[i] = contribution;
-      // put point back
-      frontCopy.add(i, evaluatedPoint);
-    }
-    return contributions;
-  }
 }
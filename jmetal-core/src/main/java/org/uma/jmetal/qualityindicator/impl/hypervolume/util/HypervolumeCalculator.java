@@ -0,0 +1,457 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Computes the hypervolume of large sets of points. All the objectives are minimized and the volume
+ * is bounded by a reference point, so the points which are not better than it in every objective
+ * are ignored.
+ *
+ * <p>The computation has two steps:
+ *
+ * <ul>
+ *   <li>A pre-pass removes the weakly dominated points: the points are sorted lexicographically, so
+ *       that a point can only be dominated by the previous ones, and the sorted array is filtered
+ *       by halves, the points of the second half being checked against the non-dominated points of
+ *       the first one.
+ *   <li>The hypervolume is computed with the WFG algorithm, sorting the points by decreasing value
+ *       of the last objective so that the limit sets of a point only have to be computed in the
+ *       other objectives. The dominated points of the limit sets are discarded while they are
+ *       built. With three objectives or less, the volume is obtained by a sweep in O(n log n).
+ * </ul>
+ *
+ * Both steps are split into tasks run in a {@link ForkJoinPool} (the common pool by default, see
+ * {@link #setForkJoinPool(ForkJoinPool)}), recursively when the limit sets are large themselves.
+ *
+ * <p>When the points do not fit in memory, {@link #compute(Iterator, int)} and {@link
+ * #compute(String, int, UnaryOperator)} read them by chunks and only keep the non-dominated points
+ * read so far, which is usually a small fraction of the merged fronts.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeCalculator {
+  public static final int DEFAULT_CHUNK_SIZE = 100000;
+  private static final int SEQUENTIAL_THRESHOLD = 256;
+
+  private final double[] referencePoint;
+  private final int numberOfObjectives;
+  private ForkJoinPool forkJoinPool;
+
+  /**
+   * Constructor
+   *
+   * @param referencePoint Reference point bounding the volume (minimization is assumed)
+   */
+  public HypervolumeCalculator(double[] referencePoint) {
+    Check.isNotNull(referencePoint);
+    Check.that(referencePoint.length > 0, "The reference point has no objectives");
+
+    this.referencePoint = referencePoint.clone();
+    this.numberOfObjectives = referencePoint.length;
+    this.forkJoinPool = ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Sets the pool running the tasks of the computation
+   *
+   * @param forkJoinPool Pool, or null to compute the hypervolume sequentially in the calling thread
+   */
+  public HypervolumeCalculator setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+
+    return this;
+  }
+
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  /**
+   * Computes the hypervolume of a set of points
+   *
+   * @param front Objective values of the points (the array is not modified)
+   */
+  public double compute(double[][] front) {
+    Check.isNotNull(front);
+
+    List<double[]> points = new ArrayList<>(front.length);
+    for (double[] point : front) {
+      addIfInsideTheReferenceBox(point, points);
+    }
+
+    List<double[]> nonDominatedPoints = run(() -> nonDominatedPoints(points, numberOfObjectives));
+
+    return run(() -> hypervolume(nonDominatedPoints, numberOfObjectives));
+  }
+
+  /**
+   * Computes the hypervolume of the points returned by an iterator, keeping at most the
+   * non-dominated points read so far plus a chunk of points in memory
+   *
+   * @param points Iterator over the objective values of the points
+   * @param chunkSize Number of points read before filtering the dominated ones
+   */
+  public double compute(Iterator<double[]> points, int chunkSize) {
+    Check.isNotNull(points);
+    Check.that(chunkSize > 0, "The chunk size is not positive: " + chunkSize);
+
+    List<double[]> nonDominatedPoints = new ArrayList<>();
+    List<double[]> chunk = new ArrayList<>(nonDominatedPoints);
+    while (points.hasNext()) {
+      addIfInsideTheReferenceBox(points.next(), chunk);
+      if (chunk.size() - nonDominatedPoints.size() >= chunkSize || !points.hasNext()) {
+        List<double[]> candidates = chunk;
+        nonDominatedPoints = run(() -> nonDominatedPoints(candidates, numberOfObjectives));
+        chunk = new ArrayList<>(nonDominatedPoints);
+      }
+    }
+
+    List<double[]> front = nonDominatedPoints;
+
+    return run(() -> hypervolume(front, numberOfObjectives));
+  }
+
+  /**
+   * Computes the hypervolume of the points of a front file, which is read by chunks (see {@link
+   * #compute(Iterator, int)}). The file contains a point per line, whose values are separated by
+   * commas or blanks.
+   *
+   * @param frontFile Name of the file
+   * @param chunkSize Number of points read before filtering the dominated ones
+   * @param transformation Function applied to the points read (e.g., a normalization)
+   */
+  public double compute(String frontFile, int chunkSize, UnaryOperator<double[]> transformation) {
+    Check.isNotNull(frontFile);
+    Check.isNotNull(transformation);
+
+    try (Stream<String> lines = Files.lines(Paths.get(frontFile))) {
+      Iterator<double[]> points =
+          lines
+              .map(String::trim)
+              .filter(line -> !line.isEmpty())
+              .map(line -> transformation.apply(parsePoint(line)))
+              .iterator();
+
+      return compute(points, chunkSize);
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file " + frontFile, e);
+    }
+  }
+
+  private double[] parsePoint(String line) {
+    String[] values = line.split("[,\\s]+");
+    double[] point = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      point[i] = Double.parseDouble(values[i]);
+    }
+
+    return point;
+  }
+
+  private void addIfInsideTheReferenceBox(double[] point, List<double[]> points) {
+    if (point.length != numberOfObjectives) {
+      throw new InvalidConditionException(
+          "The point has " + point.length + " objectives instead of " + numberOfObjectives);
+    }
+
+    for (int j = 0; j < numberOfObjectives; j++) {
+      if (!(point[j] < referencePoint[j])) {
+        return;
+      }
+    }
+    points.add(point);
+  }
+
+  private <T> T run(Callable<T> computation) {
+    if (forkJoinPool == null) {
+      try {
+        return computation.call();
+      } catch (Exception e) {
+        throw new JMetalException(e);
+      }
+    }
+
+    return forkJoinPool.submit(computation).join();
+  }
+
+  private boolean isParallel(int numberOfPoints) {
+    return forkJoinPool != null && numberOfPoints >= SEQUENTIAL_THRESHOLD;
+  }
+
+  /**
+   * Returns the points which are not weakly dominated by another one (duplicated points are kept
+   * once), considering only the first objectives
+   */
+  private List<double[]> nonDominatedPoints(List<double[]> points, int objectives) {
+    if (!isParallel(points.size())) {
+      return nonDominatedPointsByInsertion(points, objectives);
+    }
+
+    double[][] sortedPoints = points.toArray(new double[0][]);
+    Arrays.parallelSort(
+        sortedPoints,
+        (point1, point2) -> {
+          for (int j = 0; j < objectives; j++) {
+            int result = Double.compare(point1[j], point2[j]);
+            if (result != 0) {
+              return result;
+            }
+          }
+          return 0;
+        });
+
+    return new NonDominatedPointsTask(sortedPoints, 0, sortedPoints.length, objectives).compute();
+  }
+
+  /**
+   * Sequential version of the filter, which does not sort the points: each one is compared with
+   * the non-dominated points found so far, removing those which it dominates. This is faster when
+   * the number of non-dominated points is much smaller than the number of points.
+   */
+  private List<double[]> nonDominatedPointsByInsertion(List<double[]> points, int objectives) {
+    List<double[]> nonDominatedPoints = new ArrayList<>();
+    for (double[] point : points) {
+      if (!isWeaklyDominated(point, nonDominatedPoints, objectives)) {
+        insert(point, nonDominatedPoints, objectives);
+      }
+    }
+
+    return nonDominatedPoints;
+  }
+
+  /** Adds a point to a set of non-dominated points, removing those dominated by it */
+  private void insert(double[] point, List<double[]> nonDominatedPoints, int objectives) {
+    int i = 0;
+    while (i < nonDominatedPoints.size()) {
+      if (weaklyDominates(point, nonDominatedPoints.get(i), objectives)) {
+        int last = nonDominatedPoints.size() - 1;
+        nonDominatedPoints.set(i, nonDominatedPoints.get(last));
+        nonDominatedPoints.remove(last);
+      } else {
+        i++;
+      }
+    }
+    nonDominatedPoints.add(point);
+  }
+
+  private List<double[]> nonDominatedPoints(
+      double[][] sortedPoints, int from, int to, int objectives) {
+    List<double[]> nonDominatedPoints = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      if (!isWeaklyDominated(sortedPoints[i], nonDominatedPoints, objectives)) {
+        nonDominatedPoints.add(sortedPoints[i]);
+      }
+    }
+
+    return nonDominatedPoints;
+  }
+
+  private boolean isWeaklyDominated(double[] point, List<double[]> points, int objectives) {
+    for (double[] other : points) {
+      if (weaklyDominates(other, point, objectives)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean weaklyDominates(double[] point, double[] other, int objectives) {
+    for (int j = 0; j < objectives; j++) {
+      if (point[j] > other[j]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Filters a range of lexicographically sorted points: the points of the second half can not
+   * dominate those of the first one, so only the former have to be checked against the latter
+   */
+  @SuppressWarnings("serial")
+  private class NonDominatedPointsTask extends RecursiveTask<List<double[]>> {
+    private final double[][] sortedPoints;
+    private final int from;
+    private final int to;
+    private final int objectives;
+
+    NonDominatedPointsTask(double[][] sortedPoints, int from, int to, int objectives) {
+      this.sortedPoints = sortedPoints;
+      this.from = from;
+      this.to = to;
+      this.objectives = objectives;
+    }
+
+    @Override
+    protected List<double[]> compute() {
+      if (to - from < SEQUENTIAL_THRESHOLD) {
+        return nonDominatedPoints(sortedPoints, from, to, objectives);
+      }
+
+      int middle = (from + to) / 2;
+      NonDominatedPointsTask secondHalf =
+          new NonDominatedPointsTask(sortedPoints, middle, to, objectives);
+      secondHalf.fork();
+      List<double[]> firstHalfPoints =
+          new NonDominatedPointsTask(sortedPoints, from, middle, objectives).compute();
+      List<double[]> secondHalfPoints = secondHalf.join();
+
+      List<double[]> nonDominatedPoints = new ArrayList<>(firstHalfPoints);
+      nonDominatedPoints.addAll(
+          secondHalfPoints.parallelStream()
+              .filter(point -> !isWeaklyDominated(point, firstHalfPoints, objectives))
+              .collect(Collectors.toList()));
+
+      return nonDominatedPoints;
+    }
+  }
+
+  /**
+   * Hypervolume of a set of non-dominated points, considering only the first objectives. With the
+   * points sorted by decreasing value of the last objective, the volume dominated by a point and by
+   * none of the following ones is a slab whose section is computed on the other objectives.
+   */
+  private double hypervolume(List<double[]> front, int objectives) {
+    if (front.isEmpty()) {
+      return 0.0;
+    } else if (front.size() == 1) {
+      return inclusiveHypervolume(front.get(0), objectives);
+    } else if (objectives == 1) {
+      double minimum = referencePoint[0];
+      for (double[] point : front) {
+        minimum = Math.min(minimum, point[0]);
+      }
+      return referencePoint[0] - minimum;
+    } else if (objectives == 2) {
+      return hypervolume2D(front);
+    } else if (objectives == 3) {
+      return hypervolume3D(front);
+    }
+
+    double[][] points = front.toArray(new double[0][]);
+    Arrays.sort(points, Comparator.comparingDouble(point -> -point[objectives - 1]));
+
+    if (isParallel(points.length)) {
+      return IntStream.range(0, points.length)
+          .parallel()
+          .mapToDouble(i -> exclusiveHypervolume(points, i, objectives))
+          .sum();
+    }
+
+    double volume = 0.0;
+    for (int i = 0; i < points.length; i++) {
+      volume += exclusiveHypervolume(points, i, objectives);
+    }
+
+    return volume;
+  }
+
+  private double exclusiveHypervolume(double[][] points, int index, int objectives) {
+    double[] point = points[index];
+    List<double[]> limitSet = new ArrayList<>();
+    double[] limit = new double[objectives - 1];
+    for (int i = index + 1; i < points.length; i++) {
+      for (int j = 0; j < objectives - 1; j++) {
+        limit[j] = Math.max(point[j], points[i][j]);
+      }
+      if (!isWeaklyDominated(limit, limitSet, objectives - 1)) {
+        insert(limit.clone(), limitSet, objectives - 1);
+      }
+    }
+
+    double section =
+        inclusiveHypervolume(point, objectives - 1) - hypervolume(limitSet, objectives - 1);
+
+    return (referencePoint[objectives - 1] - point[objectives - 1]) * section;
+  }
+
+  private double inclusiveHypervolume(double[] point, int objectives) {
+    double volume = 1.0;
+    for (int j = 0; j < objectives; j++) {
+      volume *= referencePoint[j] - point[j];
+    }
+
+    return volume;
+  }
+
+  private double hypervolume2D(List<double[]> front) {
+    double[][] points = front.toArray(new double[0][]);
+    Arrays.sort(points, Comparator.comparingDouble(point -> point[0]));
+
+    double volume = 0.0;
+    double previousY = referencePoint[1];
+    for (double[] point : points) {
+      if (point[1] < previousY) {
+        volume += (referencePoint[0] - point[0]) * (previousY - point[1]);
+        previousY = point[1];
+      }
+    }
+
+    return volume;
+  }
+
+  /**
+   * Sweeps the points by increasing value of the third objective while keeping the area dominated
+   * by the staircase of the points swept so far
+   */
+  private double hypervolume3D(List<double[]> front) {
+    double[][] points = front.toArray(new double[0][]);
+    Arrays.sort(points, Comparator.comparingDouble(point -> point[2]));
+
+    TreeMap<Double, double[]> staircase = new TreeMap<>();
+    double volume = 0.0;
+    double area = 0.0;
+    double lastZ = referencePoint[2];
+    for (double[] point : points) {
+      if (!staircase.isEmpty()) {
+        volume += area * (point[2] - lastZ);
+      }
+      lastZ = point[2];
+
+      Map.Entry<Double, double[]> floor = staircase.floorEntry(point[0]);
+      if (floor != null && floor.getValue()[1] <= point[1]) {
+        continue;
+      }
+
+      double x = point[0];
+      double y = floor == null ? referencePoint[1] : floor.getValue()[1];
+      Map.Entry<Double, double[]> entry;
+      while ((entry = staircase.ceilingEntry(point[0])) != null
+          && entry.getValue()[1] >= point[1]) {
+        area += (entry.getKey() - x) * (y - point[1]);
+        x = entry.getKey();
+        y = entry.getValue()[1];
+        staircase.remove(entry.getKey());
+      }
+      double rightX = entry == null ? referencePoint[0] : entry.getKey();
+      area += (rightX - x) * (y - point[1]);
+
+      staircase.put(point[0], point);
+    }
+    volume += area * (referencePoint[2] - lastZ);
+
+    return volume;
+  }
+}
@@ -0,0 +1,603 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomGenerator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Engine computing the hypervolume contribution of each point of a set, i.e., the volume dominated
+ * by the point and by no other point of the set. All the objectives are minimized and the volume is
+ * bounded by a reference point; the points which are not better than the reference point in every
+ * objective have a zero contribution, as well as the points weakly dominated by another one.
+ *
+ * <p>With two and three objectives the contributions are exact and computed in O(n log n) by
+ * sweeping the points in the order of the last objective while keeping the two-dimensional
+ * non-dominated staircase of the points already swept. With more objectives, the contribution of
+ * each point is its exclusive hypervolume, computed by {@link HypervolumeCalculator} on its limit set
+ * after pruning the limit points which are dominated or have no volume; alternatively, a Monte-Carlo
+ * approximation sampling the bounding box of the exclusive region of each point can be enabled with
+ * {@link #setNumberOfMonteCarloSamples(int)}.
+ *
+ * <p>Once the contributions are computed, points can be removed one at a time with {@link
+ * #remove(int)} or {@link #removeLeastContributor()}: only the contributions affected by the removal
+ * are updated. Indexes always refer to the positions of the points in the array passed to {@link
+ * #compute(double[][])}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeContributions {
+  private final double[] referencePoint;
+  private final int numberOfObjectives;
+  private final HypervolumeCalculator hypervolumeCalculator;
+  private int numberOfMonteCarloSamples;
+  private RandomGenerator<Double> randomGenerator;
+
+  private double[][] points;
+  private double[] contributions;
+  private boolean[] removed;
+  private int numberOfPoints;
+
+  /* Two objectives: staircase of the points sorted by the first objective, as a linked list */
+  private int[] previous;
+  private int[] next;
+  private boolean allPointsInStaircase;
+
+  /**
+   * Constructor
+   *
+   * @param referencePoint Reference point bounding the volume (minimization is assumed)
+   */
+  public HypervolumeContributions(double[] referencePoint) {
+    Check.isNotNull(referencePoint);
+    Check.that(referencePoint.length > 0, "The reference point has no objectives");
+
+    this.referencePoint = referencePoint.clone();
+    this.numberOfObjectives = referencePoint.length;
+    this.hypervolumeCalculator = new HypervolumeCalculator(referencePoint).setForkJoinPool(null);
+    this.numberOfMonteCarloSamples = 0;
+    this.randomGenerator = () -> JMetalRandom.getInstance().nextDouble();
+  }
+
+  /**
+   * Sets the number of samples used to approximate each contribution with more than three
+   * objectives. A value of 0 (the default) means that the contributions are computed exactly.
+   */
+  public HypervolumeContributions setNumberOfMonteCarloSamples(int numberOfMonteCarloSamples) {
+    Check.that(
+        numberOfMonteCarloSamples >= 0,
+        "The number of samples is negative: " + numberOfMonteCarloSamples);
+    this.numberOfMonteCarloSamples = numberOfMonteCarloSamples;
+
+    return this;
+  }
+
+  public int getNumberOfMonteCarloSamples() {
+    return numberOfMonteCarloSamples;
+  }
+
+  /** Sets the generator of the values in [0, 1) used by the Monte-Carlo approximation */
+  public HypervolumeContributions setRandomGenerator(RandomGenerator<Double> randomGenerator) {
+    Check.isNotNull(randomGenerator);
+    this.randomGenerator = randomGenerator;
+
+    return this;
+  }
+
+  /**
+   * Computes the contributions of a set of points, which become the current set of the engine
+   *
+   * @param points Objective values of the points (the array is not modified)
+   * @return A copy of the contributions, in the order of the points
+   */
+  public double[] compute(double[][] points) {
+    Check.isNotNull(points);
+    for (double[] point : points) {
+      Check.that(
+          point.length == numberOfObjectives,
+          "The point has " + point.length + " objectives instead of " + numberOfObjectives);
+    }
+
+    this.points = points;
+    this.contributions = new double[points.length];
+    this.removed = new boolean[points.length];
+    this.numberOfPoints = points.length;
+
+    computeContributions();
+
+    return contributions.clone();
+  }
+
+  /** Returns the contribution of a point of the current set */
+  public double getContribution(int index) {
+    checkIndex(index);
+
+    return contributions[index];
+  }
+
+  /** Returns the number of points which have not been removed */
+  public int size() {
+    return numberOfPoints;
+  }
+
+  /**
+   * Returns the index of the point with the lowest contribution among those which have not been
+   * removed, or -1 if there are none. Ties are resolved in favour of the lowest index.
+   */
+  public int getIndexOfLeastContributor() {
+    int index = -1;
+    for (int i = 0; i < points.length; i++) {
+      if (!removed[i] && ((index == -1) || (contributions[i] < contributions[index]))) {
+        index = i;
+      }
+    }
+
+    return index;
+  }
+
+  /**
+   * Removes the point with the lowest contribution and updates the contributions of the others
+   *
+   * @return The index of the removed point
+   */
+  public int removeLeastContributor() {
+    int index = getIndexOfLeastContributor();
+    Check.that(index != -1, "There are no points to remove");
+    remove(index);
+
+    return index;
+  }
+
+  /** Removes a point and updates the contributions of the others */
+  public void remove(int index) {
+    checkIndex(index);
+
+    removed[index] = true;
+    contributions[index] = 0.0;
+    numberOfPoints--;
+
+    if (numberOfObjectives == 2 && allPointsInStaircase) {
+      int before = previous[index];
+      int after = next[index];
+      if (before != -1) {
+        next[before] = after;
+        contributions[before] = staircaseContribution(before);
+      }
+      if (after != -1) {
+        previous[after] = before;
+        contributions[after] = staircaseContribution(after);
+      }
+    } else if (numberOfObjectives <= 3) {
+      computeContributions();
+    } else {
+      double[] point = points[index];
+      int[] active = activePoints();
+      for (int i : active) {
+        if (isAffectedByTheRemovalOf(point, i, active)) {
+          contributions[i] = exclusiveContribution(i, active);
+        }
+      }
+    }
+  }
+
+  private void checkIndex(int index) {
+    Check.that(points != null, "The contributions have not been computed");
+    Check.valueIsInRange(index, 0, points.length - 1);
+    Check.that(!removed[index], "The point " + index + " has been removed");
+  }
+
+  private int[] activePoints() {
+    int[] active = new int[numberOfPoints];
+    int count = 0;
+    for (int i = 0; i < points.length; i++) {
+      if (!removed[i]) {
+        active[count++] = i;
+      }
+    }
+
+    return active;
+  }
+
+  private boolean isInsideTheReferenceBox(double[] point) {
+    for (int j = 0; j < numberOfObjectives; j++) {
+      if (!(point[j] < referencePoint[j])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void computeContributions() {
+    int[] active = activePoints();
+    for (int i : active) {
+      contributions[i] = 0.0;
+    }
+
+    if (numberOfObjectives == 1) {
+      computeContributions1D(active);
+    } else if (numberOfObjectives == 2) {
+      computeContributions2D(active);
+    } else if (numberOfObjectives == 3) {
+      computeContributions3D(active);
+    } else {
+      for (int i : active) {
+        contributions[i] = exclusiveContribution(i, active);
+      }
+    }
+  }
+
+  private void computeContributions1D(int[] active) {
+    int best = -1;
+    double secondBestValue = referencePoint[0];
+    for (int i : active) {
+      double value = points[i][0];
+      if (best == -1 || value < points[best][0]) {
+        if (best != -1) {
+          secondBestValue = Math.min(secondBestValue, points[best][0]);
+        }
+        best = i;
+      } else {
+        secondBestValue = Math.min(secondBestValue, value);
+      }
+    }
+
+    if (best != -1 && points[best][0] < secondBestValue) {
+      contributions[best] = secondBestValue - points[best][0];
+    }
+  }
+
+  private void computeContributions2D(int[] active) {
+    Integer[] order = sortedInsidePoints(active, 0, 1);
+
+    previous = new int[points.length];
+    next = new int[points.length];
+    allPointsInStaircase = order.length == active.length;
+
+    List<Integer> nonDominatedPoints = new ArrayList<>(order.length);
+    List<Integer> dominatedPoints = new ArrayList<>();
+    int last = -1;
+    for (int i : order) {
+      if (last != -1 && points[i][1] >= points[last][1]) {
+        allPointsInStaircase = false;
+        dominatedPoints.add(i);
+      } else {
+        nonDominatedPoints.add(i);
+        if (last != -1) {
+          next[last] = i;
+          contributions[last] = staircaseContribution(last);
+        }
+        previous[i] = last;
+        next[i] = -1;
+        last = i;
+      }
+    }
+    if (last != -1) {
+      contributions[last] = staircaseContribution(last);
+    }
+
+    correctContributionsOfSoleDominators(nonDominatedPoints, dominatedPoints, active);
+  }
+
+  private double staircaseContribution(int index) {
+    double nextX = next[index] == -1 ? referencePoint[0] : points[next[index]][0];
+    double previousY = previous[index] == -1 ? referencePoint[1] : points[previous[index]][1];
+
+    return (nextX - points[index][0]) * (previousY - points[index][1]);
+  }
+
+  /**
+   * The points are swept by increasing value of the third objective. The contribution of a point
+   * accumulates the area of its exclusive region in the staircase of the points swept so far,
+   * multiplied by the length of the slab in which that region remains unchanged. When a point is
+   * inserted, its exclusive region is the area it adds to the staircase, and it only reduces the
+   * regions of the points it dominates, which leave the staircase, and of its two neighbours: the
+   * left one loses its region to the right of the new point and the right one its region above it.
+   */
+  private void computeContributions3D(int[] active) {
+    Integer[] order = sortedInsidePoints(active, 2, 0);
+
+    ExclusiveRegion[] regions = new ExclusiveRegion[points.length];
+    double[] lastZ = new double[points.length];
+    List<Integer> nonDominatedPoints = new ArrayList<>(order.length);
+    List<Integer> dominatedPoints = new ArrayList<>();
+    TreeMap<Double, Integer> staircase = new TreeMap<>();
+
+    for (int i : order) {
+      double[] point = points[i];
+      double z = point[2];
+
+      Map.Entry<Double, Integer> floor = staircase.floorEntry(point[0]);
+      if (floor != null && points[floor.getValue()][1] <= point[1]) {
+        dominatedPoints.add(i);
+        continue;
+      }
+      nonDominatedPoints.add(i);
+
+      ExclusiveRegion region = new ExclusiveRegion(point[1]);
+      double x = point[0];
+      double y = floor == null ? referencePoint[1] : points[floor.getValue()][1];
+      Map.Entry<Double, Integer> entry;
+      while ((entry = staircase.ceilingEntry(point[0])) != null
+          && points[entry.getValue()][1] >= point[1]) {
+        int dominated = entry.getValue();
+        contributions[dominated] += regions[dominated].area * (z - lastZ[dominated]);
+        region.addStrip(x, entry.getKey(), y);
+        x = entry.getKey();
+        y = points[dominated][1];
+        staircase.remove(entry.getKey());
+      }
+      region.addStrip(x, entry == null ? referencePoint[0] : entry.getKey(), y);
+
+      Map.Entry<Double, Integer> leftEntry = staircase.lowerEntry(point[0]);
+      if (leftEntry != null) {
+        int left = leftEntry.getValue();
+        contributions[left] += regions[left].area * (z - lastZ[left]);
+        regions[left].cutRightOf(point[0]);
+        lastZ[left] = z;
+      }
+      if (entry != null) {
+        int right = entry.getValue();
+        contributions[right] += regions[right].area * (z - lastZ[right]);
+        regions[right].cutAbove(point[1]);
+        lastZ[right] = z;
+      }
+
+      staircase.put(point[0], i);
+      regions[i] = region;
+      lastZ[i] = z;
+    }
+
+    for (int i : staircase.values()) {
+      contributions[i] += regions[i].area * (referencePoint[2] - lastZ[i]);
+    }
+
+    correctContributionsOfSoleDominators(nonDominatedPoints, dominatedPoints, active);
+  }
+
+  /**
+   * Exclusive region of a point of the staircase in the current slab: strips [x0, x1) x [bottom,
+   * top) sorted by x, whose tops do not increase
+   */
+  private static class ExclusiveRegion {
+    private final double bottom;
+    private final ArrayDeque<double[]> strips = new ArrayDeque<>();
+    private double area;
+
+    ExclusiveRegion(double bottom) {
+      this.bottom = bottom;
+    }
+
+    void addStrip(double x0, double x1, double top) {
+      if (x1 > x0 && top > bottom) {
+        strips.addLast(new double[] {x0, x1, top});
+        area += (x1 - x0) * (top - bottom);
+      }
+    }
+
+    void cutRightOf(double x) {
+      while (!strips.isEmpty() && strips.peekLast()[1] > x) {
+        double[] strip = strips.peekLast();
+        if (strip[0] >= x) {
+          area -= (strip[1] - strip[0]) * (strip[2] - bottom);
+          strips.removeLast();
+        } else {
+          area -= (strip[1] - x) * (strip[2] - bottom);
+          strip[1] = x;
+        }
+      }
+    }
+
+    void cutAbove(double y) {
+      if (strips.isEmpty() || strips.peekFirst()[2] <= y) {
+        return;
+      }
+
+      double x0 = strips.peekFirst()[0];
+      double x1 = x0;
+      while (!strips.isEmpty() && strips.peekFirst()[2] > y) {
+        double[] strip = strips.removeFirst();
+        area -= (strip[1] - strip[0]) * (strip[2] - bottom);
+        x1 = strip[1];
+      }
+      if (y > bottom) {
+        strips.addFirst(new double[] {x0, x1, y});
+        area += (x1 - x0) * (y - bottom);
+      }
+    }
+  }
+
+  /**
+   * The sweeps ignore the weakly dominated points, which is exact unless a point is dominated by a
+   * single non-dominated one: removing the latter would uncover the former, so the contribution of
+   * the dominating point is computed from its limit set instead. This never happens in non-dominated
+   * sets such as the fronts handled by SMS-EMOA or the hypervolume archive.
+   */
+  private void correctContributionsOfSoleDominators(
+      List<Integer> nonDominatedPoints, List<Integer> dominatedPoints, int[] active) {
+    boolean[] corrected = new boolean[points.length];
+    for (int dominatedPoint : dominatedPoints) {
+      int dominator = -1;
+      for (int i : nonDominatedPoints) {
+        if (i != dominatedPoint && weaklyDominates(points[i], points[dominatedPoint])) {
+          if (dominator != -1) {
+            dominator = -1;
+            break;
+          }
+          dominator = i;
+        }
+      }
+      if (dominator != -1 && !corrected[dominator]) {
+        corrected[dominator] = true;
+        contributions[dominator] = exclusiveContribution(dominator, active);
+      }
+    }
+  }
+
+  private Integer[] sortedInsidePoints(int[] active, int objective, int secondObjective) {
+    List<Integer> inside = new ArrayList<>(active.length);
+    for (int i : active) {
+      if (isInsideTheReferenceBox(points[i])) {
+        inside.add(i);
+      }
+    }
+
+    Integer[] order = inside.toArray(new Integer[0]);
+    Arrays.sort(
+        order,
+        Comparator.<Integer>comparingDouble(i -> points[i][objective])
+            .thenComparingDouble(i -> points[i][secondObjective]));
+
+    return order;
+  }
+
+  /**
+   * After removing a point, the contribution of another one can only change if the region they both
+   * dominated is not also dominated by a third point
+   */
+  private boolean isAffectedByTheRemovalOf(double[] removedPoint, int index, int[] active) {
+    double[] point = points[index];
+    double[] sharedCorner = new double[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      sharedCorner[j] = Math.max(removedPoint[j], point[j]);
+    }
+    if (!isInsideTheReferenceBox(sharedCorner)) {
+      return false;
+    }
+
+    for (int i : active) {
+      if (i != index && weaklyDominates(points[i], sharedCorner)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private double exclusiveContribution(int index, int[] active) {
+    double[] point = points[index];
+    if (!isInsideTheReferenceBox(point)) {
+      return 0.0;
+    }
+
+    for (int i : active) {
+      if (i != index && weaklyDominates(points[i], point)) {
+        return 0.0;
+      }
+    }
+
+    if (numberOfMonteCarloSamples > 0) {
+      return estimatedContribution(index, active);
+    }
+
+    double[][] limitSet = new double[active.length - 1][];
+    int count = 0;
+    for (int i : active) {
+      if (i != index) {
+        limitSet[count++] = limit(point, points[i]);
+      }
+    }
+
+    return inclusiveHypervolume(point) - hypervolumeCalculator.compute(limitSet);
+  }
+
+  /**
+   * The exclusive region of a point lies within a box bounded, for each objective, by the points
+   * which are not worse in all the other objectives. The contribution is estimated as the fraction
+   * of samples of that box which are not dominated by another point.
+   */
+  private double estimatedContribution(int index, int[] active) {
+    double[] point = points[index];
+    double[] upper = referencePoint.clone();
+    for (int i : active) {
+      if (i != index) {
+        int worseObjective = -1;
+        for (int j = 0; j < numberOfObjectives; j++) {
+          if (points[i][j] > point[j]) {
+            if (worseObjective != -1) {
+              worseObjective = -2;
+              break;
+            }
+            worseObjective = j;
+          }
+        }
+        if (worseObjective >= 0) {
+          upper[worseObjective] = Math.min(upper[worseObjective], points[i][worseObjective]);
+        }
+      }
+    }
+
+    double volume = 1.0;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      volume *= upper[j] - point[j];
+    }
+    if (volume <= 0.0) {
+      return 0.0;
+    }
+
+    List<double[]> candidates = new ArrayList<>();
+    for (int i : active) {
+      if (i != index) {
+        boolean canDominateTheBox = true;
+        for (int j = 0; j < numberOfObjectives && canDominateTheBox; j++) {
+          canDominateTheBox = points[i][j] < upper[j];
+        }
+        if (canDominateTheBox) {
+          candidates.add(points[i]);
+        }
+      }
+    }
+
+    double[] sample = new double[numberOfObjectives];
+    int hits = 0;
+    for (int s = 0; s < numberOfMonteCarloSamples; s++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        sample[j] = point[j] + randomGenerator.getRandomValue() * (upper[j] - point[j]);
+      }
+      boolean dominated = false;
+      for (int c = 0; c < candidates.size() && !dominated; c++) {
+        dominated = weaklyDominates(candidates.get(c), sample);
+      }
+      if (!dominated) {
+        hits++;
+      }
+    }
+
+    return volume * hits / numberOfMonteCarloSamples;
+  }
+
+  private double inclusiveHypervolume(double[] point) {
+    double volume = 1.0;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      volume *= referencePoint[j] - point[j];
+    }
+
+    return volume;
+  }
+
+  private double[] limit(double[] point, double[] other) {
+    double[] limit = new double[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      limit[j] = Math.max(point[j], other[j]);
+    }
+
+    return limit;
+  }
+
+  private boolean weaklyDominates(double[] point, double[] other) {
+    for (int j = 0; j < numberOfObjectives; j++) {
+      if (point[j] > other[j]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
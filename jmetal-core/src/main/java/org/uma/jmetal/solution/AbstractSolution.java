@@ -1,14 +1,23 @@
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
+import org.uma.jmetal.solution.util.attribute.AttributeSlots;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.util.JMetalException;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Abstract class representing a generic solution
+ * Abstract class representing a generic solution. The numeric attributes whose identifier has been
+ * registered as an {@link AttributeKey} are stored in primitive {@link AttributeSlots}; the rest of
+ * attributes are stored in a map.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -19,6 +28,7 @@ public abstract class AbstractSolution<T> implements Solution<T> {
   private double[] constraints;
 
   protected Map<Object, Object> attributes;
+  protected transient AttributeSlots attributeSlots;
 
   /** Constructor */
   protected AbstractSolution(int numberOfVariables, int numberOfObjectives) {
@@ -28,8 +38,6 @@ public abstract class AbstractSolution<T> implements Solution<T> {
   /** Constructor */
   protected AbstractSolution(
       int numberOfVariables, int numberOfObjectives, int numberOfConstraints) {
-    attributes = new HashMap<>();
-
     variables = new ArrayList<>(numberOfVariables);
     for (int i = 0; i < numberOfVariables; i++) {
       variables.add(i, null);
@@ -63,21 +71,113 @@ public abstract class AbstractSolution<T> implements Solution<T> {
     return constraints ;
   }
 
+  /** Copies the attributes of another solution; intended to be used in copy constructors */
+  protected void copyAttributes(AbstractSolution<?> solution) {
+    attributes = new HashMap<>(solution.attributes);
+    attributeSlots = solution.attributeSlots == null ? null : solution.attributeSlots.copy();
+  }
+
+  /**
+   * Copies the objectives, constraints and attributes of this solution into another one of the same
+   * class and size, reusing its storage; intended to be used in the implementations of {@link
+   * #copyInto(Solution)}, which must copy the variables.
+   *
+   * @return false if the target solution is not of the same class or size
+   */
+  protected boolean copyStateInto(AbstractSolution<?> target) {
+    if ((target.getClass() != getClass())
+        || (target.variables.size() != variables.size())
+        || (target.objectives.length != objectives.length)
+        || (target.constraints.length != constraints.length)) {
+      return false;
+    }
+
+    System.arraycopy(objectives, 0, target.objectives, 0, objectives.length);
+    System.arraycopy(constraints, 0, target.constraints, 0, constraints.length);
+    target.attributes.clear();
+    target.attributes.putAll(attributes);
+    if (attributeSlots == null) {
+      if (target.attributeSlots != null) {
+        target.attributeSlots.clear();
+      }
+    } else if (target.attributeSlots == null) {
+      target.attributeSlots = attributeSlots.copy();
+    } else {
+      target.attributeSlots.copyFrom(attributeSlots);
+    }
+
+    return true;
+  }
+
+  private AttributeSlots attributeSlots() {
+    if (attributeSlots == null) {
+      attributeSlots = new AttributeSlots();
+    }
+    return attributeSlots;
+  }
+
   @Override
   public void setAttribute(Object id, Object value) {
-    attributes.put(id, value);
+    AttributeKey key = AttributeKey.find(id);
+    if ((key != null) && (value instanceof Number)) {
+      key.setIn(attributeSlots(), (Number) value);
+      attributes.remove(id);
+    } else {
+      if ((key != null) && (attributeSlots != null)) {
+        key.clearIn(attributeSlots);
+      }
+      attributes.put(id, value);
+    }
   }
 
   @Override
   public Object getAttribute(Object id) {
+    if (attributeSlots != null) {
+      AttributeKey key = AttributeKey.find(id);
+      if ((key != null) && key.isSetIn(attributeSlots)) {
+        return key.getFrom(attributeSlots);
+      }
+    }
     return attributes.get(id);
   }
 
   @Override
   public boolean hasAttribute(Object id) {
+    if (attributeSlots != null) {
+      AttributeKey key = AttributeKey.find(id);
+      if ((key != null) && key.isSetIn(attributeSlots)) {
+        return true;
+      }
+    }
     return attributes.containsKey(id);
   }
 
+  @Override
+  public double getDoubleAttribute(DoubleAttributeKey key) {
+    if ((attributeSlots != null) && attributeSlots.hasDouble(key.getSlot())) {
+      return attributeSlots.getDouble(key.getSlot());
+    }
+    return Solution.super.getDoubleAttribute(key);
+  }
+
+  @Override
+  public void setDoubleAttribute(DoubleAttributeKey key, double value) {
+    attributeSlots().setDouble(key.getSlot(), value);
+  }
+
+  @Override
+  public int getIntAttribute(IntAttributeKey key) {
+    if ((attributeSlots != null) && attributeSlots.hasInt(key.getSlot())) {
+      return attributeSlots.getInt(key.getSlot());
+    }
+    return Solution.super.getIntAttribute(key);
+  }
+
+  @Override
+  public void setIntAttribute(IntAttributeKey key, int value) {
+    attributeSlots().setInt(key.getSlot(), value);
+  }
+
   @Override
   public void setObjective(int index, double value) {
     objectives[index] = value;
@@ -138,7 +238,11 @@ public abstract class AbstractSolution<T> implements Solution<T> {
       result += "" + obj + " ";
     }
     result += "\t";
-    result += "AlgorithmAttributes: " + attributes + "\n";
+    result += "AlgorithmAttributes: " + attributes;
+    if ((attributeSlots != null) && !attributeSlots.isEmpty()) {
+      result += " " + attributeSlots;
+    }
+    result += "\n";
 
     return result;
   }
@@ -159,8 +263,26 @@ public abstract class AbstractSolution<T> implements Solution<T> {
     return variables.hashCode();
   }
 
+  /**
+   * Returns the map of the attributes which are not stored in the slots. The attributes having a
+   * registered {@link AttributeKey} are only returned by {@link #getAttribute(Object)}.
+   */
   @Override
   public Map<Object, Object> getAttributes() {
     return attributes;
   }
+
+  /** Writes the attributes stored in the slots by the identifier of their keys */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeObject(attributeSlots == null ? new HashMap<>() : attributeSlots.toMap());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) in.readObject()).entrySet()) {
+      setAttribute(entry.getKey(), entry.getValue());
+    }
+  }
 }
@@ -1,5 +1,8 @@
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
@@ -29,9 +32,54 @@ public interface Solution<T> extends Serializable {
 
   Solution<T> copy() ;
 
+  /**
+   * Copies the variables, objectives, constraints and attributes of this solution into another
+   * solution of the same class and size, reusing its storage instead of creating a new solution as
+   * {@link #copy()} does (see {@link org.uma.jmetal.solution.util.pool.SolutionPool}). The
+   * default implementation does not copy anything.
+   *
+   * @param target Solution whose state is overwritten
+   * @return true if the solution has been copied, or false if this type of solution or the target
+   *     solution do not support it, in which case {@link #copy()} must be used
+   */
+  default boolean copyInto(Solution<T> target) {
+    return false ;
+  }
+
   void setAttribute(Object id, Object value) ;
   Object getAttribute(Object id) ;
   boolean hasAttribute(Object id) ;
-  
+
+  /**
+   * Returns the attributes stored in a map. Implementations storing the attributes having a
+   * registered {@link org.uma.jmetal.solution.util.attribute.AttributeKey} in primitive slots do not
+   * include them in this map.
+   */
   Map<Object, Object> getAttributes();
+
+  /**
+   * Returns the value of a <code>double</code> attribute, or 0.0 if the solution does not have it.
+   * The default implementation relies on {@link #getAttribute(Object)}; implementations having
+   * primitive attribute slots avoid boxing the value.
+   */
+  default double getDoubleAttribute(DoubleAttributeKey key) {
+    Object value = getAttribute(key.getId());
+    return value == null ? 0.0 : ((Number) value).doubleValue();
+  }
+
+  default void setDoubleAttribute(DoubleAttributeKey key, double value) {
+    setAttribute(key.getId(), value);
+  }
+
+  /**
+   * Returns the value of an <code>int</code> attribute, or 0 if the solution does not have it
+   */
+  default int getIntAttribute(IntAttributeKey key) {
+    Object value = getAttribute(key.getId());
+    return value == null ? 0 : ((Number) value).intValue();
+  }
+
+  default void setIntAttribute(IntAttributeKey key, int value) {
+    setAttribute(key.getId(), value);
+  }
 }
@@ -1,11 +1,12 @@
 package org.uma.jmetal.solution.binarysolution.impl;
 
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
 import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomGenerator;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,10 +25,20 @@ public class DefaultBinarySolution
 
   /** Constructor */
   public DefaultBinarySolution(List<Integer> bitsPerVariable, int numberOfObjectives) {
+    this(bitsPerVariable, numberOfObjectives, () -> JMetalRandom.getInstance().nextDouble()) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param randomGenerator Generator of the values in [0, 1) used to set the initial bits
+   */
+  public DefaultBinarySolution(List<Integer> bitsPerVariable, int numberOfObjectives,
+      RandomGenerator<Double> randomGenerator) {
     super(bitsPerVariable.size(), numberOfObjectives) ;
     this.bitsPerVariable = bitsPerVariable ;
 
-    initializeBinaryVariables(JMetalRandom.getInstance());
+    initializeBinaryVariables(randomGenerator);
   }
 
   /** Copy constructor */
@@ -48,14 +59,14 @@ public class DefaultBinarySolution
       setConstraint(i, solution.getConstraint(i));
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution);
   }
 
-  private static BinarySet createNewBinarySet(int numberOfBits, JMetalRandom randomGenerator) {
+  private static BinarySet createNewBinarySet(int numberOfBits, RandomGenerator<Double> randomGenerator) {
     BinarySet bitSet = new BinarySet(numberOfBits) ;
 
     for (int i = 0; i < numberOfBits; i++) {
-      double rnd = randomGenerator.nextDouble() ;
+      double rnd = randomGenerator.getRandomValue() ;
       if (rnd < 0.5) {
         bitSet.set(i);
       } else {
@@ -75,6 +86,33 @@ public class DefaultBinarySolution
     return new DefaultBinarySolution(this);
   }
 
+  /** Copies this solution into another one whose variables have the same number of bits */
+  @Override
+  public boolean copyInto(Solution<BinarySet> target) {
+    if (!(target instanceof DefaultBinarySolution)) {
+      return false;
+    }
+
+    DefaultBinarySolution solution = (DefaultBinarySolution) target;
+    for (int i = 0; i < Math.min(getNumberOfVariables(), solution.getNumberOfVariables()); i++) {
+      if (getNumberOfBits(i) != solution.getNumberOfBits(i)) {
+        return false;
+      }
+    }
+    if (!copyStateInto(solution)) {
+      return false;
+    }
+
+    solution.bitsPerVariable = bitsPerVariable;
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      BinarySet bits = solution.getVariable(i);
+      bits.clear();
+      bits.or(getVariable(i));
+    }
+
+    return true;
+  }
+
   @Override
   public int getTotalNumberOfBits() {
     int sum = 0 ;
@@ -85,7 +123,7 @@ public class DefaultBinarySolution
     return sum ;
   }
   
-  private void initializeBinaryVariables(JMetalRandom randomGenerator) {
+  private void initializeBinaryVariables(RandomGenerator<Double> randomGenerator) {
     for (int i = 0; i < getNumberOfVariables(); i++) {
       setVariable(i, createNewBinarySet(bitsPerVariable.get(i), randomGenerator));
     }
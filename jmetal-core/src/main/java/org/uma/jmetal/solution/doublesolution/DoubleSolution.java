@@ -34,4 +34,40 @@ public interface DoubleSolution extends Solution<Double> {
     Double upperBound = solution.getUpperBound(index);
     return Bounds.create(lowerBound, upperBound);
   }
+
+  /**
+   * Primitive counterpart of {@link #getVariable(int)}. Implementations storing the variables in a
+   * primitive array override it to avoid boxing; the default implementation unboxes the value.
+   */
+  default double getDoubleVariable(int index) {
+    return getVariable(index);
+  }
+
+  /**
+   * Primitive counterpart of {@link #setVariable(int, Object)}. Implementations storing the
+   * variables in a primitive array override it to avoid boxing.
+   */
+  default void setDoubleVariable(int index, double value) {
+    setVariable(index, value);
+  }
+
+  /**
+   * Returns the variables as a primitive array. Array-backed implementations return their internal
+   * storage (i.e., a view, where changes are reflected in the solution), so the result must not be
+   * kept once the solution is modified by someone else. The default implementation returns a copy.
+   */
+  default double[] getDoubleVariables() {
+    double[] values = new double[getNumberOfVariables()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = getDoubleVariable(i);
+    }
+    return values;
+  }
+
+  /** Copies the given values into the variables of the solution */
+  default void setDoubleVariables(double[] values) {
+    for (int i = 0; i < values.length; i++) {
+      setDoubleVariable(i, values[i]);
+    }
+  }
 }
@@ -0,0 +1,388 @@
+package org.uma.jmetal.solution.doublesolution.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
+import org.uma.jmetal.solution.util.attribute.AttributeSlots;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.pseudorandom.BoundedRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Implementation of {@link DoubleSolution} storing the variables in a contiguous <code>double[]
+ * </code> instead of a list of {@link Double} objects. The primitive accessors ({@link
+ * #getDoubleVariable(int)}, {@link #setDoubleVariable(int, double)}, {@link #getDoubleVariables()})
+ * work directly on that array, so that operators and problems using them do not box the values.
+ * The {@link List} returned by {@link #getVariables()} is a view of the array, kept for
+ * compatibility with the generic {@link org.uma.jmetal.solution.Solution} API. As in {@link
+ * org.uma.jmetal.solution.AbstractSolution}, the attributes having a registered {@link
+ * AttributeKey} are stored in primitive {@link AttributeSlots}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ArrayDoubleSolution implements DoubleSolution {
+  private double[] objectives;
+  private double[] variables;
+  private double[] constraints;
+
+  protected List<Bounds<Double>> bounds;
+  protected Map<Object, Object> attributes;
+  protected transient AttributeSlots attributeSlots;
+
+  /** Constructor */
+  public ArrayDoubleSolution(
+      int numberOfObjectives, int numberOfConstraints, List<Bounds<Double>> boundsList) {
+    this(
+        numberOfObjectives,
+        numberOfConstraints,
+        boundsList,
+        (a, b) -> JMetalRandom.getInstance().nextDouble(a, b));
+  }
+
+  /**
+   * Constructor
+   *
+   * @param randomGenerator Generator of the initial values of the variables
+   */
+  public ArrayDoubleSolution(
+      int numberOfObjectives,
+      int numberOfConstraints,
+      List<Bounds<Double>> boundsList,
+      BoundedRandomGenerator<Double> randomGenerator) {
+    this.bounds = boundsList;
+    this.objectives = new double[numberOfObjectives];
+    this.constraints = new double[numberOfConstraints];
+    this.variables = new double[boundsList.size()];
+    this.attributes = new HashMap<>();
+
+    for (int i = 0; i < variables.length; i++) {
+      Bounds<Double> bounds = boundsList.get(i);
+      variables[i] = randomGenerator.getRandomValue(bounds.getLowerBound(), bounds.getUpperBound());
+    }
+  }
+
+  /** Constructor */
+  public ArrayDoubleSolution(int numberOfObjectives, List<Bounds<Double>> boundsList) {
+    this(numberOfObjectives, 0, boundsList);
+  }
+
+  /** Copy constructor */
+  public ArrayDoubleSolution(ArrayDoubleSolution solution) {
+    objectives = solution.objectives.clone();
+    variables = solution.variables.clone();
+    constraints = solution.constraints.clone();
+    bounds = solution.bounds;
+    attributes = new HashMap<>(solution.attributes);
+    attributeSlots = solution.attributeSlots == null ? null : solution.attributeSlots.copy();
+  }
+
+  @Override
+  public void setObjective(int index, double value) {
+    objectives[index] = value;
+  }
+
+  @Override
+  public double getObjective(int index) {
+    return objectives[index];
+  }
+
+  @Override
+  public double[] getObjectives() {
+    return objectives;
+  }
+
+  @Override
+  public Double getVariable(int index) {
+    return variables[index];
+  }
+
+  @Override
+  public List<Double> getVariables() {
+    return new VariableListView();
+  }
+
+  @Override
+  public void setVariable(int index, Double value) {
+    variables[index] = value;
+  }
+
+  @Override
+  public double getDoubleVariable(int index) {
+    return variables[index];
+  }
+
+  @Override
+  public void setDoubleVariable(int index, double value) {
+    variables[index] = value;
+  }
+
+  /** Returns the internal array holding the variables (not a copy) */
+  @Override
+  public double[] getDoubleVariables() {
+    return variables;
+  }
+
+  @Override
+  public void setDoubleVariables(double[] values) {
+    System.arraycopy(values, 0, variables, 0, values.length);
+  }
+
+  @Override
+  public double[] getConstraints() {
+    return constraints;
+  }
+
+  @Override
+  public double getConstraint(int index) {
+    return constraints[index];
+  }
+
+  @Override
+  public void setConstraint(int index, double value) {
+    constraints[index] = value;
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return variables.length;
+  }
+
+  @Override
+  public int getNumberOfObjectives() {
+    return objectives.length;
+  }
+
+  @Override
+  public int getNumberOfConstraints() {
+    return constraints.length;
+  }
+
+  /**
+   * @deprecated Use {@link #getBounds(int)}{@link Bounds#getLowerBound()
+   *             .getLowerBound()} instead.
+   */
+  @Deprecated
+  @Override
+  public Double getLowerBound(int index) {
+    return bounds.get(index).getLowerBound();
+  }
+
+  /**
+   * @deprecated Use {@link #getBounds(int)}{@link Bounds#getUpperBound()
+   *             .getUpperBound()} instead.
+   */
+  @Deprecated
+  @Override
+  public Double getUpperBound(int index) {
+    return bounds.get(index).getUpperBound();
+  }
+
+  @Override
+  public Bounds<Double> getBounds(int index) {
+    return bounds.get(index);
+  }
+
+  @Override
+  public ArrayDoubleSolution copy() {
+    return new ArrayDoubleSolution(this);
+  }
+
+  @Override
+  public boolean copyInto(Solution<Double> target) {
+    if (!(target instanceof ArrayDoubleSolution) || (target.getClass() != getClass())) {
+      return false;
+    }
+    ArrayDoubleSolution solution = (ArrayDoubleSolution) target;
+    if ((solution.variables.length != variables.length)
+        || (solution.objectives.length != objectives.length)
+        || (solution.constraints.length != constraints.length)) {
+      return false;
+    }
+
+    System.arraycopy(variables, 0, solution.variables, 0, variables.length);
+    System.arraycopy(objectives, 0, solution.objectives, 0, objectives.length);
+    System.arraycopy(constraints, 0, solution.constraints, 0, constraints.length);
+    solution.bounds = bounds;
+    solution.attributes.clear();
+    solution.attributes.putAll(attributes);
+    if (attributeSlots == null) {
+      if (solution.attributeSlots != null) {
+        solution.attributeSlots.clear();
+      }
+    } else if (solution.attributeSlots == null) {
+      solution.attributeSlots = attributeSlots.copy();
+    } else {
+      solution.attributeSlots.copyFrom(attributeSlots);
+    }
+
+    return true;
+  }
+
+  private AttributeSlots attributeSlots() {
+    if (attributeSlots == null) {
+      attributeSlots = new AttributeSlots();
+    }
+    return attributeSlots;
+  }
+
+  @Override
+  public void setAttribute(Object id, Object value) {
+    AttributeKey key = AttributeKey.find(id);
+    if ((key != null) && (value instanceof Number)) {
+      key.setIn(attributeSlots(), (Number) value);
+      attributes.remove(id);
+    } else {
+      if ((key != null) && (attributeSlots != null)) {
+        key.clearIn(attributeSlots);
+      }
+      attributes.put(id, value);
+    }
+  }
+
+  @Override
+  public Object getAttribute(Object id) {
+    if (attributeSlots != null) {
+      AttributeKey key = AttributeKey.find(id);
+      if ((key != null) && key.isSetIn(attributeSlots)) {
+        return key.getFrom(attributeSlots);
+      }
+    }
+    return attributes.get(id);
+  }
+
+  @Override
+  public boolean hasAttribute(Object id) {
+    if (attributeSlots != null) {
+      AttributeKey key = AttributeKey.find(id);
+      if ((key != null) && key.isSetIn(attributeSlots)) {
+        return true;
+      }
+    }
+    return attributes.containsKey(id);
+  }
+
+  @Override
+  public double getDoubleAttribute(DoubleAttributeKey key) {
+    if ((attributeSlots != null) && attributeSlots.hasDouble(key.getSlot())) {
+      return attributeSlots.getDouble(key.getSlot());
+    }
+    return DoubleSolution.super.getDoubleAttribute(key);
+  }
+
+  @Override
+  public void setDoubleAttribute(DoubleAttributeKey key, double value) {
+    attributeSlots().setDouble(key.getSlot(), value);
+  }
+
+  @Override
+  public int getIntAttribute(IntAttributeKey key) {
+    if ((attributeSlots != null) && attributeSlots.hasInt(key.getSlot())) {
+      return attributeSlots.getInt(key.getSlot());
+    }
+    return DoubleSolution.super.getIntAttribute(key);
+  }
+
+  @Override
+  public void setIntAttribute(IntAttributeKey key, int value) {
+    attributeSlots().setInt(key.getSlot(), value);
+  }
+
+  /**
+   * Returns the map of the attributes which are not stored in the slots. The attributes having a
+   * registered {@link AttributeKey} are only returned by {@link #getAttribute(Object)}.
+   */
+  @Override
+  public Map<Object, Object> getAttributes() {
+    return attributes;
+  }
+
+  /** Writes the attributes stored in the slots by the identifier of their keys */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeObject(attributeSlots == null ? new HashMap<>() : attributeSlots.toMap());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) in.readObject()).entrySet()) {
+      setAttribute(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Variables: "
+        + Arrays.toString(variables)
+        + " Objectives: "
+        + Arrays.toString(objectives)
+        + " Constraints: "
+        + Arrays.toString(constraints)
+        + "\tAlgorithmAttributes: "
+        + attributes
+        + (((attributeSlots != null) && !attributeSlots.isEmpty()) ? " " + attributeSlots : "")
+        + "\n";
+  }
+
+  /**
+   * Two solutions are equal if their variables are equal, as in {@link
+   * org.uma.jmetal.solution.AbstractSolution}, so an {@link ArrayDoubleSolution} can be equal to a
+   * {@link DefaultDoubleSolution} with the same values.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (o == null) {
+      throw new JMetalException("The solution to compare is null");
+    }
+
+    if (o instanceof ArrayDoubleSolution) {
+      return Arrays.equals(variables, ((ArrayDoubleSolution) o).variables);
+    }
+
+    return getVariables().equals(((DoubleSolution) o).getVariables());
+  }
+
+  /** Computed as {@link List#hashCode()} of the variables, without boxing them */
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (double value : variables) {
+      hashCode = 31 * hashCode + Double.hashCode(value);
+    }
+    return hashCode;
+  }
+
+  /** Writable {@link List} view of the variable array */
+  private class VariableListView extends AbstractList<Double> implements RandomAccess {
+    @Override
+    public Double get(int index) {
+      return variables[index];
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+      double previous = variables[index];
+      variables[index] = value;
+      return previous;
+    }
+
+    @Override
+    public int size() {
+      return variables.length;
+    }
+  }
+}
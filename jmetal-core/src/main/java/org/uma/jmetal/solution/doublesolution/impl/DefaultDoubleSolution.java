@@ -2,11 +2,12 @@ package org.uma.jmetal.solution.doublesolution.impl;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.pseudorandom.BoundedRandomGenerator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,13 +38,27 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
       int numberOfObjectives,
       int numberOfConstraints,
       List<Bounds<Double>> boundsList) {
+    this(numberOfObjectives, numberOfConstraints, boundsList,
+        (a, b) -> JMetalRandom.getInstance().nextDouble(a, b)) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param randomGenerator Generator of the initial values of the variables
+   */
+  public DefaultDoubleSolution(
+      int numberOfObjectives,
+      int numberOfConstraints,
+      List<Bounds<Double>> boundsList,
+      BoundedRandomGenerator<Double> randomGenerator) {
     super(boundsList.size(), numberOfObjectives, numberOfConstraints) ;
 
     this.bounds = boundsList ;
 
     for (int i = 0 ; i < boundsList.size(); i++) {
       Bounds<Double> bounds = boundsList.get(i);
-      setVariable(i, JMetalRandom.getInstance().nextDouble(bounds.getLowerBound(), bounds.getUpperBound())); ;
+      setVariable(i, randomGenerator.getRandomValue(bounds.getLowerBound(), bounds.getUpperBound())); ;
     }
   }
 
@@ -83,7 +98,7 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
     }
 
     bounds = solution.bounds ;
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution);
   }
 
   /**
@@ -115,4 +130,19 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
   public DefaultDoubleSolution copy() {
     return new DefaultDoubleSolution(this);
   }
+
+  @Override
+  public boolean copyInto(Solution<Double> target) {
+    if (!(target instanceof DefaultDoubleSolution) || !copyStateInto((DefaultDoubleSolution) target)) {
+      return false;
+    }
+
+    DefaultDoubleSolution solution = (DefaultDoubleSolution) target;
+    solution.bounds = bounds;
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      solution.setVariable(i, getVariable(i));
+    }
+
+    return true;
+  }
 }
@@ -10,7 +10,6 @@ import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution;
 import org.uma.jmetal.util.checking.Check;
 
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -82,7 +81,7 @@ public class DefaultIntegerDoubleSolution extends AbstractSolution<Solution<?>>
       setConstraint(i, solution.getConstraint(i));
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes);
+    copyAttributes(solution);
   }
 
   @Override
@@ -2,11 +2,11 @@ package org.uma.jmetal.solution.integersolution.impl;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -79,7 +79,7 @@ public class DefaultIntegerSolution extends AbstractSolution<Integer> implements
 
     bounds = solution.bounds;
 
-    attributes = new HashMap<>(solution.attributes);
+    copyAttributes(solution);
   }
 
   /**
@@ -111,4 +111,19 @@ public class DefaultIntegerSolution extends AbstractSolution<Integer> implements
   public DefaultIntegerSolution copy() {
     return new DefaultIntegerSolution(this);
   }
+
+  @Override
+  public boolean copyInto(Solution<Integer> target) {
+    if (!(target instanceof DefaultIntegerSolution) || !copyStateInto((DefaultIntegerSolution) target)) {
+      return false;
+    }
+
+    DefaultIntegerSolution solution = (DefaultIntegerSolution) target;
+    solution.bounds = bounds;
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      solution.setVariable(i, getVariable(i));
+    }
+
+    return true;
+  }
   }
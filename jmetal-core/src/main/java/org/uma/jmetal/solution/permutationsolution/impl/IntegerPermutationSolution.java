@@ -1,10 +1,10 @@
 package org.uma.jmetal.solution.permutationsolution.impl;
 
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -51,7 +51,7 @@ public class IntegerPermutationSolution extends AbstractSolution<Integer>
       setConstraint(i, solution.getConstraint(i));
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes);
+    copyAttributes(solution);
   }
 
   @Override
@@ -59,6 +59,20 @@ public class IntegerPermutationSolution extends AbstractSolution<Integer>
     return new IntegerPermutationSolution(this);
   }
 
+  @Override
+  public boolean copyInto(Solution<Integer> target) {
+    if (!(target instanceof IntegerPermutationSolution) || !copyStateInto((IntegerPermutationSolution) target)) {
+      return false;
+    }
+
+    IntegerPermutationSolution solution = (IntegerPermutationSolution) target;
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      solution.setVariable(i, getVariable(i));
+    }
+
+    return true;
+  }
+
   @Override
   public Map<Object, Object> getAttributes() {
     return attributes;
@@ -1,9 +1,9 @@
 package org.uma.jmetal.solution.sequencesolution.impl;
 
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.sequencesolution.SequenceSolution;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -38,7 +38,7 @@ public class CharSequenceSolution extends AbstractSolution<Character> implements
       setConstraint(i, solution.getConstraint(i));
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes);
+    copyAttributes(solution);
   }
 
   @Override
@@ -46,6 +46,20 @@ public class CharSequenceSolution extends AbstractSolution<Character> implements
     return new CharSequenceSolution(this);
   }
 
+  @Override
+  public boolean copyInto(Solution<Character> target) {
+    if (!(target instanceof CharSequenceSolution) || !copyStateInto((CharSequenceSolution) target)) {
+      return false;
+    }
+
+    CharSequenceSolution solution = (CharSequenceSolution) target;
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      solution.setVariable(i, getVariable(i));
+    }
+
+    return true;
+  }
+
   @Override
   public Map<Object, Object> getAttributes() {
     return attributes;
@@ -0,0 +1,104 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typed identifier of a numeric solution attribute. Registered keys are resolved to a fixed slot
+ * index, so that solutions can store their values in primitive arrays (see {@link AttributeSlots})
+ * instead of in the attribute map. The registry is global: registering the same identifier twice
+ * returns the same key. Attributes whose identifier has not been registered are still stored in the
+ * map of the solution.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public abstract class AttributeKey {
+  /** Maximum number of keys of each type, given by the size of the bit masks of {@link AttributeSlots} */
+  public static final int MAXIMUM_NUMBER_OF_KEYS = 64;
+
+  private static final Map<Object, AttributeKey> registry = new ConcurrentHashMap<>();
+  private static int numberOfDoubleKeys = 0;
+  private static int numberOfIntKeys = 0;
+
+  private final Object id;
+  private final int slot;
+
+  AttributeKey(Object id, int slot) {
+    this.id = id;
+    this.slot = slot;
+  }
+
+  public Object getId() {
+    return id;
+  }
+
+  public int getSlot() {
+    return slot;
+  }
+
+  /**
+   * Returns the key registered with the given identifier, or null if there is none
+   */
+  public static AttributeKey find(Object id) {
+    return id == null ? null : registry.get(id);
+  }
+
+  /** Returns the keys registered so far */
+  public static Collection<AttributeKey> getRegisteredKeys() {
+    return Collections.unmodifiableCollection(registry.values());
+  }
+
+  static synchronized DoubleAttributeKey registerDoubleKey(Object id) {
+    AttributeKey key = registry.get(id);
+    if (key == null) {
+      if (numberOfDoubleKeys == MAXIMUM_NUMBER_OF_KEYS) {
+        throw new JMetalException("Too many double attribute keys: " + MAXIMUM_NUMBER_OF_KEYS);
+      }
+      key = new DoubleAttributeKey(id, numberOfDoubleKeys++);
+      registry.put(id, key);
+    } else if (!(key instanceof DoubleAttributeKey)) {
+      throw new JMetalException("The attribute " + id + " is already registered as " + key);
+    }
+
+    return (DoubleAttributeKey) key;
+  }
+
+  static synchronized IntAttributeKey registerIntKey(Object id) {
+    AttributeKey key = registry.get(id);
+    if (key == null) {
+      if (numberOfIntKeys == MAXIMUM_NUMBER_OF_KEYS) {
+        throw new JMetalException("Too many int attribute keys: " + MAXIMUM_NUMBER_OF_KEYS);
+      }
+      key = new IntAttributeKey(id, numberOfIntKeys++);
+      registry.put(id, key);
+    } else if (!(key instanceof IntAttributeKey)) {
+      throw new JMetalException("The attribute " + id + " is already registered as " + key);
+    }
+
+    return (IntAttributeKey) key;
+  }
+
+  static int getNumberOfDoubleKeys() {
+    return numberOfDoubleKeys;
+  }
+
+  static int getNumberOfIntKeys() {
+    return numberOfIntKeys;
+  }
+
+  /** Returns true if the slots contain a value for this key */
+  public abstract boolean isSetIn(AttributeSlots slots);
+
+  /** Returns the value of this key in the slots as a boxed object */
+  public abstract Object getFrom(AttributeSlots slots);
+
+  /** Stores a value in the slot of this key */
+  public abstract void setIn(AttributeSlots slots, Number value);
+
+  /** Removes the value of this key from the slots */
+  public abstract void clearIn(AttributeSlots slots);
+}
@@ -0,0 +1,141 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primitive storage of the values of the attributes identified by an {@link AttributeKey}. Values
+ * are stored in a <code>double[]</code> and an <code>int[]</code> indexed by the slot of the key,
+ * and a bit mask per array tells which slots have been set. The arrays grow on demand up to the
+ * number of registered keys.
+ *
+ * <p>The slot of a key depends on the order in which the keys are registered, which may differ
+ * between two executions, so the slots are not serializable; the solutions serialize the map
+ * returned by {@link #toMap()} instead.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AttributeSlots {
+  private static final double[] EMPTY_DOUBLE_ARRAY = new double[0];
+  private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+  private double[] doubleValues;
+  private int[] intValues;
+  private long doubleMask;
+  private long intMask;
+
+  /** Constructor */
+  public AttributeSlots() {
+    doubleValues = EMPTY_DOUBLE_ARRAY;
+    intValues = EMPTY_INT_ARRAY;
+  }
+
+  /** Copy constructor */
+  public AttributeSlots(AttributeSlots slots) {
+    doubleValues = slots.doubleValues.clone();
+    intValues = slots.intValues.clone();
+    doubleMask = slots.doubleMask;
+    intMask = slots.intMask;
+  }
+
+  public AttributeSlots copy() {
+    return new AttributeSlots(this);
+  }
+
+  /** Copies the values of other slots, reusing the arrays of these ones if they are big enough */
+  public void copyFrom(AttributeSlots slots) {
+    if (doubleValues.length < slots.doubleValues.length) {
+      doubleValues = slots.doubleValues.clone();
+    } else {
+      System.arraycopy(slots.doubleValues, 0, doubleValues, 0, slots.doubleValues.length);
+    }
+    if (intValues.length < slots.intValues.length) {
+      intValues = slots.intValues.clone();
+    } else {
+      System.arraycopy(slots.intValues, 0, intValues, 0, slots.intValues.length);
+    }
+    doubleMask = slots.doubleMask;
+    intMask = slots.intMask;
+  }
+
+  public boolean hasDouble(int slot) {
+    return (doubleMask & (1L << slot)) != 0;
+  }
+
+  /** Returns the value of a slot, or 0.0 if it has not been set */
+  public double getDouble(int slot) {
+    return hasDouble(slot) ? doubleValues[slot] : 0.0;
+  }
+
+  public void setDouble(int slot, double value) {
+    if (slot >= doubleValues.length) {
+      doubleValues =
+          Arrays.copyOf(doubleValues, Math.max(slot + 1, AttributeKey.getNumberOfDoubleKeys()));
+    }
+    doubleValues[slot] = value;
+    doubleMask |= 1L << slot;
+  }
+
+  public void clearDouble(int slot) {
+    doubleMask &= ~(1L << slot);
+  }
+
+  public boolean hasInt(int slot) {
+    return (intMask & (1L << slot)) != 0;
+  }
+
+  /** Returns the value of a slot, or 0 if it has not been set */
+  public int getInt(int slot) {
+    return hasInt(slot) ? intValues[slot] : 0;
+  }
+
+  public void setInt(int slot, int value) {
+    if (slot >= intValues.length) {
+      intValues = Arrays.copyOf(intValues, Math.max(slot + 1, AttributeKey.getNumberOfIntKeys()));
+    }
+    intValues[slot] = value;
+    intMask |= 1L << slot;
+  }
+
+  public void clearInt(int slot) {
+    intMask &= ~(1L << slot);
+  }
+
+  /** Removes all the values */
+  public void clear() {
+    doubleMask = 0;
+    intMask = 0;
+  }
+
+  public boolean isEmpty() {
+    return (doubleMask == 0) && (intMask == 0);
+  }
+
+  /** Returns the values of the slots indexed by the identifier of their keys */
+  public Map<Object, Object> toMap() {
+    Map<Object, Object> values = new HashMap<>();
+    for (AttributeKey key : AttributeKey.getRegisteredKeys()) {
+      if (key.isSetIn(this)) {
+        values.put(key.getId(), key.getFrom(this));
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("{");
+    for (int slot = 0; slot < doubleValues.length; slot++) {
+      if (hasDouble(slot)) {
+        result.append(result.length() > 1 ? ", " : "").append("d").append(slot).append("=").append(doubleValues[slot]);
+      }
+    }
+    for (int slot = 0; slot < intValues.length; slot++) {
+      if (hasInt(slot)) {
+        result.append(result.length() > 1 ? ", " : "").append("i").append(slot).append("=").append(intValues[slot]);
+      }
+    }
+    return result.append("}").toString();
+  }
+}
@@ -0,0 +1,42 @@
+package org.uma.jmetal.solution.util.attribute;
+
+/**
+ * {@link AttributeKey} of an attribute having a <code>double</code> value
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public final class DoubleAttributeKey extends AttributeKey {
+  DoubleAttributeKey(Object id, int slot) {
+    super(id, slot);
+  }
+
+  /** Returns the key of the given identifier, registering it if needed */
+  public static DoubleAttributeKey of(Object id) {
+    return registerDoubleKey(id);
+  }
+
+  @Override
+  public boolean isSetIn(AttributeSlots slots) {
+    return slots.hasDouble(getSlot());
+  }
+
+  @Override
+  public Object getFrom(AttributeSlots slots) {
+    return slots.getDouble(getSlot());
+  }
+
+  @Override
+  public void setIn(AttributeSlots slots, Number value) {
+    slots.setDouble(getSlot(), value.doubleValue());
+  }
+
+  @Override
+  public void clearIn(AttributeSlots slots) {
+    slots.clearDouble(getSlot());
+  }
+
+  @Override
+  public String toString() {
+    return "DoubleAttributeKey(" + getId() + ")";
+  }
+}
@@ -0,0 +1,42 @@
+package org.uma.jmetal.solution.util.attribute;
+
+/**
+ * {@link AttributeKey} of an attribute having an <code>int</code> value
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public final class IntAttributeKey extends AttributeKey {
+  IntAttributeKey(Object id, int slot) {
+    super(id, slot);
+  }
+
+  /** Returns the key of the given identifier, registering it if needed */
+  public static IntAttributeKey of(Object id) {
+    return registerIntKey(id);
+  }
+
+  @Override
+  public boolean isSetIn(AttributeSlots slots) {
+    return slots.hasInt(getSlot());
+  }
+
+  @Override
+  public Object getFrom(AttributeSlots slots) {
+    return slots.getInt(getSlot());
+  }
+
+  @Override
+  public void setIn(AttributeSlots slots, Number value) {
+    slots.setInt(getSlot(), value.intValue());
+  }
+
+  @Override
+  public void clearIn(AttributeSlots slots) {
+    slots.clearInt(getSlot());
+  }
+
+  @Override
+  public String toString() {
+    return "IntAttributeKey(" + getId() + ")";
+  }
+}
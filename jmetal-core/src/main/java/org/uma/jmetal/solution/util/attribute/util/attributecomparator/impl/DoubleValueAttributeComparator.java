@@ -1,6 +1,8 @@
 package org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.util.checking.Check;
 
@@ -8,17 +10,30 @@ import org.uma.jmetal.util.checking.Check;
  * Compares two population according to an attribute value, which must be a double number. The higher
  * the value the better.
  *
+ * <p>If the attribute has a registered {@link DoubleAttributeKey}, the values are read from the primitive
+ * attribute slots of the solutions.
+ *
  * @author Antonio J. Nebro
  */
 public class DoubleValueAttributeComparator<S extends Solution<?>> extends AttributeComparator<S> {
 
+  private final DoubleAttributeKey key;
+
   public DoubleValueAttributeComparator(String name, Ordering ordering) {
-    super(name, ordering) ;
+    super(name, ordering);
+    AttributeKey registeredKey = AttributeKey.find(name);
+    key = registeredKey instanceof DoubleAttributeKey ? (DoubleAttributeKey) registeredKey : null;
   }
 
   public DoubleValueAttributeComparator(String name) {
-    super(name) ;
+    this(name, Ordering.DESCENDING);
+  }
+
+  public DoubleValueAttributeComparator(DoubleAttributeKey key, Ordering ordering) {
+    super(String.valueOf(key.getId()), ordering);
+    this.key = key;
   }
+
   /**
    * Compare two population.
    *
@@ -37,6 +52,17 @@ public class DoubleValueAttributeComparator<S extends Solution<?>> extends Attri
 
     int result ;
 
+    if (key != null) {
+      double value1 = solution1.getDoubleAttribute(key);
+      double value2 = solution2.getDoubleAttribute(key);
+
+      if (ordering.equals(Ordering.DESCENDING)) {
+        return Double.compare(value2, value1);
+      } else {
+        return Double.compare(value1, value2);
+      }
+    }
+
     double value1 = 0 ;
     double value2 = 0 ;
 
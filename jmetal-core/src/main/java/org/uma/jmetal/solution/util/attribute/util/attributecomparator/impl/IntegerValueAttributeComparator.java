@@ -1,6 +1,8 @@
 package org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.util.checking.Check;
 
@@ -8,16 +10,28 @@ import org.uma.jmetal.util.checking.Check;
  * Compares two population according to an attribute value, which must be a double number. The higher
  * the value the better.
  *
+ * <p>If the attribute has a registered {@link IntAttributeKey}, the values are read from the primitive
+ * attribute slots of the solutions.
+ *
  * @author Antonio J. Nebro
  */
 public class IntegerValueAttributeComparator<S extends Solution<?>> extends AttributeComparator<S> {
 
+  private final IntAttributeKey key;
+
   public IntegerValueAttributeComparator(String name, Ordering ordering) {
     super(name, ordering);
+    AttributeKey registeredKey = AttributeKey.find(name);
+    key = registeredKey instanceof IntAttributeKey ? (IntAttributeKey) registeredKey : null;
   }
 
   public IntegerValueAttributeComparator(String name) {
-    super(name);
+    this(name, Ordering.DESCENDING);
+  }
+
+  public IntegerValueAttributeComparator(IntAttributeKey key, Ordering ordering) {
+    super(String.valueOf(key.getId()), ordering);
+    this.key = key;
   }
 
   /**
@@ -38,6 +52,17 @@ public class IntegerValueAttributeComparator<S extends Solution<?>> extends Attr
 
     int result ;
 
+    if (key != null) {
+      int value1 = solution1.getIntAttribute(key);
+      int value2 = solution2.getIntAttribute(key);
+
+      if (ordering.equals(Ordering.DESCENDING)) {
+        return Integer.compare(value2, value1);
+      } else {
+        return Integer.compare(value1, value2);
+      }
+    }
+
     int value1 = 0 ;
     int value2 = 0 ;
 
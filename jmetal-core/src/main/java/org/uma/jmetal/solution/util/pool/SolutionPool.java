@@ -0,0 +1,136 @@
+package org.uma.jmetal.solution.util.pool;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.checking.Check;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Pool of discarded solutions whose storage is reused to create copies of other solutions, so that
+ * the variation operators do not allocate a new solution per offspring. The copies are made with
+ * {@link Solution#copyInto(Solution)}; if no recycled solution is available or the recycled
+ * solution cannot be overwritten (e.g., it is of another type or size), {@link Solution#copy()}
+ * is used instead.
+ *
+ * <p>A solution can only be recycled when nothing else keeps a reference to it: the pool is
+ * intended to be used by algorithms returning the discarded individuals of each generation (see
+ * {@link SolutionPoolAware}), and it must not be used if an archive or an observer stores the
+ * solutions of the population. The pool keeps up to a maximum number of solutions and it is not
+ * thread-safe.
+ *
+ * @param <S> Solution
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class SolutionPool<S> {
+  public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private final int maximumSize;
+  private final ArrayDeque<S> recycledSolutions;
+
+  private long reusedSolutions;
+  private long allocatedSolutions;
+
+  /** Constructor */
+  public SolutionPool() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maximumSize Maximum number of recycled solutions kept in the pool
+   */
+  public SolutionPool(int maximumSize) {
+    Check.that(maximumSize > 0, "The maximum size of the pool must be positive: " + maximumSize);
+    this.maximumSize = maximumSize;
+    this.recycledSolutions = new ArrayDeque<>(Math.min(maximumSize, 1024));
+  }
+
+  /**
+   * Returns a copy of a solution, reusing a recycled solution if possible
+   *
+   * @param solution Solution to copy
+   * @return A solution which is not referenced by the pool anymore
+   */
+  @SuppressWarnings("unchecked")
+  public S copyOf(S solution) {
+    Check.isNotNull(solution);
+    Check.that(solution instanceof Solution, "The pool only copies objects implementing Solution");
+
+    S recycledSolution = recycledSolutions.pollLast();
+    if ((recycledSolution != null)
+        && ((Solution<Object>) solution).copyInto((Solution<Object>) recycledSolution)) {
+      reusedSolutions++;
+      return recycledSolution;
+    }
+
+    allocatedSolutions++;
+    return (S) ((Solution<?>) solution).copy();
+  }
+
+  /**
+   * Adds a solution to the pool, unless the pool is full. The solution must not be used anymore by
+   * the caller
+   */
+  public void recycle(S solution) {
+    if ((solution != null) && (recycledSolutions.size() < maximumSize)) {
+      recycledSolutions.addLast(solution);
+    }
+  }
+
+  /** Adds the solutions of a collection to the pool (see {@link #recycle(Object)}) */
+  public void recycleAll(Collection<S> solutions) {
+    for (S solution : solutions) {
+      recycle(solution);
+    }
+  }
+
+  /**
+   * Recycles the solutions of the previous population and of the offspring population which have
+   * not been selected for the next population. Solutions are compared by identity, and a solution
+   * appearing several times is recycled once.
+   */
+  public void recycleDiscarded(
+      Collection<S> population, Collection<S> offspringPopulation, Collection<S> nextPopulation) {
+    Set<S> keptSolutions = Collections.newSetFromMap(new IdentityHashMap<>());
+    keptSolutions.addAll(nextPopulation);
+    for (S solution : population) {
+      if (keptSolutions.add(solution)) {
+        recycle(solution);
+      }
+    }
+    for (S solution : offspringPopulation) {
+      if (keptSolutions.add(solution)) {
+        recycle(solution);
+      }
+    }
+  }
+
+  /** Removes the recycled solutions from the pool */
+  public void clear() {
+    recycledSolutions.clear();
+  }
+
+  /** Returns the number of recycled solutions available in the pool */
+  public int size() {
+    return recycledSolutions.size();
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /** Returns the number of copies made by reusing a recycled solution */
+  public long getNumberOfReusedSolutions() {
+    return reusedSolutions;
+  }
+
+  /** Returns the number of copies that required creating a new solution */
+  public long getNumberOfAllocatedSolutions() {
+    return allocatedSolutions;
+  }
+}
@@ -0,0 +1,18 @@
+package org.uma.jmetal.solution.util.pool;
+
+/**
+ * Interface implemented by the components (operators, variations, algorithms) which can create the
+ * copies of solutions with a {@link SolutionPool}. If no pool is set, the solutions are copied as
+ * usual.
+ *
+ * @param <S> Solution
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface SolutionPoolAware<S> {
+  /**
+   * Sets the pool used to copy solutions
+   *
+   * @param solutionPool Pool, or null to stop using it
+   */
+  void setSolutionPool(SolutionPool<S> solutionPool);
+}
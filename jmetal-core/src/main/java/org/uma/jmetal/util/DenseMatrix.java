@@ -0,0 +1,206 @@
+package org.uma.jmetal.util;
+
+import org.uma.jmetal.util.checking.Check;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Dense matrix of primitive doubles stored row-major in a single array, intended for the numerical
+ * kernels of problems evaluated many times (e.g., {@code BigOpt2015}). The operations write their
+ * results into existing matrices, so that the matrices can be allocated once and reused in every
+ * evaluation. The sums are computed in the same order as the naive loops over the elements, so the
+ * results do not depend on the block size.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class DenseMatrix implements Serializable {
+  private static final int BLOCK_SIZE = 64;
+
+  private final int rows;
+  private final int columns;
+  private final double[] data;
+
+  /**
+   * Constructor. The matrix is filled with zeros.
+   *
+   * @param rows Number of rows
+   * @param columns Number of columns
+   */
+  public DenseMatrix(int rows, int columns) {
+    Check.that(rows >= 0 && columns >= 0, "The dimensions are negative: " + rows + "x" + columns);
+    this.rows = rows;
+    this.columns = columns;
+    this.data = new double[rows * columns];
+  }
+
+  /**
+   * Constructor
+   *
+   * @param values Values of the matrix (all the rows must have the same length). They are copied.
+   */
+  public DenseMatrix(double[][] values) {
+    this(values.length, values.length == 0 ? 0 : values[0].length);
+    for (int i = 0; i < rows; i++) {
+      Check.that(
+          values[i].length == columns,
+          "The row " + i + " has " + values[i].length + " values instead of " + columns);
+      System.arraycopy(values[i], 0, data, i * columns, columns);
+    }
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  /** Returns the internal row-major array of values (a view, not a copy) */
+  public double[] getData() {
+    return data;
+  }
+
+  public double get(int row, int column) {
+    return data[row * columns + column];
+  }
+
+  public void set(int row, int column, double value) {
+    data[row * columns + column] = value;
+  }
+
+  /** Sets all the values of the matrix */
+  public void fill(double value) {
+    Arrays.fill(data, value);
+  }
+
+  /**
+   * Copies row-major values into the matrix
+   *
+   * @param values Array of values
+   * @param offset Position of the first value to copy in the array
+   */
+  public void copyFrom(double[] values, int offset) {
+    Check.that(
+        offset >= 0 && offset + data.length <= values.length,
+        "The array has not " + data.length + " values from position " + offset);
+    System.arraycopy(values, offset, data, 0, data.length);
+  }
+
+  /**
+   * Computes the product of two matrices into a third one, which must not be any of them. The
+   * product is blocked, so that the rows of the second matrix are reused from the cache.
+   *
+   * @param a Matrix of dimensions n x m
+   * @param b Matrix of dimensions m x p
+   * @param result Matrix of dimensions n x p
+   */
+  public static void multiply(DenseMatrix a, DenseMatrix b, DenseMatrix result) {
+    Check.that(a.columns == b.rows, "The matrices can not be multiplied");
+    Check.that(
+        result.rows == a.rows && result.columns == b.columns,
+        "The result matrix has wrong dimensions");
+    Check.that(result != a && result != b, "The result matrix is an operand");
+
+    double[] aData = a.data;
+    double[] bData = b.data;
+    double[] cData = result.data;
+    int n = a.rows;
+    int m = a.columns;
+    int p = b.columns;
+
+    Arrays.fill(cData, 0.0);
+    for (int innerBlock = 0; innerBlock < m; innerBlock += BLOCK_SIZE) {
+      int innerEnd = Math.min(innerBlock + BLOCK_SIZE, m);
+      for (int columnBlock = 0; columnBlock < p; columnBlock += BLOCK_SIZE) {
+        int columnEnd = Math.min(columnBlock + BLOCK_SIZE, p);
+        for (int row = 0; row < n; row++) {
+          int cRow = row * p;
+          for (int inner = innerBlock; inner < innerEnd; inner++) {
+            double aValue = aData[row * m + inner];
+            int bRow = inner * p;
+            for (int column = columnBlock; column < columnEnd; column++) {
+              cData[cRow + column] += aValue * bData[bRow + column];
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /** Returns the mean of the values of a row */
+  public double rowMean(int row) {
+    double sum = 0.0;
+    for (int j = row * columns; j < (row + 1) * columns; j++) {
+      sum += data[j];
+    }
+
+    return sum / columns;
+  }
+
+  /**
+   * Returns the sample standard deviation of the values of a row
+   *
+   * @param row Index of the row
+   * @param mean Mean of the values of the row
+   */
+  public double rowStandardDeviation(int row, double mean) {
+    double sum = 0.0;
+    for (int j = row * columns; j < (row + 1) * columns; j++) {
+      sum += (data[j] - mean) * (data[j] - mean);
+    }
+
+    return Math.sqrt(sum / (columns - 1));
+  }
+
+  /** Subtracts from each row its first value (in place) */
+  public void subtractFirstColumn() {
+    for (int i = 0; i < rows; i++) {
+      double first = data[i * columns];
+      for (int j = i * columns; j < (i + 1) * columns; j++) {
+        data[j] -= first;
+      }
+    }
+  }
+
+  /** Returns the dot product of a row of this matrix and a row of another one */
+  public double rowDotProduct(int row, DenseMatrix other, int otherRow) {
+    Check.that(columns == other.columns, "The matrices have a different number of columns");
+
+    double sum = 0.0;
+    int offset = row * columns;
+    int otherOffset = otherRow * other.columns;
+    for (int j = 0; j < columns; j++) {
+      sum += data[offset + j] * other.data[otherOffset + j];
+    }
+
+    return sum;
+  }
+
+  /** Returns the sum of the squared differences between the values of two matrices */
+  public double squaredDistance(DenseMatrix other) {
+    Check.that(
+        rows == other.rows && columns == other.columns, "The matrices have different dimensions");
+
+    double sum = 0.0;
+    for (int i = 0; i < data.length; i++) {
+      double difference = data[i] - other.data[i];
+      sum += difference * difference;
+    }
+
+    return sum;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < rows; i++) {
+      builder.append(Arrays.toString(Arrays.copyOfRange(data, i * columns, (i + 1) * columns)));
+      builder.append('\n');
+    }
+
+    return builder.toString();
+  }
+}
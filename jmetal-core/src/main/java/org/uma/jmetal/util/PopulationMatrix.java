@@ -0,0 +1,278 @@
+package org.uma.jmetal.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.checking.Check;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Structure-of-arrays view of the objective and constraint values of a list of solutions. The
+ * values are copied into primitive arrays stored column-major (all the values of objective 0, then
+ * all the values of objective 1, and so on), so that algorithms iterating over the whole population
+ * (ranking, density estimation, quality indicators) can work on contiguous memory instead of
+ * following a pointer per solution. The overall constraint violation degree of each solution (see
+ * {@link ConstraintHandling#overallConstraintViolationDegree(Solution)}) is also cached.
+ *
+ * <p>The matrix keeps a reference to the solution list it was built from. It is not updated
+ * automatically when the solutions change; the {@link #update()} and {@link #update(int)} methods
+ * must be invoked to keep it in sync.
+ *
+ * @param <S> Type of the solutions
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class PopulationMatrix<S extends Solution<?>> {
+  private List<S> solutionList;
+  private int size;
+  private int numberOfObjectives;
+  private int numberOfConstraints;
+
+  private double[] objectives;
+  private double[] constraints;
+  private double[] overallConstraintViolation;
+
+  /** Constructor */
+  public PopulationMatrix(List<S> solutionList) {
+    Check.isNotNull(solutionList);
+    this.solutionList = solutionList;
+    update();
+  }
+
+  /**
+   * Copies again the objective and constraint values of all the solutions of the list. The arrays
+   * are reused if the dimensions of the population have not changed.
+   */
+  public void update() {
+    int newSize = solutionList.size();
+    int newNumberOfObjectives = newSize == 0 ? 0 : solutionList.get(0).getNumberOfObjectives();
+    int newNumberOfConstraints = newSize == 0 ? 0 : solutionList.get(0).getNumberOfConstraints();
+
+    if ((objectives == null)
+        || (newSize != size)
+        || (newNumberOfObjectives != numberOfObjectives)
+        || (newNumberOfConstraints != numberOfConstraints)) {
+      size = newSize;
+      numberOfObjectives = newNumberOfObjectives;
+      numberOfConstraints = newNumberOfConstraints;
+
+      objectives = new double[size * numberOfObjectives];
+      constraints = new double[size * numberOfConstraints];
+      overallConstraintViolation = new double[size];
+    }
+
+    for (int i = 0; i < size; i++) {
+      update(i);
+    }
+  }
+
+  /**
+   * Copies again the objective and constraint values of the solution at the given position of the
+   * list
+   */
+  public void update(int index) {
+    S solution = solutionList.get(index);
+    for (int j = 0; j < numberOfObjectives; j++) {
+      objectives[j * size + index] = solution.getObjective(j);
+    }
+
+    double violation = 0.0;
+    for (int j = 0; j < numberOfConstraints; j++) {
+      double value = solution.getConstraint(j);
+      constraints[j * size + index] = value;
+      if (value < 0.0) {
+        violation += value;
+      }
+    }
+    overallConstraintViolation[index] = violation;
+  }
+
+  public List<S> getSolutionList() {
+    return solutionList;
+  }
+
+  public S getSolution(int index) {
+    return solutionList.get(index);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  public int getNumberOfConstraints() {
+    return numberOfConstraints;
+  }
+
+  public double getObjective(int solutionIndex, int objective) {
+    return objectives[objective * size + solutionIndex];
+  }
+
+  public double getConstraint(int solutionIndex, int constraint) {
+    return constraints[constraint * size + solutionIndex];
+  }
+
+  public double getOverallConstraintViolation(int solutionIndex) {
+    return overallConstraintViolation[solutionIndex];
+  }
+
+  /**
+   * Returns the internal column-major array of objective values (not a copy). The value of
+   * objective <code>j</code> of solution <code>i</code> is at position <code>
+   * j * size() + i</code>.
+   */
+  public double[] getObjectiveValues() {
+    return objectives;
+  }
+
+  /** Returns a copy of the values of an objective in all the solutions */
+  public double[] getObjectiveColumn(int objective) {
+    double[] column = new double[size];
+    System.arraycopy(objectives, objective * size, column, 0, size);
+    return column;
+  }
+
+  /** Returns a copy of the objective values of a solution */
+  public double[] getObjectiveRow(int solutionIndex) {
+    double[] row = new double[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      row[j] = objectives[j * size + solutionIndex];
+    }
+    return row;
+  }
+
+  /** Returns the objective values in a row-major matrix, one row per solution */
+  public double[][] getObjectiveMatrix() {
+    double[][] matrix = new double[size][numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      int offset = j * size;
+      for (int i = 0; i < size; i++) {
+        matrix[i][j] = objectives[offset + i];
+      }
+    }
+    return matrix;
+  }
+
+  /**
+   * Computes the squared Euclidean distance in the objective space between every solution and a
+   * point. The distances are accumulated one objective column at a time.
+   *
+   * @param point The point
+   * @param result Array of length {@link #size()} where the distances are stored
+   */
+  public void squaredDistancesTo(double[] point, double[] result) {
+    Arrays.fill(result, 0, size, 0.0);
+    for (int j = 0; j < numberOfObjectives; j++) {
+      int offset = j * size;
+      double value = point[j];
+      for (int i = 0; i < size; i++) {
+        double diff = objectives[offset + i] - value;
+        result[i] += diff * diff;
+      }
+    }
+  }
+
+  /**
+   * Compares the overall constraint violation degree of two solutions in the same way as {@link
+   * org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator}.
+   *
+   * @return -1 if solution p is better, 1 if solution q is better, 0 otherwise
+   */
+  public int compareConstraintViolation(int p, int q) {
+    double violationP = overallConstraintViolation[p];
+    double violationQ = overallConstraintViolation[q];
+
+    if ((violationP < 0) && (violationQ < 0)) {
+      return Double.compare(violationQ, violationP);
+    } else if ((violationP == 0) && (violationQ < 0)) {
+      return -1;
+    } else if ((violationP < 0) && (violationQ == 0)) {
+      return 1;
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * Pareto dominance test on the objective values of two solutions.
+   *
+   * @return -1 if solution p dominates solution q, 1 if solution q dominates solution p, 0
+   *     otherwise
+   */
+  public int dominanceTest(int p, int q) {
+    boolean bestIsP = false;
+    boolean bestIsQ = false;
+    for (int offset = 0; offset < objectives.length; offset += size) {
+      double valueP = objectives[offset + p];
+      double valueQ = objectives[offset + q];
+      if (valueP < valueQ) {
+        bestIsP = true;
+      } else if (valueQ < valueP) {
+        bestIsQ = true;
+      }
+    }
+
+    if (bestIsP == bestIsQ) {
+      return 0;
+    }
+    return bestIsP ? -1 : 1;
+  }
+
+  /**
+   * Compares two solutions in the same way as {@link
+   * org.uma.jmetal.util.comparator.DominanceComparator}: the constraint violation is checked first
+   * and then the Pareto dominance.
+   */
+  public int compare(int p, int q) {
+    int result = compareConstraintViolation(p, q);
+    if (result == 0) {
+      result = dominanceTest(p, q);
+    }
+    return result;
+  }
+
+  /** Returns true if the two solutions have the same objective values */
+  public boolean haveEqualObjectives(int p, int q) {
+    for (int offset = 0; offset < objectives.length; offset += size) {
+      if (objectives[offset + p] != objectives[offset + q]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sorts an array of solution indices in ascending order of an objective. The sort is stable, so
+   * it behaves as sorting the solution list with an {@link
+   * org.uma.jmetal.util.comparator.ObjectiveComparator}.
+   */
+  public void sortByObjective(int[] indices, int objective) {
+    int offset = objective * size;
+    int[] buffer = indices.clone();
+    mergeSort(buffer, indices, 0, indices.length, offset);
+  }
+
+  private void mergeSort(int[] source, int[] target, int low, int high, int offset) {
+    if (high - low < 2) {
+      return;
+    }
+    int middle = (low + high) >>> 1;
+    mergeSort(target, source, low, middle, offset);
+    mergeSort(target, source, middle, high, offset);
+
+    int i = low;
+    int j = middle;
+    for (int k = low; k < high; k++) {
+      if ((j >= high)
+          || ((i < middle)
+              && (Double.compare(objectives[offset + source[i]], objectives[offset + source[j]])
+                  <= 0))) {
+        target[k] = source[i++];
+      } else {
+        target[k] = source[j++];
+      }
+    }
+  }
+}
@@ -6,7 +6,7 @@ import org.uma.jmetal.solution.util.attribute.util.attributecomparator.Attribute
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.DoubleValueAttributeComparator;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 import org.uma.jmetal.util.checking.Check;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
@@ -22,10 +22,39 @@ import java.util.stream.IntStream;
 public class SolutionListUtils {
 
   public static <S extends Solution<?>> List<S> getNonDominatedSolutions(List<S> solutionList) {
-    Archive<S> nonDominatedSolutionArchive = new NonDominatedSolutionListArchive<>() ;
+    Archive<S> nonDominatedSolutionArchive = new NonDominatedSolutionTreeArchive<>() ;
     solutionList.forEach(solution -> nonDominatedSolutionArchive.add(solution));
 
-    return nonDominatedSolutionArchive.getSolutionList();
+    return new ArrayList<>(nonDominatedSolutionArchive.getSolutionList());
+  }
+
+  /**
+   * Returns the non-dominated solutions of a population matrix. The result is the same as the one
+   * of {@link #getNonDominatedSolutions(List)}: the dominance test considers the constraint
+   * violation degree and, among solutions having the same objective values, only the first one is
+   * kept.
+   *
+   * @param population
+   * @return The list of non-dominated solutions
+   */
+  public static <S extends Solution<?>> List<S> getNonDominatedSolutions(
+      PopulationMatrix<S> population) {
+    List<S> nonDominatedSolutions = new ArrayList<>();
+    for (int i = 0; i < population.size(); i++) {
+      boolean isDominatedOrRepeated = false;
+      for (int j = 0; (j < population.size()) && !isDominatedOrRepeated; j++) {
+        if (i != j) {
+          int flag = population.compare(i, j);
+          isDominatedOrRepeated =
+              (flag == 1) || ((flag == 0) && (j < i) && population.haveEqualObjectives(i, j));
+        }
+      }
+      if (!isDominatedOrRepeated) {
+        nonDominatedSolutions.add(population.getSolution(i));
+      }
+    }
+
+    return nonDominatedSolutions;
   }
 
   public <S> S findWorstSolution(Collection<S> solutionList, Comparator<S> comparator) {
@@ -409,6 +438,15 @@ public class SolutionListUtils {
     return result;
   }
 
+  /**
+   * Returns an array containing the values of an objective in all the solutions of a population
+   * matrix
+   */
+  public static <S extends Solution<?>> double[] getObjectiveArrayFromSolutionList(
+      PopulationMatrix<S> population, int objective) {
+    return population.getObjectiveColumn(objective);
+  }
+
   /**
    * Method implements a version of the distance-based subset selection algorithm described in: H.
    * K. Singh, K. S. Bhattacharjee, and T. Ray, ‘Distance-based subset selection for benchmarking in
@@ -495,4 +533,15 @@ public class SolutionListUtils {
 
     return matrix ;
   }
+
+  /**
+   * Given a population matrix, returns a row-major matrix with the objective values of all the
+   * solutions. Contrary to {@link #getMatrixWithObjectiveValues(List)}, the rows are copies.
+   * @param population
+   * @param <S>
+   * @return
+   */
+  public static <S extends Solution<?>> double[][] getMatrixWithObjectiveValues(PopulationMatrix<S> population) {
+    return population.getObjectiveMatrix() ;
+  }
 }
@@ -1,7 +1,7 @@
 package org.uma.jmetal.util;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.fileoutput.FileOutputContext;
 import org.uma.jmetal.util.point.PointSolution;
 import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
@@ -48,7 +48,7 @@ public class StoredSolutionsUtils {
     return solutions;
   }
 
-  public static void writeToOutput(NonDominatedSolutionListArchive<PointSolution> archive, FileOutputContext context) {
+  public static void writeToOutput(Archive<PointSolution> archive, FileOutputContext context) {
     BufferedWriter bufferedWriter = context.getFileWriter();
 
     try {
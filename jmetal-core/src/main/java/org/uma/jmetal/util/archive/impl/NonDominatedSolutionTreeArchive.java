@@ -0,0 +1,442 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.checking.Check;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Archive of non-dominated solutions indexed by an ND-tree (A. Jaszkiewicz, T. Lust. "ND-Tree-Based
+ * Update: A Fast Algorithm for the Dynamic Nondominance Problem". IEEE Transactions on Evolutionary
+ * Computation 22(5): 778-791, 2018). The solutions are stored in the leaves of a tree whose nodes
+ * keep the ideal and nadir points of the solutions below them, so that a new solution is compared
+ * only with the solutions of the nodes whose bounding box is comparable with it, instead of with
+ * all the solutions of the archive.
+ *
+ * <p>It contains the same solutions, in the same order, as a {@link
+ * NonDominatedSolutionListArchive} with the default {@link
+ * org.uma.jmetal.util.comparator.DominanceComparator} to which the same solutions are added: the
+ * solutions are compared first by their overall constraint violation degree and then by Pareto
+ * dominance, and a solution having the same objective values as a solution of the archive is not
+ * inserted. As all the solutions of the archive must have the same constraint violation degree, a
+ * solution with a lower degree is rejected and a solution with a higher one replaces the whole
+ * archive.
+ *
+ * <p>The objective values of the solutions are copied when they are inserted, so they must not be
+ * modified while the solutions are in the archive. The list returned by {@link #getSolutionList()}
+ * is a view of the archive supporting the removal of solutions and the addition (without dominance
+ * tests) of new ones; other modifications are not supported.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class NonDominatedSolutionTreeArchive<S extends Solution<?>> implements Archive<S> {
+  public static final int DEFAULT_MAXIMUM_LEAF_SIZE = 20;
+
+  private final int maximumLeafSize;
+  private Node root;
+  private double constraintViolation;
+
+  /** Entries in insertion order; removed entries are discarded lazily */
+  private ArrayList<Entry> entries;
+  private int size;
+
+  private final List<S> solutionListView = new SolutionListView();
+
+  /** Constructor */
+  public NonDominatedSolutionTreeArchive() {
+    this(DEFAULT_MAXIMUM_LEAF_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maximumLeafSize Maximum number of solutions of a leaf of the tree
+   */
+  public NonDominatedSolutionTreeArchive(int maximumLeafSize) {
+    Check.that(maximumLeafSize > 1, "The maximum leaf size must be greater than 1: " + maximumLeafSize);
+    this.maximumLeafSize = maximumLeafSize;
+    this.entries = new ArrayList<>();
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the operation success, and false if the solution is dominated or if a solution
+   *     with the same objective values exists
+   */
+  @Override
+  public boolean add(S solution) {
+    double violation = ConstraintHandling.overallConstraintViolationDegree(solution);
+    if (size > 0) {
+      if (violation < constraintViolation) {
+        return false;
+      } else if (violation > constraintViolation) {
+        clear();
+      }
+    }
+
+    double[] point = solution.getObjectives().clone();
+    if ((root != null) && !update(root, point)) {
+      return false;
+    }
+
+    constraintViolation = violation;
+    insert(new Entry(solution, point));
+    return true;
+  }
+
+  /**
+   * Inserts a list of solutions. Each solution is compared only with the solutions of the nodes of
+   * the tree comparable with it, so this is faster than discarding first the dominated solutions of
+   * the list with a non-dominated sorting algorithm.
+   */
+  public Archive<S> addAll(List<S> list) {
+    for (S solution : list) {
+      this.add(solution);
+    }
+
+    return this;
+  }
+
+  public Archive<S> join(Archive<S> archive) {
+    return this.addAll(archive.getSolutionList());
+  }
+
+  @Override
+  public List<S> getSolutionList() {
+    return solutionListView;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public S get(int index) {
+    compact();
+    return entries.get(index).solution;
+  }
+
+  private void clear() {
+    for (Entry entry : entries) {
+      entry.leaf = null;
+    }
+    entries.clear();
+    root = null;
+    size = 0;
+  }
+
+  private void compact() {
+    if (entries.size() != size) {
+      entries.removeIf(entry -> entry.leaf == null);
+    }
+  }
+
+  /* Tree management */
+
+  /** Returns true if a is not worse than b in any objective */
+  private static boolean weaklyDominates(double[] a, double[] b) {
+    for (int i = 0; i < a.length; i++) {
+      if (a[i] > b[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Removes the solutions of a node dominated by a point.
+   *
+   * @return false if the point is dominated by, or equal to, a solution of the node
+   */
+  private boolean update(Node node, double[] point) {
+    if (weaklyDominates(node.nadir, point)) {
+      return false;
+    }
+
+    if (weaklyDominates(point, node.ideal) && !Arrays.equals(point, node.ideal)) {
+      removeNode(node);
+      return true;
+    }
+
+    if (weaklyDominates(point, node.nadir) || weaklyDominates(node.ideal, point)) {
+      boolean removed = false;
+      if (node.isLeaf()) {
+        for (int i = node.entries.size() - 1; i >= 0; i--) {
+          Entry entry = node.entries.get(i);
+          if (weaklyDominates(entry.point, point)) {
+            return false;
+          } else if (weaklyDominates(point, entry.point)) {
+            node.entries.remove(i);
+            discard(entry);
+            removed = true;
+          }
+        }
+      } else {
+        int numberOfChildren = node.children.size();
+        for (int i = numberOfChildren - 1; i >= 0; i--) {
+          if (!update(node.children.get(i), point)) {
+            return false;
+          }
+        }
+        removed = node.children.size() != numberOfChildren;
+      }
+
+      if (node.isEmpty()) {
+        removeNode(node);
+      } else if (removed) {
+        node.updateBoundingBox();
+      }
+    }
+
+    return true;
+  }
+
+  private void discard(Entry entry) {
+    entry.leaf = null;
+    size--;
+  }
+
+  private void discardAll(Node node) {
+    if (node.isLeaf()) {
+      node.entries.forEach(this::discard);
+    } else {
+      node.children.forEach(this::discardAll);
+    }
+  }
+
+  /** Removes a node and its solutions from the tree */
+  private void removeNode(Node node) {
+    discardAll(node);
+    Node parent = node.parent;
+    if (parent == null) {
+      root = null;
+    } else {
+      parent.children.remove(node);
+      if (parent.isEmpty()) {
+        removeNode(parent);
+      }
+    }
+  }
+
+  private void insert(Entry entry) {
+    entries.add(entry);
+    size++;
+    if (root == null) {
+      root = new Node(null);
+    }
+
+    Node node = root;
+    while (!node.isLeaf()) {
+      node.extendBoundingBox(entry.point);
+      node = node.closestChild(entry.point);
+    }
+    node.entries.add(entry);
+    entry.leaf = node;
+    node.extendBoundingBox(entry.point);
+
+    if (node.entries.size() > maximumLeafSize) {
+      split(node);
+    }
+  }
+
+  /**
+   * Splits a leaf in M+1 leaves (M being the number of objectives). The seeds of the new leaves are
+   * selected as the solutions most distant to the ones already selected, and the rest of solutions
+   * are assigned to the closest leaf.
+   */
+  private void split(Node leaf) {
+    List<Entry> pending = new ArrayList<>(leaf.entries);
+    int numberOfChildren = Math.min(pending.get(0).point.length + 1, pending.size());
+    leaf.entries = null;
+    leaf.children = new ArrayList<>(numberOfChildren);
+
+    // First seed: the solution with the highest average distance to the others
+    int first = 0;
+    double highestDistance = -1;
+    for (int i = 0; i < pending.size(); i++) {
+      double distance = 0;
+      for (Entry other : pending) {
+        distance += squaredDistance(pending.get(i).point, other.point);
+      }
+      if (distance > highestDistance) {
+        highestDistance = distance;
+        first = i;
+      }
+    }
+    addToNewChild(leaf, pending.remove(first));
+
+    while (leaf.children.size() < numberOfChildren) {
+      int farthest = 0;
+      highestDistance = -1;
+      for (int i = 0; i < pending.size(); i++) {
+        double distance = Double.POSITIVE_INFINITY;
+        for (Node child : leaf.children) {
+          distance = Math.min(distance, squaredDistance(pending.get(i).point, child.ideal));
+        }
+        if (distance > highestDistance) {
+          highestDistance = distance;
+          farthest = i;
+        }
+      }
+      addToNewChild(leaf, pending.remove(farthest));
+    }
+
+    for (Entry entry : pending) {
+      Node child = leaf.closestChild(entry.point);
+      child.entries.add(entry);
+      entry.leaf = child;
+      child.extendBoundingBox(entry.point);
+    }
+  }
+
+  private void addToNewChild(Node parent, Entry entry) {
+    Node child = new Node(parent);
+    child.entries.add(entry);
+    entry.leaf = child;
+    child.extendBoundingBox(entry.point);
+    parent.children.add(child);
+  }
+
+  private static double squaredDistance(double[] a, double[] b) {
+    double distance = 0;
+    for (int i = 0; i < a.length; i++) {
+      double diff = a[i] - b[i];
+      distance += diff * diff;
+    }
+    return distance;
+  }
+
+  /** Removes the solution of an entry from the tree (used by the list view) */
+  private void remove(Entry entry) {
+    Node leaf = entry.leaf;
+    leaf.entries.remove(entry);
+    discard(entry);
+    if (leaf.isEmpty()) {
+      removeNode(leaf);
+    } else {
+      for (Node node = leaf; node != null; node = node.parent) {
+        node.updateBoundingBox();
+      }
+    }
+  }
+
+  private class Entry implements Serializable {
+    private final S solution;
+    private final double[] point;
+    private Node leaf;
+
+    Entry(S solution, double[] point) {
+      this.solution = solution;
+      this.point = point;
+    }
+  }
+
+  private class Node implements Serializable {
+    private Node parent;
+    private List<Node> children;
+    private List<Entry> entries;
+    private double[] ideal;
+    private double[] nadir;
+
+    Node(Node parent) {
+      this.parent = parent;
+      this.entries = new ArrayList<>();
+    }
+
+    boolean isLeaf() {
+      return children == null;
+    }
+
+    boolean isEmpty() {
+      return isLeaf() ? entries.isEmpty() : children.isEmpty();
+    }
+
+    void extendBoundingBox(double[] point) {
+      if (ideal == null) {
+        ideal = point.clone();
+        nadir = point.clone();
+      } else {
+        for (int i = 0; i < point.length; i++) {
+          ideal[i] = Math.min(ideal[i], point[i]);
+          nadir[i] = Math.max(nadir[i], point[i]);
+        }
+      }
+    }
+
+    void updateBoundingBox() {
+      ideal = null;
+      nadir = null;
+      if (isLeaf()) {
+        for (Entry entry : entries) {
+          extendBoundingBox(entry.point);
+        }
+      } else {
+        for (Node child : children) {
+          extendBoundingBox(child.ideal);
+          extendBoundingBox(child.nadir);
+        }
+      }
+    }
+
+    /** Child whose bounding box center is the closest to the point */
+    Node closestChild(double[] point) {
+      Node closest = null;
+      double closestDistance = Double.POSITIVE_INFINITY;
+      for (Node child : children) {
+        double distance = 0;
+        for (int i = 0; i < point.length; i++) {
+          double diff = (child.ideal[i] + child.nadir[i]) / 2 - point[i];
+          distance += diff * diff;
+        }
+        if (distance < closestDistance) {
+          closestDistance = distance;
+          closest = child;
+        }
+      }
+      return closest;
+    }
+  }
+
+  /** List view of the solutions of the archive in insertion order */
+  private class SolutionListView extends AbstractList<S> implements RandomAccess, Serializable {
+    @Override
+    public S get(int index) {
+      return NonDominatedSolutionTreeArchive.this.get(index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean add(S solution) {
+      if (size == 0) {
+        constraintViolation = ConstraintHandling.overallConstraintViolationDegree(solution);
+      }
+      insert(new Entry(solution, solution.getObjectives().clone()));
+      modCount++;
+      return true;
+    }
+
+    @Override
+    public S remove(int index) {
+      compact();
+      Entry entry = entries.remove(index);
+      NonDominatedSolutionTreeArchive.this.remove(entry);
+      modCount++;
+      return entry.solution;
+    }
+  }
+}
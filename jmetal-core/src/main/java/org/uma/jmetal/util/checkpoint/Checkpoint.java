@@ -0,0 +1,59 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of an algorithm from which it can be resumed (see {@link CheckpointManager}): the
+ * population, the solutions of the external archive, if any, the counters of the algorithm (e.g.,
+ * the number of evaluations and the computing time, used by the termination conditions) and the
+ * random generator.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class Checkpoint<S> {
+  private final List<S> population;
+  private List<S> archive;
+  private final Map<String, Long> state;
+  private final PseudoRandomGenerator randomGenerator;
+
+  /**
+   * Constructor
+   *
+   * @param population Population of the algorithm
+   * @param randomGenerator Random generator, or null if its state is not saved
+   */
+  public Checkpoint(List<S> population, PseudoRandomGenerator randomGenerator) {
+    Check.isNotNull(population);
+    this.population = population;
+    this.randomGenerator = randomGenerator;
+    this.archive = null;
+    this.state = new LinkedHashMap<>();
+  }
+
+  public List<S> getPopulation() {
+    return population;
+  }
+
+  /** Returns the solutions of the external archive, or null if the algorithm has no archive */
+  public List<S> getArchive() {
+    return archive;
+  }
+
+  public void setArchive(List<S> archive) {
+    this.archive = archive;
+  }
+
+  /** Returns the counters of the algorithm, which can be modified */
+  public Map<String, Long> getState() {
+    return state;
+  }
+
+  public PseudoRandomGenerator getRandomGenerator() {
+    return randomGenerator;
+  }
+}
@@ -0,0 +1,372 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.AttributeKey;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary format of the {@link Checkpoint}s. A checkpoint is stored as:
+ *
+ * <ul>
+ *   <li>the magic bytes "JMCP" and the version of the format
+ *   <li>the counters of the algorithm, as pairs of name and long value
+ *   <li>the random generator, serialized with Java serialization, if any
+ *   <li>the population and the archive, if any
+ *   <li>the CRC32 checksum of the previous bytes, so that a corrupted file is detected
+ * </ul>
+ *
+ * Each solution is stored as its objectives and constraints, as primitive doubles, its variables
+ * and its attributes. The variables of type Double, Integer and {@link BinarySet} (e.g., of the
+ * double, integer, permutation and binary solutions) are stored as primitive values; other
+ * variables are stored with Java serialization. Only the attributes whose identifier is a String
+ * or a Class (as in the {@link org.uma.jmetal.util.solutionattribute.SolutionAttribute}s) and whose
+ * value is a number, a boolean or a String are stored, including those stored in the primitive
+ * slots of the solutions (e.g., the rank and the crowding distance).
+ *
+ * <p>The solutions are decoded by creating new solutions with a {@link Problem} and setting their
+ * variables, objectives, constraints and attributes. As creating the solutions may consume random
+ * numbers, the random generator must be restored after decoding the checkpoint.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CheckpointCodec {
+  private static final int MAGIC = 0x4A4D4350;
+  private static final int VERSION = 1;
+
+  private static final byte NULL = 'N';
+  private static final byte DOUBLE = 'D';
+  private static final byte INTEGER = 'I';
+  private static final byte LONG = 'L';
+  private static final byte BOOLEAN = 'Z';
+  private static final byte STRING = 'T';
+  private static final byte CLASS = 'C';
+  private static final byte BINARY_SET = 'B';
+  private static final byte OBJECT = 'O';
+
+  private CheckpointCodec() {}
+
+  /** Returns the binary representation of a checkpoint. The solutions must implement {@link Solution} */
+  public static <S> byte[] encode(Checkpoint<S> checkpoint) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+
+      output.writeInt(checkpoint.getState().size());
+      for (Map.Entry<String, Long> entry : checkpoint.getState().entrySet()) {
+        output.writeUTF(entry.getKey());
+        output.writeLong(entry.getValue());
+      }
+
+      if (null == checkpoint.getRandomGenerator()) {
+        output.writeInt(-1);
+      } else {
+        byte[] randomGenerator = serialize(checkpoint.getRandomGenerator());
+        output.writeInt(randomGenerator.length);
+        output.write(randomGenerator);
+      }
+
+      writeSolutionList(output, checkpoint.getPopulation());
+      if (null == checkpoint.getArchive()) {
+        output.writeInt(-1);
+      } else {
+        writeSolutionList(output, checkpoint.getArchive());
+      }
+
+      CRC32 crc = new CRC32();
+      crc.update(bytes.toByteArray());
+      output.writeLong(crc.getValue());
+    } catch (IOException e) {
+      throw new JMetalException("Error encoding the checkpoint", e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Returns the checkpoint stored in an array of bytes
+   *
+   * @param bytes Binary representation of the checkpoint
+   * @param problem Problem creating the solutions
+   * @throws JMetalException If the bytes are not a valid checkpoint, or if the solutions do not
+   *     match the problem
+   */
+  public static <S> Checkpoint<S> decode(byte[] bytes, Problem<S> problem) {
+    if ((bytes.length < 16) || (ByteBuffer.wrap(bytes).getInt() != MAGIC)) {
+      throw new JMetalException("The data are not a checkpoint");
+    }
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length - Long.BYTES);
+    if (crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - Long.BYTES, Long.BYTES).getLong()) {
+      throw new JMetalException("The checksum of the checkpoint is not valid");
+    }
+
+    try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      input.readInt();
+      int version = input.readInt();
+      if (version != VERSION) {
+        throw new JMetalException("Version of the checkpoint not supported: " + version);
+      }
+
+      Map<String, Long> state = new LinkedHashMap<>();
+      int stateSize = input.readInt();
+      for (int i = 0; i < stateSize; i++) {
+        state.put(input.readUTF(), input.readLong());
+      }
+
+      PseudoRandomGenerator randomGenerator = null;
+      int randomGeneratorLength = input.readInt();
+      if (randomGeneratorLength >= 0) {
+        byte[] randomGeneratorBytes = new byte[randomGeneratorLength];
+        input.readFully(randomGeneratorBytes);
+        randomGenerator = (PseudoRandomGenerator) deserialize(randomGeneratorBytes);
+      }
+
+      Checkpoint<S> checkpoint = new Checkpoint<>(readSolutionList(input, problem), randomGenerator);
+      checkpoint.getState().putAll(state);
+      checkpoint.setArchive(readSolutionList(input, problem));
+
+      return checkpoint;
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      throw new JMetalException("Error decoding the checkpoint", e);
+    }
+  }
+
+  private static <S> void writeSolutionList(DataOutputStream output, List<S> solutionList)
+      throws IOException {
+    output.writeInt(solutionList.size());
+    for (S element : solutionList) {
+      Solution<?> solution = (Solution<?>) element;
+      output.writeInt(solution.getNumberOfVariables());
+      output.writeInt(solution.getNumberOfObjectives());
+      output.writeInt(solution.getNumberOfConstraints());
+      for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+        output.writeDouble(solution.getObjective(i));
+      }
+      for (int i = 0; i < solution.getNumberOfConstraints(); i++) {
+        output.writeDouble(solution.getConstraint(i));
+      }
+      for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+        writeVariable(output, solution.getVariable(i));
+      }
+      writeAttributes(output, solution);
+    }
+  }
+
+  private static void writeVariable(DataOutputStream output, Object variable) throws IOException {
+    if (null == variable) {
+      output.writeByte(NULL);
+    } else if (variable instanceof Double) {
+      output.writeByte(DOUBLE);
+      output.writeDouble((Double) variable);
+    } else if (variable instanceof Integer) {
+      output.writeByte(INTEGER);
+      output.writeInt((Integer) variable);
+    } else if (variable.getClass() == BinarySet.class) {
+      BinarySet binarySet = (BinarySet) variable;
+      long[] words = binarySet.toLongArray();
+      output.writeByte(BINARY_SET);
+      output.writeInt(binarySet.getBinarySetLength());
+      output.writeInt(words.length);
+      for (long word : words) {
+        output.writeLong(word);
+      }
+    } else {
+      byte[] object = serialize(variable);
+      output.writeByte(OBJECT);
+      output.writeInt(object.length);
+      output.write(object);
+    }
+  }
+
+  private static void writeAttributes(DataOutputStream output, Solution<?> solution)
+      throws IOException {
+    Map<Object, Object> attributes = new LinkedHashMap<>();
+    for (Map.Entry<Object, Object> entry : solution.getAttributes().entrySet()) {
+      attributes.put(entry.getKey(), entry.getValue());
+    }
+    for (AttributeKey key : AttributeKey.getRegisteredKeys()) {
+      if (solution.hasAttribute(key.getId())) {
+        attributes.put(key.getId(), solution.getAttribute(key.getId()));
+      }
+    }
+    attributes
+        .entrySet()
+        .removeIf(
+            entry ->
+                !((entry.getKey() instanceof String) || (entry.getKey() instanceof Class))
+                    || !isPrimitiveAttribute(entry.getValue()));
+
+    output.writeInt(attributes.size());
+    for (Map.Entry<Object, Object> entry : attributes.entrySet()) {
+      if (entry.getKey() instanceof Class) {
+        output.writeByte(CLASS);
+        output.writeUTF(((Class<?>) entry.getKey()).getName());
+      } else {
+        output.writeByte(STRING);
+        output.writeUTF((String) entry.getKey());
+      }
+      Object value = entry.getValue();
+      if (value instanceof Double) {
+        output.writeByte(DOUBLE);
+        output.writeDouble((Double) value);
+      } else if (value instanceof Integer) {
+        output.writeByte(INTEGER);
+        output.writeInt((Integer) value);
+      } else if (value instanceof Long) {
+        output.writeByte(LONG);
+        output.writeLong((Long) value);
+      } else if (value instanceof Boolean) {
+        output.writeByte(BOOLEAN);
+        output.writeBoolean((Boolean) value);
+      } else {
+        output.writeByte(STRING);
+        output.writeUTF((String) value);
+      }
+    }
+  }
+
+  private static boolean isPrimitiveAttribute(Object value) {
+    return (value instanceof Double)
+        || (value instanceof Integer)
+        || (value instanceof Long)
+        || (value instanceof Boolean)
+        || (value instanceof String);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <S> List<S> readSolutionList(DataInputStream input, Problem<S> problem)
+      throws IOException, ClassNotFoundException {
+    int size = input.readInt();
+    if (size < 0) {
+      return null;
+    }
+
+    List<S> solutionList = new ArrayList<>(size);
+    for (int s = 0; s < size; s++) {
+      int numberOfVariables = input.readInt();
+      int numberOfObjectives = input.readInt();
+      int numberOfConstraints = input.readInt();
+
+      S element = problem.createSolution();
+      Solution<Object> solution = (Solution<Object>) element;
+      if ((solution.getNumberOfVariables() != numberOfVariables)
+          || (solution.getNumberOfObjectives() != numberOfObjectives)
+          || (solution.getNumberOfConstraints() != numberOfConstraints)) {
+        throw new JMetalException(
+            "The solutions of the checkpoint do not match the problem " + problem.getName());
+      }
+
+      for (int i = 0; i < numberOfObjectives; i++) {
+        solution.setObjective(i, input.readDouble());
+      }
+      for (int i = 0; i < numberOfConstraints; i++) {
+        solution.setConstraint(i, input.readDouble());
+      }
+      for (int i = 0; i < numberOfVariables; i++) {
+        solution.setVariable(i, readVariable(input));
+      }
+      readAttributes(input, solution);
+
+      solutionList.add(element);
+    }
+
+    return solutionList;
+  }
+
+  private static Object readVariable(DataInputStream input)
+      throws IOException, ClassNotFoundException {
+    byte tag = input.readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case DOUBLE:
+        return input.readDouble();
+      case INTEGER:
+        return input.readInt();
+      case BINARY_SET:
+        BinarySet binarySet = new BinarySet(input.readInt());
+        long[] words = new long[input.readInt()];
+        for (int i = 0; i < words.length; i++) {
+          words[i] = input.readLong();
+        }
+        binarySet.or(BitSet.valueOf(words));
+        return binarySet;
+      case OBJECT:
+        byte[] object = new byte[input.readInt()];
+        input.readFully(object);
+        return deserialize(object);
+      default:
+        throw new JMetalException("Unknown type of variable: " + tag);
+    }
+  }
+
+  private static void readAttributes(DataInputStream input, Solution<?> solution)
+      throws IOException, ClassNotFoundException {
+    int numberOfAttributes = input.readInt();
+    for (int i = 0; i < numberOfAttributes; i++) {
+      Object id;
+      byte idTag = input.readByte();
+      if (CLASS == idTag) {
+        id = Class.forName(input.readUTF());
+      } else if (STRING == idTag) {
+        id = input.readUTF();
+      } else {
+        throw new JMetalException("Unknown type of attribute identifier: " + idTag);
+      }
+      byte tag = input.readByte();
+      switch (tag) {
+        case DOUBLE:
+          solution.setAttribute(id, input.readDouble());
+          break;
+        case INTEGER:
+          solution.setAttribute(id, input.readInt());
+          break;
+        case LONG:
+          solution.setAttribute(id, input.readLong());
+          break;
+        case BOOLEAN:
+          solution.setAttribute(id, input.readBoolean());
+          break;
+        case STRING:
+          solution.setAttribute(id, input.readUTF());
+          break;
+        default:
+          throw new JMetalException("Unknown type of attribute: " + tag);
+      }
+    }
+  }
+
+  private static byte[] serialize(Object object) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(object);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return input.readObject();
+    }
+  }
+}
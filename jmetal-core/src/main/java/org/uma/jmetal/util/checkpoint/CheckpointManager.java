@@ -0,0 +1,244 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.checking.Check;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+/**
+ * Stores the {@link Checkpoint}s of a run of an algorithm in a directory, so that the run can be
+ * resumed from the latest one if it is interrupted (see {@link
+ * org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm#setCheckpointManager(CheckpointManager)}).
+ *
+ * <p>A checkpoint is encoded with {@link CheckpointCodec} by the thread of the algorithm, which is
+ * fast as it is done in memory, and then written by a background thread to a temporary file which
+ * is renamed as checkpoint-sequence.bin once it is on disk. The last {@link
+ * #DEFAULT_NUMBER_OF_CHECKPOINTS_KEPT} checkpoints are kept, and {@link #loadLatest()} returns the
+ * most recent one which is valid, so that a crash while a checkpoint is written never prevents
+ * resuming the run.
+ *
+ * <p>The checkpoints include the state of the random generator of {@link
+ * org.uma.jmetal.util.pseudorandom.JMetalRandom}, which is shared by all the algorithms of the
+ * process, so that a resumed run produces the same results as an uninterrupted one. When several
+ * runs are executed concurrently, none of them owns that generator, so its state must not be saved
+ * nor restored (see {@link #setRandomGeneratorSaved(boolean)}).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CheckpointManager<S> implements AutoCloseable {
+  public static final int DEFAULT_NUMBER_OF_CHECKPOINTS_KEPT = 2;
+
+  private static final String PREFIX = "checkpoint-";
+  private static final String SUFFIX = ".bin";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  private final Path directory;
+  private final Problem<S> problem;
+  private final long periodInMilliseconds;
+  private final int numberOfCheckpointsKept;
+  private final ExecutorService writer;
+  private Future<?> lastWrite;
+  private long lastCheckpointTime;
+  private long nextSequence;
+  private boolean randomGeneratorSaved;
+
+  /**
+   * Constructor
+   *
+   * @param directory Directory of the checkpoints, created if it does not exist
+   * @param problem Problem creating the solutions when a checkpoint is loaded
+   * @param periodInMilliseconds Minimum time between two checkpoints (see {@link #isDue()})
+   * @param numberOfCheckpointsKept Number of checkpoints kept in the directory
+   */
+  public CheckpointManager(
+      String directory, Problem<S> problem, long periodInMilliseconds, int numberOfCheckpointsKept) {
+    Check.isNotNull(directory);
+    Check.isNotNull(problem);
+    Check.that(periodInMilliseconds >= 0, "The period is negative: " + periodInMilliseconds);
+    Check.that(
+        numberOfCheckpointsKept >= 1,
+        "The number of checkpoints kept is not positive: " + numberOfCheckpointsKept);
+    this.directory = Paths.get(directory);
+    this.problem = problem;
+    this.periodInMilliseconds = periodInMilliseconds;
+    this.numberOfCheckpointsKept = numberOfCheckpointsKept;
+    this.randomGeneratorSaved = true;
+
+    try {
+      Files.createDirectories(this.directory);
+    } catch (IOException e) {
+      throw new JMetalException("Error creating the checkpoint directory " + directory, e);
+    }
+
+    List<Path> checkpoints = listCheckpoints();
+    nextSequence = checkpoints.isEmpty() ? 0 : sequence(checkpoints.get(0)) + 1;
+    lastCheckpointTime = System.currentTimeMillis();
+    writer =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "CheckpointManager " + directory);
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public CheckpointManager(String directory, Problem<S> problem, long periodInMilliseconds) {
+    this(directory, problem, periodInMilliseconds, DEFAULT_NUMBER_OF_CHECKPOINTS_KEPT);
+  }
+
+  /**
+   * Sets whether the state of the random generator of {@link
+   * org.uma.jmetal.util.pseudorandom.JMetalRandom} is saved in the checkpoints and restored when
+   * the run is resumed (true by default). It must be false if other runs use that generator at the
+   * same time, as restoring it would replace the generator they are using.
+   */
+  public void setRandomGeneratorSaved(boolean randomGeneratorSaved) {
+    this.randomGeneratorSaved = randomGeneratorSaved;
+  }
+
+  public boolean isRandomGeneratorSaved() {
+    return randomGeneratorSaved;
+  }
+
+  /** Returns true if the period has elapsed since the last checkpoint (or the creation of the manager) */
+  public boolean isDue() {
+    return System.currentTimeMillis() - lastCheckpointTime >= periodInMilliseconds;
+  }
+
+  /**
+   * Encodes a checkpoint and writes it in the background. The checkpoint can be modified by the
+   * algorithm once this method returns.
+   */
+  public synchronized void save(Checkpoint<S> checkpoint) {
+    byte[] bytes = CheckpointCodec.encode(checkpoint);
+    long sequence = nextSequence++;
+    lastCheckpointTime = System.currentTimeMillis();
+    lastWrite = writer.submit(() -> write(bytes, sequence));
+  }
+
+  private void write(byte[] bytes, long sequence) {
+    Path file = directory.resolve(String.format("%s%019d%s", PREFIX, sequence, SUFFIX));
+    Path temporaryFile = directory.resolve(file.getFileName() + TEMPORARY_SUFFIX);
+    try {
+      try (FileChannel channel =
+          FileChannel.open(
+              temporaryFile,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+
+      try {
+        Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      List<Path> checkpoints = listCheckpoints();
+      for (int i = numberOfCheckpointsKept; i < checkpoints.size(); i++) {
+        Files.deleteIfExists(checkpoints.get(i));
+      }
+    } catch (IOException e) {
+      JMetalLogger.logger.log(Level.WARNING, "Error writing the checkpoint " + file, e);
+    }
+  }
+
+  /**
+   * Returns the most recent valid checkpoint of the directory, or null if there is none. The
+   * checkpoints which cannot be read are skipped.
+   */
+  public Checkpoint<S> loadLatest() {
+    for (Path file : listCheckpoints()) {
+      try {
+        Checkpoint<S> checkpoint = CheckpointCodec.decode(Files.readAllBytes(file), problem);
+        JMetalLogger.logger.info("Resuming from the checkpoint " + file);
+        return checkpoint;
+      } catch (IOException | JMetalException e) {
+        JMetalLogger.logger.log(Level.WARNING, "Skipping the invalid checkpoint " + file, e);
+      }
+    }
+
+    return null;
+  }
+
+  /** Waits until the checkpoints being written are on disk */
+  public void flush() {
+    Future<?> write;
+    synchronized (this) {
+      write = lastWrite;
+    }
+    if (null != write) {
+      try {
+        write.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        throw new JMetalException("Error writing a checkpoint", e);
+      }
+    }
+  }
+
+  /** Deletes the checkpoints of the directory, e.g., once the run has finished */
+  public void deleteCheckpoints() {
+    flush();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*")) {
+      for (Path file : files) {
+        Files.deleteIfExists(file);
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error deleting the checkpoints of " + directory, e);
+    }
+  }
+
+  /** Waits until the checkpoints being written are on disk and stops the background thread */
+  @Override
+  public void close() {
+    flush();
+    writer.shutdown();
+  }
+
+  /** Returns the checkpoint files of the directory, from the most recent to the oldest one */
+  private List<Path> listCheckpoints() {
+    List<Path> checkpoints = new ArrayList<>();
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+      for (Path file : files) {
+        checkpoints.add(file);
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the checkpoint directory " + directory, e);
+    }
+    checkpoints.sort(Collections.reverseOrder());
+
+    return checkpoints;
+  }
+
+  private static long sequence(Path file) {
+    String name = file.getFileName().toString();
+    return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+  }
+}
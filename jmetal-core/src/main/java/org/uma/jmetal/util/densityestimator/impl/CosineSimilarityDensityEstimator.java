@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.DoubleValueAttributeComparator;
 import org.uma.jmetal.util.JMetalException;
@@ -23,6 +24,7 @@ import java.util.List;
  */
 public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
   private String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
   private Comparator<S> solutionComparator;
   private Distance<double[], double[]> distance;
   private Point referencePoint;
@@ -54,14 +56,14 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
     }
 
     if (size == 1) {
-      solutionList.get(0).setAttribute(attributeId, 0.0);
+      solutionList.get(0).setDoubleAttribute(attributeKey, 0.0);
     }
 
     int numberOfObjectives = solutionList.get(0).getNumberOfObjectives();
 
     if (size == numberOfObjectives) {
       for (S solution : solutionList) {
-        solution.setAttribute(attributeId, 0.0);
+        solution.setDoubleAttribute(attributeKey, 0.0);
       }
 
       return;
@@ -109,7 +111,7 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
 
       solutionList
           .get(i)
-          .setAttribute(attributeId, (currentMaximumDistance + secondCurrentMaximumDistance));
+          .setDoubleAttribute(attributeKey, (currentMaximumDistance + secondCurrentMaximumDistance));
       solutionList
           .get(i)
           .setAttribute("DIFF", Math.abs(currentMaximumDistance - secondCurrentMaximumDistance));
@@ -117,7 +119,7 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
 
     for (int i = 0; i < solutionList.get(0).getNumberOfObjectives(); i++) {
       Collections.sort(solutionList, new ObjectiveComparator<S>(i));
-      solutionList.get(solutionList.size() - 1).setAttribute(attributeId, 0.0);
+      solutionList.get(solutionList.size() - 1).setDoubleAttribute(attributeKey, 0.0);
     }
   }
 
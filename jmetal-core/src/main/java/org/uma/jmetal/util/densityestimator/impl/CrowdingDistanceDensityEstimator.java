@@ -1,12 +1,12 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.DoubleValueAttributeComparator;
-import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -18,6 +18,7 @@ import java.util.List;
 public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
 
   private String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
   private Comparator<S> solutionComparator ;
 
   public CrowdingDistanceDensityEstimator() {
@@ -31,59 +32,69 @@ public class CrowdingDistanceDensityEstimator<S extends Solution<?>> implements
 
   @Override
   public void computeDensityEstimator(List<S> solutionList) {
-    int size = solutionList.size();
+    computeDensityEstimator(new PopulationMatrix<>(solutionList));
+  }
 
-    if (size == 0) {
-      return;
-    }
+  /**
+   * Assigns crowding distances to the solutions of a population matrix. The distances are computed
+   * on the primitive objective columns and stored in the solutions at the end.
+   *
+   * @param population The population.
+   */
+  public void computeDensityEstimator(PopulationMatrix<S> population) {
+    int size = population.size();
 
-    if (size == 1) {
-      solutionList.get(0).setAttribute(attributeId, Double.POSITIVE_INFINITY);
+    if (size == 0) {
       return;
     }
 
-    if (size == 2) {
-      solutionList.get(0).setAttribute(attributeId, Double.POSITIVE_INFINITY);
-      solutionList.get(1).setAttribute(attributeId, Double.POSITIVE_INFINITY);
+    if (size <= 2) {
+      for (int i = 0; i < size; i++) {
+        population.getSolution(i).setDoubleAttribute(attributeKey, Double.POSITIVE_INFINITY);
+      }
       return;
     }
 
-    // Use a new SolutionSet to avoid altering the original solutionSet
-    List<S> front = new ArrayList<>(solutionList);
-
+    double[] distance = new double[size];
+    int[] front = new int[size];
     for (int i = 0; i < size; i++) {
-      front.get(i).setAttribute(attributeId, 0.0);
+      front[i] = i;
     }
 
-    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[] objectives = population.getObjectiveValues();
+    int numberOfObjectives = population.getNumberOfObjectives();
 
     for (int i = 0; i < numberOfObjectives; i++) {
       // Sort the population by Obj n
-      front.sort(new ObjectiveComparator<>(i));
+      population.sortByObjective(front, i);
+      int offset = i * size;
 
       // It may be beneficial to change this according to https://dl.acm.org/citation.cfm?doid=2463372.2463456.
       // The additional change that may be beneficial is that if we have only two distinct objective values,
       //   we also don't update the crowding distance, as they all will "go to eleven",
       //   which makes no sense as this objective just appears to be non-discriminating.
 
-      double minObjective = front.get(0).getObjective(i);
-      double maxObjective = front.get(front.size() - 1).getObjective(i);
+      double minObjective = objectives[offset + front[0]];
+      double maxObjective = objectives[offset + front[size - 1]];
       if (minObjective == maxObjective) {
         continue; // otherwise all crowding distances will be NaN = 0.0 / 0.0 except for two
       }
 
       // Set the crowding distance for the extreme points
-      front.get(0).setAttribute(attributeId, Double.POSITIVE_INFINITY);
-      front.get(size - 1).setAttribute(attributeId, Double.POSITIVE_INFINITY);
+      distance[front[0]] = Double.POSITIVE_INFINITY;
+      distance[front[size - 1]] = Double.POSITIVE_INFINITY;
 
       // Increase the crowding distances for all the intermediate points
       for (int j = 1; j < size - 1; j++) {
-        double distance = front.get(j + 1).getObjective(i) - front.get(j - 1).getObjective(i);
-        distance = distance / (maxObjective - minObjective);
-        distance += (double) front.get(j).getAttribute(attributeId);
-        front.get(j).setAttribute(attributeId, distance);
+        double value = objectives[offset + front[j + 1]] - objectives[offset + front[j - 1]];
+        value = value / (maxObjective - minObjective);
+        distance[front[j]] += value;
       }
     }
+
+    for (int i = 0; i < size; i++) {
+      population.getSolution(i).setDoubleAttribute(attributeKey, distance[i]);
+    }
   }
 
   @Override
@@ -0,0 +1,196 @@
+package org.uma.jmetal.util.densityestimator.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.DoubleValueAttributeComparator;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.util.NearestNeighbourDistances;
+import org.uma.jmetal.util.point.util.KDTree;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Density estimator based on the distance to the k-th nearest solution, computing the same values
+ * and the same order as {@link KnnDensityEstimator}. The sorted distances between the solutions
+ * are kept in a {@link NearestNeighbourDistances} structure whose arrays are reused from one call
+ * to another. When the estimator is applied to a subset of the solutions of the previous call
+ * (e.g., after removing the most crowded solution in a sequential truncation), the removed
+ * solutions are only marked in the structure instead of computing all the distances again.
+ *
+ * <p>If the number of solutions is not smaller than a given threshold, {@link
+ * #computeDensityEstimator(List)} computes the k-th nearest distances with a {@link KDTree}
+ * instead of the full distance matrix, which is then computed only if {@link #sort(List)} is
+ * invoked.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalKnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
+  private String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
+  private Comparator<S> solutionComparator;
+  private final int k;
+  private final boolean normalize;
+  private final int spatialIndexThreshold;
+
+  private final Map<S, Integer> indexes = new IdentityHashMap<>();
+  private double[][] objectives;
+  private double[][] points;
+  private NearestNeighbourDistances distances;
+  private boolean distancesUpToDate;
+
+  public IncrementalKnnDensityEstimator(int k) {
+    this(k, false);
+  }
+
+  public IncrementalKnnDensityEstimator(int k, boolean normalize) {
+    this(k, normalize, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param k Position of the neighbour (1 for the nearest one)
+   * @param normalize True if the objectives are normalized before computing the distances
+   * @param spatialIndexThreshold Minimum number of solutions to compute the k-th nearest distances
+   *     with a KD-tree
+   */
+  public IncrementalKnnDensityEstimator(int k, boolean normalize, int spatialIndexThreshold) {
+    Check.that(k >= 1, "The value of k (" + k + ") is not greater than zero");
+    this.k = k;
+    this.normalize = normalize;
+    this.spatialIndexThreshold = spatialIndexThreshold;
+    solutionComparator =
+        new DoubleValueAttributeComparator<>(attributeId, AttributeComparator.Ordering.DESCENDING);
+  }
+
+  /**
+   * Assigns the KNN distance to all the solutions in a list
+   *
+   * @param solutionList
+   */
+  @Override
+  public void computeDensityEstimator(List<S> solutionList) {
+    int size = solutionList.size();
+
+    Check.that(size > 0, "The solution list size must be greater than zero");
+    if (size <= k) {
+      return;
+    }
+
+    if (!update(solutionList)) {
+      track(solutionList);
+      if (size >= spatialIndexThreshold) {
+        KDTree tree = new KDTree(points);
+        for (int i = 0; i < size; i++) {
+          double distance =
+              Math.sqrt(tree.kthNearestDistance(points[i], k + 1, KDTree.Metric.SQUARED_EUCLIDEAN));
+          solutionList.get(i).setDoubleAttribute(attributeKey, distance);
+        }
+        return;
+      }
+      computeDistances();
+    }
+
+    for (S solution : solutionList) {
+      solution.setDoubleAttribute(
+          attributeKey, distances.getKthNearestDistance(indexes.get(solution), k));
+    }
+  }
+
+  @Override
+  public String getAttributeId() {
+    return attributeId;
+  }
+
+  @Override
+  public Comparator<S> getSolutionComparator() {
+    return solutionComparator;
+  }
+
+  /**
+   * Sorts the solutions in descending order of the distance to their k-th nearest solution. The
+   * ties are broken by comparing the distances to the next nearest solutions.
+   */
+  @Override
+  public List<S> sort(List<S> solutionList) {
+    if (solutionList.size() <= k) {
+      return solutionList;
+    }
+
+    if (!update(solutionList)) {
+      track(solutionList);
+      computeDistances();
+    }
+
+    Collections.sort(
+        solutionList,
+        (solution1, solution2) ->
+            distances.compareDistances(indexes.get(solution2), indexes.get(solution1), k));
+
+    return solutionList;
+  }
+
+  /**
+   * Removes from the distances the solutions of the previous call which are not in the list.
+   * Returns false if the list is not a subset of the solutions of the previous call, or if the
+   * objectives of any of its solutions have changed.
+   */
+  private boolean update(List<S> solutionList) {
+    if (!distancesUpToDate || solutionList.size() > distances.getNumberOfPoints()) {
+      return false;
+    }
+    // Removing solutions changes the bounds used to normalize the objectives
+    if (normalize && solutionList.size() != distances.getNumberOfPoints()) {
+      return false;
+    }
+
+    boolean[] selected = new boolean[objectives.length];
+    for (S solution : solutionList) {
+      Integer index = indexes.get(solution);
+      if (index == null
+          || distances.isRemoved(index)
+          || selected[index]
+          || !Arrays.equals(objectives[index], solution.getObjectives())) {
+        return false;
+      }
+      selected[index] = true;
+    }
+
+    for (int i = 0; i < objectives.length; i++) {
+      if (!selected[i] && !distances.isRemoved(i)) {
+        distances.remove(i);
+      }
+    }
+
+    return true;
+  }
+
+  private void track(List<S> solutionList) {
+    indexes.clear();
+    objectives = new double[solutionList.size()][];
+    for (int i = 0; i < solutionList.size(); i++) {
+      indexes.put(solutionList.get(i), i);
+      objectives[i] = solutionList.get(i).getObjectives().clone();
+    }
+
+    points = normalize ? NormalizeUtils.normalize(objectives) : objectives;
+    distancesUpToDate = false;
+  }
+
+  private void computeDistances() {
+    if (distances == null) {
+      distances = new NearestNeighbourDistances(points, null);
+    } else {
+      distances.reset(points);
+    }
+    distancesUpToDate = true;
+  }
+}
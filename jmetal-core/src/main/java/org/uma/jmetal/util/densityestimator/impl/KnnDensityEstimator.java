@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.DoubleValueAttributeComparator;
 import org.uma.jmetal.util.JMetalException;
@@ -23,6 +24,7 @@ import java.util.List;
  */
 public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
   private String attributeId = getClass().getName();
+  private final DoubleAttributeKey attributeKey = DoubleAttributeKey.of(attributeId);
   private Comparator<S> solutionComparator;
   private Distance<double[], double[]> distance = new EuclideanDistanceBetweenVectors();
   private int k;
@@ -82,7 +84,7 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
         distances.add(distanceMatrix[i][j]);
       }
       distances.sort(Comparator.naturalOrder());
-      solutionList.get(i).setAttribute(attributeId, distances.get(k));
+      solutionList.get(i).setDoubleAttribute(attributeKey, distances.get(k));
     }
   }
 
@@ -0,0 +1,357 @@
+package org.uma.jmetal.util.densityestimator.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Sorted Euclidean distances from each point of a set to the other ones. The distances are
+ * stored in a primitive matrix whose rows are sorted once, when the structure is built. Points can
+ * then be removed one at a time, as in the truncation procedure of SPEA2. A removed point is only
+ * marked in the rows of the remaining points, so a removal costs O(N log N) instead of rebuilding
+ * the distance lists. The distance to the k-th nearest remaining neighbour of a point is obtained
+ * by skipping the marked distances of its row.
+ *
+ * <p>The rows are computed, and updated after a removal, by the threads of a {@link ForkJoinPool}
+ * if one is given; the result does not depend on the number of threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class NearestNeighbourDistances {
+  private final ForkJoinPool forkJoinPool;
+  private double[][] points;
+  private int size;
+  private int rowLength;
+  private double[] sortedDistances;
+  private boolean[] removedDistances;
+  private int[] firstDistance;
+  private boolean[] removed;
+  private int numberOfPoints;
+
+  /**
+   * Constructor
+   *
+   * @param points Points (all of them with the same dimension). The arrays are not copied.
+   * @param forkJoinPool Pool computing the rows in parallel, or null to compute them sequentially
+   */
+  public NearestNeighbourDistances(double[][] points, ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+    reset(points);
+  }
+
+  /**
+   * Computes the distances of a new set of points. The arrays of the structure are reused if they
+   * are large enough, so that the structure can be updated in every iteration of an algorithm
+   * without allocating a new distance matrix.
+   *
+   * @param points Points (all of them with the same dimension). The arrays are not copied.
+   */
+  public void reset(double[][] points) {
+    Check.isNotNull(points);
+    this.points = points;
+    this.size = points.length;
+    this.rowLength = Math.max(size - 1, 0);
+    this.numberOfPoints = size;
+
+    if (sortedDistances == null || sortedDistances.length < size * rowLength) {
+      sortedDistances = new double[size * rowLength];
+      removedDistances = new boolean[size * rowLength];
+    } else {
+      Arrays.fill(removedDistances, 0, size * rowLength, false);
+    }
+    if (removed == null || removed.length < size) {
+      firstDistance = new int[size];
+      removed = new boolean[size];
+    } else {
+      Arrays.fill(firstDistance, 0, size, 0);
+      Arrays.fill(removed, 0, size, false);
+    }
+
+    forEachRow(
+        size,
+        forkJoinPool,
+        i -> {
+          int position = i * rowLength;
+          for (int j = 0; j < size; j++) {
+            if (j != i) {
+              sortedDistances[position++] = distance(points[i], points[j]);
+            }
+          }
+          Arrays.sort(sortedDistances, i * rowLength, (i + 1) * rowLength);
+        });
+  }
+
+  /** Returns the number of points which have not been removed */
+  public int getNumberOfPoints() {
+    return numberOfPoints;
+  }
+
+  public boolean isRemoved(int point) {
+    return removed[point];
+  }
+
+  /**
+   * Returns the distance from a point to its k-th nearest neighbour among the points which have not
+   * been removed
+   *
+   * @param point Index of the point
+   * @param k Position of the neighbour (1 for the nearest one)
+   */
+  public double getKthNearestDistance(int point, int k) {
+    checkPoint(point);
+    Check.that(
+        k >= 1 && k < numberOfPoints,
+        "The value of k (" + k + ") is not in [1, " + (numberOfPoints - 1) + "]");
+
+    int end = (point + 1) * rowLength;
+    int count = 0;
+    for (int position = firstDistance[point] + point * rowLength; position < end; position++) {
+      if (!removedDistances[position] && (++count == k)) {
+        return sortedDistances[position];
+      }
+    }
+
+    throw new JMetalException("Inconsistent distances of point " + point);
+  }
+
+  /**
+   * Returns the point to remove in the truncation procedure of SPEA2: the one with the smallest
+   * distance to its nearest neighbour, the tie being broken by comparing the distances to the
+   * second nearest neighbours, and so on. If there is still a tie, the first point is returned.
+   */
+  public int getMostCrowdedPoint() {
+    Check.that(numberOfPoints > 1, "There are less than two points");
+
+    int mostCrowdedPoint = -1;
+    double minDistance = Double.MAX_VALUE;
+    for (int i = 0; i < size; i++) {
+      if (removed[i]) {
+        continue;
+      }
+      if (mostCrowdedPoint == -1) {
+        mostCrowdedPoint = i;
+      }
+
+      double distance = sortedDistances[i * rowLength + firstDistance[i]];
+      if (distance < minDistance) {
+        mostCrowdedPoint = i;
+        minDistance = distance;
+      } else if ((distance == minDistance) && (compareDistances(i, mostCrowdedPoint, 1) < 0)) {
+        mostCrowdedPoint = i;
+      }
+    }
+
+    return mostCrowdedPoint;
+  }
+
+  /**
+   * Compares lexicographically the sorted distances of two points to the remaining points, starting
+   * from the distances to their k-th nearest neighbours
+   *
+   * @param point1 Index of the first point
+   * @param point2 Index of the second point
+   * @param k Position of the first neighbour to compare (1 for the nearest one)
+   * @return A negative value, zero or a positive value if the distances of the first point are
+   *     smaller, equal or greater than the ones of the second point
+   */
+  public int compareDistances(int point1, int point2, int k) {
+    checkPoint(point1);
+    checkPoint(point2);
+    Check.that(k >= 1, "The value of k (" + k + ") is not greater than zero");
+
+    int position1 = point1 * rowLength + firstDistance[point1];
+    int position2 = point2 * rowLength + firstDistance[point2];
+    int end1 = (point1 + 1) * rowLength;
+    int end2 = (point2 + 1) * rowLength;
+
+    int neighbour = 1;
+    while (true) {
+      while (position1 < end1 && removedDistances[position1]) {
+        position1++;
+      }
+      while (position2 < end2 && removedDistances[position2]) {
+        position2++;
+      }
+      if (position1 == end1 || position2 == end2) {
+        return 0;
+      }
+
+      if (neighbour >= k) {
+        int result = Double.compare(sortedDistances[position1], sortedDistances[position2]);
+        if (result != 0) {
+          return result;
+        }
+      }
+      neighbour++;
+      position1++;
+      position2++;
+    }
+  }
+
+  /**
+   * Removes a point, whose distances are marked in the rows of the remaining points
+   *
+   * @param point Index of the point
+   */
+  public void remove(int point) {
+    checkPoint(point);
+    removed[point] = true;
+    numberOfPoints--;
+
+    forEachRow(
+        size,
+        numberOfPoints > 1 ? forkJoinPool : null,
+        i -> {
+          if (!removed[i]) {
+            removeDistance(i, distance(points[i], points[point]));
+          }
+        });
+  }
+
+  private void removeDistance(int point, double distance) {
+    int start = point * rowLength;
+    int end = start + rowLength;
+
+    int position = Arrays.binarySearch(sortedDistances, start, end, distance);
+    if (position < 0) {
+      throw new JMetalException("Distance " + distance + " not found in the row of point " + point);
+    }
+    while (position > start && sortedDistances[position - 1] == distance) {
+      position--;
+    }
+    while (removedDistances[position]) {
+      position++;
+    }
+    removedDistances[position] = true;
+
+    while (firstDistance[point] < rowLength && removedDistances[start + firstDistance[point]]) {
+      firstDistance[point]++;
+    }
+  }
+
+  private void checkPoint(int point) {
+    if (point < 0 || point >= size) {
+      throw new JMetalException("Invalid point index: " + point);
+    } else if (removed[point]) {
+      throw new JMetalException("The point " + point + " has been removed");
+    }
+  }
+
+  /**
+   * Returns, for each point of a set, the distance to its k-th nearest neighbour. The distances
+   * are selected in each row without sorting it.
+   *
+   * @param points Points (all of them with the same dimension)
+   * @param k Position of the neighbour (1 for the nearest one)
+   * @param forkJoinPool Pool computing the rows in parallel, or null to compute them sequentially
+   */
+  public static double[] computeKthNearestDistances(
+      double[][] points, int k, ForkJoinPool forkJoinPool) {
+    Check.isNotNull(points);
+    Check.that(
+        k >= 1 && k < points.length,
+        "The value of k (" + k + ") is not in [1, " + (points.length - 1) + "]");
+
+    double[] result = new double[points.length];
+    forEachRow(
+        points.length,
+        forkJoinPool,
+        i -> {
+          double[] distances = new double[points.length - 1];
+          int position = 0;
+          for (int j = 0; j < points.length; j++) {
+            if (j != i) {
+              distances[position++] = distance(points[i], points[j]);
+            }
+          }
+          result[i] = select(distances, distances.length, k - 1);
+        });
+
+    return result;
+  }
+
+  /**
+   * Returns the k-th smallest value (0 for the smallest one) of the first values of an array,
+   * which are reordered (quickselect)
+   *
+   * @param values Array of values
+   * @param length Number of values to consider
+   * @param k Position of the value in the sorted sequence
+   */
+  public static double select(double[] values, int length, int k) {
+    Check.that(k >= 0 && k < length, "The position " + k + " is not in [0, " + length + ")");
+
+    int left = 0;
+    int right = length - 1;
+    while (right > left) {
+      int middle = (left + right) >>> 1;
+      if (values[middle] < values[left]) {
+        swap(values, middle, left);
+      }
+      if (values[right] < values[left]) {
+        swap(values, right, left);
+      }
+      if (values[right] < values[middle]) {
+        swap(values, right, middle);
+      }
+      double pivot = values[middle];
+
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (values[i] < pivot) {
+          i++;
+        }
+        while (values[j] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          swap(values, i, j);
+          i++;
+          j--;
+        }
+      }
+
+      if (k <= j) {
+        right = j;
+      } else if (k >= i) {
+        left = i;
+      } else {
+        return values[k];
+      }
+    }
+
+    return values[k];
+  }
+
+  private static void swap(double[] values, int i, int j) {
+    double value = values[i];
+    values[i] = values[j];
+    values[j] = value;
+  }
+
+  /** Euclidean distance between two points */
+  public static double distance(double[] point1, double[] point2) {
+    double sum = 0.0;
+    for (int i = 0; i < point1.length; i++) {
+      double difference = point1[i] - point2[i];
+      sum += difference * difference;
+    }
+
+    return Math.sqrt(sum);
+  }
+
+  private static void forEachRow(int size, ForkJoinPool forkJoinPool, IntConsumer action) {
+    if (forkJoinPool == null) {
+      for (int i = 0; i < size; i++) {
+        action.accept(i);
+      }
+    } else {
+      forkJoinPool.submit(() -> IntStream.range(0, size).parallel().forEach(action)).join();
+    }
+  }
+}
@@ -0,0 +1,260 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluator that stores the objectives and constraints of the evaluated solutions in a cache
+ * indexed by their variables, so that a solution whose variables are the same as those of a
+ * solution evaluated before is not evaluated again: its objectives and constraints are copied from
+ * the cache. This is useful when the variation operators often produce duplicated solutions, which
+ * is usual in binary, integer and permutation problems.
+ *
+ * <p>The solutions not found in the cache are evaluated with another evaluator (e.g., a {@link
+ * MultithreadedSolutionListEvaluator}); duplicated solutions in the same list are evaluated only
+ * once. The cache keeps the most recently used entries up to a maximum size; when it is full, the
+ * least recently used entry is discarded. The variables of the solutions are copied to a compact
+ * representation (integers, binary sets and doubles are packed in an array of longs), so the cache
+ * is not affected by later changes in the solutions.
+ *
+ * <p>The cache assumes that the problem is deterministic, i.e., that the evaluation of the same
+ * variables always produces the same objectives and constraints, and an evaluator must be used with
+ * a single problem. The evaluator can be shared by several threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class CachedSolutionListEvaluator<S extends Solution<?>> implements SolutionListEvaluator<S> {
+  public static final int DEFAULT_MAXIMUM_CACHE_SIZE = 100000;
+
+  private final SolutionListEvaluator<S> evaluator;
+  private final int maximumCacheSize;
+  private final LinkedHashMap<Key, Evaluation> cache;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Constructor
+   *
+   * @param evaluator Evaluator of the solutions not found in the cache
+   */
+  public CachedSolutionListEvaluator(SolutionListEvaluator<S> evaluator) {
+    this(evaluator, DEFAULT_MAXIMUM_CACHE_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param evaluator Evaluator of the solutions not found in the cache
+   * @param maximumCacheSize Maximum number of evaluations stored in the cache
+   */
+  public CachedSolutionListEvaluator(SolutionListEvaluator<S> evaluator, int maximumCacheSize) {
+    Check.isNotNull(evaluator);
+    Check.that(maximumCacheSize > 0, "The maximum cache size must be positive: " + maximumCacheSize);
+    this.evaluator = evaluator;
+    this.maximumCacheSize = maximumCacheSize;
+    this.cache =
+        new LinkedHashMap<Key, Evaluation>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Evaluation> eldest) {
+            return size() > CachedSolutionListEvaluator.this.maximumCacheSize;
+          }
+        };
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    List<S> pendingSolutions = new ArrayList<>();
+    List<Key> pendingKeys = new ArrayList<>();
+    Map<Key, List<S>> duplicatedSolutions = new HashMap<>();
+
+    synchronized (cache) {
+      for (S solution : solutionList) {
+        Key key = new Key(solution.getVariables());
+        Evaluation evaluation = cache.get(key);
+        if (evaluation != null) {
+          evaluation.copyTo(solution);
+          hits.incrementAndGet();
+        } else if (duplicatedSolutions.containsKey(key)) {
+          duplicatedSolutions.get(key).add(solution);
+          hits.incrementAndGet();
+        } else {
+          duplicatedSolutions.put(key, new ArrayList<>());
+          pendingSolutions.add(solution);
+          pendingKeys.add(key);
+          misses.incrementAndGet();
+        }
+      }
+    }
+
+    if (!pendingSolutions.isEmpty()) {
+      evaluator.evaluate(pendingSolutions, problem);
+    }
+
+    synchronized (cache) {
+      for (int i = 0; i < pendingSolutions.size(); i++) {
+        Key key = pendingKeys.get(i);
+        Evaluation evaluation = new Evaluation(pendingSolutions.get(i));
+        cache.put(key, evaluation);
+        for (S duplicatedSolution : duplicatedSolutions.get(key)) {
+          evaluation.copyTo(duplicatedSolution);
+        }
+      }
+    }
+
+    return solutionList;
+  }
+
+  @Override
+  public void shutdown() {
+    evaluator.shutdown();
+  }
+
+  /** Returns the number of solutions whose evaluation has been taken from the cache */
+  public long getNumberOfHits() {
+    return hits.get();
+  }
+
+  /** Returns the number of solutions that have been evaluated */
+  public long getNumberOfMisses() {
+    return misses.get();
+  }
+
+  /** Returns the fraction of solutions whose evaluation has been taken from the cache */
+  public double getHitRate() {
+    long numberOfHits = hits.get();
+    long total = numberOfHits + misses.get();
+
+    return total > 0 ? (double) numberOfHits / total : 0.0;
+  }
+
+  /** Returns the number of evaluations currently stored in the cache */
+  public int getCacheSize() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  public int getMaximumCacheSize() {
+    return maximumCacheSize;
+  }
+
+  /** Removes the entries of the cache and resets the hit and miss counters */
+  public void clear() {
+    synchronized (cache) {
+      cache.clear();
+      hits.set(0);
+      misses.set(0);
+    }
+  }
+
+  /** Objectives and constraints of an evaluated solution */
+  private static class Evaluation implements Serializable {
+    private final double[] objectives;
+    private final double[] constraints;
+
+    Evaluation(Solution<?> solution) {
+      objectives = solution.getObjectives().clone();
+      constraints = solution.getConstraints().clone();
+    }
+
+    void copyTo(Solution<?> solution) {
+      for (int i = 0; i < objectives.length; i++) {
+        solution.setObjective(i, objectives[i]);
+      }
+      for (int i = 0; i < constraints.length; i++) {
+        solution.setConstraint(i, constraints[i]);
+      }
+    }
+  }
+
+  /**
+   * Compact copy of the variables of a solution. Integer, double and binary set variables are
+   * packed in an array of longs; other types of variables are stored in a list and compared with
+   * their equals method.
+   */
+  private static class Key implements Serializable {
+    private final long[] words;
+    private final List<Object> variables;
+    private final int hashCode;
+
+    Key(List<?> variables) {
+      long[] packedVariables = pack(variables);
+      if (packedVariables != null) {
+        this.words = packedVariables;
+        this.variables = null;
+        this.hashCode = Arrays.hashCode(packedVariables);
+      } else {
+        this.words = null;
+        this.variables = new ArrayList<>(variables);
+        this.hashCode = this.variables.hashCode();
+      }
+    }
+
+    /** Returns the variables packed in an array of longs, or null if they cannot be packed */
+    private static long[] pack(List<?> variables) {
+      int length = 0;
+      for (Object variable : variables) {
+        if (variable instanceof BinarySet) {
+          length += 1 + ((BinarySet) variable).toLongArray().length;
+        } else if ((variable instanceof Integer)
+            || (variable instanceof Long)
+            || (variable instanceof Double)) {
+          length++;
+        } else {
+          return null;
+        }
+      }
+
+      long[] words = new long[length];
+      int index = 0;
+      for (Object variable : variables) {
+        if (variable instanceof BinarySet) {
+          long[] bits = ((BinarySet) variable).toLongArray();
+          // The length is stored so that the boundaries between binary sets are kept
+          words[index++] = bits.length;
+          System.arraycopy(bits, 0, words, index, bits.length);
+          index += bits.length;
+        } else if (variable instanceof Double) {
+          words[index++] = Double.doubleToLongBits((Double) variable);
+        } else {
+          words[index++] = ((Number) variable).longValue();
+        }
+      }
+
+      return words;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+      if (!(object instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) object;
+      return (hashCode == key.hashCode)
+          && Arrays.equals(words, key.words)
+          && ((variables == null) ? key.variables == null : variables.equals(key.variables));
+    }
+  }
+}
@@ -1,43 +1,175 @@
 package org.uma.jmetal.util.evaluator.impl;
 
+import org.uma.jmetal.problem.BatchProblem;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.checking.Check;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
+ * Evaluator computing the solutions of a list concurrently. The solutions are evaluated by the
+ * threads of an executor, which is either a {@link ForkJoinPool} owned by the evaluator, created
+ * with the requested number of threads, or an executor provided by the user. The common fork-join
+ * pool is not used, so that several evaluators (e.g., of algorithms running in the same JVM) do not
+ * interfere with each other.
+ *
+ * <p>If the problem is a {@link BatchProblem}, the list is split in as many parts as threads and
+ * each part is evaluated at once by a thread.
+ *
+ * <p>The {@link #shutdown()} method shuts down the pool owned by the evaluator; executors provided
+ * by the user must be shut down by the user.
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class MultithreadedSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
 
   private final int numberOfThreads;
+  private final boolean ownedExecutor;
+  private final boolean virtualThreads;
+  private transient ExecutorService executor;
 
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads of the pool used to evaluate the solutions. If it is 0,
+   *     the number of available processors is used
+   */
   public MultithreadedSolutionListEvaluator(int numberOfThreads) {
+    Check.that(numberOfThreads >= 0, "The number of threads is negative: " + numberOfThreads);
     if (numberOfThreads == 0) {
       this.numberOfThreads = Runtime.getRuntime().availableProcessors();
     } else {
       this.numberOfThreads = numberOfThreads;
-      System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-          "" + this.numberOfThreads);
     }
-    JMetalLogger.logger.info("Number of cores: " + numberOfThreads);
+    this.ownedExecutor = true;
+    this.virtualThreads = false;
+    JMetalLogger.logger.info("Number of cores: " + this.numberOfThreads);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param executor Executor used to evaluate the solutions. It is not shut down by {@link
+   *     #shutdown()}
+   */
+  public MultithreadedSolutionListEvaluator(ExecutorService executor) {
+    Check.isNotNull(executor);
+    this.executor = executor;
+    this.ownedExecutor = false;
+    this.virtualThreads = false;
+    if (executor instanceof ForkJoinPool) {
+      this.numberOfThreads = ((ForkJoinPool) executor).getParallelism();
+    } else if (executor instanceof ThreadPoolExecutor) {
+      this.numberOfThreads = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+    } else {
+      this.numberOfThreads = 0;
+    }
+  }
+
+  /**
+   * Creates an evaluator that starts a virtual thread per evaluation, which is intended for
+   * problems whose evaluation is mostly waiting for I/O (e.g., calls to external simulators), so
+   * that thousands of evaluations can be in progress without needing thousands of platform
+   * threads. Virtual threads are available since Java 21; a {@link JMetalException} is raised if
+   * the Java runtime does not support them.
+   */
+  public static <S> MultithreadedSolutionListEvaluator<S> withVirtualThreads() {
+    MultithreadedSolutionListEvaluator<S> evaluator = new MultithreadedSolutionListEvaluator<>(true);
+    evaluator.getExecutor();
+
+    return evaluator;
+  }
+
+  private MultithreadedSolutionListEvaluator(boolean virtualThreads) {
+    this.numberOfThreads = 0;
+    this.ownedExecutor = true;
+    this.virtualThreads = virtualThreads;
   }
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
-    solutionList.parallelStream().forEach(problem::evaluate);
+    List<Callable<Object>> tasks = new ArrayList<>(solutionList.size());
+    if ((problem instanceof BatchProblem) && (numberOfThreads > 0)) {
+      BatchProblem<S> batchProblem = (BatchProblem<S>) problem;
+      int size = solutionList.size();
+      int numberOfParts = Math.min(numberOfThreads, size);
+      for (int i = 0; i < numberOfParts; i++) {
+        List<S> part = solutionList.subList(i * size / numberOfParts, (i + 1) * size / numberOfParts);
+        tasks.add(
+            () -> {
+              batchProblem.evaluate(part);
+              return null;
+            });
+      }
+    } else {
+      for (S solution : solutionList) {
+        tasks.add(
+            () -> {
+              problem.evaluate(solution);
+              return null;
+            });
+      }
+    }
+
+    try {
+      for (Future<Object> future : getExecutor().invokeAll(tasks)) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while evaluating the solutions", e);
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error evaluating a solution", e);
+    }
 
     return solutionList;
   }
 
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      if (!ownedExecutor) {
+        throw new JMetalException("The executor of the evaluator is not available");
+      }
+      executor = virtualThreads ? createVirtualThreadExecutor() : new ForkJoinPool(numberOfThreads);
+    }
+    return executor;
+  }
+
+  private static ExecutorService createVirtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new JMetalException("Virtual threads are not supported by this Java runtime", e);
+    }
+  }
+
+  /** Returns the number of threads evaluating solutions, or 0 if it is not bounded or known */
   public int getNumberOfThreads() {
     return numberOfThreads;
   }
 
+  /**
+   * Shuts down the pool of threads created by the evaluator, if any. If the evaluator is used
+   * again, a new pool is created
+   */
   @Override
-  public void shutdown() {
-    //This method is an intentionally-blank override.
+  public synchronized void shutdown() {
+    if (ownedExecutor && (executor != null)) {
+      executor.shutdown();
+      executor = null;
+    }
   }
 }
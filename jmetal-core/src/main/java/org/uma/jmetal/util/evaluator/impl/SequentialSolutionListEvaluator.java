@@ -1,5 +1,6 @@
 package org.uma.jmetal.util.evaluator.impl;
 
+import org.uma.jmetal.problem.BatchProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
@@ -7,6 +8,9 @@ import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import java.util.List;
 
 /**
+ * Evaluator computing the solutions of a list one after the other, or all at once if the problem is
+ * a {@link BatchProblem}.
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
@@ -14,7 +18,11 @@ public class SequentialSolutionListEvaluator<S> implements SolutionListEvaluator
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) throws JMetalException {
-    solutionList.forEach(problem::evaluate);
+    if (problem instanceof BatchProblem) {
+      ((BatchProblem<S>) problem).evaluate(solutionList);
+    } else {
+      solutionList.forEach(problem::evaluate);
+    }
 
     return solutionList;
   }
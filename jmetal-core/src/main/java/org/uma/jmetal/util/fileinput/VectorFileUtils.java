@@ -1,6 +1,8 @@
 package org.uma.jmetal.util.fileinput;
 
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.impl.MappedBinaryFront;
+import org.uma.jmetal.util.front.util.BinaryFrontUtils;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -19,6 +21,9 @@ import java.util.List;
  */
 public class VectorFileUtils {
   /**
+   * Reads the vectors of a text file, with a vector per line, or of a binary file written with
+   * {@link BinaryFrontUtils}
+   *
    * @param filePath the file need to read
    * @return referenceVectors. referenceVectors[i][j] means the i-th vector's j-th value
    * @throws JMetalException if error while read file
@@ -36,6 +41,10 @@ public class VectorFileUtils {
       }
     }
 
+    if (BinaryFrontUtils.isBinaryFrontFile(path)) {
+      return new MappedBinaryFront(path).getMatrix();
+    }
+
     List<String> vectorStrList = null;
     try {
       vectorStrList = Files.readAllLines(Paths.get(path));
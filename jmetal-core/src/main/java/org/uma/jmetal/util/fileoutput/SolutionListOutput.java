@@ -3,6 +3,7 @@ package org.uma.jmetal.util.fileoutput;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.front.util.BinaryFrontUtils;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -160,4 +161,15 @@ public class SolutionListOutput {
   public void printVariablesToFile(String fileName, String separator) {
     printVariablesToFile(new DefaultFileOutputContext(fileName, separator), solutionList);
   }
+
+  /*
+   * Wrappers for printing in the binary format of {@link BinaryFrontUtils}
+   */
+  public void printObjectivesToBinaryFile(String fileName) {
+    BinaryFrontUtils.writeObjectives(solutionList, fileName);
+  }
+
+  public void printVariablesToBinaryFile(String fileName) {
+    BinaryFrontUtils.writeVariables(solutionList, fileName);
+  }
 }
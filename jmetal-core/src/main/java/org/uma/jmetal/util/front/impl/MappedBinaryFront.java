@@ -0,0 +1,240 @@
+package org.uma.jmetal.util.front.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.util.BinaryFrontUtils;
+import org.uma.jmetal.util.point.Point;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * This class implements the {@link Front} interface on a file in the binary format described in
+ * {@link BinaryFrontUtils}. The file is memory-mapped and the values are read from the mapping when
+ * they are requested, so that opening a front does not parse nor copy it. The points returned by
+ * {@link #getPoint(int)} are views on the file, and the front can not be modified except by sorting
+ * it (the order of the points is kept in memory, the file is not changed).
+ *
+ * <p>The deprecated {@link Front} interface is implemented so that the binary files can be used
+ * wherever a front is still expected (e.g., by the quality indicators); new code should prefer
+ * {@link #getMatrix()} or {@link org.uma.jmetal.util.fileinput.VectorFileUtils#readVectors(String)}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings({"serial", "deprecation"})
+public class MappedBinaryFront implements Front {
+  private final transient DoubleBuffer values;
+  private final int numberOfPoints;
+  private final int pointDimensions;
+  private int[] order;
+
+  /**
+   * Constructor
+   *
+   * @param fileName Name of a binary front file
+   */
+  public MappedBinaryFront(String fileName) {
+    Check.isNotNull(fileName);
+
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new JMetalException("The file " + fileName + " is too large to be mapped");
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file " + fileName, e);
+    }
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+    if (buffer.capacity() < BinaryFrontUtils.HEADER_SIZE) {
+      throw new JMetalException("The file " + fileName + " is not a binary front file");
+    }
+    byte[] magic = new byte[BinaryFrontUtils.MAGIC.length];
+    buffer.get(magic);
+    if (!Arrays.equals(magic, BinaryFrontUtils.MAGIC)) {
+      throw new JMetalException("The file " + fileName + " is not a binary front file");
+    }
+    int version = buffer.getInt();
+    if (version != BinaryFrontUtils.VERSION) {
+      throw new JMetalException("Unsupported version of the binary front format: " + version);
+    }
+    int type = buffer.getInt();
+    if (type != BinaryFrontUtils.FLOAT64) {
+      throw new JMetalException("Unsupported type of values: " + type);
+    }
+    pointDimensions = buffer.getInt();
+    long points = buffer.getLong();
+    if (buffer.capacity()
+        != BinaryFrontUtils.HEADER_SIZE + points * pointDimensions * Double.BYTES) {
+      throw new JMetalException(
+          "The size of the file "
+              + fileName
+              + " does not match "
+              + points
+              + " points of "
+              + pointDimensions
+              + " dimensions");
+    }
+    numberOfPoints = (int) points;
+
+    buffer.position(BinaryFrontUtils.HEADER_SIZE);
+    values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+  }
+
+  /**
+   * Returns a value without creating a point
+   *
+   * @param index Index of the point
+   * @param dimension Dimension of the value
+   */
+  public double getValue(int index, int dimension) {
+    checkIndex(index);
+    if (dimension < 0 || dimension >= pointDimensions) {
+      throw new JMetalException("Index value invalid: " + dimension);
+    }
+
+    return value(index, dimension);
+  }
+
+  private double value(int index, int dimension) {
+    int row = order == null ? index : order[index];
+
+    return values.get(dimension * numberOfPoints + row);
+  }
+
+  @Override
+  public int getNumberOfPoints() {
+    return numberOfPoints;
+  }
+
+  @Override
+  public int getPointDimensions() {
+    return pointDimensions;
+  }
+
+  @Override
+  public Point getPoint(int index) {
+    checkIndex(index);
+
+    return new MappedPoint(order == null ? index : order[index]);
+  }
+
+  @Override
+  public void setPoint(int index, Point point) {
+    throw new JMetalException("The points of a mapped binary front can not be modified");
+  }
+
+  @Override
+  public void sort(Comparator<Point> comparator) {
+    Point[] points = new Point[numberOfPoints];
+    for (int i = 0; i < numberOfPoints; i++) {
+      points[i] = getPoint(i);
+    }
+    Arrays.sort(points, comparator);
+
+    int[] newOrder = new int[numberOfPoints];
+    for (int i = 0; i < numberOfPoints; i++) {
+      newOrder[i] = ((MappedPoint) points[i]).row;
+    }
+    order = newOrder;
+  }
+
+  @Override
+  public double[][] getMatrix() {
+    double[][] matrix = new double[numberOfPoints][pointDimensions];
+    for (int j = 0; j < pointDimensions; j++) {
+      for (int i = 0; i < numberOfPoints; i++) {
+        matrix[i][j] = value(i, j);
+      }
+    }
+
+    return matrix;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0) {
+      throw new JMetalException("The index value is negative");
+    } else if (index >= numberOfPoints) {
+      throw new JMetalException(
+          "The index value ("
+              + index
+              + ") is greater than the number of "
+              + "points ("
+              + numberOfPoints
+              + ")");
+    }
+  }
+
+  /** The mapping can not be serialized, so a copy of the front is serialized instead */
+  private Object writeReplace() {
+    return new ArrayFront(this);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.deepToString(getMatrix());
+  }
+
+  /** Read-only view of a point of the file */
+  private class MappedPoint implements Point {
+    private final int row;
+
+    MappedPoint(int row) {
+      this.row = row;
+    }
+
+    @Override
+    public int getDimension() {
+      return pointDimensions;
+    }
+
+    /** Returns a copy of the values of the point */
+    @Override
+    public double[] getValues() {
+      double[] point = new double[pointDimensions];
+      for (int j = 0; j < pointDimensions; j++) {
+        point[j] = values.get(j * numberOfPoints + row);
+      }
+
+      return point;
+    }
+
+    @Override
+    public double getValue(int index) {
+      if (index < 0 || index >= pointDimensions) {
+        throw new JMetalException("Index value invalid: " + index);
+      }
+
+      return values.get(index * numberOfPoints + row);
+    }
+
+    @Override
+    public void setValue(int index, double value) {
+      throw new JMetalException("The points of a mapped binary front can not be modified");
+    }
+
+    @Override
+    public void update(double[] point) {
+      throw new JMetalException("The points of a mapped binary front can not be modified");
+    }
+
+    @Override
+    public void set(double[] point) {
+      throw new JMetalException("The points of a mapped binary front can not be modified");
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(getValues());
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.front.impl.MappedBinaryFront;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Binary file format of fronts, intended to write and read many large fronts faster than with text
+ * files. A file has a header of {@link #HEADER_SIZE} bytes followed by the values, stored by columns
+ * (all the values of the first dimension, then those of the second one, etc.) as little-endian
+ * doubles. The header contains, in this order and in little-endian:
+ *
+ * <ul>
+ *   <li>the {@link #MAGIC} bytes, which identify the format,
+ *   <li>the version of the format (int),
+ *   <li>the type of the values (int, only {@link #FLOAT64} is supported),
+ *   <li>the number of dimensions (int),
+ *   <li>the number of points (long),
+ *   <li>eight bytes reserved for future use.
+ * </ul>
+ *
+ * The files are read with {@link MappedBinaryFront}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BinaryFrontUtils {
+  public static final byte[] MAGIC = {'J', 'M', 'B', 'F'};
+  public static final int VERSION = 1;
+  public static final int FLOAT64 = 1;
+  public static final int HEADER_SIZE = 32;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** Value of the point of a given index in a dimension */
+  @FunctionalInterface
+  private interface Value {
+    double get(int point, int dimension);
+  }
+
+  private BinaryFrontUtils() {}
+
+  /**
+   * Writes a set of points in a binary file
+   *
+   * @param points Points (all of them with the same dimension)
+   * @param fileName Name of the file
+   */
+  public static void write(double[][] points, String fileName) {
+    Check.isNotNull(points);
+    int dimensions = points.length > 0 ? points[0].length : 0;
+    for (double[] point : points) {
+      Check.that(point.length == dimensions, "The points have different dimensions");
+    }
+
+    write(fileName, points.length, dimensions, (point, dimension) -> points[point][dimension]);
+  }
+
+  /**
+   * Writes the objective values of a list of solutions in a binary file
+   *
+   * @param solutionList List of solutions
+   * @param fileName Name of the file
+   */
+  public static void writeObjectives(List<? extends Solution<?>> solutionList, String fileName) {
+    Check.isNotNull(solutionList);
+
+    write(
+        fileName,
+        solutionList.size(),
+        solutionList.isEmpty() ? 0 : solutionList.get(0).getNumberOfObjectives(),
+        (point, dimension) -> solutionList.get(point).getObjective(dimension));
+  }
+
+  /**
+   * Writes the variables of a list of solutions in a binary file. The variables must be numbers.
+   *
+   * @param solutionList List of solutions
+   * @param fileName Name of the file
+   */
+  public static void writeVariables(List<? extends Solution<?>> solutionList, String fileName) {
+    Check.isNotNull(solutionList);
+
+    write(
+        fileName,
+        solutionList.size(),
+        solutionList.isEmpty() ? 0 : solutionList.get(0).getNumberOfVariables(),
+        (point, dimension) -> {
+          Object variable = solutionList.get(point).getVariable(dimension);
+          if (!(variable instanceof Number)) {
+            throw new JMetalException(
+                "The variable " + dimension + " is not a number and can not be written: " + variable);
+          }
+          return ((Number) variable).doubleValue();
+        });
+  }
+
+  private static void write(String fileName, int numberOfPoints, int dimensions, Value value) {
+    Check.isNotNull(fileName);
+
+    try (FileChannel channel =
+        FileChannel.open(
+            Paths.get(fileName),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.put(MAGIC).putInt(VERSION).putInt(FLOAT64).putInt(dimensions);
+      buffer.putLong(numberOfPoints).putLong(0L);
+
+      for (int j = 0; j < dimensions; j++) {
+        for (int i = 0; i < numberOfPoints; i++) {
+          if (buffer.remaining() < Double.BYTES) {
+            flush(buffer, channel);
+          }
+          buffer.putDouble(value.get(i, j));
+        }
+      }
+      flush(buffer, channel);
+    } catch (IOException e) {
+      throw new JMetalException("Error writing file " + fileName, e);
+    }
+  }
+
+  private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Returns true if a file starts with the {@link #MAGIC} bytes of the binary format
+   *
+   * @param fileName Name of the file
+   */
+  public static boolean isBinaryFrontFile(String fileName) {
+    Check.isNotNull(fileName);
+
+    try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(MAGIC.length);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          return false;
+        }
+      }
+      buffer.flip();
+
+      return ByteBuffer.wrap(MAGIC).equals(buffer);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Converts a text front file (e.g., CSV or TSV) into a binary one
+   *
+   * @param textFileName Name of the text file
+   * @param separator Regular expression separating the values of a line (e.g., "," or "\\s+")
+   * @param binaryFileName Name of the binary file
+   */
+  public static void convertTextFileToBinaryFile(
+      String textFileName, String separator, String binaryFileName) {
+    Check.isNotNull(textFileName);
+    Check.isNotNull(separator);
+
+    double[][] points;
+    try {
+      points = new ArrayFront(textFileName, separator).getMatrix();
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file " + textFileName, e);
+    }
+
+    write(points, binaryFileName);
+  }
+
+  /**
+   * Converts a binary front file into a text one, with a line per point
+   *
+   * @param binaryFileName Name of the binary file
+   * @param textFileName Name of the text file
+   * @param separator Separator of the values of a line (e.g., "," or "\t")
+   */
+  public static void convertBinaryFileToTextFile(
+      String binaryFileName, String textFileName, String separator) {
+    Check.isNotNull(textFileName);
+    Check.isNotNull(separator);
+
+    MappedBinaryFront front = new MappedBinaryFront(binaryFileName);
+    try (BufferedWriter writer =
+        Files.newBufferedWriter(Paths.get(textFileName), StandardCharsets.UTF_8)) {
+      for (int i = 0; i < front.getNumberOfPoints(); i++) {
+        for (int j = 0; j < front.getPointDimensions(); j++) {
+          if (j > 0) {
+            writer.write(separator);
+          }
+          writer.write(Double.toString(front.getValue(i, j)));
+        }
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error writing file " + textFileName, e);
+    }
+  }
+}
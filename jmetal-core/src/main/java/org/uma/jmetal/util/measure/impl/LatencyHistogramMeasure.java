@@ -0,0 +1,223 @@
+package org.uma.jmetal.util.measure.impl;
+
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.measure.PullMeasure;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link LatencyHistogramMeasure} records the distribution of a set of
+ * non-negative values, typically durations in nanoseconds, in a histogram whose
+ * buckets grow exponentially, as in HdrHistogram. The values smaller than 2^p
+ * (p being the number of significant bits) have their own bucket; the larger
+ * ones are split in 2^p buckets per power of two, so that the relative error of
+ * the values reported is smaller than 2^-p whatever their magnitude, with a
+ * fixed memory footprint of 64 * 2^p counters.
+ *
+ * Recording a value only increments a counter of an {@link AtomicLongArray}
+ * and a few {@link LongAdder}s, without locks nor allocations, so that it can
+ * be done in the hot path of an algorithm by several threads at the same time.
+ * The distribution is obtained as a {@link Snapshot} through {@link #get()}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ *
+ */
+@SuppressWarnings("serial")
+public class LatencyHistogramMeasure extends
+		SimplePullMeasure<LatencyHistogramMeasure.Snapshot> implements
+		PullMeasure<LatencyHistogramMeasure.Snapshot> {
+
+	public static final int DEFAULT_SIGNIFICANT_BITS = 7;
+
+	private final int significantBits;
+	private final int subBuckets;
+	private final AtomicLongArray counts;
+	private final LongAdder sum;
+	private final LongAccumulator min;
+	private final LongAccumulator max;
+
+	/**
+	 * Create a {@link LatencyHistogramMeasure} with a given precision.
+	 *
+	 * @param name
+	 *            the name of the measure
+	 * @param description
+	 *            the description of the measure
+	 * @param significantBits
+	 *            the number of significant bits of the values kept (between 1
+	 *            and 16)
+	 */
+	public LatencyHistogramMeasure(String name, String description,
+			int significantBits) {
+		super(name, description);
+		Check.that(significantBits >= 1 && significantBits <= 16,
+				"The number of significant bits is not in [1, 16]: "
+						+ significantBits);
+		this.significantBits = significantBits;
+		this.subBuckets = 1 << significantBits;
+		this.counts = new AtomicLongArray(
+				subBuckets + (Long.SIZE - 1 - significantBits) * subBuckets);
+		this.sum = new LongAdder();
+		this.min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+		this.max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Create a {@link LatencyHistogramMeasure} with a relative error smaller
+	 * than 1%.
+	 *
+	 * @param name
+	 *            the name of the measure
+	 * @param description
+	 *            the description of the measure
+	 */
+	public LatencyHistogramMeasure(String name, String description) {
+		this(name, description, DEFAULT_SIGNIFICANT_BITS);
+	}
+
+	/**
+	 * Record a value. The negative values are recorded as zero.
+	 *
+	 * @param value
+	 *            the value to record
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		counts.incrementAndGet(bucketIndex(value));
+		sum.add(value);
+		min.accumulate(value);
+		max.accumulate(value);
+	}
+
+	private int bucketIndex(long value) {
+		if (value < subBuckets) {
+			return (int) value;
+		}
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - significantBits;
+		return subBuckets + shift * subBuckets
+				+ (int) ((value >>> shift) - subBuckets);
+	}
+
+	/**
+	 * @return the distribution of the values recorded so far
+	 */
+	@Override
+	public Snapshot get() {
+		long[] bucketCounts = new long[counts.length()];
+		long count = 0;
+		for (int i = 0; i < bucketCounts.length; i++) {
+			bucketCounts[i] = counts.get(i);
+			count += bucketCounts[i];
+		}
+
+		return new Snapshot(significantBits, bucketCounts, count, sum.sum(),
+				count == 0 ? 0 : min.get(), count == 0 ? 0 : max.get());
+	}
+
+	/**
+	 * Remove all the values recorded. The values recorded concurrently may be
+	 * lost.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length(); i++) {
+			counts.set(i, 0);
+		}
+		sum.reset();
+		min.reset();
+		max.reset();
+	}
+
+	/**
+	 * Immutable distribution of the values recorded by a
+	 * {@link LatencyHistogramMeasure}. The count, minimum, maximum and sum are
+	 * exact; the percentiles are approximated by the middle of their buckets.
+	 */
+	public static class Snapshot implements Serializable {
+		private final int significantBits;
+		private final long[] bucketCounts;
+		private final long count;
+		private final long sum;
+		private final long min;
+		private final long max;
+
+		private Snapshot(int significantBits, long[] bucketCounts, long count,
+				long sum, long min, long max) {
+			this.significantBits = significantBits;
+			this.bucketCounts = bucketCounts;
+			this.count = count;
+			this.sum = sum;
+			this.min = min;
+			this.max = max;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getSum() {
+			return sum;
+		}
+
+		public long getMin() {
+			return min;
+		}
+
+		public long getMax() {
+			return max;
+		}
+
+		public double getMean() {
+			return count == 0 ? 0.0 : (double) sum / count;
+		}
+
+		/**
+		 * @param percentile
+		 *            a value in [0, 100]
+		 * @return the value such that the given percentage of the recorded
+		 *         values are not greater than it, or 0 if no value has been
+		 *         recorded
+		 */
+		public long getValueAtPercentile(double percentile) {
+			Check.that(percentile >= 0.0 && percentile <= 100.0,
+					"The percentile is not in [0, 100]: " + percentile);
+			if (count == 0) {
+				return 0;
+			}
+
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+			long accumulated = 0;
+			for (int i = 0; i < bucketCounts.length; i++) {
+				accumulated += bucketCounts[i];
+				if (accumulated >= rank) {
+					return Math.max(min, Math.min(max, bucketMiddle(i)));
+				}
+			}
+
+			return max;
+		}
+
+		private long bucketMiddle(int index) {
+			int subBuckets = 1 << significantBits;
+			if (index < subBuckets) {
+				return index;
+			}
+			int shift = (index - subBuckets) / subBuckets;
+			long lowerBound = (long) (subBuckets + (index - subBuckets)
+					% subBuckets) << shift;
+			return lowerBound + ((1L << shift) - 1) / 2;
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + count + ", min=" + min + ", mean="
+					+ getMean() + ", p50=" + getValueAtPercentile(50)
+					+ ", p99=" + getValueAtPercentile(99) + ", max=" + max;
+		}
+	}
+}
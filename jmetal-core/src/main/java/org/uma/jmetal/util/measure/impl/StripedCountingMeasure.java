@@ -0,0 +1,82 @@
+package org.uma.jmetal.util.measure.impl;
+
+import org.uma.jmetal.util.measure.PullMeasure;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link StripedCountingMeasure} counts a number of occurrences, like a
+ * {@link CountingMeasure}, but it is intended to be incremented in the hot path
+ * of an algorithm, possibly by several threads at the same time (e.g., when the
+ * solutions are evaluated in parallel). The count is kept in a
+ * {@link LongAdder}, whose cells are incremented without locks, and no
+ * notification is pushed when the count changes: it is only a
+ * {@link PullMeasure}, whose value is computed when {@link #get()} is called.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ *
+ */
+@SuppressWarnings("serial")
+public class StripedCountingMeasure extends SimplePullMeasure<Long> implements
+		PullMeasure<Long> {
+
+	private final LongAdder count = new LongAdder();
+
+	/**
+	 * Create a {@link StripedCountingMeasure} starting from zero.
+	 *
+	 * @param name
+	 *            the name of the measure
+	 * @param description
+	 *            the description of the measure
+	 */
+	public StripedCountingMeasure(String name, String description) {
+		super(name, description);
+	}
+
+	/**
+	 * Create a {@link StripedCountingMeasure} starting from zero. A default
+	 * name and description are used.
+	 */
+	public StripedCountingMeasure() {
+		this("Counter",
+				"Generic striped counting measure which should be renamed/redescribed when it is used to count specific occurrences.");
+	}
+
+	/**
+	 * Add 1 to the current count.
+	 */
+	public void increment() {
+		count.increment();
+	}
+
+	/**
+	 * Increment the current count in a given amount.
+	 *
+	 * @param amount
+	 *            the amount to add
+	 */
+	public void increment(long amount) {
+		count.add(amount);
+	}
+
+	/**
+	 * The value is not an atomic snapshot if the count is being incremented
+	 * concurrently, but it includes all the increments which have finished
+	 * before the call.
+	 *
+	 * @return the current amount of occurrences counted
+	 */
+	@Override
+	public Long get() {
+		return count.sum();
+	}
+
+	/**
+	 * Restart the counter to zero. The increments made concurrently may be
+	 * lost.
+	 */
+	public void reset() {
+		count.reset();
+	}
+}
@@ -0,0 +1,54 @@
+package org.uma.jmetal.util.measure.phase;
+
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Decorator of a {@link DensityEstimator} recording the time spent computing the density estimator
+ * and sorting the solutions as the {@link Phase#DENSITY_ESTIMATION} phase of a {@link
+ * PhaseMetrics}
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class MeasuredDensityEstimator<S> implements DensityEstimator<S> {
+  private final DensityEstimator<S> densityEstimator;
+  private final PhaseMetrics phaseMetrics;
+
+  public MeasuredDensityEstimator(DensityEstimator<S> densityEstimator, PhaseMetrics phaseMetrics) {
+    Check.isNotNull(densityEstimator);
+    Check.isNotNull(phaseMetrics);
+    this.densityEstimator = densityEstimator;
+    this.phaseMetrics = phaseMetrics;
+  }
+
+  @Override
+  public void computeDensityEstimator(List<S> solutionSet) {
+    long startTime = System.nanoTime();
+    densityEstimator.computeDensityEstimator(solutionSet);
+    phaseMetrics.record(
+        Phase.DENSITY_ESTIMATION, System.nanoTime() - startTime, solutionSet.size());
+  }
+
+  @Override
+  public List<S> sort(List<S> solutionList) {
+    long startTime = System.nanoTime();
+    List<S> sortedList = densityEstimator.sort(solutionList);
+    phaseMetrics.record(
+        Phase.DENSITY_ESTIMATION, System.nanoTime() - startTime, solutionList.size());
+
+    return sortedList;
+  }
+
+  @Override
+  public String getAttributeId() {
+    return densityEstimator.getAttributeId();
+  }
+
+  @Override
+  public Comparator<S> getSolutionComparator() {
+    return densityEstimator.getSolutionComparator();
+  }
+}
@@ -0,0 +1,54 @@
+package org.uma.jmetal.util.measure.phase;
+
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Decorator of a {@link Ranking} recording the time spent computing the ranking as the {@link
+ * Phase#RANKING} phase of a {@link PhaseMetrics}
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class MeasuredRanking<S> implements Ranking<S> {
+  private final Ranking<S> ranking;
+  private final PhaseMetrics phaseMetrics;
+
+  public MeasuredRanking(Ranking<S> ranking, PhaseMetrics phaseMetrics) {
+    Check.isNotNull(ranking);
+    Check.isNotNull(phaseMetrics);
+    this.ranking = ranking;
+    this.phaseMetrics = phaseMetrics;
+  }
+
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    long startTime = System.nanoTime();
+    ranking.computeRanking(solutionList);
+    phaseMetrics.record(Phase.RANKING, System.nanoTime() - startTime, solutionList.size());
+
+    return this;
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    return ranking.getSubFront(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return ranking.getNumberOfSubFronts();
+  }
+
+  @Override
+  public String getAttributeId() {
+    return ranking.getAttributeId();
+  }
+
+  @Override
+  public Comparator<S> getSolutionComparator() {
+    return ranking.getSolutionComparator();
+  }
+}
@@ -0,0 +1,16 @@
+package org.uma.jmetal.util.measure.phase;
+
+/**
+ * Phases of an evolutionary algorithm measured by {@link PhaseMetrics}
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public enum Phase {
+  EVALUATION,
+  SELECTION,
+  VARIATION,
+  RANKING,
+  DENSITY_ESTIMATION,
+  REPLACEMENT,
+  ARCHIVE
+}
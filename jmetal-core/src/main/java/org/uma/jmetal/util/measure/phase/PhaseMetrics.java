@@ -0,0 +1,220 @@
+package org.uma.jmetal.util.measure.phase;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.measure.MeasureManager;
+import org.uma.jmetal.util.measure.impl.LatencyHistogramMeasure;
+import org.uma.jmetal.util.measure.impl.SimpleMeasureManager;
+import org.uma.jmetal.util.measure.impl.StripedCountingMeasure;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Number of invocations, number of solutions processed and distribution of the time spent in each
+ * {@link Phase} of an evolutionary algorithm (see {@link
+ * org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm#setPhaseMetrics(PhaseMetrics)}). The
+ * counts are kept in {@link StripedCountingMeasure}s and the times, in nanoseconds, in {@link
+ * LatencyHistogramMeasure}s, so that recording a phase takes a few tens of nanoseconds, does not
+ * allocate memory and can be done by several threads at the same time.
+ *
+ * <p>The measures are available through {@link #getMeasureManager()} with the keys
+ * PHASE_INVOCATIONS, PHASE_SOLUTIONS and PHASE_DURATION (e.g., EVALUATION_DURATION). The metrics
+ * can also be consulted through JMX once {@link #registerMBean()} is invoked, or written
+ * periodically to a file by a {@link PhaseMetricsFileExporter}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class PhaseMetrics implements PhaseMetricsMXBean {
+  private final String name;
+  private final StripedCountingMeasure[] invocations;
+  private final StripedCountingMeasure[] solutions;
+  private final LatencyHistogramMeasure[] durations;
+  private final SimpleMeasureManager measureManager;
+  private ObjectName objectName;
+
+  /**
+   * Constructor
+   *
+   * @param name Name of the metrics, used to identify the MBean
+   */
+  public PhaseMetrics(String name) {
+    Check.isNotNull(name);
+    this.name = name;
+
+    int numberOfPhases = Phase.values().length;
+    invocations = new StripedCountingMeasure[numberOfPhases];
+    solutions = new StripedCountingMeasure[numberOfPhases];
+    durations = new LatencyHistogramMeasure[numberOfPhases];
+    measureManager = new SimpleMeasureManager();
+    for (Phase phase : Phase.values()) {
+      int i = phase.ordinal();
+      invocations[i] =
+          new StripedCountingMeasure(
+              phase + "_INVOCATIONS", "Number of invocations of the " + phase + " phase");
+      solutions[i] =
+          new StripedCountingMeasure(
+              phase + "_SOLUTIONS", "Number of solutions processed in the " + phase + " phase");
+      durations[i] =
+          new LatencyHistogramMeasure(
+              phase + "_DURATION", "Time spent in the " + phase + " phase (nanoseconds)");
+
+      measureManager.setPullMeasure(invocations[i].getName(), invocations[i]);
+      measureManager.setPullMeasure(solutions[i].getName(), solutions[i]);
+      measureManager.setPullMeasure(durations[i].getName(), durations[i]);
+    }
+  }
+
+  public PhaseMetrics() {
+    this("jMetal");
+  }
+
+  /**
+   * Records an invocation of a phase
+   *
+   * @param phase Phase
+   * @param duration Time spent in the phase, in nanoseconds
+   * @param numberOfSolutions Number of solutions processed (e.g., evaluated or selected)
+   */
+  public void record(Phase phase, long duration, long numberOfSolutions) {
+    int i = phase.ordinal();
+    invocations[i].increment();
+    solutions[i].increment(numberOfSolutions);
+    durations[i].record(duration);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getInvocations(Phase phase) {
+    return invocations[phase.ordinal()].get();
+  }
+
+  public long getSolutions(Phase phase) {
+    return solutions[phase.ordinal()].get();
+  }
+
+  public LatencyHistogramMeasure.Snapshot getDurations(Phase phase) {
+    return durations[phase.ordinal()].get();
+  }
+
+  public MeasureManager getMeasureManager() {
+    return measureManager;
+  }
+
+  @Override
+  public Map<String, Long> getInvocations() {
+    return toMap(this::getInvocations);
+  }
+
+  @Override
+  public Map<String, Long> getSolutions() {
+    return toMap(this::getSolutions);
+  }
+
+  @Override
+  public Map<String, Long> getTotalTime() {
+    return toMap(phase -> getDurations(phase).getSum());
+  }
+
+  @Override
+  public Map<String, Long> getMedianTime() {
+    return toMap(phase -> getDurations(phase).getValueAtPercentile(50));
+  }
+
+  @Override
+  public Map<String, Long> get99thPercentileTime() {
+    return toMap(phase -> getDurations(phase).getValueAtPercentile(99));
+  }
+
+  @Override
+  public Map<String, Long> getMaximumTime() {
+    return toMap(phase -> getDurations(phase).getMax());
+  }
+
+  private Map<String, Long> toMap(ToLongFunction<Phase> value) {
+    Map<String, Long> map = new LinkedHashMap<>();
+    for (Phase phase : Phase.values()) {
+      map.put(phase.name(), value.applyAsLong(phase));
+    }
+
+    return map;
+  }
+
+  /** Returns a table with the metrics of the phases which have been invoked, in milliseconds */
+  @Override
+  public String getReport() {
+    StringBuilder report = new StringBuilder();
+    report.append(
+        String.format(
+            "%-18s %11s %11s %12s %10s %10s %10s %10s%n",
+            "Phase", "Invocations", "Solutions", "Total (ms)", "Mean", "Median", "P99", "Max"));
+    for (Phase phase : Phase.values()) {
+      LatencyHistogramMeasure.Snapshot snapshot = getDurations(phase);
+      if (snapshot.getCount() > 0) {
+        report.append(
+            String.format(
+                "%-18s %11d %11d %12.3f %10.3f %10.3f %10.3f %10.3f%n",
+                phase,
+                getInvocations(phase),
+                getSolutions(phase),
+                snapshot.getSum() / 1.0e6,
+                snapshot.getMean() / 1.0e6,
+                snapshot.getValueAtPercentile(50) / 1.0e6,
+                snapshot.getValueAtPercentile(99) / 1.0e6,
+                snapshot.getMax() / 1.0e6));
+      }
+    }
+
+    return report.toString();
+  }
+
+  /** Removes all the values recorded. The values recorded concurrently may be lost. */
+  @Override
+  public void reset() {
+    for (Phase phase : Phase.values()) {
+      int i = phase.ordinal();
+      invocations[i].reset();
+      solutions[i].reset();
+      durations[i].reset();
+    }
+  }
+
+  /**
+   * Registers the metrics in the platform MBean server, with the name
+   * org.uma.jmetal:type=PhaseMetrics,name="name"
+   *
+   * @return The name of the MBean
+   */
+  public synchronized ObjectName registerMBean() {
+    if (null == objectName) {
+      try {
+        ObjectName mBeanName =
+            new ObjectName("org.uma.jmetal:type=PhaseMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, mBeanName);
+        objectName = mBeanName;
+      } catch (JMException e) {
+        throw new JMetalException("Error registering the MBean of the metrics " + name, e);
+      }
+    }
+
+    return objectName;
+  }
+
+  /** Removes the metrics from the platform MBean server, if they were registered */
+  public synchronized void unregisterMBean() {
+    if (null != objectName) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        objectName = null;
+      } catch (JMException e) {
+        throw new JMetalException("Error unregistering the MBean of the metrics " + name, e);
+      }
+    }
+  }
+}
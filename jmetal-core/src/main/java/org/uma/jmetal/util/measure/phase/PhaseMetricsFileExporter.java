@@ -0,0 +1,139 @@
+package org.uma.jmetal.util.measure.phase;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.measure.impl.LatencyHistogramMeasure;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Writes the {@link PhaseMetrics} of an algorithm to a CSV file, with a row per phase and the
+ * times in nanoseconds. The file can be written on demand with {@link #export()} or periodically,
+ * by a daemon thread, after invoking {@link #start(long)}, so that the progress of a long run can be
+ * followed. Each export writes a temporary file which then replaces the previous one, so that a
+ * reader never finds a partially written file.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class PhaseMetricsFileExporter implements AutoCloseable {
+  private final PhaseMetrics phaseMetrics;
+  private final Path path;
+  private ScheduledExecutorService executor;
+
+  /**
+   * Constructor
+   *
+   * @param phaseMetrics Metrics to export
+   * @param fileName Name of the CSV file
+   */
+  public PhaseMetricsFileExporter(PhaseMetrics phaseMetrics, String fileName) {
+    Check.isNotNull(phaseMetrics);
+    Check.isNotNull(fileName);
+    this.phaseMetrics = phaseMetrics;
+    this.path = Paths.get(fileName);
+  }
+
+  /**
+   * Starts writing the file periodically
+   *
+   * @param periodInMilliseconds Time between two exports
+   */
+  public synchronized PhaseMetricsFileExporter start(long periodInMilliseconds) {
+    Check.that(periodInMilliseconds > 0, "The period is not positive: " + periodInMilliseconds);
+    if (null != executor) {
+      throw new JMetalException("The exporter of the metrics " + path + " is already started");
+    }
+
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "PhaseMetricsFileExporter " + path);
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.scheduleAtFixedRate(
+        () -> {
+          try {
+            export();
+          } catch (JMetalException e) {
+            JMetalLogger.logger.log(Level.WARNING, "Error exporting the metrics to " + path, e);
+          }
+        },
+        periodInMilliseconds,
+        periodInMilliseconds,
+        TimeUnit.MILLISECONDS);
+
+    return this;
+  }
+
+  /** Writes the current metrics to the file */
+  public synchronized void export() {
+    Path temporaryFile = path.resolveSibling(path.getFileName() + ".tmp");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+        writer.write("phase,invocations,solutions,total,mean,min,median,p90,p99,max");
+        writer.newLine();
+        for (Phase phase : Phase.values()) {
+          LatencyHistogramMeasure.Snapshot durations = phaseMetrics.getDurations(phase);
+          writer.write(
+              phase
+                  + ","
+                  + phaseMetrics.getInvocations(phase)
+                  + ","
+                  + phaseMetrics.getSolutions(phase)
+                  + ","
+                  + durations.getSum()
+                  + ","
+                  + Math.round(durations.getMean())
+                  + ","
+                  + durations.getMin()
+                  + ","
+                  + durations.getValueAtPercentile(50)
+                  + ","
+                  + durations.getValueAtPercentile(90)
+                  + ","
+                  + durations.getValueAtPercentile(99)
+                  + ","
+                  + durations.getMax());
+          writer.newLine();
+        }
+      }
+
+      try {
+        Files.move(
+            temporaryFile,
+            path,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the metrics to " + path, e);
+    }
+  }
+
+  /** Stops the periodic exports, if they were started, and writes the final metrics */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (null != executor) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+    export();
+  }
+}
@@ -0,0 +1,28 @@
+package org.uma.jmetal.util.measure.phase;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link PhaseMetrics}, exposing the metrics of each phase through JMX
+ * (e.g., in JConsole or VisualVM). The maps are indexed by the names of the {@link Phase}s and the
+ * times are given in nanoseconds.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface PhaseMetricsMXBean {
+  Map<String, Long> getInvocations();
+
+  Map<String, Long> getSolutions();
+
+  Map<String, Long> getTotalTime();
+
+  Map<String, Long> getMedianTime();
+
+  Map<String, Long> get99thPercentileTime();
+
+  Map<String, Long> getMaximumTime();
+
+  String getReport();
+
+  void reset();
+}
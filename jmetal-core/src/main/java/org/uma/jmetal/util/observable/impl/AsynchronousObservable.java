@@ -0,0 +1,332 @@
+package org.uma.jmetal.util.observable.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observable.util.AttributesSnapshot;
+import org.uma.jmetal.util.observer.Observer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+
+/**
+ * Observable delivering the notifications to its observers asynchronously, so that a slow observer
+ * (e.g., one writing files or drawing charts) does not stall the algorithm notifying it. Each
+ * observer has a bounded queue of pending notifications, consumed by its own daemon thread in the
+ * order they were produced. When a queue is full, the {@link BackpressurePolicy} decides whether
+ * the notification is dropped, replaces the oldest pending ones, or blocks the notifying thread.
+ *
+ * <p>As the observers run while the algorithm goes on, the notified data must not be modified
+ * afterwards. A snapshot function is applied once per notification, before queueing it, to obtain
+ * such an immutable copy (see {@link org.uma.jmetal.util.observable.util.AttributesSnapshot} for
+ * the attribute maps of the algorithms). The snapshot is only taken if there are observers.
+ *
+ * <p>The pending notifications are not delivered if the JVM exits, as the threads are daemons;
+ * {@link #flush()} waits until they are delivered, and {@link #close()} also stops the threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AsynchronousObservable<D> implements Observable<D>, AutoCloseable {
+  public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+  /** Action taken when a notification is produced and the queue of an observer is full */
+  public enum BackpressurePolicy {
+    /** The new notification is discarded */
+    DROP,
+    /** The oldest pending notifications are discarded to make room for the new one */
+    LATEST,
+    /** The notifying thread waits until the observer has room for the new notification */
+    BLOCK
+  }
+
+  private final Map<Observer<D>, Subscriber> subscribers;
+  private volatile List<Subscriber> activeSubscribers;
+  private volatile boolean dataHasChanged;
+  private volatile boolean closed;
+  private final int queueCapacity;
+  private final BackpressurePolicy backpressurePolicy;
+  private final UnaryOperator<D> snapshot;
+  private final AtomicLong droppedNotifications;
+  private String name;
+
+  /**
+   * Constructor
+   *
+   * @param name Name of the observable
+   * @param queueCapacity Maximum number of pending notifications of each observer
+   * @param backpressurePolicy Action taken when the queue of an observer is full
+   * @param snapshot Function returning an immutable copy of the notified data
+   */
+  public AsynchronousObservable(
+      String name,
+      int queueCapacity,
+      BackpressurePolicy backpressurePolicy,
+      UnaryOperator<D> snapshot) {
+    Check.that(queueCapacity > 0, "The queue capacity is not positive: " + queueCapacity);
+    Check.isNotNull(backpressurePolicy);
+    Check.isNotNull(snapshot);
+    this.name = name;
+    this.queueCapacity = queueCapacity;
+    this.backpressurePolicy = backpressurePolicy;
+    this.snapshot = snapshot;
+
+    subscribers = new LinkedHashMap<>();
+    activeSubscribers = Collections.emptyList();
+    droppedNotifications = new AtomicLong();
+    dataHasChanged = false;
+    closed = false;
+  }
+
+  /**
+   * Returns an observable of the attributes notified by the algorithms, which delivers an {@link
+   * AttributesSnapshot} of them to the observers. The queues have the default capacity and the
+   * {@link BackpressurePolicy#LATEST} policy.
+   *
+   * @param name Name of the observable
+   */
+  public static AsynchronousObservable<Map<String, Object>> forAttributes(String name) {
+    return new AsynchronousObservable<>(
+        name, DEFAULT_QUEUE_CAPACITY, BackpressurePolicy.LATEST, new AttributesSnapshot());
+  }
+
+  @Override
+  public synchronized void register(Observer<D> observer) {
+    Check.isNotNull(observer);
+    if (closed) {
+      throw new JMetalException("AsynchronousObservable " + name + " is closed");
+    }
+    if (!subscribers.containsKey(observer)) {
+      Subscriber subscriber = new Subscriber(observer);
+      subscribers.put(observer, subscriber);
+      updateActiveSubscribers();
+      subscriber.thread.start();
+      JMetalLogger.logger.info("AsynchronousObservable " + name + ": " + observer + " registered");
+    }
+  }
+
+  /** Unregisters an observer. Its pending notifications are discarded. */
+  @Override
+  public synchronized void unregister(Observer<D> observer) {
+    Subscriber subscriber = subscribers.remove(observer);
+    if (subscriber != null) {
+      updateActiveSubscribers();
+      subscriber.stop();
+    }
+  }
+
+  /** Replaces the immutable list of subscribers read by the notifying threads without locking */
+  private void updateActiveSubscribers() {
+    activeSubscribers = Collections.unmodifiableList(new ArrayList<>(subscribers.values()));
+  }
+
+  /**
+   * Queues a snapshot of the data to be delivered to each observer, if the data have changed. The
+   * method only waits for the observers if the policy is {@link BackpressurePolicy#BLOCK} and any
+   * of their queues is full.
+   */
+  @Override
+  public void notifyObservers(D data) {
+    List<Subscriber> currentSubscribers = activeSubscribers;
+    if (dataHasChanged && !closed && !currentSubscribers.isEmpty()) {
+      D copy = snapshot.apply(data);
+      for (Subscriber subscriber : currentSubscribers) {
+        subscriber.offer(copy);
+      }
+    }
+    clearChanged();
+  }
+
+  @Override
+  public synchronized int numberOfRegisteredObservers() {
+    return subscribers.size();
+  }
+
+  @Override
+  public void setChanged() {
+    dataHasChanged = true;
+  }
+
+  @Override
+  public boolean hasChanged() {
+    return dataHasChanged;
+  }
+
+  @Override
+  public void clearChanged() {
+    dataHasChanged = false;
+  }
+
+  @Override
+  public synchronized Collection<Observer<D>> getObservers() {
+    return Collections.unmodifiableList(new ArrayList<>(subscribers.keySet()));
+  }
+
+  public synchronized String getName() {
+    return name;
+  }
+
+  public synchronized void setName(String name) {
+    this.name = name;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public BackpressurePolicy getBackpressurePolicy() {
+    return backpressurePolicy;
+  }
+
+  /** Returns the number of notifications discarded because the queue of an observer was full */
+  public long getNumberOfDroppedNotifications() {
+    return droppedNotifications.get();
+  }
+
+  /** Waits until all the pending notifications have been delivered to the observers */
+  public void flush() throws InterruptedException {
+    for (Subscriber subscriber : activeSubscribers) {
+      subscriber.awaitDelivery();
+    }
+  }
+
+  /**
+   * Delivers the pending notifications and stops the threads of the observers. Later
+   * notifications are ignored.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      flush();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    synchronized (this) {
+      for (Subscriber subscriber : subscribers.values()) {
+        subscriber.stop();
+      }
+      subscribers.clear();
+      updateActiveSubscribers();
+    }
+  }
+
+  /** Queue of pending notifications of an observer, and thread delivering them */
+  private class Subscriber implements Runnable {
+    private final Observer<D> observer;
+    private final BlockingQueue<D> queue;
+    private final AtomicInteger pendingNotifications;
+    private final Thread thread;
+    private volatile boolean stopped;
+
+    Subscriber(Observer<D> observer) {
+      this.observer = observer;
+      queue = new ArrayBlockingQueue<>(queueCapacity);
+      pendingNotifications = new AtomicInteger();
+      thread = new Thread(this, "AsynchronousObservable " + name + ": " + observer);
+      thread.setDaemon(true);
+      stopped = false;
+    }
+
+    void offer(D data) {
+      pendingNotifications.incrementAndGet();
+      switch (backpressurePolicy) {
+        case DROP:
+          if (!queue.offer(data)) {
+            discard();
+          }
+          break;
+        case LATEST:
+          while (!queue.offer(data)) {
+            if (queue.poll() != null) {
+              discard();
+            }
+          }
+          break;
+        case BLOCK:
+          // The wait is bounded so that the notifying thread is released if the observer stops
+          try {
+            boolean queued = false;
+            while (!queued && !stopped) {
+              queued = queue.offer(data, 100, TimeUnit.MILLISECONDS);
+            }
+            if (!queued) {
+              discard();
+            }
+          } catch (InterruptedException e) {
+            discard();
+            Thread.currentThread().interrupt();
+          }
+          break;
+        default:
+          throw new JMetalException("Backpressure policy unknown: " + backpressurePolicy);
+      }
+    }
+
+    private void discard() {
+      droppedNotifications.incrementAndGet();
+      delivered();
+    }
+
+    private void delivered() {
+      if (pendingNotifications.decrementAndGet() == 0) {
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+
+    synchronized void awaitDelivery() throws InterruptedException {
+      while (pendingNotifications.get() > 0 && !stopped) {
+        wait(100);
+      }
+    }
+
+    /** Stops the thread and discards the pending notifications, releasing the notifying threads */
+    void stop() {
+      stopped = true;
+      thread.interrupt();
+      List<D> pending = new ArrayList<>();
+      queue.drainTo(pending);
+      for (int i = 0; i < pending.size(); i++) {
+        discard();
+      }
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+
+    @Override
+    public void run() {
+      while (!stopped) {
+        D data;
+        try {
+          data = queue.take();
+        } catch (InterruptedException e) {
+          return;
+        }
+
+        try {
+          observer.update(AsynchronousObservable.this, data);
+        } catch (RuntimeException e) {
+          JMetalLogger.logger.log(
+              Level.WARNING, "AsynchronousObservable " + name + ": " + observer + " failed", e);
+        } finally {
+          delivered();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package org.uma.jmetal.util.observable.util;
+
+import org.uma.jmetal.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Function returning an immutable copy of the attributes notified by an algorithm (e.g., the
+ * {@code EVALUATIONS}, {@code POPULATION} and {@code COMPUTING_TIME} entries), to be used with an
+ * {@link org.uma.jmetal.util.observable.impl.AsynchronousObservable}. The lists (such as the
+ * population) are copied into unmodifiable lists. The solutions themselves are copied only if
+ * requested, which is needed if the algorithm modifies or reuses the solutions of its population
+ * (e.g., when a solution pool is used).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AttributesSnapshot implements UnaryOperator<Map<String, Object>> {
+  private final boolean copySolutions;
+
+  /**
+   * Constructor
+   *
+   * @param copySolutions True if the solutions contained in lists have to be copied
+   */
+  public AttributesSnapshot(boolean copySolutions) {
+    this.copySolutions = copySolutions;
+  }
+
+  public AttributesSnapshot() {
+    this(false);
+  }
+
+  @Override
+  public Map<String, Object> apply(Map<String, Object> attributes) {
+    Map<String, Object> snapshot = new HashMap<>(attributes.size() * 2);
+    attributes.forEach((key, value) -> snapshot.put(key, copy(value)));
+
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  private Object copy(Object value) {
+    if (!(value instanceof List)) {
+      return value;
+    }
+
+    List<?> list = (List<?>) value;
+    List<Object> copy = new ArrayList<>(list.size());
+    for (Object element : list) {
+      copy.add(copySolutions && element instanceof Solution ? ((Solution<?>) element).copy() : element);
+    }
+
+    return Collections.unmodifiableList(copy);
+  }
+}
@@ -4,6 +4,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.front.util.BinaryFrontUtils;
 import org.uma.jmetal.util.observable.Observable;
 import org.uma.jmetal.util.observer.Observer;
 
@@ -14,7 +15,8 @@ import java.util.Map;
 /**
  * This observer stores a solution list in files. Concretely, the variables and objectives are written in files called
  * VAR.x.tsv and VAR.x.tsv, respectively (x is an iteration counter). The frequency of the writes are set by a
- * parameter.
+ * parameter. Optionally, the files can be written in the binary format of {@link BinaryFrontUtils} (VAR.x.bin and
+ * FUN.x.bin), which is faster to write and to read.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -23,14 +25,16 @@ public class WriteSolutionsToFilesObserver implements Observer<Map<String, Objec
   private Integer frequency ;
   private int counter ;
   private String outputDirectory = "" ;
+  private boolean binaryFormat ;
+
   /**
    * Constructor
    */
-
-  public WriteSolutionsToFilesObserver(Integer frequency, String outputDirectory) {
+  public WriteSolutionsToFilesObserver(Integer frequency, String outputDirectory, boolean binaryFormat) {
     this.frequency = frequency ;
     this.counter = 0 ;
     this.outputDirectory = outputDirectory ;
+    this.binaryFormat = binaryFormat ;
 
     File file = new File(outputDirectory);
 
@@ -47,6 +51,10 @@ public class WriteSolutionsToFilesObserver implements Observer<Map<String, Objec
     }
   }
 
+  public WriteSolutionsToFilesObserver(Integer frequency, String outputDirectory) {
+    this(frequency, outputDirectory, false) ;
+  }
+
   public WriteSolutionsToFilesObserver() {
     this(1, "outputDirectory") ;
   }
@@ -57,11 +65,16 @@ public class WriteSolutionsToFilesObserver implements Observer<Map<String, Objec
    */
   @Override
   public void update(Observable<Map<String, Object>> observable, Map<String, Object> data) {
-    List<?> population = (List<?>) data.get("POPULATION");
+    @SuppressWarnings("unchecked")
+    List<? extends Solution<?>> population = (List<? extends Solution<?>>) data.get("POPULATION");
 
     if (population!=null) {
-      if (counter % frequency == 0) {
-        new SolutionListOutput((List<? extends Solution<?>>) population)
+      if (counter % frequency == 0 && binaryFormat) {
+        SolutionListOutput output = new SolutionListOutput(population) ;
+        output.printVariablesToBinaryFile(outputDirectory + "/VAR." + counter + ".bin");
+        output.printObjectivesToBinaryFile(outputDirectory + "/FUN." + counter + ".bin");
+      } else if (counter % frequency == 0) {
+        new SolutionListOutput(population)
             .setVarFileOutputContext(new DefaultFileOutputContext(outputDirectory + "/VAR." + counter + ".tsv"))
             .setFunFileOutputContext(new DefaultFileOutputContext(outputDirectory + "/FUN." + counter + ".tsv"))
             .print();
@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.point.impl;
 
 import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
 import org.uma.jmetal.util.point.Point;
 
 import java.io.BufferedReader;
@@ -106,16 +107,20 @@ public class ArrayPoint implements Point {
 
   @Override
   public double getValue(int index) {
-    Check.that((index >= 0) && (index < point.length), "Index value invalid: " + index +
-            ". The point length is: " + point.length);
+    if ((index < 0) || (index >= point.length)) {
+      throw new InvalidConditionException(
+          "Index value invalid: " + index + ". The point length is: " + point.length);
+    }
 
     return point[index] ;
   }
 
   @Override
   public void setValue(int index, double value) {
-    Check.that((index >= 0) && (index < point.length), "Index value invalid: " + index +
-            ". The point length is: " + point.length);
+    if ((index < 0) || (index >= point.length)) {
+      throw new InvalidConditionException(
+          "Index value invalid: " + index + ". The point length is: " + point.length);
+    }
 
     point[index] = value ;
   }
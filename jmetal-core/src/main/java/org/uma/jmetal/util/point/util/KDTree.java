@@ -0,0 +1,357 @@
+package org.uma.jmetal.util.point.util;
+
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.util.Arrays;
+
+/**
+ * KD-tree indexing a set of points to find the nearest one to a query point without computing the
+ * distances to all of them. Each node of the tree keeps the bounding box of its points, so that a
+ * node is skipped when the lower bound of the distance to its box is not smaller than the best
+ * distance found so far. This allows the tree to be used with the asymmetric distances of the
+ * quality indicators (see {@link Metric}), not only with the Euclidean one.
+ *
+ * <p>The coordinates are copied into a single array in the order of the tree leaves, so the tree is
+ * not affected by later changes of the points. Once built, the tree is immutable and can be queried
+ * concurrently.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class KDTree {
+  private static final int LEAF_SIZE = 8;
+
+  /**
+   * Distances between an indexed point and a query point. Besides the distance itself, a metric
+   * provides a lower bound of the distance between the query point and any point of a box.
+   */
+  public enum Metric {
+    /** Squared Euclidean distance */
+    SQUARED_EUCLIDEAN {
+      @Override
+      double distance(double[] coordinates, int offset, double[] query) {
+        double distance = 0.0;
+        for (int j = 0; j < query.length; j++) {
+          double difference = coordinates[offset + j] - query[j];
+          distance += difference * difference;
+        }
+        return distance;
+      }
+
+      @Override
+      double lowerBound(double[] minimum, double[] maximum, int offset, double[] query) {
+        double distance = 0.0;
+        for (int j = 0; j < query.length; j++) {
+          double difference = 0.0;
+          if (query[j] < minimum[offset + j]) {
+            difference = minimum[offset + j] - query[j];
+          } else if (query[j] > maximum[offset + j]) {
+            difference = query[j] - maximum[offset + j];
+          }
+          distance += difference * difference;
+        }
+        return distance;
+      }
+    },
+    /**
+     * Squared dominance distance of the IGD+ indicator: only the objectives in which the indexed
+     * point is worse than the query point are considered
+     */
+    SQUARED_DOMINANCE {
+      @Override
+      double distance(double[] coordinates, int offset, double[] query) {
+        double distance = 0.0;
+        for (int j = 0; j < query.length; j++) {
+          double difference = Math.max(coordinates[offset + j] - query[j], 0.0);
+          distance += difference * difference;
+        }
+        return distance;
+      }
+
+      @Override
+      double lowerBound(double[] minimum, double[] maximum, int offset, double[] query) {
+        return distance(minimum, offset, query);
+      }
+    },
+    /**
+     * Additive epsilon: the minimum value to be subtracted from the indexed point to weakly dominate
+     * the query point
+     */
+    ADDITIVE_EPSILON {
+      @Override
+      double distance(double[] coordinates, int offset, double[] query) {
+        double epsilon = Double.NEGATIVE_INFINITY;
+        for (int j = 0; j < query.length; j++) {
+          epsilon = Math.max(epsilon, coordinates[offset + j] - query[j]);
+        }
+        return epsilon;
+      }
+
+      @Override
+      double lowerBound(double[] minimum, double[] maximum, int offset, double[] query) {
+        return distance(minimum, offset, query);
+      }
+    };
+
+    abstract double distance(double[] coordinates, int offset, double[] query);
+
+    abstract double lowerBound(double[] minimum, double[] maximum, int offset, double[] query);
+  }
+
+  private final int dimension;
+  private final int numberOfPoints;
+  private final double[] coordinates;
+
+  private int numberOfNodes;
+  private final int[] firstPoint;
+  private final int[] lastPoint;
+  private final int[] leftChild;
+  private final int[] rightChild;
+  private final double[] minimum;
+  private final double[] maximum;
+
+  /**
+   * Constructor
+   *
+   * @param points Points to index (they are not modified)
+   */
+  public KDTree(double[][] points) {
+    Check.isNotNull(points);
+    Check.that(points.length > 0, "The set of points is empty");
+
+    numberOfPoints = points.length;
+    dimension = points[0].length;
+
+    int[] order = new int[numberOfPoints];
+    for (int i = 0; i < numberOfPoints; i++) {
+      if (points[i].length != dimension) {
+        throw new InvalidConditionException(
+            "The point " + i + " has " + points[i].length + " dimensions instead of " + dimension);
+      }
+      order[i] = i;
+    }
+
+    int maximumNumberOfNodes = 2 * (numberOfPoints / (LEAF_SIZE / 2) + 1);
+    firstPoint = new int[maximumNumberOfNodes];
+    lastPoint = new int[maximumNumberOfNodes];
+    leftChild = new int[maximumNumberOfNodes];
+    rightChild = new int[maximumNumberOfNodes];
+    minimum = new double[maximumNumberOfNodes * dimension];
+    maximum = new double[maximumNumberOfNodes * dimension];
+
+    build(points, order, 0, numberOfPoints);
+
+    coordinates = new double[numberOfPoints * dimension];
+    for (int i = 0; i < numberOfPoints; i++) {
+      System.arraycopy(points[order[i]], 0, coordinates, i * dimension, dimension);
+    }
+  }
+
+  public int getNumberOfPoints() {
+    return numberOfPoints;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * Returns the distance between a query point and the nearest indexed point
+   *
+   * @param query Query point
+   * @param metric Distance between the indexed points and the query point
+   */
+  public double nearestDistance(double[] query, Metric metric) {
+    Check.isNotNull(query);
+    Check.isNotNull(metric);
+    if (query.length != dimension) {
+      throw new InvalidConditionException(
+          "The query point has " + query.length + " dimensions instead of " + dimension);
+    }
+
+    return nearestDistance(0, query, metric, Double.POSITIVE_INFINITY);
+  }
+
+  private double nearestDistance(int node, double[] query, Metric metric, double bestDistance) {
+    if (leftChild[node] < 0) {
+      for (int i = firstPoint[node]; i < lastPoint[node]; i++) {
+        bestDistance = Math.min(bestDistance, metric.distance(coordinates, i * dimension, query));
+      }
+      return bestDistance;
+    }
+
+    int nearChild = leftChild[node];
+    int farChild = rightChild[node];
+    double nearBound = metric.lowerBound(minimum, maximum, nearChild * dimension, query);
+    double farBound = metric.lowerBound(minimum, maximum, farChild * dimension, query);
+    if (farBound < nearBound) {
+      int child = nearChild;
+      nearChild = farChild;
+      farChild = child;
+      double bound = nearBound;
+      nearBound = farBound;
+      farBound = bound;
+    }
+
+    if (nearBound < bestDistance) {
+      bestDistance = nearestDistance(nearChild, query, metric, bestDistance);
+    }
+    if (farBound < bestDistance) {
+      bestDistance = nearestDistance(farChild, query, metric, bestDistance);
+    }
+
+    return bestDistance;
+  }
+
+  /**
+   * Returns the distance between a query point and its k-th nearest indexed point. If the query
+   * point is one of the indexed points, it is its own nearest point.
+   *
+   * @param query Query point
+   * @param k Position of the indexed point (1 for the nearest one)
+   * @param metric Distance between the indexed points and the query point
+   */
+  public double kthNearestDistance(double[] query, int k, Metric metric) {
+    Check.isNotNull(query);
+    Check.isNotNull(metric);
+    Check.that(
+        k >= 1 && k <= numberOfPoints,
+        "The value of k (" + k + ") is not in [1, " + numberOfPoints + "]");
+    if (query.length != dimension) {
+      throw new InvalidConditionException(
+          "The query point has " + query.length + " dimensions instead of " + dimension);
+    }
+
+    double[] heap = new double[k];
+    Arrays.fill(heap, Double.POSITIVE_INFINITY);
+    kthNearestDistance(0, query, metric, heap);
+
+    return heap[0];
+  }
+
+  /** Keeps in a max-heap the k smallest distances between the query point and a node */
+  private void kthNearestDistance(int node, double[] query, Metric metric, double[] heap) {
+    if (leftChild[node] < 0) {
+      for (int i = firstPoint[node]; i < lastPoint[node]; i++) {
+        double distance = metric.distance(coordinates, i * dimension, query);
+        if (distance < heap[0]) {
+          replaceTop(heap, distance);
+        }
+      }
+      return;
+    }
+
+    int nearChild = leftChild[node];
+    int farChild = rightChild[node];
+    double nearBound = metric.lowerBound(minimum, maximum, nearChild * dimension, query);
+    double farBound = metric.lowerBound(minimum, maximum, farChild * dimension, query);
+    if (farBound < nearBound) {
+      int child = nearChild;
+      nearChild = farChild;
+      farChild = child;
+      double bound = nearBound;
+      nearBound = farBound;
+      farBound = bound;
+    }
+
+    if (nearBound < heap[0]) {
+      kthNearestDistance(nearChild, query, metric, heap);
+    }
+    if (farBound < heap[0]) {
+      kthNearestDistance(farChild, query, metric, heap);
+    }
+  }
+
+  /** Replaces the largest value of a max-heap */
+  private static void replaceTop(double[] heap, double value) {
+    int i = 0;
+    while (true) {
+      int child = 2 * i + 1;
+      if (child >= heap.length) {
+        break;
+      }
+      if (child + 1 < heap.length && heap[child + 1] > heap[child]) {
+        child++;
+      }
+      if (heap[child] <= value) {
+        break;
+      }
+      heap[i] = heap[child];
+      i = child;
+    }
+    heap[i] = value;
+  }
+
+  /** Builds the node of the points order[from..to) and returns its index */
+  private int build(double[][] points, int[] order, int from, int to) {
+    int node = numberOfNodes++;
+    firstPoint[node] = from;
+    lastPoint[node] = to;
+
+    int offset = node * dimension;
+    int splitDimension = 0;
+    double largestSpread = -1.0;
+    for (int j = 0; j < dimension; j++) {
+      double lowest = Double.POSITIVE_INFINITY;
+      double highest = Double.NEGATIVE_INFINITY;
+      for (int i = from; i < to; i++) {
+        double value = points[order[i]][j];
+        lowest = Math.min(lowest, value);
+        highest = Math.max(highest, value);
+      }
+      minimum[offset + j] = lowest;
+      maximum[offset + j] = highest;
+      if (highest - lowest > largestSpread) {
+        largestSpread = highest - lowest;
+        splitDimension = j;
+      }
+    }
+
+    if (to - from <= LEAF_SIZE) {
+      leftChild[node] = -1;
+      rightChild[node] = -1;
+    } else {
+      int middle = (from + to) >>> 1;
+      select(points, order, from, to - 1, middle, splitDimension);
+      leftChild[node] = build(points, order, from, middle);
+      rightChild[node] = build(points, order, middle, to);
+    }
+
+    return node;
+  }
+
+  /**
+   * Reorders order[left..right] so that the point at position k is the one that would be there if
+   * the points were sorted by the given dimension, the previous ones not being greater and the
+   * following ones not being smaller
+   */
+  private void select(double[][] points, int[] order, int left, int right, int k, int dimension) {
+    while (left < right) {
+      double pivot = points[order[(left + right) >>> 1]][dimension];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (points[order[i]][dimension] < pivot) {
+          i++;
+        }
+        while (points[order[j]][dimension] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          int point = order[i];
+          order[i] = order[j];
+          order[j] = point;
+          i++;
+          j--;
+        }
+      }
+      if (k <= j) {
+        right = j;
+      } else if (k >= i) {
+        left = i;
+      } else {
+        return;
+      }
+    }
+  }
+}
@@ -1,26 +1,34 @@
 package org.uma.jmetal.util.pseudorandom;
 
 import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.ThreadLocalRandomGenerator;
 
 import java.io.Serializable;
 
 /**
+ * Random number generator shared by the components of jMetal. It delegates on a {@link
+ * PseudoRandomGenerator}, which is a {@link JavaRandomGenerator} by default. The instance can be
+ * used by several threads; to avoid the contention of the threads on a single generator, and to
+ * get reproducible results when there are several threads, a {@link ThreadLocalRandomGenerator}
+ * can be set as generator.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
-  private PseudoRandomGenerator randomGenerator ;
+  private volatile PseudoRandomGenerator randomGenerator ;
 
   private JMetalRandom() {
     randomGenerator = new JavaRandomGenerator() ;
   }
 
+  /** The instance is created when it is requested for the first time, in a thread-safe way */
+  private static class InstanceHolder {
+    private static final JMetalRandom instance = new JMetalRandom() ;
+  }
+
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
-    return instance ;
+    return InstanceHolder.instance ;
   }
 
   public void setRandomGenerator(PseudoRandomGenerator randomGenerator) {
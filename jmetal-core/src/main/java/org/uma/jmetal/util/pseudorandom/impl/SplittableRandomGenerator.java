@@ -0,0 +1,79 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generator based on {@link SplittableRandom}, which is faster than {@link java.util.Random} and
+ * can be split in independent generators (e.g., one per thread). It is not thread-safe: each
+ * generator must be used by only one thread at a time (see {@link ThreadLocalRandomGenerator}).
+ *
+ * <p>The state of the generator is not serialized; a deserialized generator starts again the
+ * sequence of its seed.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SplittableRandomGenerator implements PseudoRandomGenerator {
+  private transient SplittableRandom rnd ;
+  private long seed ;
+  private static final String NAME = "SplittableRandomGenerator" ;
+
+  /** Constructor */
+  public SplittableRandomGenerator() {
+    this(System.currentTimeMillis());
+  }
+
+  /** Constructor */
+  public SplittableRandomGenerator(long seed) {
+    this.seed = seed ;
+    rnd = new SplittableRandom(seed) ;
+  }
+
+  /**
+   * Returns a new generator whose sequence is independent of the one of this generator. The seed
+   * of the new generator is taken from this generator, so a sequence of calls to this method
+   * returns always the same generators for a given seed.
+   */
+  public SplittableRandomGenerator split() {
+    return new SplittableRandomGenerator(random().nextLong()) ;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed ;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return lowerBound + random().nextInt((upperBound - lowerBound) + 1) ;
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + random().nextDouble()*(upperBound - lowerBound) ;
+  }
+
+  @Override public double nextDouble() {
+    return random().nextDouble();
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    this.seed = seed ;
+    rnd = new SplittableRandom(seed) ;
+  }
+
+  @Override
+  public String getName() {
+    return NAME ;
+  }
+
+  private SplittableRandom random() {
+    if (rnd == null) {
+      rnd = new SplittableRandom(seed) ;
+    }
+    return rnd ;
+  }
+}
@@ -0,0 +1,141 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe generator giving each thread its own {@link SplittableRandomGenerator}, so that the
+ * threads do not compete for a shared generator (as it happens with {@link JavaRandomGenerator},
+ * whose {@link java.util.Random} is updated with an atomic operation on each call). All the
+ * sequences are derived from a master seed:
+ *
+ * <ul>
+ *   <li>By default, the threads receive the streams 0, 1, 2, ... in the order in which they use the
+ *       generator for the first time. The thread that sets the seed and creates the algorithm (e.g.,
+ *       the main thread) is normally the first one, so its sequence is the same in every execution
+ *       with the same seed, even if other threads (e.g., those of a {@link
+ *       org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator}) also use the
+ *       generator.
+ *   <li>A thread can select a given stream with {@link #setStream(long)}. This way, the results of
+ *       tasks run in a pool of threads (e.g., the independent runs of an experiment) are
+ *       reproducible regardless of the thread running each task.
+ * </ul>
+ *
+ * <p>It is intended to be used as the generator of {@link
+ * org.uma.jmetal.util.pseudorandom.JMetalRandom}:
+ *
+ * <pre>
+ * JMetalRandom.getInstance().setRandomGenerator(new ThreadLocalRandomGenerator(seed));
+ * </pre>
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ThreadLocalRandomGenerator implements PseudoRandomGenerator {
+  private static final String NAME = "ThreadLocalRandomGenerator";
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private volatile long seed;
+  private volatile int generation;
+  private final AtomicLong nextStream = new AtomicLong();
+  private transient ThreadLocal<ThreadState> threadState = new ThreadLocal<>();
+
+  /** Constructor */
+  public ThreadLocalRandomGenerator() {
+    this(System.currentTimeMillis());
+  }
+
+  /** Constructor */
+  public ThreadLocalRandomGenerator(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Makes the calling thread use the given stream of random numbers. Two threads using the same
+   * stream get the same sequence, so each stream must be used by only one thread at a time. The
+   * streams selected with this method are different from those assigned by default to the threads.
+   *
+   * @param stream Identifier of the stream (e.g., the index of a task)
+   */
+  public void setStream(long stream) {
+    threadState.set(
+        new ThreadState(generation, new SplittableRandomGenerator(streamSeed(stream, 1))));
+  }
+
+  /** Returns the generator used by the calling thread */
+  public SplittableRandomGenerator getCurrentThreadGenerator() {
+    ThreadState state = threadState.get();
+    if ((state == null) || (state.generation != generation)) {
+      state =
+          new ThreadState(
+              generation,
+              new SplittableRandomGenerator(streamSeed(nextStream.getAndIncrement(), 0)));
+      threadState.set(state);
+    }
+
+    return state.generator;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return getCurrentThreadGenerator().nextInt(lowerBound, upperBound);
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return getCurrentThreadGenerator().nextDouble(lowerBound, upperBound);
+  }
+
+  @Override
+  public double nextDouble() {
+    return getCurrentThreadGenerator().nextDouble();
+  }
+
+  /**
+   * Sets the master seed. The streams are assigned again to the threads from the beginning, and
+   * the streams selected with {@link #setStream(long)} must be selected again.
+   */
+  @Override
+  public synchronized void setSeed(long seed) {
+    this.seed = seed;
+    nextStream.set(0);
+    generation++;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  /**
+   * Seed of a stream, derived from the master seed. The streams assigned by default to the threads
+   * (kind 0) and the ones selected by them (kind 1) are different
+   */
+  private long streamSeed(long stream, long kind) {
+    return new SplittableRandom(seed + (2 * stream + kind) * GOLDEN_GAMMA).nextLong();
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    threadState = new ThreadLocal<>();
+  }
+
+  private static class ThreadState {
+    private final int generation;
+    private final SplittableRandomGenerator generator;
+
+    ThreadState(int generation, SplittableRandomGenerator generator) {
+      this.generation = generation;
+      this.generator = generator;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementation of the {@link Ranking} interface that selects, each time a ranking is computed,
+ * the non-dominated sorting algorithm best suited to the population size and the number of
+ * objectives:
+ *
+ * <ul>
+ *   <li>{@link FastNonDominatedSortRanking} for small populations, where the quadratic algorithm is
+ *       faster than the more elaborated ones;
+ *   <li>{@link MergeNonDominatedSortRanking} for four or more objectives if there are no unfeasible
+ *       solutions, as its bitset-based approach does not degrade with the number of objectives;
+ *   <li>{@link DivideAndConquerNonDominatedSortRanking} otherwise.
+ * </ul>
+ *
+ * All of them produce the same ranks for a given population. The solutions are ranked using the
+ * overall constraint violation degree and the Pareto dominance, as done by {@link
+ * org.uma.jmetal.util.comparator.DominanceComparator}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AdaptiveNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  public static final int DEFAULT_SMALL_POPULATION_SIZE = 64;
+  public static final int DEFAULT_MANY_OBJECTIVES = 4;
+
+  private String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
+  private Comparator<S> solutionComparator;
+
+  private int smallPopulationSize;
+  private int manyObjectives;
+
+  private FastNonDominatedSortRanking<S> fastNonDominatedSortRanking;
+  private MergeNonDominatedSortRanking<S> mergeNonDominatedSortRanking;
+  private DivideAndConquerNonDominatedSortRanking<S> divideAndConquerRanking;
+
+  private Ranking<S> selectedRanking;
+  private List<List<S>> rankedSubPopulations;
+
+  /**
+   * Constructor
+   *
+   * @param smallPopulationSize Populations smaller than this size are ranked with {@link
+   *     FastNonDominatedSortRanking}
+   * @param manyObjectives Feasible populations having at least this number of objectives are ranked
+   *     with {@link MergeNonDominatedSortRanking}
+   */
+  public AdaptiveNonDominatedSortRanking(int smallPopulationSize, int manyObjectives) {
+    this.smallPopulationSize = smallPopulationSize;
+    this.manyObjectives = manyObjectives;
+    this.solutionComparator =
+        new IntegerValueAttributeComparator<>(attributeId, AttributeComparator.Ordering.ASCENDING);
+    this.rankedSubPopulations = new ArrayList<>();
+  }
+
+  /** Constructor */
+  public AdaptiveNonDominatedSortRanking() {
+    this(DEFAULT_SMALL_POPULATION_SIZE, DEFAULT_MANY_OBJECTIVES);
+  }
+
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    return computeRanking(new PopulationMatrix<>(solutionList));
+  }
+
+  /** Ranks the solutions of a population matrix */
+  public Ranking<S> computeRanking(PopulationMatrix<S> population) {
+    int size = population.size();
+    if (size < smallPopulationSize) {
+      if (fastNonDominatedSortRanking == null) {
+        fastNonDominatedSortRanking = new FastNonDominatedSortRanking<>();
+      }
+      selectedRanking = fastNonDominatedSortRanking.computeRanking(population);
+    } else if ((population.getNumberOfObjectives() >= manyObjectives) && isFeasible(population)) {
+      if (mergeNonDominatedSortRanking == null) {
+        mergeNonDominatedSortRanking = new MergeNonDominatedSortRanking<>();
+      }
+      selectedRanking = mergeNonDominatedSortRanking.computeRanking(population.getSolutionList());
+    } else {
+      if (divideAndConquerRanking == null) {
+        divideAndConquerRanking = new DivideAndConquerNonDominatedSortRanking<>();
+      }
+      selectedRanking = divideAndConquerRanking.computeRanking(population);
+    }
+
+    rankedSubPopulations = new ArrayList<>(selectedRanking.getNumberOfSubFronts());
+    for (int rank = 0; rank < selectedRanking.getNumberOfSubFronts(); rank++) {
+      List<S> subFront = selectedRanking.getSubFront(rank);
+      for (S solution : subFront) {
+        solution.setIntAttribute(attributeKey, rank);
+      }
+      rankedSubPopulations.add(subFront);
+    }
+
+    return this;
+  }
+
+  private boolean isFeasible(PopulationMatrix<S> population) {
+    for (int i = 0; i < population.size(); i++) {
+      if (population.getOverallConstraintViolation(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the ranking used the last time {@link #computeRanking(List)} was invoked */
+  public Ranking<S> getSelectedRanking() {
+    return selectedRanking;
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    if (rank >= rankedSubPopulations.size()) {
+      throw new JMetalException(
+          "Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+    }
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return rankedSubPopulations.size();
+  }
+
+  @Override
+  public Comparator<S> getSolutionComparator() {
+    return solutionComparator;
+  }
+
+  @Override
+  public String getAttributeId() {
+    return attributeId;
+  }
+}
@@ -0,0 +1,185 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.util.DivideAndConquerNonDominatedSorting;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementation of the {@link Ranking} interface producing the same ranks as {@link
+ * FastNonDominatedSortRanking} with the default dominance comparator, but using the
+ * divide-and-conquer algorithm of {@link DivideAndConquerNonDominatedSorting} instead of comparing
+ * all the pairs of solutions. It runs in O(N log N) time for two objectives and in O(N
+ * log^(M-1) N) for M objectives, which makes it the preferred choice for large populations.
+ *
+ * <p>As in {@link org.uma.jmetal.util.comparator.DominanceComparator}, the overall constraint
+ * violation degree is used as a preliminary comparison key: the solutions are grouped by their
+ * violation degree, from the feasible ones to the most unfeasible ones, and each group is sorted
+ * independently taking as starting rank the number of subfronts of the previous groups. The
+ * solutions of each subfront keep the order they have in the population.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class DivideAndConquerNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  private String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
+  private Comparator<S> solutionComparator;
+
+  private DivideAndConquerNonDominatedSorting sorting;
+  private List<ArrayList<S>> rankedSubPopulations;
+
+  /** Constructor */
+  public DivideAndConquerNonDominatedSortRanking() {
+    this.solutionComparator =
+        new IntegerValueAttributeComparator<>(attributeId, AttributeComparator.Ordering.ASCENDING);
+    this.sorting = new DivideAndConquerNonDominatedSorting();
+    this.rankedSubPopulations = new ArrayList<>();
+  }
+
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    return computeRanking(new PopulationMatrix<>(solutionList));
+  }
+
+  /** Ranks the solutions of a population matrix */
+  public Ranking<S> computeRanking(PopulationMatrix<S> population) {
+    int size = population.size();
+    int[] ranks = new int[size];
+    int numberOfRanks = computeRanks(population, ranks);
+
+    rankedSubPopulations = new ArrayList<>(numberOfRanks);
+    for (int i = 0; i < numberOfRanks; i++) {
+      rankedSubPopulations.add(new ArrayList<>());
+    }
+    for (int i = 0; i < size; i++) {
+      S solution = population.getSolution(i);
+      solution.setIntAttribute(attributeKey, ranks[i]);
+      rankedSubPopulations.get(ranks[i]).add(solution);
+    }
+
+    return this;
+  }
+
+  /**
+   * Computes the rank of every solution of a population matrix
+   *
+   * @param population The population matrix
+   * @param ranks Array where the rank of each solution is stored
+   * @return The number of subfronts
+   */
+  int computeRanks(PopulationMatrix<S> population, int[] ranks) {
+    int size = population.size();
+    if (size == 0) {
+      return 0;
+    }
+
+    boolean hasConstraintViolation = false;
+    for (int i = 0; (i < size) && !hasConstraintViolation; i++) {
+      hasConstraintViolation = population.getOverallConstraintViolation(i) < 0;
+    }
+
+    int[] indices = new int[size];
+    for (int i = 0; i < size; i++) {
+      indices[i] = i;
+    }
+
+    if (!hasConstraintViolation) {
+      return sorting.sort(population, indices, size, ranks) + 1;
+    }
+
+    sortByConstraintViolation(population, indices);
+
+    int numberOfRanks = 0;
+    int[] group = new int[size];
+    int groupStart = 0;
+    while (groupStart < size) {
+      double violation = population.getOverallConstraintViolation(indices[groupStart]);
+      int groupEnd = groupStart + 1;
+      while ((groupEnd < size)
+          && (population.getOverallConstraintViolation(indices[groupEnd]) == violation)) {
+        groupEnd++;
+      }
+
+      int groupSize = groupEnd - groupStart;
+      System.arraycopy(indices, groupStart, group, 0, groupSize);
+      int maxRank = sorting.sort(population, group, groupSize, ranks);
+      for (int i = 0; i < groupSize; i++) {
+        ranks[group[i]] += numberOfRanks;
+      }
+      numberOfRanks += maxRank + 1;
+      groupStart = groupEnd;
+    }
+
+    return numberOfRanks;
+  }
+
+  /** Sorts the indices by decreasing overall constraint violation degree (feasible ones first) */
+  private void sortByConstraintViolation(PopulationMatrix<S> population, int[] indices) {
+    double[] keys = new double[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      keys[i] = population.getOverallConstraintViolation(indices[i]);
+    }
+    int[] buffer = indices.clone();
+    double[] keyBuffer = keys.clone();
+    mergeSort(keyBuffer, buffer, keys, indices, 0, indices.length);
+  }
+
+  private void mergeSort(
+      double[] sourceKeys,
+      int[] source,
+      double[] targetKeys,
+      int[] target,
+      int low,
+      int high) {
+    if (high - low < 2) {
+      return;
+    }
+    int middle = (low + high) >>> 1;
+    mergeSort(targetKeys, target, sourceKeys, source, low, middle);
+    mergeSort(targetKeys, target, sourceKeys, source, middle, high);
+
+    int i = low;
+    int j = middle;
+    for (int k = low; k < high; k++) {
+      if ((j >= high) || ((i < middle) && (sourceKeys[i] >= sourceKeys[j]))) {
+        targetKeys[k] = sourceKeys[i];
+        target[k] = source[i++];
+      } else {
+        targetKeys[k] = sourceKeys[j];
+        target[k] = source[j++];
+      }
+    }
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    if (rank >= rankedSubPopulations.size()) {
+      throw new JMetalException(
+          "Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+    }
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return rankedSubPopulations.size();
+  }
+
+  @Override
+  public Comparator<S> getSolutionComparator() {
+    return solutionComparator;
+  }
+
+  @Override
+  public String getAttributeId() {
+    return attributeId;
+  }
+}
@@ -2,6 +2,7 @@ package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
 import org.uma.jmetal.util.ConstraintHandling;
@@ -29,6 +30,7 @@ import java.util.List;
  */
 public class ExperimentalFastNonDominanceRanking<S extends Solution<?>> implements Ranking<S> {
   private String attributeId = getClass().getName() ;
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
   private Comparator<S> solutionComparator ;
 
   public ExperimentalFastNonDominanceRanking() {
@@ -106,7 +108,7 @@ public class ExperimentalFastNonDominanceRanking<S extends Solution<?>> implemen
       S current = solutions.get(i);
       int rank = ranks[i - from] + rankOffset;
       maxRank = Math.max(maxRank, rank);
-      current.setAttribute(attributeId, rank);
+      current.setIntAttribute(attributeKey, rank);
       while (subFronts.size() <= rank) {
         subFronts.add(new ArrayList<>());
       }
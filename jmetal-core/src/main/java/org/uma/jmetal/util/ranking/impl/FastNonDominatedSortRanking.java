@@ -2,13 +2,16 @@ package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
 
 import java.util.*;
+import java.util.function.IntBinaryOperator;
 
 /**
  * This class implements a solution list ranking based on dominance ranking. Given a collection of solutions, they
@@ -17,11 +20,16 @@ import java.util.*;
  * non-dominated solutions, subset 1 contains the non-dominated population after removing those belonging to subset
  * 0, and so on.
  *
+ * <p>When the default dominance comparator is used, the dominance tests are performed on a {@link
+ * PopulationMatrix} built from the solution list.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
   private String attributeId = getClass().getName() ;
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
   private Comparator<S> dominanceComparator ;
+  private boolean defaultDominanceComparator ;
   private Comparator<S> solutionComparator;
   private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
       new OverallConstraintViolationComparator<Solution<?>>();
@@ -42,10 +50,35 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
    */
   public FastNonDominatedSortRanking() {
     this(new DominanceComparator<>()) ;
+    defaultDominanceComparator = true ;
   }
 
   @Override
   public Ranking<S> computeRanking(List<S> solutionList) {
+    if (defaultDominanceComparator) {
+      return computeRanking(new PopulationMatrix<>(solutionList)) ;
+    }
+
+    return computeRanking(
+        solutionList,
+        (p, q) -> {
+          int flag = CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionList.get(p), solutionList.get(q));
+          if (flag == 0) {
+            flag = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
+          }
+          return flag;
+        }) ;
+  }
+
+  /**
+   * Ranks the solutions of a population matrix using the constraint violation degree and the Pareto
+   * dominance, as done by {@link DominanceComparator}
+   */
+  public Ranking<S> computeRanking(PopulationMatrix<S> population) {
+    return computeRanking(population.getSolutionList(), population::compare) ;
+  }
+
+  private Ranking<S> computeRanking(List<S> solutionList, IntBinaryOperator dominanceTest) {
     List<S> population = solutionList;
 
     // dominateMe[i] contains the number of population dominating i
@@ -75,11 +108,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     for (int p = 0; p < (population.size() - 1); p++) {
       // For all q individuals , calculate if p dominates q or vice versa
       for (int q = p + 1; q < population.size(); q++) {
-        flagDominate =
-            CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionList.get(p), solutionList.get(q));
-        if (flagDominate == 0) {
-          flagDominate = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
-        }
+        flagDominate = dominanceTest.applyAsInt(p, q);
         if (flagDominate == -1) {
           iDominate.get(p).add(q);
           dominateMe[q]++;
@@ -93,7 +122,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     for (int i = 0; i < population.size(); i++) {
       if (dominateMe[i] == 0) {
         front.get(0).add(i);
-        solutionList.get(i).setAttribute(attributeId, 0);
+        solutionList.get(i).setIntAttribute(attributeKey, 0);
       }
     }
 
@@ -110,7 +139,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
           dominateMe[index]--;
           if (dominateMe[index] == 0) {
             front.get(i).add(index);
-            solutionList.get(index).setAttribute(attributeId, i);
+            solutionList.get(index).setIntAttribute(attributeKey, i);
           }
         }
       }
@@ -0,0 +1,411 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Dominance ranking which is updated incrementally when a solution is added to or removed from the
+ * ranked population, instead of being computed from scratch, following the efficient non-dominated
+ * level update (ENLU) approach of Li et al. (K. Li, K. Deb, Q. Zhang, Q. Zhang: "Efficient
+ * Nondomination Level Update Method for Steady-State Evolutionary Multiobjective Optimization".
+ * IEEE Transactions on Cybernetics 47(9), 2017). Only the solutions whose rank changes are moved
+ * between fronts, so the cost of an update is usually much lower than that of a full ranking.
+ *
+ * <p>The ranking also keeps the crowding distances of the solutions of each front. Each front stores
+ * its solutions sorted by every objective, and the crowding distances of a front are recomputed
+ * from these sorted lists (without sorting) when the front changes. The distances are stored with
+ * the attribute of {@link CrowdingDistanceDensityEstimator}, so that its solution comparator can be
+ * used with the solutions of this ranking. They follow the same formula, but the solutions having
+ * the same value of an objective are kept in the order in which they were added to the front,
+ * whereas {@link CrowdingDistanceDensityEstimator} orders them by their position in the list and by
+ * the previous objectives. Which of these solutions is a boundary one, and the distances they get,
+ * may thus differ.
+ *
+ * <p>This ranking is intended for steady-state algorithms, where the population is ranked once with
+ * {@link #computeRanking(List)} and then updated with {@link #add(Solution)} and {@link
+ * #remove(Solution)}. The solutions are identified by reference.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  private String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
+  private final DoubleAttributeKey crowdingDistanceKey =
+      DoubleAttributeKey.of(new CrowdingDistanceDensityEstimator<S>().getAttributeId());
+  private Comparator<S> dominanceComparator;
+  private Comparator<S> solutionComparator;
+
+  private List<Front> fronts;
+  private int size;
+
+  /** Constructor */
+  public IncrementalNonDominatedSortRanking(Comparator<S> dominanceComparator) {
+    this.dominanceComparator = dominanceComparator;
+    this.fronts = new ArrayList<>();
+    this.solutionComparator =
+        new IntegerValueAttributeComparator<>(attributeId, AttributeComparator.Ordering.ASCENDING);
+  }
+
+  /** Constructor */
+  public IncrementalNonDominatedSortRanking() {
+    this(new DominanceComparator<>());
+  }
+
+  /** Ranks a solution list from scratch, discarding the solutions ranked before */
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    fronts = new ArrayList<>();
+    size = 0;
+    for (S solution : solutionList) {
+      insert(solution);
+    }
+    updateCrowdingDistances();
+
+    return this;
+  }
+
+  /** Adds a solution to the ranked population, updating the ranks of the solutions it dominates */
+  public void add(S solution) {
+    Check.isNotNull(solution);
+    insert(solution);
+    updateCrowdingDistances();
+  }
+
+  /**
+   * Removes a solution from the ranked population, updating the ranks of the solutions it dominated
+   *
+   * @return false if the solution was not ranked
+   */
+  public boolean remove(S solution) {
+    Check.isNotNull(solution);
+    boolean removed = delete(solution);
+    updateCrowdingDistances();
+
+    return removed;
+  }
+
+  /**
+   * Returns the solution with the lowest crowding distance of the last front, which is the one
+   * discarded by NSGA-II when a solution has to be removed from the population
+   */
+  public S getWorstSolution() {
+    Check.that(size > 0, "The ranking is empty");
+    S worstSolution = null;
+    double lowestDistance = Double.POSITIVE_INFINITY;
+    for (S solution : fronts.get(fronts.size() - 1).solutions) {
+      double distance = solution.getDoubleAttribute(crowdingDistanceKey);
+      if ((worstSolution == null) || (distance <= lowestDistance)) {
+        worstSolution = solution;
+        lowestDistance = distance;
+      }
+    }
+
+    return worstSolution;
+  }
+
+  /** Returns the crowding distance of a ranked solution in its front */
+  public double getCrowdingDistance(S solution) {
+    return solution.getDoubleAttribute(crowdingDistanceKey);
+  }
+
+  /** Returns the ranked solutions, sorted by rank */
+  public List<S> getSolutions() {
+    List<S> solutions = new ArrayList<>(size);
+    for (Front front : fronts) {
+      solutions.addAll(front.solutions);
+    }
+
+    return solutions;
+  }
+
+  /** Returns the number of ranked solutions */
+  public int size() {
+    return size;
+  }
+
+  private void insert(S solution) {
+    int rank = 0;
+    while ((rank < fronts.size()) && fronts.get(rank).dominates(solution)) {
+      rank++;
+    }
+    if (rank == fronts.size()) {
+      fronts.add(new Front());
+    }
+
+    Front front = fronts.get(rank);
+    List<S> movedSolutions = front.removeDominatedBy(Collections.singletonList(solution));
+    front.add(solution, rank);
+    size++;
+
+    // The solutions dominated by the new one go down one front, pushing the solutions they dominate
+    while (!movedSolutions.isEmpty()) {
+      rank++;
+      if (rank == fronts.size()) {
+        fronts.add(new Front());
+      }
+      front = fronts.get(rank);
+      List<S> dominatedSolutions = front.removeDominatedBy(movedSolutions);
+      for (S movedSolution : movedSolutions) {
+        front.add(movedSolution, rank);
+      }
+      movedSolutions = dominatedSolutions;
+    }
+  }
+
+  private boolean delete(S solution) {
+    int rank = findRank(solution);
+    if (rank < 0) {
+      return false;
+    }
+
+    fronts.get(rank).remove(solution);
+    size--;
+
+    // The solutions which were only dominated by the removed ones go up one front
+    List<S> removedSolutions = Collections.singletonList(solution);
+    while ((rank + 1 < fronts.size()) && !removedSolutions.isEmpty()) {
+      Front front = fronts.get(rank);
+      Front nextFront = fronts.get(rank + 1);
+      List<S> promotedSolutions = new ArrayList<>();
+      for (S candidate : nextFront.solutions) {
+        if (isDominatedByAny(candidate, removedSolutions) && !front.dominates(candidate)) {
+          promotedSolutions.add(candidate);
+        }
+      }
+      for (S promotedSolution : promotedSolutions) {
+        nextFront.remove(promotedSolution);
+        front.add(promotedSolution, rank);
+      }
+      removedSolutions = promotedSolutions;
+      rank++;
+    }
+
+    if (fronts.removeIf(front -> front.solutions.isEmpty())) {
+      for (int i = 0; i < fronts.size(); i++) {
+        fronts.get(i).setRank(i);
+      }
+    }
+
+    return true;
+  }
+
+  private int findRank(S solution) {
+    if (solution.hasAttribute(attributeId)) {
+      int rank = solution.getIntAttribute(attributeKey);
+      if ((rank >= 0) && (rank < fronts.size()) && fronts.get(rank).contains(solution)) {
+        return rank;
+      }
+    }
+    for (int i = 0; i < fronts.size(); i++) {
+      if (fronts.get(i).contains(solution)) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  private boolean isDominatedByAny(S solution, List<S> solutions) {
+    for (S other : solutions) {
+      if (dominanceComparator.compare(other, solution) < 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void updateCrowdingDistances() {
+    for (Front front : fronts) {
+      if (front.modified) {
+        front.computeCrowdingDistances();
+      }
+    }
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    if (rank >= fronts.size()) {
+      throw new JMetalException("Invalid rank: " + rank + ". Max rank = " + (fronts.size() - 1));
+    }
+    return Collections.unmodifiableList(fronts.get(rank).solutions);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return fronts.size();
+  }
+
+  @Override
+  public Comparator<S> getSolutionComparator() {
+    return solutionComparator;
+  }
+
+  @Override
+  public String getAttributeId() {
+    return attributeId;
+  }
+
+  /** Solutions of a front, also sorted by each objective to compute the crowding distances */
+  private class Front {
+    private final List<S> solutions = new ArrayList<>();
+    private List<List<S>> sortedSolutions;
+    private boolean modified;
+
+    boolean dominates(S solution) {
+      return isDominatedByAny(solution, solutions);
+    }
+
+    boolean contains(S solution) {
+      for (S member : solutions) {
+        if (member == solution) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /** Removes and returns the solutions of the front dominated by any of a list of solutions */
+    List<S> removeDominatedBy(List<S> dominatingSolutions) {
+      List<S> dominatedSolutions = new ArrayList<>();
+      for (S solution : solutions) {
+        if (isDominatedByAny(solution, dominatingSolutions)) {
+          dominatedSolutions.add(solution);
+        }
+      }
+      for (S solution : dominatedSolutions) {
+        remove(solution);
+      }
+
+      return dominatedSolutions;
+    }
+
+    void add(S solution, int rank) {
+      if (sortedSolutions == null) {
+        sortedSolutions = new ArrayList<>(solution.getNumberOfObjectives());
+        for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+          sortedSolutions.add(new ArrayList<>());
+        }
+      }
+
+      solutions.add(solution);
+      for (int i = 0; i < sortedSolutions.size(); i++) {
+        List<S> sortedList = sortedSolutions.get(i);
+        sortedList.add(upperBound(sortedList, i, solution.getObjective(i)), solution);
+      }
+      solution.setIntAttribute(attributeKey, rank);
+      modified = true;
+    }
+
+    void remove(S solution) {
+      removeByReference(solutions, solution, 0);
+      for (int i = 0; i < sortedSolutions.size(); i++) {
+        List<S> sortedList = sortedSolutions.get(i);
+        removeByReference(sortedList, solution, lowerBound(sortedList, i, solution.getObjective(i)));
+      }
+      modified = true;
+    }
+
+    void setRank(int rank) {
+      for (S solution : solutions) {
+        if (solution.getIntAttribute(attributeKey) != rank) {
+          solution.setIntAttribute(attributeKey, rank);
+        }
+      }
+    }
+
+    /**
+     * Computes the crowding distances with the formula of {@link CrowdingDistanceDensityEstimator};
+     * the ties of each objective are in the order in which the solutions were added
+     */
+    void computeCrowdingDistances() {
+      modified = false;
+      int frontSize = solutions.size();
+      if (frontSize == 0) {
+        return;
+      }
+      if (frontSize <= 2) {
+        for (S solution : solutions) {
+          solution.setDoubleAttribute(crowdingDistanceKey, Double.POSITIVE_INFINITY);
+        }
+        return;
+      }
+
+      for (S solution : solutions) {
+        solution.setDoubleAttribute(crowdingDistanceKey, 0.0);
+      }
+      for (int i = 0; i < sortedSolutions.size(); i++) {
+        List<S> sortedList = sortedSolutions.get(i);
+        double minObjective = sortedList.get(0).getObjective(i);
+        double maxObjective = sortedList.get(frontSize - 1).getObjective(i);
+        if (minObjective == maxObjective) {
+          continue;
+        }
+
+        sortedList.get(0).setDoubleAttribute(crowdingDistanceKey, Double.POSITIVE_INFINITY);
+        sortedList.get(frontSize - 1).setDoubleAttribute(crowdingDistanceKey, Double.POSITIVE_INFINITY);
+        for (int j = 1; j < frontSize - 1; j++) {
+          S solution = sortedList.get(j);
+          double value =
+              (sortedList.get(j + 1).getObjective(i) - sortedList.get(j - 1).getObjective(i))
+                  / (maxObjective - minObjective);
+          solution.setDoubleAttribute(
+              crowdingDistanceKey, solution.getDoubleAttribute(crowdingDistanceKey) + value);
+        }
+      }
+    }
+  }
+
+  /** Returns the index of the first solution whose objective is greater than or equal to a value */
+  private static <S extends Solution<?>> int lowerBound(List<S> sortedList, int objective, double value) {
+    int low = 0;
+    int high = sortedList.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedList.get(middle).getObjective(objective) < value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Returns the index of the first solution whose objective is greater than a value */
+  private static <S extends Solution<?>> int upperBound(List<S> sortedList, int objective, double value) {
+    int low = 0;
+    int high = sortedList.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedList.get(middle).getObjective(objective) <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static <S> void removeByReference(List<S> list, S solution, int fromIndex) {
+    for (int i = fromIndex; i < list.size(); i++) {
+      if (list.get(i) == solution) {
+        list.remove(i);
+        return;
+      }
+    }
+    throw new JMetalException("The solution is not in the front");
+  }
+}
@@ -3,6 +3,7 @@ package org.uma.jmetal.util.ranking.impl;
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.util.ranking.impl.util.MNDSBitsetManager;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
 import org.uma.jmetal.util.JMetalException;
@@ -22,6 +23,7 @@ import java.util.List;
  */
 public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
   private String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
   private Comparator<S> solutionComparator;
 
   private static final int INSERTIONSORT = 7;
@@ -67,7 +69,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
       for (int r = rankedSubPopulations.size(); r <= ranking[i]; r++) {
         rankedSubPopulations.add(new ArrayList<S>());
       }
-      solutionSet.get(i).setAttribute(attributeId, ranking[i]);
+      solutionSet.get(i).setIntAttribute(attributeKey, ranking[i]);
       rankedSubPopulations.get(ranking[i]).add(solutionSet.get(i));
     }
     return this;
@@ -102,8 +104,9 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
     boolean isSorted = merge_sort(dest, src, low, mid, obj, toObj);
     isSorted &= merge_sort(dest, src, mid, high, obj, toObj);
 
-    // If list is already sorted, just copy from src to dest.
-    if (src[mid - 1][obj] <= src[mid][obj]) {
+    // If list is already sorted, just copy from src to dest. The whole key must be compared, as
+    // the first objective is sorted lexicographically
+    if (compare_lex(src[mid - 1], src[mid], obj, toObj) <= 0) {
       System.arraycopy(src, low, dest, destLow, length);
       return isSorted;
     }
@@ -0,0 +1,275 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.ranking.Ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Parallel version of {@link FastNonDominatedSortRanking}. The pairwise dominance tests, which take
+ * most of the time of the algorithm, are split in blocks of the upper triangle of the dominance
+ * matrix and computed by the threads of a {@link ForkJoinPool}. Each block stores the dominance
+ * relationships in its own part of a bit matrix and counts the number of dominating solutions in
+ * its own counters, which are added once all the blocks have finished, so no synchronization is
+ * needed between the tasks. The subfronts are then obtained sequentially, visiting the solutions in
+ * the same order as {@link FastNonDominatedSortRanking}, so both classes produce the same subfronts,
+ * with the solutions in the same order. The bit matrix takes N*N/8 bytes for a population of N
+ * solutions.
+ *
+ * <p>The methods of this class are synchronized, so that an instance can be shared by several
+ * threads; the ranking of a population must not be computed concurrently by two instances, as the
+ * rank is stored as an attribute of the solutions.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ParallelFastNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
+  public static final int DEFAULT_BLOCK_SIZE = 256;
+  private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
+      new OverallConstraintViolationComparator<Solution<?>>();
+
+  private String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
+  private Comparator<S> solutionComparator;
+  private Comparator<S> dominanceComparator;
+  private ForkJoinPool pool;
+  private int blockSize;
+
+  private List<ArrayList<S>> rankedSubPopulations;
+
+  /**
+   * Constructor
+   *
+   * @param dominanceComparator Comparator used to compare the solutions after the constraint
+   *     violation degree, or null to use the Pareto dominance on the objective values
+   * @param pool Pool of threads computing the dominance tests
+   * @param blockSize Number of rows and columns of the blocks of the dominance matrix. It must be a
+   *     multiple of 64
+   */
+  public ParallelFastNonDominatedSortRanking(
+      Comparator<S> dominanceComparator, ForkJoinPool pool, int blockSize) {
+    Check.isNotNull(pool);
+    Check.that(
+        (blockSize > 0) && (blockSize % Long.SIZE == 0),
+        "The block size must be a positive multiple of " + Long.SIZE + ": " + blockSize);
+    this.dominanceComparator = dominanceComparator;
+    this.pool = pool;
+    this.blockSize = blockSize;
+    this.rankedSubPopulations = new ArrayList<>();
+    this.solutionComparator =
+        new IntegerValueAttributeComparator<>(attributeId, AttributeComparator.Ordering.ASCENDING);
+  }
+
+  /** Constructor */
+  public ParallelFastNonDominatedSortRanking(ForkJoinPool pool) {
+    this(null, pool, DEFAULT_BLOCK_SIZE);
+  }
+
+  /** Constructor. The common fork-join pool is used. */
+  public ParallelFastNonDominatedSortRanking() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    if (dominanceComparator == null) {
+      return computeRanking(new PopulationMatrix<>(solutionList));
+    }
+
+    return computeRanking(
+        solutionList,
+        (p, q) -> {
+          int flag =
+              CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionList.get(p), solutionList.get(q));
+          if (flag == 0) {
+            flag = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
+          }
+          return flag;
+        });
+  }
+
+  /**
+   * Ranks the solutions of a population matrix using the constraint violation degree and the Pareto
+   * dominance, as done by {@link org.uma.jmetal.util.comparator.DominanceComparator}
+   */
+  public Ranking<S> computeRanking(PopulationMatrix<S> population) {
+    return computeRanking(population.getSolutionList(), population::compare);
+  }
+
+  private synchronized Ranking<S> computeRanking(
+      List<S> solutionList, IntBinaryOperator dominanceTest) {
+    int size = solutionList.size();
+    int words = (size + Long.SIZE - 1) / Long.SIZE;
+
+    // Bit q of row p is set if solution p dominates solution q
+    long[] dominates = new long[size * words];
+    int[] dominateMe = new int[size];
+
+    int numberOfBlocks = (size + blockSize - 1) / blockSize;
+    List<DominanceBlock> blocks = new ArrayList<>(numberOfBlocks * (numberOfBlocks + 1) / 2);
+    for (int i = 0; i < numberOfBlocks; i++) {
+      for (int j = i; j < numberOfBlocks; j++) {
+        blocks.add(new DominanceBlock(i, j, size, words, dominates, dominanceTest));
+      }
+    }
+
+    if (blocks.size() == 1) {
+      blocks.get(0).compute();
+    } else {
+      pool.invoke(
+          new RecursiveAction() {
+            @Override
+            protected void compute() {
+              invokeAll(blocks);
+            }
+          });
+    }
+
+    for (DominanceBlock block : blocks) {
+      block.addCounters(dominateMe);
+    }
+
+    // Obtain the fronts, visiting the dominated solutions in increasing order of their index
+    List<ArrayList<S>> fronts = new ArrayList<>();
+    int[] front = new int[size];
+    int[] nextFront = new int[size];
+    int frontSize = 0;
+    for (int p = 0; p < size; p++) {
+      if (dominateMe[p] == 0) {
+        front[frontSize++] = p;
+      }
+    }
+
+    int rank = 0;
+    while (frontSize > 0) {
+      ArrayList<S> subFront = new ArrayList<>(frontSize);
+      int nextFrontSize = 0;
+      for (int k = 0; k < frontSize; k++) {
+        int p = front[k];
+        S solution = solutionList.get(p);
+        solution.setIntAttribute(attributeKey, rank);
+        subFront.add(solution);
+
+        int rowOffset = p * words;
+        for (int w = 0; w < words; w++) {
+          long word = dominates[rowOffset + w];
+          while (word != 0) {
+            int q = w * Long.SIZE + Long.numberOfTrailingZeros(word);
+            word &= word - 1;
+            if (--dominateMe[q] == 0) {
+              nextFront[nextFrontSize++] = q;
+            }
+          }
+        }
+      }
+      fronts.add(subFront);
+
+      int[] swap = front;
+      front = nextFront;
+      nextFront = swap;
+      frontSize = nextFrontSize;
+      rank++;
+    }
+
+    rankedSubPopulations = fronts;
+
+    return this;
+  }
+
+  /**
+   * Dominance tests between the solutions of two blocks of rows (the second one not being before
+   * the first one). As the block size is a multiple of 64, each block writes its own words of the
+   * bit matrix.
+   */
+  private class DominanceBlock extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int firstFrom;
+    private final int firstUntil;
+    private final int secondFrom;
+    private final int secondUntil;
+    private final int words;
+    private final long[] dominates;
+    private final IntBinaryOperator dominanceTest;
+    private final int[] firstCounters;
+    private final int[] secondCounters;
+
+    DominanceBlock(
+        int first,
+        int second,
+        int size,
+        int words,
+        long[] dominates,
+        IntBinaryOperator dominanceTest) {
+      this.firstFrom = first * blockSize;
+      this.firstUntil = Math.min(size, firstFrom + blockSize);
+      this.secondFrom = second * blockSize;
+      this.secondUntil = Math.min(size, secondFrom + blockSize);
+      this.words = words;
+      this.dominates = dominates;
+      this.dominanceTest = dominanceTest;
+      this.firstCounters = new int[firstUntil - firstFrom];
+      this.secondCounters = new int[secondUntil - secondFrom];
+    }
+
+    @Override
+    protected void compute() {
+      for (int p = firstFrom; p < firstUntil; p++) {
+        for (int q = Math.max(p + 1, secondFrom); q < secondUntil; q++) {
+          int flagDominate = dominanceTest.applyAsInt(p, q);
+          if (flagDominate == -1) {
+            dominates[p * words + q / Long.SIZE] |= 1L << q;
+            secondCounters[q - secondFrom]++;
+          } else if (flagDominate == 1) {
+            dominates[q * words + p / Long.SIZE] |= 1L << p;
+            firstCounters[p - firstFrom]++;
+          }
+        }
+      }
+    }
+
+    void addCounters(int[] dominateMe) {
+      for (int i = 0; i < firstCounters.length; i++) {
+        dominateMe[firstFrom + i] += firstCounters[i];
+      }
+      for (int i = 0; i < secondCounters.length; i++) {
+        dominateMe[secondFrom + i] += secondCounters[i];
+      }
+    }
+  }
+
+  @Override
+  public synchronized List<S> getSubFront(int rank) {
+    if (rank >= rankedSubPopulations.size()) {
+      throw new JMetalException(
+          "Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+    }
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public synchronized int getNumberOfSubFronts() {
+    return rankedSubPopulations.size();
+  }
+
+  @Override
+  public Comparator<S> getSolutionComparator() {
+    return solutionComparator;
+  }
+
+  @Override
+  public String getAttributeId() {
+    return attributeId;
+  }
+}
@@ -2,14 +2,17 @@ package org.uma.jmetal.util.ranking.impl;
 
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttributeKey;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.ranking.impl.util.StrengthFitness;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 /**
@@ -20,23 +23,40 @@ import java.util.stream.IntStream;
  * non-dominated solutions, subset 1 contains the non-dominated population after removing those belonging to subset
  * 0, and so on.
  *
+ * <p>The dominance relation of each pair of solutions is computed only once (see {@link
+ * StrengthFitness}), by the threads of a {@link ForkJoinPool} if one is given.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
   private String attributeId = getClass().getName();
+  private final IntAttributeKey attributeKey = IntAttributeKey.of(attributeId);
   private Comparator<S> dominanceComparator;
   private Comparator<S> solutionComparator;
+  private ForkJoinPool forkJoinPool;
 
   private List<ArrayList<S>> rankedSubPopulations;
 
-  /** Constructor */
-  public StrengthRanking(Comparator<S> comparator) {
+  /**
+   * Constructor
+   *
+   * @param comparator Dominance comparator
+   * @param forkJoinPool Pool computing the dominance relations in parallel, or null to compute them
+   *     sequentially
+   */
+  public StrengthRanking(Comparator<S> comparator, ForkJoinPool forkJoinPool) {
     this.dominanceComparator = comparator;
+    this.forkJoinPool = forkJoinPool;
     rankedSubPopulations = new ArrayList<>();
     this.solutionComparator =
         new IntegerValueAttributeComparator<>(attributeId, AttributeComparator.Ordering.DESCENDING);
   }
 
+  /** Constructor */
+  public StrengthRanking(Comparator<S> comparator) {
+    this(comparator, null);
+  }
+
   /** Constructor */
   public StrengthRanking() {
     this(new DominanceComparator<>());
@@ -44,31 +64,12 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
 
   @Override
   public Ranking<S> computeRanking(List<S> solutionList) {
-    int[] strength = new int[solutionList.size()];
-    int[] rawFitness = new int[solutionList.size()];
-
-    // strength(i) = |{j | j <- SolutionSet and i dominate j}|
-    for (int i = 0; i < solutionList.size(); i++) {
-      for (int j = 0; j < solutionList.size(); j++) {
-        if (dominanceComparator.compare(solutionList.get(i), solutionList.get(j)) < 0) {
-          strength[i] += 1.0;
-        }
-      }
-    }
-
-    // Calculate the raw fitness:
-    // rawFitness(i) = |{sum strength(j) | j <- SolutionSet and j dominate i}|
-    for (int i = 0; i < solutionList.size(); i++) {
-      for (int j = 0; j < solutionList.size(); j++) {
-        if (dominanceComparator.compare(solutionList.get(i), solutionList.get(j)) == 1) {
-          rawFitness[i] += strength[j];
-        }
-      }
-    }
+    int[] rawFitness =
+        StrengthFitness.computeRawFitness(solutionList, dominanceComparator, forkJoinPool);
 
     int maxFitnessValue = 0;
     for (int i = 0; i < solutionList.size(); i++) {
-      solutionList.get(i).setAttribute(attributeId, rawFitness[i]);
+      solutionList.get(i).setIntAttribute(attributeKey, rawFitness[i]);
       if (rawFitness[i] > maxFitnessValue) {
         maxFitnessValue = rawFitness[i];
       }
@@ -83,7 +84,7 @@ public class StrengthRanking<S extends Solution<?>> implements Ranking<S> {
     solutionList.stream()
         .forEach(
             solution ->
-                rankedSubPopulations.get((int) solution.getAttribute(attributeId)).add(solution));
+                rankedSubPopulations.get(solution.getIntAttribute(attributeKey)).add(solution));
 
     // Remove empty fronts
     // rankedSubPopulations.stream().filter(list -> (list.size() == 0));
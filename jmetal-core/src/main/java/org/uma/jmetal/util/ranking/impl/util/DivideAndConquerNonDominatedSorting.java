@@ -0,0 +1,475 @@
+package org.uma.jmetal.util.ranking.impl.util;
+
+import org.uma.jmetal.util.PopulationMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Divide-and-conquer non-dominated sorting of the objective vectors of a {@link PopulationMatrix}.
+ * The algorithm is the one of Jensen (2003), generalized by Fortin, Grenier and Parizeau (2013)
+ * and by Buzdalov and Shalyto (2014) to handle points having equal objective values:
+ *
+ * <ul>
+ *   <li>The points are sorted lexicographically and duplicated points are merged, so that a point
+ *       can only be dominated by points preceding it in that order.
+ *   <li>The set of points is recursively split by the median of the last objective being
+ *       considered, and the ranks are propagated from the lower half to the upper half looking at
+ *       one objective less.
+ *   <li>When only the first two objectives remain, the ranks are computed with a sweep line over the
+ *       first objective using a Fenwick tree indexed by the second one.
+ * </ul>
+ *
+ * <p>The running time is O(N log^(M-1) N) for M &ge; 3 objectives and O(N log N) for two
+ * objectives. All the work is done on <code>int</code> and <code>double</code> arrays that are
+ * reused between calls when the size of the problem does not grow.
+ *
+ * <p>The ranks are computed with respect to Pareto dominance only; the constraint handling is the
+ * responsibility of the caller. Instances are not thread-safe.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class DivideAndConquerNonDominatedSorting {
+  /** Below this number of pairs, the ranks are propagated by comparing all the pairs */
+  private static final int BRUTE_FORCE_THRESHOLD = 16;
+
+  private int numberOfObjectives;
+  private int numberOfPoints;
+
+  private double[] points; // Column-major objective values of the distinct points
+  private int[] ranks;
+  private int[] indices;
+  private int[] buffer;
+  private double[] values;
+  private double[] keys;
+  private int[] tree;
+
+  private int endOfLower;
+  private int endOfEqual;
+
+  /**
+   * Computes the non-dominated ranks of a subset of the solutions of a population matrix. Solutions
+   * with equal objective values receive the same rank.
+   *
+   * @param population The population matrix
+   * @param subset Array containing the indices in the matrix of the solutions to sort
+   * @param length Number of elements of <code>subset</code> to take into account
+   * @param result Array where the ranks are stored, indexed by the position of the solutions in the
+   *     matrix (<code>result[subset[i]]</code> is the rank of solution <code>subset[i]</code>)
+   * @return The maximum rank, or -1 if the subset is empty
+   */
+  public int sort(PopulationMatrix<?> population, int[] subset, int length, int[] result) {
+    if (length == 0) {
+      return -1;
+    }
+
+    numberOfObjectives = population.getNumberOfObjectives();
+    double[] objectives = population.getObjectiveValues();
+    int stride = population.size();
+
+    int[] sorted = Arrays.copyOf(subset, length);
+    lexicographicSort(objectives, stride, sorted);
+
+    // Merge the duplicated points: pointOf[i] is the point representing sorted[i]
+    int[] pointOf = new int[length];
+    int[] representative = new int[length];
+    numberOfPoints = 0;
+    for (int i = 0; i < length; i++) {
+      if ((i == 0) || (lexicographicCompare(objectives, stride, sorted[i - 1], sorted[i]) != 0)) {
+        representative[numberOfPoints++] = sorted[i];
+      }
+      pointOf[i] = numberOfPoints - 1;
+    }
+
+    allocate();
+    for (int j = 0; j < numberOfObjectives; j++) {
+      int offset = j * stride;
+      int pointOffset = j * numberOfPoints;
+      for (int p = 0; p < numberOfPoints; p++) {
+        points[pointOffset + p] = objectives[offset + representative[p]];
+      }
+    }
+    for (int p = 0; p < numberOfPoints; p++) {
+      indices[p] = p;
+      ranks[p] = 0;
+    }
+
+    if (numberOfObjectives == 1) {
+      for (int p = 0; p < numberOfPoints; p++) {
+        ranks[p] = p;
+      }
+    } else if (numberOfObjectives > 1) {
+      helperA(0, numberOfPoints, numberOfObjectives - 1);
+    }
+
+    int maxRank = 0;
+    for (int i = 0; i < length; i++) {
+      int rank = ranks[pointOf[i]];
+      result[sorted[i]] = rank;
+      maxRank = Math.max(maxRank, rank);
+    }
+
+    return maxRank;
+  }
+
+  private void allocate() {
+    if ((ranks == null) || (ranks.length < numberOfPoints)) {
+      ranks = new int[numberOfPoints];
+      indices = new int[numberOfPoints];
+      buffer = new int[numberOfPoints];
+      values = new double[numberOfPoints];
+      keys = new double[numberOfPoints];
+      tree = new int[numberOfPoints + 1];
+    }
+    if ((points == null) || (points.length < numberOfPoints * numberOfObjectives)) {
+      points = new double[numberOfPoints * numberOfObjectives];
+    }
+  }
+
+  private double value(int point, int objective) {
+    return points[objective * numberOfPoints + point];
+  }
+
+  /** Returns true if the point p is not worse than point q in the objectives 0..k */
+  private boolean weaklyDominates(int p, int q, int k) {
+    for (int j = 0; j <= k; j++) {
+      if (value(p, j) > value(q, j)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void updateRank(int dominated, int dominating) {
+    ranks[dominated] = Math.max(ranks[dominated], ranks[dominating] + 1);
+  }
+
+  /**
+   * Computes the ranks of the points in indices[from, until), which have equal values in the
+   * objectives greater than k and whose ranks already take into account all the points outside the
+   * range
+   */
+  private void helperA(int from, int until, int k) {
+    int size = until - from;
+    if (size < 2) {
+      return;
+    }
+    if (size == 2) {
+      if (weaklyDominates(indices[from], indices[from + 1], k)) {
+        updateRank(indices[from + 1], indices[from]);
+      }
+      return;
+    }
+    if (k == 1) {
+      sweepA(from, until);
+      return;
+    }
+
+    split(from, until, k, median(from, until, from, from, k));
+    int lowerEnd = endOfLower;
+    int equalEnd = endOfEqual;
+
+    if ((lowerEnd == from) && (equalEnd == until)) {
+      helperA(from, until, k - 1);
+      return;
+    }
+
+    helperA(from, lowerEnd, k);
+    helperB(from, lowerEnd, lowerEnd, equalEnd, k - 1);
+    helperA(lowerEnd, equalEnd, k - 1);
+    merge(from, lowerEnd, equalEnd);
+    helperB(from, equalEnd, equalEnd, until, k - 1);
+    helperA(equalEnd, until, k);
+    merge(from, equalEnd, until);
+  }
+
+  /**
+   * Updates the ranks of the points in indices[hFrom, hUntil) with the points in indices[lFrom,
+   * lUntil), whose ranks are final. Each point of the first range is not worse than every point of
+   * the second range in the objectives greater than k.
+   */
+  private void helperB(int lFrom, int lUntil, int hFrom, int hUntil, int k) {
+    int lSize = lUntil - lFrom;
+    int hSize = hUntil - hFrom;
+    if ((lSize == 0) || (hSize == 0)) {
+      return;
+    }
+    if ((lSize == 1) || (hSize == 1) || (lSize * hSize <= BRUTE_FORCE_THRESHOLD)) {
+      for (int h = hFrom; h < hUntil; h++) {
+        int dominated = indices[h];
+        for (int l = lFrom; l < lUntil; l++) {
+          if (weaklyDominates(indices[l], dominated, k)) {
+            updateRank(dominated, indices[l]);
+          }
+        }
+      }
+      return;
+    }
+    if (k == 1) {
+      sweepB(lFrom, lUntil, hFrom, hUntil);
+      return;
+    }
+
+    double lMin = Double.POSITIVE_INFINITY;
+    double lMax = Double.NEGATIVE_INFINITY;
+    for (int i = lFrom; i < lUntil; i++) {
+      double v = value(indices[i], k);
+      lMin = Math.min(lMin, v);
+      lMax = Math.max(lMax, v);
+    }
+    double hMin = Double.POSITIVE_INFINITY;
+    double hMax = Double.NEGATIVE_INFINITY;
+    for (int i = hFrom; i < hUntil; i++) {
+      double v = value(indices[i], k);
+      hMin = Math.min(hMin, v);
+      hMax = Math.max(hMax, v);
+    }
+
+    if (lMax <= hMin) {
+      helperB(lFrom, lUntil, hFrom, hUntil, k - 1);
+      return;
+    }
+    if (lMin > hMax) {
+      return;
+    }
+
+    double median = median(lFrom, lUntil, hFrom, hUntil, k);
+    split(lFrom, lUntil, k, median);
+    int lLowerEnd = endOfLower;
+    int lEqualEnd = endOfEqual;
+    split(hFrom, hUntil, k, median);
+    int hLowerEnd = endOfLower;
+    int hEqualEnd = endOfEqual;
+
+    helperB(lFrom, lLowerEnd, hFrom, hLowerEnd, k);
+    helperB(lFrom, lLowerEnd, hLowerEnd, hEqualEnd, k - 1);
+    helperB(lLowerEnd, lEqualEnd, hLowerEnd, hEqualEnd, k - 1);
+    merge(lFrom, lLowerEnd, lEqualEnd);
+    helperB(lFrom, lEqualEnd, hEqualEnd, hUntil, k - 1);
+    helperB(lEqualEnd, lUntil, hEqualEnd, hUntil, k);
+    merge(lFrom, lEqualEnd, lUntil);
+    merge(hFrom, hLowerEnd, hEqualEnd);
+    merge(hFrom, hEqualEnd, hUntil);
+  }
+
+  /** Two-objective version of {@link #helperA(int, int, int)} */
+  private void sweepA(int from, int until) {
+    int size = prepareTree(from, until);
+    for (int i = from; i < until; i++) {
+      int point = indices[i];
+      double v = value(point, 1);
+      int best = query(upperBound(v, size));
+      if (best >= 0) {
+        ranks[point] = Math.max(ranks[point], best + 1);
+      }
+      insert(lowerBound(v, size) + 1, ranks[point], size);
+    }
+  }
+
+  /** Two-objective version of {@link #helperB(int, int, int, int, int)} */
+  private void sweepB(int lFrom, int lUntil, int hFrom, int hUntil) {
+    int size = prepareTree(lFrom, lUntil);
+    int l = lFrom;
+    for (int h = hFrom; h < hUntil; h++) {
+      int point = indices[h];
+      while ((l < lUntil) && (indices[l] < point)) {
+        insert(lowerBound(value(indices[l], 1), size) + 1, ranks[indices[l]], size);
+        l++;
+      }
+      int best = query(upperBound(value(point, 1), size));
+      if (best >= 0) {
+        ranks[point] = Math.max(ranks[point], best + 1);
+      }
+    }
+  }
+
+  /** Sorts the values of the second objective in the range, used as keys of the Fenwick tree */
+  private int prepareTree(int from, int until) {
+    int size = until - from;
+    for (int i = from; i < until; i++) {
+      keys[i - from] = value(indices[i], 1);
+    }
+    Arrays.sort(keys, 0, size);
+    Arrays.fill(tree, 0, size + 1, -1);
+    return size;
+  }
+
+  /** Maximum rank stored in the positions 1..position of the tree, or -1 */
+  private int query(int position) {
+    int result = -1;
+    for (int i = position; i > 0; i -= i & -i) {
+      result = Math.max(result, tree[i]);
+    }
+    return result;
+  }
+
+  private void insert(int position, int rank, int size) {
+    for (int i = position; i <= size; i += i & -i) {
+      tree[i] = Math.max(tree[i], rank);
+    }
+  }
+
+  /** Number of keys lower than v */
+  private int lowerBound(double v, int size) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (keys[middle] < v) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Number of keys lower than or equal to v */
+  private int upperBound(double v, int size) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (keys[middle] <= v) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Median of the values of objective k of the points in two ranges */
+  private double median(int from1, int until1, int from2, int until2, int k) {
+    int size = 0;
+    for (int i = from1; i < until1; i++) {
+      values[size++] = value(indices[i], k);
+    }
+    for (int i = from2; i < until2; i++) {
+      values[size++] = value(indices[i], k);
+    }
+    return select(size, size / 2);
+  }
+
+  /** Quickselect on values[0, size) */
+  private double select(int size, int kth) {
+    int left = 0;
+    int right = size - 1;
+    while (left < right) {
+      double pivot = values[(left + right) >>> 1];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (values[i] < pivot) {
+          i++;
+        }
+        while (values[j] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          double tmp = values[i];
+          values[i] = values[j];
+          values[j] = tmp;
+          i++;
+          j--;
+        }
+      }
+      if (kth <= j) {
+        right = j;
+      } else if (kth >= i) {
+        left = i;
+      } else {
+        break;
+      }
+    }
+    return values[kth];
+  }
+
+  /**
+   * Stable partition of indices[from, until) into the points having a value of objective k lower
+   * than, equal to and greater than the median. The ends of the first two parts are stored in
+   * {@link #endOfLower} and {@link #endOfEqual}.
+   */
+  private void split(int from, int until, int k, double median) {
+    int lower = 0;
+    int equal = 0;
+    for (int i = from; i < until; i++) {
+      double v = value(indices[i], k);
+      if (v < median) {
+        lower++;
+      } else if (v == median) {
+        equal++;
+      }
+    }
+    System.arraycopy(indices, from, buffer, from, until - from);
+    int l = from;
+    int e = from + lower;
+    int g = from + lower + equal;
+    for (int i = from; i < until; i++) {
+      int point = buffer[i];
+      double v = value(point, k);
+      if (v < median) {
+        indices[l++] = point;
+      } else if (v == median) {
+        indices[e++] = point;
+      } else {
+        indices[g++] = point;
+      }
+    }
+    endOfLower = from + lower;
+    endOfEqual = from + lower + equal;
+  }
+
+  /** Merges the sorted ranges indices[from, middle) and indices[middle, until) */
+  private void merge(int from, int middle, int until) {
+    if ((from == middle) || (middle == until) || (indices[middle - 1] < indices[middle])) {
+      return;
+    }
+    System.arraycopy(indices, from, buffer, from, until - from);
+    int i = from;
+    int j = middle;
+    for (int k = from; k < until; k++) {
+      if ((j >= until) || ((i < middle) && (buffer[i] < buffer[j]))) {
+        indices[k] = buffer[i++];
+      } else {
+        indices[k] = buffer[j++];
+      }
+    }
+  }
+
+  private int lexicographicCompare(double[] objectives, int stride, int p, int q) {
+    for (int offset = 0; offset < numberOfObjectives * stride; offset += stride) {
+      if (objectives[offset + p] < objectives[offset + q]) {
+        return -1;
+      } else if (objectives[offset + p] > objectives[offset + q]) {
+        return 1;
+      }
+    }
+    return 0;
+  }
+
+  private void lexicographicSort(double[] objectives, int stride, int[] array) {
+    int[] copy = array.clone();
+    lexicographicMergeSort(objectives, stride, copy, array, 0, array.length);
+  }
+
+  private void lexicographicMergeSort(
+      double[] objectives, int stride, int[] source, int[] target, int low, int high) {
+    if (high - low < 2) {
+      return;
+    }
+    int middle = (low + high) >>> 1;
+    lexicographicMergeSort(objectives, stride, target, source, low, middle);
+    lexicographicMergeSort(objectives, stride, target, source, middle, high);
+
+    int i = low;
+    int j = middle;
+    for (int k = low; k < high; k++) {
+      if ((j >= high)
+          || ((i < middle) && (lexicographicCompare(objectives, stride, source[i], source[j]) <= 0))) {
+        target[k] = source[i++];
+      } else {
+        target[k] = source[j++];
+      }
+    }
+  }
+}
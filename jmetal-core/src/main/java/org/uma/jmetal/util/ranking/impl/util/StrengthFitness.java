@@ -0,0 +1,89 @@
+package org.uma.jmetal.util.ranking.impl.util;
+
+import org.uma.jmetal.util.checking.Check;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Computes the raw fitness of SPEA2, used by {@link
+ * org.uma.jmetal.util.ranking.impl.StrengthRanking} and {@link
+ * org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness}:
+ *
+ * <ul>
+ *   <li>strength(i) = |{j | i dominates j}|
+ *   <li>rawFitness(i) = sum of strength(j) for the j dominating i
+ * </ul>
+ *
+ * The dominance relation of each pair of solutions is computed only once and stored in a
+ * primitive matrix of N x N bytes. The rows of the matrix, and the raw fitness values, can be
+ * computed in parallel by the threads of a {@link ForkJoinPool}; the result does not depend on the
+ * number of threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class StrengthFitness {
+  private StrengthFitness() {}
+
+  /**
+   * Returns the raw fitness of the solutions of a list
+   *
+   * @param solutionList List of solutions
+   * @param dominanceComparator Comparator returning a negative value if the first solution
+   *     dominates the second one, and a positive value if it is dominated
+   * @param forkJoinPool Pool computing the rows in parallel, or null to compute them sequentially
+   */
+  public static <S> int[] computeRawFitness(
+      List<S> solutionList, Comparator<? super S> dominanceComparator, ForkJoinPool forkJoinPool) {
+    Check.isNotNull(solutionList);
+    Check.isNotNull(dominanceComparator);
+
+    int size = solutionList.size();
+    byte[] dominance = new byte[size * size];
+    int[] strength = new int[size];
+    forEachRow(
+        size,
+        forkJoinPool,
+        i -> {
+          S solution = solutionList.get(i);
+          int count = 0;
+          for (int j = 0; j < size; j++) {
+            int flag = Integer.signum(dominanceComparator.compare(solution, solutionList.get(j)));
+            dominance[i * size + j] = (byte) flag;
+            if (flag < 0) {
+              count++;
+            }
+          }
+          strength[i] = count;
+        });
+
+    int[] rawFitness = new int[size];
+    forEachRow(
+        size,
+        forkJoinPool,
+        i -> {
+          int sum = 0;
+          for (int j = 0; j < size; j++) {
+            if (dominance[i * size + j] > 0) {
+              sum += strength[j];
+            }
+          }
+          rawFitness[i] = sum;
+        });
+
+    return rawFitness;
+  }
+
+  private static void forEachRow(int size, ForkJoinPool forkJoinPool, IntConsumer action) {
+    if (forkJoinPool == null) {
+      for (int i = 0; i < size; i++) {
+        action.accept(i);
+      }
+    } else {
+      forkJoinPool.submit(() -> IntStream.range(0, size).parallel().forEach(action)).join();
+    }
+  }
+}
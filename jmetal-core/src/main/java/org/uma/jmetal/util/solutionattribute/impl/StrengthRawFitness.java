@@ -1,20 +1,28 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.densityestimator.util.NearestNeighbourDistances;
+import org.uma.jmetal.util.ranking.impl.util.StrengthFitness;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Fitness of SPEA2: raw fitness plus the density 1 / (d_k + 2), where d_k is the distance to the
+ * k-th nearest solution. The dominance relations (see {@link StrengthFitness}) and the distances
+ * (see {@link NearestNeighbourDistances}) are computed by the threads of a {@link ForkJoinPool} if
+ * one is set.
+ */
 @SuppressWarnings("serial")
 public class StrengthRawFitness <S extends Solution<?>>
     extends GenericSolutionAttribute<S, Double> implements DensityEstimator<S>{
   private static final Comparator<Solution<?>> DOMINANCE_COMPARATOR = new DominanceComparator<Solution<?>>();
 
   private int k ; // k-th individual
+  private transient ForkJoinPool forkJoinPool ;
 
   public StrengthRawFitness(int k) {
     this.k = k ;
@@ -26,36 +34,23 @@ public class StrengthRawFitness <S extends Solution<?>>
 
   @Override
   public void computeDensityEstimator(List<S> solutionSet) {
-    double [][] distance = SolutionListUtils.distanceMatrix(solutionSet);
-    double []   strength    = new double[solutionSet.size()];
-    double []   rawFitness  = new double[solutionSet.size()];
-    double kDistance                                          ;
-
     // strength(i) = |{j | j <- SolutionSet and i dominate j}|
-    for (int i = 0; i < solutionSet.size(); i++) {
-      for (int j = 0; j < solutionSet.size();j++) {
-        if (DOMINANCE_COMPARATOR.compare(solutionSet.get(i),solutionSet.get(j))==-1) {
-          strength[i] += 1.0;
-        }
-      }
-    }
-
-    //Calculate the raw fitness
     // rawFitness(i) = |{sum strenght(j) | j <- SolutionSet and j dominate i}|
-    for (int i = 0;i < solutionSet.size(); i++) {
-      for (int j = 0; j < solutionSet.size();j++) {
-        if (DOMINANCE_COMPARATOR.compare(solutionSet.get(i),solutionSet.get(j))==1) {
-          rawFitness[i] += strength[j];
-        }
-      }
-    }
+    int[] rawFitness =
+        StrengthFitness.computeRawFitness(solutionSet, DOMINANCE_COMPARATOR, forkJoinPool);
 
     // Add the distance to the k-th individual. In the reference paper of SPEA2,
     // k = sqrt(population.size()), but a value of k = 1 is recommended. See
     // http://www.tik.ee.ethz.ch/pisa/selectors/spea2/spea2_documentation.txt
-    for (int i = 0; i < distance.length; i++) {
-      Arrays.sort(distance[i]);
-      kDistance = 1.0 / (distance[i][k] + 2.0);
+    double[][] objectives = new double[solutionSet.size()][];
+    for (int i = 0; i < solutionSet.size(); i++) {
+      objectives[i] = solutionSet.get(i).getObjectives();
+    }
+    double[] kthNearestDistances =
+        NearestNeighbourDistances.computeKthNearestDistances(objectives, k, forkJoinPool);
+
+    for (int i = 0; i < solutionSet.size(); i++) {
+      double kDistance = 1.0 / (kthNearestDistances[i] + 2.0);
       solutionSet.get(i).setAttribute(getAttributeIdentifier(), rawFitness[i] + kDistance);
     }
   }
@@ -63,4 +58,12 @@ public class StrengthRawFitness <S extends Solution<?>>
   public int getK() {
     return k ;
   }
+
+  /**
+   * Sets the pool computing the fitness values in parallel (null, the default value, to compute
+   * them sequentially)
+   */
+  public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool ;
+  }
 }
@@ -2,7 +2,7 @@ package org.uma.jmetal.utilities;
 
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.StoredSolutionsUtils;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.point.PointSolution;
 
@@ -40,7 +40,7 @@ public class ExtractParetoDominatingSolutionsFromFile {
     String outputFileName = args[1];
     Integer numberOfObjectives = Integer.parseInt(args[2]);
 
-    NonDominatedSolutionListArchive<PointSolution> archive = new NonDominatedSolutionListArchive<>();
+    NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>();
 
     if (Files.isRegularFile(Paths.get(inputFileName))) {
       archive.addAll(StoredSolutionsUtils.readSolutionsFromFile(inputFileName, numberOfObjectives));
@@ -2,7 +2,7 @@ package org.uma.jmetal.utilities;
 
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.StoredSolutionsUtils;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.point.PointSolution;
 
@@ -35,7 +35,7 @@ public class GenerateReferenceFrontFromFile {
     String inputFileName = args[0] ;
     String outputFileName = args[1] ;
 
-    NonDominatedSolutionListArchive<PointSolution> archive = new NonDominatedSolutionListArchive<>();
+    NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>();
     List<String> fileNameList = new ArrayList<>();
 
     if (Files.isRegularFile(Paths.get(inputFileName))) {
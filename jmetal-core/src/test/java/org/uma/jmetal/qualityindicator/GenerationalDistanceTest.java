@@ -9,8 +9,10 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.checking.exception.NullParameterException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Antonio J. Nebro
@@ -100,6 +102,21 @@ public class GenerationalDistanceTest {
    * <p>assertEquals(0.5,
    * (Double)gd.runAlgorithm(FrontUtils.convertFrontToSolutionList(frontApproximation)), EPSILON); }
    */
+  @Test
+  public void shouldTheValueChangeIfTheReferenceFrontIsModified() {
+    Front front = new ArrayFront(1, 2);
+    front.setPoint(0, new ArrayPoint(new double[] {1.0, 1.0}));
+    Front referenceFront = new ArrayFront(1, 2);
+    referenceFront.setPoint(0, new ArrayPoint(new double[] {1.0, 1.0}));
+
+    GenerationalDistance<DoubleSolution> gd = new GenerationalDistance<>(referenceFront);
+    assertEquals(0.0, gd.generationalDistance(front, referenceFront), 0.0000000001);
+
+    referenceFront.getPoint(0).setValue(0, 4.0);
+    referenceFront.getPoint(0).setValue(1, 5.0);
+    assertEquals(5.0, gd.generationalDistance(front, referenceFront), 0.0000000001);
+  }
+
   @Test
   public void shouldGetNameReturnTheCorrectValue() {
     // assertEquals("GD", generationalDistance.getName());
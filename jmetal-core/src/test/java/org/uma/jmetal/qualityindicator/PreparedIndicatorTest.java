@@ -0,0 +1,166 @@
+package org.uma.jmetal.qualityindicator;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.qualityindicator.impl.PreparedIndicator;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontNormalizer;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class PreparedIndicatorTest {
+  private static final String REFERENCE_FRONT_FILE = "../resources/referenceFrontsCSV/DTLZ2.3D.csv";
+
+  @After
+  public void clearCache() {
+    PreparedIndicator.clearCache();
+  }
+
+  private Front randomFront(Random random, int numberOfPoints) {
+    Front front = new ArrayFront(numberOfPoints, 3);
+    for (int i = 0; i < numberOfPoints; i++) {
+      double[] values = new double[3];
+      for (int j = 0; j < 3; j++) {
+        values[j] = 1.2 * random.nextDouble();
+      }
+      front.setPoint(i, new ArrayPoint(values));
+    }
+
+    return front;
+  }
+
+  private void assertSameValueAsTheIndicator(
+      PreparedIndicator.Type type, GenericIndicator<PointSolution> indicator)
+      throws FileNotFoundException {
+    Random random = new Random(1);
+    Front referenceFront = new ArrayFront(REFERENCE_FRONT_FILE);
+    FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
+    indicator.setReferenceParetoFront(frontNormalizer.normalize(referenceFront));
+
+    ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    try {
+      for (int run = 0; run < 5; run++) {
+        Front front = randomFront(random, 1 + random.nextInt(200));
+        List<PointSolution> normalizedFront =
+            FrontUtils.convertFrontToSolutionList(frontNormalizer.normalize(front));
+
+        double expectedValue = indicator.evaluate(normalizedFront);
+
+        assertEquals(
+            expectedValue,
+            new PreparedIndicator<>(type, REFERENCE_FRONT_FILE)
+                .setForkJoinPool(null)
+                .evaluate(FrontUtils.convertFrontToArray(front)),
+            1e-12);
+        assertEquals(
+            expectedValue,
+            new PreparedIndicator<>(type, REFERENCE_FRONT_FILE)
+                .setForkJoinPool(forkJoinPool)
+                .evaluate(FrontUtils.convertFrontToArray(front)),
+            1e-12);
+      }
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldTheGDBeEqualToTheGenerationalDistanceOfTheNormalizedFronts()
+      throws FileNotFoundException {
+    assertSameValueAsTheIndicator(PreparedIndicator.Type.GD, new GenerationalDistance<>());
+  }
+
+  @Test
+  public void shouldTheIGDBeEqualToTheInvertedGenerationalDistanceOfTheNormalizedFronts()
+      throws FileNotFoundException {
+    assertSameValueAsTheIndicator(
+        PreparedIndicator.Type.IGD, new InvertedGenerationalDistance<>());
+  }
+
+  @Test
+  public void shouldTheIGDPlusBeEqualToTheInvertedGenerationalDistancePlusOfTheNormalizedFronts()
+      throws FileNotFoundException {
+    assertSameValueAsTheIndicator(
+        PreparedIndicator.Type.IGD_PLUS, new InvertedGenerationalDistancePlus<>());
+  }
+
+  @Test
+  public void shouldTheEpsilonBeEqualToTheEpsilonOfTheNormalizedFronts()
+      throws FileNotFoundException {
+    assertSameValueAsTheIndicator(PreparedIndicator.Type.EPSILON, new Epsilon<>());
+  }
+
+  @Test
+  public void shouldTheReferenceFrontOfAFileBePreparedOnlyOnce() throws FileNotFoundException {
+    Front referenceFront =
+        new PreparedIndicator<PointSolution>(PreparedIndicator.Type.IGD, REFERENCE_FRONT_FILE)
+            .getReferenceParetoFront();
+
+    assertSame(
+        referenceFront,
+        new PreparedIndicator<PointSolution>(PreparedIndicator.Type.GD, REFERENCE_FRONT_FILE)
+            .getReferenceParetoFront());
+  }
+
+  @Test
+  public void shouldTheReferenceFrontOfAFileBePreparedAgainWhenTheFileChanges()
+      throws IOException {
+    Path file = Files.createTempFile("referenceFront", ".csv");
+    try {
+      Files.write(file, Arrays.asList("0.0,1.0", "1.0,0.0"), StandardCharsets.UTF_8);
+      PreparedIndicator<PointSolution> indicator =
+          new PreparedIndicator<>(PreparedIndicator.Type.IGD, file.toString());
+      Front referenceFront = indicator.getReferenceParetoFront();
+      assertEquals(2, referenceFront.getNumberOfPoints());
+
+      Files.write(file, Arrays.asList("0.0,1.0", "0.5,0.5", "1.0,0.0"), StandardCharsets.UTF_8);
+      indicator.setReferenceParetoFront(file.toString());
+
+      assertNotSame(referenceFront, indicator.getReferenceParetoFront());
+      assertEquals(3, indicator.getReferenceParetoFront().getNumberOfPoints());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void shouldTheReferenceFrontBePreparedAgainWhenItIsReplaced() {
+    PreparedIndicator<PointSolution> indicator =
+        new PreparedIndicator<>(
+            PreparedIndicator.Type.GD, new double[][] {{0.0, 1.0}, {1.0, 0.0}});
+    double[][] front = {{0.5, 0.5}};
+    double value = indicator.evaluate(front);
+
+    Front referenceFront = new ArrayFront(2, 2);
+    referenceFront.setPoint(0, new ArrayPoint(new double[] {0.5, 0.5}));
+    referenceFront.setPoint(1, new ArrayPoint(new double[] {1.0, 0.0}));
+    indicator.setReferenceParetoFront(referenceFront);
+
+    assertEquals(Math.sqrt(0.5), value, 1e-12);
+    assertEquals(0.0, indicator.evaluate(front), 1e-12);
+  }
+}
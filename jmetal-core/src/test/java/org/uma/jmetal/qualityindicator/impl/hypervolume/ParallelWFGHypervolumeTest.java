@@ -0,0 +1,58 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.ParallelWFGHypervolume;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ParallelWFGHypervolumeTest {
+  @Test
+  public void shouldEvaluateWorkProperly() {
+    Front front = new ArrayFront(3, 2);
+    front.setPoint(0, new ArrayPoint(new double[] {0.25, 0.75}));
+    front.setPoint(1, new ArrayPoint(new double[] {0.75, 0.25}));
+    front.setPoint(2, new ArrayPoint(new double[] {0.5, 0.5}));
+
+    double result =
+        new ParallelWFGHypervolume<PointSolution>(new double[] {1.0, 1.0})
+            .evaluate(FrontUtils.convertFrontToSolutionList(front));
+
+    assertEquals(0.25 * 0.75 + 0.25 * 0.5 + 0.25 * 0.25, result, 1e-12);
+  }
+
+  @Test
+  public void shouldEvaluateReturnTheSameValueAsThePISAHypervolume() {
+    Random random = new Random(1);
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      double[] referencePoint = new double[numberOfObjectives];
+      Arrays.fill(referencePoint, 1.0);
+      Front front = new ArrayFront(100, numberOfObjectives);
+      for (int i = 0; i < front.getNumberOfPoints(); i++) {
+        double[] values = new double[numberOfObjectives];
+        for (int j = 0; j < numberOfObjectives; j++) {
+          values[j] = 1.2 * random.nextDouble() - 0.1;
+        }
+        front.setPoint(i, new ArrayPoint(values));
+      }
+      List<PointSolution> solutionList = FrontUtils.convertFrontToSolutionList(front);
+
+      assertEquals(
+          new PISAHypervolume<PointSolution>(referencePoint).evaluate(solutionList),
+          new ParallelWFGHypervolume<PointSolution>(referencePoint).evaluate(solutionList),
+          1e-12);
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeCalculatorTest {
+  private static final double EPSILON = 1e-12;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Hypervolume by inclusion-exclusion */
+  private double bruteForceHypervolume(double[][] points, double[] referencePoint) {
+    double volume = 0.0;
+    for (int subset = 1; subset < (1 << points.length); subset++) {
+      double[] corner = null;
+      int size = 0;
+      for (int i = 0; i < points.length; i++) {
+        if (((subset >> i) & 1) == 1) {
+          size++;
+          if (corner == null) {
+            corner = points[i].clone();
+          } else {
+            for (int j = 0; j < corner.length; j++) {
+              corner[j] = Math.max(corner[j], points[i][j]);
+            }
+          }
+        }
+      }
+      double boxVolume = 1.0;
+      for (int j = 0; j < corner.length; j++) {
+        boxVolume *= Math.max(0.0, referencePoint[j] - corner[j]);
+      }
+      volume += (size % 2 == 1) ? boxVolume : -boxVolume;
+    }
+
+    return volume;
+  }
+
+  private double[][] randomPoints(Random random, int numberOfPoints, int numberOfObjectives) {
+    double[][] points = new double[numberOfPoints][numberOfObjectives];
+    for (int i = 0; i < numberOfPoints; i++) {
+      double norm = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i][j] = random.nextInt(4) == 0 ? random.nextInt(4) / 4.0 : random.nextDouble();
+        norm += points[i][j] * points[i][j];
+      }
+      if (random.nextBoolean() && norm > 0.0) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          points[i][j] /= Math.sqrt(norm);
+        }
+      }
+    }
+
+    return points;
+  }
+
+  private double[] referencePoint(int numberOfObjectives) {
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 1.0);
+
+    return referencePoint;
+  }
+
+  @Test
+  public void shouldComputeTheHypervolumeOfATwoObjectiveFront() {
+    double[][] points = {{0.25, 0.75}, {0.75, 0.25}, {0.5, 0.5}};
+
+    double hypervolume = new HypervolumeCalculator(new double[] {1.0, 1.0}).compute(points);
+
+    assertEquals(0.25 * 0.75 + 0.25 * 0.5 + 0.25 * 0.25, hypervolume, EPSILON);
+  }
+
+  @Test
+  public void shouldThePointsOutsideTheReferenceBoxBeIgnored() {
+    double[][] points = {{0.5, 0.5, 0.5}, {1.0, 0.0, 0.0}, {0.0, 2.0, 0.0}};
+
+    double hypervolume = new HypervolumeCalculator(new double[] {1.0, 1.0, 1.0}).compute(points);
+
+    assertEquals(0.125, hypervolume, EPSILON);
+  }
+
+  @Test
+  public void shouldComputeReturnZeroIfThereAreNoPoints() {
+    assertEquals(0.0, new HypervolumeCalculator(new double[] {1.0, 1.0}).compute(new double[0][]), 0.0);
+  }
+
+  @Test
+  public void shouldTheHypervolumeBeEqualToTheInclusionExclusionOne() {
+    Random random = new Random(1);
+    for (int numberOfObjectives = 1; numberOfObjectives <= 6; numberOfObjectives++) {
+      double[] referencePoint = referencePoint(numberOfObjectives);
+      for (int run = 0; run < 20; run++) {
+        double[][] points = randomPoints(random, 1 + random.nextInt(12), numberOfObjectives);
+
+        double hypervolume =
+            new HypervolumeCalculator(referencePoint).setForkJoinPool(null).compute(points);
+
+        assertEquals(bruteForceHypervolume(points, referencePoint), hypervolume, EPSILON);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheParallelAndStreamedHypervolumesBeEqualToTheSequentialOne() {
+    Random random = new Random(1);
+    ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    try {
+      for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+        double[] referencePoint = referencePoint(numberOfObjectives);
+        double[][] points = randomPoints(random, 2000, numberOfObjectives);
+
+        double hypervolume =
+            new HypervolumeCalculator(referencePoint).setForkJoinPool(null).compute(points);
+
+        assertEquals(
+            hypervolume,
+            new HypervolumeCalculator(referencePoint).setForkJoinPool(forkJoinPool).compute(points),
+            EPSILON);
+        assertEquals(
+            hypervolume,
+            new HypervolumeCalculator(referencePoint)
+                .setForkJoinPool(forkJoinPool)
+                .compute(Arrays.asList(points).iterator(), 100),
+            EPSILON);
+      }
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldComputeReadTheFrontFromAFile() throws IOException {
+    Random random = new Random(1);
+    double[] referencePoint = referencePoint(4);
+    double[][] points = randomPoints(random, 500, 4);
+
+    File frontFile = temporaryFolder.newFile("front.csv");
+    try (PrintWriter writer = new PrintWriter(frontFile)) {
+      for (double[] point : points) {
+        writer.println(point[0] + "," + point[1] + " " + point[2] + "\t" + point[3]);
+      }
+    }
+
+    double hypervolume =
+        new HypervolumeCalculator(referencePoint)
+            .compute(frontFile.getPath(), 50, point -> point);
+
+    assertEquals(new HypervolumeCalculator(referencePoint).compute(points), hypervolume, EPSILON);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldComputeRaiseAnExceptionIfAPointHasAWrongNumberOfObjectives() {
+    new HypervolumeCalculator(new double[] {1.0, 1.0}).compute(new double[][] {{0.5, 0.5, 0.5}});
+  }
+}
@@ -0,0 +1,182 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeContributionsTest {
+  private static final double EPSILON = 1e-12;
+
+  /** Hypervolume by inclusion-exclusion, skipping the point of index skippedPoint */
+  private double bruteForceHypervolume(double[][] points, double[] referencePoint, int skippedPoint) {
+    double volume = 0.0;
+    for (int subset = 1; subset < (1 << points.length); subset++) {
+      if (skippedPoint >= 0 && ((subset >> skippedPoint) & 1) == 1) {
+        continue;
+      }
+      double[] corner = null;
+      int size = 0;
+      for (int i = 0; i < points.length; i++) {
+        if (((subset >> i) & 1) == 1) {
+          size++;
+          if (corner == null) {
+            corner = points[i].clone();
+          } else {
+            for (int j = 0; j < corner.length; j++) {
+              corner[j] = Math.max(corner[j], points[i][j]);
+            }
+          }
+        }
+      }
+      double boxVolume = 1.0;
+      for (int j = 0; j < corner.length; j++) {
+        boxVolume *= Math.max(0.0, referencePoint[j] - corner[j]);
+      }
+      volume += (size % 2 == 1) ? boxVolume : -boxVolume;
+    }
+
+    return volume;
+  }
+
+  private double[] bruteForceContributions(double[][] points, double[] referencePoint) {
+    double totalVolume = bruteForceHypervolume(points, referencePoint, -1);
+    double[] contributions = new double[points.length];
+    for (int i = 0; i < points.length; i++) {
+      contributions[i] = totalVolume - bruteForceHypervolume(points, referencePoint, i);
+    }
+
+    return contributions;
+  }
+
+  private double[][] randomPoints(Random random, int numberOfPoints, int numberOfObjectives) {
+    double[][] points = new double[numberOfPoints][numberOfObjectives];
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i][j] = random.nextInt(3) == 0 ? random.nextInt(4) / 4.0 : random.nextDouble();
+      }
+    }
+    points[numberOfPoints - 1] = points[0].clone();
+
+    return points;
+  }
+
+  @Test
+  public void shouldComputeTheContributionsOfATwoObjectiveFront() {
+    double[][] points = {{0.25, 0.75}, {0.5, 0.5}, {0.75, 0.25}};
+
+    double[] contributions = new HypervolumeContributions(new double[] {1.0, 1.0}).compute(points);
+
+    assertArrayEquals(new double[] {0.0625, 0.0625, 0.0625}, contributions, EPSILON);
+  }
+
+  @Test
+  public void shouldComputeTheContributionsOfAThreeObjectiveFront() {
+    double[][] points = {{0.0, 0.5, 0.5}, {0.5, 0.0, 0.5}, {0.5, 0.5, 0.0}};
+
+    double[] contributions =
+        new HypervolumeContributions(new double[] {1.0, 1.0, 1.0}).compute(points);
+
+    assertArrayEquals(new double[] {0.125, 0.125, 0.125}, contributions, EPSILON);
+  }
+
+  @Test
+  public void shouldTheDuplicatedAndDominatedPointsHaveNoContribution() {
+    double[][] points = {{0.5, 0.5, 0.5}, {0.5, 0.5, 0.5}, {0.6, 0.7, 0.8}, {2.0, 0.1, 0.1}};
+
+    double[] contributions =
+        new HypervolumeContributions(new double[] {1.0, 1.0, 1.0}).compute(points);
+
+    assertArrayEquals(new double[] {0.0, 0.0, 0.0, 0.0}, contributions, EPSILON);
+  }
+
+  @Test
+  public void shouldTheContributionsBeEqualToTheDifferencesOfHypervolume() {
+    Random random = new Random(1);
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      double[] referencePoint = new double[numberOfObjectives];
+      Arrays.fill(referencePoint, 1.0);
+      for (int run = 0; run < 20; run++) {
+        double[][] points = randomPoints(random, 2 + random.nextInt(8), numberOfObjectives);
+
+        double[] contributions = new HypervolumeContributions(referencePoint).compute(points);
+
+        assertArrayEquals(bruteForceContributions(points, referencePoint), contributions, EPSILON);
+      }
+    }
+  }
+
+  @Test
+  public void shouldRemoveUpdateTheContributionsOfTheRemainingPoints() {
+    Random random = new Random(1);
+    for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+      double[] referencePoint = new double[numberOfObjectives];
+      Arrays.fill(referencePoint, 1.0);
+      double[][] points = randomPoints(random, 10, numberOfObjectives);
+      HypervolumeContributions engine = new HypervolumeContributions(referencePoint);
+      engine.compute(points);
+
+      while (engine.size() > 1) {
+        int removedPoint = engine.removeLeastContributor();
+
+        double[][] remainingPoints = new double[engine.size()][];
+        int[] indexes = new int[engine.size()];
+        int count = 0;
+        for (int i = 0; i < points.length; i++) {
+          if (points[i] != null && i != removedPoint) {
+            indexes[count] = i;
+            remainingPoints[count++] = points[i];
+          }
+        }
+        points[removedPoint] = null;
+
+        double[] expectedContributions = bruteForceContributions(remainingPoints, referencePoint);
+        for (int i = 0; i < indexes.length; i++) {
+          assertEquals(expectedContributions[i], engine.getContribution(indexes[i]), EPSILON);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheMonteCarloApproximationBeCloseToTheExactContributions() {
+    Random random = new Random(1);
+    double[] referencePoint = {1.0, 1.0, 1.0, 1.0};
+    double[][] points = new double[10][4];
+    for (double[] point : points) {
+      double norm = 0.0;
+      for (int j = 0; j < 4; j++) {
+        point[j] = random.nextDouble();
+        norm += point[j] * point[j];
+      }
+      for (int j = 0; j < 4; j++) {
+        point[j] /= Math.sqrt(norm);
+      }
+    }
+
+    double[] exactContributions = new HypervolumeContributions(referencePoint).compute(points);
+    double[] approximatedContributions =
+        new HypervolumeContributions(referencePoint)
+            .setNumberOfMonteCarloSamples(100000)
+            .setRandomGenerator(random::nextDouble)
+            .compute(points);
+
+    for (int i = 0; i < points.length; i++) {
+      assertEquals(exactContributions[i], approximatedContributions[i], 0.05 * exactContributions[i]);
+    }
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldRemoveRaiseAnExceptionIfThePointHasAlreadyBeenRemoved() {
+    HypervolumeContributions engine = new HypervolumeContributions(new double[] {1.0, 1.0});
+    engine.compute(new double[][] {{0.25, 0.75}, {0.75, 0.25}});
+    engine.remove(0);
+    engine.remove(0);
+  }
+}
@@ -0,0 +1,106 @@
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ArrayDoubleSolutionTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private List<Bounds<Double>> bounds =
+      Arrays.asList(Bounds.create(0.0, 1.0), Bounds.create(-2.0, 2.0), Bounds.create(5.0, 6.0));
+
+  @Test
+  public void shouldTheProblemsOnlyCreateArrayDoubleSolutionsIfTheyAreEnabled() {
+    @SuppressWarnings("serial")
+    AbstractDoubleProblem problem =
+        new AbstractDoubleProblem() {
+          {
+            setNumberOfObjectives(2);
+          }
+
+          @Override
+          public void evaluate(DoubleSolution solution) {}
+        };
+    problem.setVariableBounds(Arrays.asList(0.0, -2.0), Arrays.asList(1.0, 2.0));
+
+    assertTrue(problem.createSolution() instanceof DefaultDoubleSolution);
+
+    problem.setArrayDoubleSolutions(true);
+    assertTrue(problem.createSolution() instanceof ArrayDoubleSolution);
+  }
+
+  @Test
+  public void shouldConstructorCreateVariablesWithinTheBounds() {
+    DoubleSolution solution = new ArrayDoubleSolution(2, bounds);
+
+    assertEquals(3, solution.getNumberOfVariables());
+    assertEquals(2, solution.getNumberOfObjectives());
+    assertEquals(0, solution.getNumberOfConstraints());
+    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+      assertTrue(solution.getDoubleVariable(i) >= bounds.get(i).getLowerBound());
+      assertTrue(solution.getDoubleVariable(i) <= bounds.get(i).getUpperBound());
+    }
+  }
+
+  @Test
+  public void shouldPrimitiveAndBoxedAccessorsBeConsistent() {
+    DoubleSolution solution = new ArrayDoubleSolution(2, bounds);
+
+    solution.setDoubleVariable(0, 0.25);
+    solution.setVariable(1, 1.5);
+    solution.getVariables().set(2, 5.5);
+
+    assertEquals(0.25, solution.getVariable(0), EPSILON);
+    assertEquals(1.5, solution.getDoubleVariable(1), EPSILON);
+    assertEquals(5.5, solution.getDoubleVariables()[2], EPSILON);
+    assertEquals(Arrays.asList(0.25, 1.5, 5.5), solution.getVariables());
+  }
+
+  @Test
+  public void shouldGetDoubleVariablesReturnAViewOfTheVariables() {
+    DoubleSolution solution = new ArrayDoubleSolution(2, bounds);
+
+    solution.getDoubleVariables()[0] = 0.75;
+
+    assertEquals(0.75, solution.getDoubleVariable(0), EPSILON);
+  }
+
+  @Test
+  public void shouldCopyReturnAnIndependentIdenticalSolution() {
+    DoubleSolution solution = new ArrayDoubleSolution(2, 1, bounds);
+    solution.setObjective(0, 1.0);
+    solution.setConstraint(0, -2.0);
+    solution.setAttribute("attribute", 3);
+
+    DoubleSolution copy = (DoubleSolution) solution.copy();
+
+    assertEquals(solution, copy);
+    assertEquals(solution.hashCode(), copy.hashCode());
+    assertEquals(1.0, copy.getObjective(0), EPSILON);
+    assertEquals(-2.0, copy.getConstraint(0), EPSILON);
+    assertEquals(3, copy.getAttribute("attribute"));
+
+    copy.setDoubleVariable(0, 1.0 - solution.getDoubleVariable(0) + 0.1);
+    assertNotEquals(solution.getDoubleVariable(0), copy.getDoubleVariable(0), EPSILON);
+  }
+
+  @Test
+  public void shouldBeEqualToADefaultDoubleSolutionHavingTheSameVariables() {
+    DoubleSolution solution = new ArrayDoubleSolution(2, bounds);
+    DoubleSolution defaultSolution = new DefaultDoubleSolution(2, bounds);
+    defaultSolution.setDoubleVariables(solution.getDoubleVariables());
+
+    assertEquals(solution, defaultSolution);
+    assertEquals(defaultSolution, solution);
+    assertEquals(defaultSolution.hashCode(), solution.hashCode());
+  }
+}
@@ -0,0 +1,165 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.DoubleValueAttributeComparator;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.bounds.Bounds;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AttributeSlotsTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private List<Bounds<Double>> bounds = Arrays.asList(Bounds.create(0.0, 1.0), Bounds.create(0.0, 1.0));
+
+  @Test
+  public void shouldRegisteringAnIdentifierTwiceReturnTheSameKey() {
+    DoubleAttributeKey key = DoubleAttributeKey.of("AttributeSlotsTest.double");
+
+    assertSame(key, DoubleAttributeKey.of("AttributeSlotsTest.double"));
+    assertSame(key, AttributeKey.find("AttributeSlotsTest.double"));
+    assertNull(AttributeKey.find("AttributeSlotsTest.unregistered"));
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldRegisteringAnIdentifierWithAnotherTypeRaiseAnException() {
+    DoubleAttributeKey.of("AttributeSlotsTest.conflict");
+    IntAttributeKey.of("AttributeSlotsTest.conflict");
+  }
+
+  @Test
+  public void shouldSlotsStoreAndClearValues() {
+    AttributeSlots slots = new AttributeSlots();
+    assertTrue(slots.isEmpty());
+    assertEquals(0.0, slots.getDouble(3), EPSILON);
+    assertEquals(0, slots.getInt(5));
+
+    slots.setDouble(3, 2.5);
+    slots.setInt(5, 7);
+    AttributeSlots copy = slots.copy();
+    slots.clearDouble(3);
+
+    assertFalse(slots.hasDouble(3));
+    assertTrue(slots.hasInt(5));
+    assertEquals(7, slots.getInt(5));
+    assertEquals(2.5, copy.getDouble(3), EPSILON);
+  }
+
+  @Test
+  public void shouldTypedAndBoxedAccessorsBeConsistentInAllTheSolutionImplementations() {
+    DoubleAttributeKey doubleKey = DoubleAttributeKey.of("AttributeSlotsTest.crowding");
+    IntAttributeKey intKey = IntAttributeKey.of("AttributeSlotsTest.rank");
+
+    for (DoubleSolution solution :
+        Arrays.asList(new DefaultDoubleSolution(2, bounds), new ArrayDoubleSolution(2, bounds))) {
+      assertFalse(solution.hasAttribute(doubleKey.getId()));
+      assertEquals(0.0, solution.getDoubleAttribute(doubleKey), EPSILON);
+
+      solution.setDoubleAttribute(doubleKey, 1.5);
+      solution.setAttribute(intKey.getId(), 3);
+      solution.setAttribute("unregistered", "value");
+
+      assertTrue(solution.hasAttribute(doubleKey.getId()));
+      assertEquals(1.5, (double) solution.getAttribute(doubleKey.getId()), EPSILON);
+      assertEquals(3, solution.getIntAttribute(intKey));
+      assertEquals("value", solution.getAttribute("unregistered"));
+      assertFalse(solution.getAttributes().containsKey(intKey.getId()));
+
+      DoubleSolution copy = (DoubleSolution) solution.copy();
+      solution.setIntAttribute(intKey, 4);
+      assertEquals(3, copy.getIntAttribute(intKey));
+      assertEquals(1.5, copy.getDoubleAttribute(doubleKey), EPSILON);
+
+      solution.setAttribute(intKey.getId(), null);
+      assertTrue(solution.hasAttribute(intKey.getId()));
+      assertNull(solution.getAttribute(intKey.getId()));
+    }
+  }
+
+  @Test
+  public void shouldSerializationKeepTheAttributesStoredInTheSlots() throws Exception {
+    DoubleAttributeKey doubleKey = DoubleAttributeKey.of("AttributeSlotsTest.serializedCrowding");
+    IntAttributeKey intKey = IntAttributeKey.of("AttributeSlotsTest.serializedRank");
+    List<Bounds<Double>> serializableBounds =
+        Arrays.asList(new SerializableBounds(), new SerializableBounds());
+
+    for (DoubleSolution solution :
+        Arrays.asList(
+            new DefaultDoubleSolution(2, serializableBounds),
+            new ArrayDoubleSolution(2, serializableBounds))) {
+      solution.setDoubleAttribute(doubleKey, 1.5);
+      solution.setIntAttribute(intKey, 3);
+      solution.setAttribute("unregistered", "value");
+
+      DoubleSolution deserializedSolution = serializeAndDeserialize(solution);
+
+      assertEquals(1.5, deserializedSolution.getDoubleAttribute(doubleKey), EPSILON);
+      assertEquals(3, deserializedSolution.getIntAttribute(intKey));
+      assertEquals("value", deserializedSolution.getAttribute("unregistered"));
+      assertFalse(deserializedSolution.getAttributes().containsKey(intKey.getId()));
+      assertEquals(solution.getVariables(), deserializedSolution.getVariables());
+    }
+  }
+
+  private static DoubleSolution serializeAndDeserialize(DoubleSolution solution)
+      throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(solution);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (DoubleSolution) in.readObject();
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class SerializableBounds implements Bounds<Double>, Serializable {
+    @Override
+    public Double getLowerBound() {
+      return 0.0;
+    }
+
+    @Override
+    public Double getUpperBound() {
+      return 1.0;
+    }
+  }
+
+  @Test
+  public void shouldTheComparatorsUseTheRegisteredKeys() {
+    DoubleAttributeKey doubleKey = DoubleAttributeKey.of("AttributeSlotsTest.density");
+    IntAttributeKey intKey = IntAttributeKey.of("AttributeSlotsTest.ranking");
+    DoubleSolution solution1 = new DefaultDoubleSolution(2, bounds);
+    DoubleSolution solution2 = new ArrayDoubleSolution(2, bounds);
+
+    solution1.setDoubleAttribute(doubleKey, 2.0);
+    solution2.setDoubleAttribute(doubleKey, 1.0);
+    solution2.setIntAttribute(intKey, 1);
+
+    assertEquals(
+        -1,
+        new DoubleValueAttributeComparator<DoubleSolution>(
+                "AttributeSlotsTest.density", AttributeComparator.Ordering.DESCENDING)
+            .compare(solution1, solution2));
+    assertEquals(
+        -1,
+        new IntegerValueAttributeComparator<DoubleSolution>(
+                intKey, AttributeComparator.Ordering.ASCENDING)
+            .compare(solution1, solution2));
+  }
+}
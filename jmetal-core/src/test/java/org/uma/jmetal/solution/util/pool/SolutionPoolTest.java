@@ -0,0 +1,128 @@
+package org.uma.jmetal.solution.util.pool;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class SolutionPoolTest {
+  private List<Bounds<Double>> bounds =
+      Arrays.asList(Bounds.create(0.0, 1.0), Bounds.create(-1.0, 1.0), Bounds.create(2.0, 3.0));
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheMaximumSizeIsNotPositive() {
+    new SolutionPool<DoubleSolution>(0);
+  }
+
+  @Test
+  public void shouldCopyOfCreateANewSolutionIfThePoolIsEmpty() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution solution = new DefaultDoubleSolution(2, 1, bounds);
+
+    DoubleSolution copy = pool.copyOf(solution);
+
+    assertNotSame(solution, copy);
+    assertEquals(solution, copy);
+    assertEquals(1, pool.getNumberOfAllocatedSolutions());
+    assertEquals(0, pool.getNumberOfReusedSolutions());
+  }
+
+  @Test
+  public void shouldCopyOfReuseARecycledSolution() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution solution = new DefaultDoubleSolution(2, 1, bounds);
+    solution.setObjective(0, 1.5);
+    solution.setConstraint(0, -2.0);
+    solution.setAttribute("attribute", "value");
+    DoubleSolution recycledSolution = new DefaultDoubleSolution(2, 1, bounds);
+    recycledSolution.setAttribute("other attribute", 1);
+    pool.recycle(recycledSolution);
+
+    DoubleSolution copy = pool.copyOf(solution);
+
+    assertSame(recycledSolution, copy);
+    assertEquals(solution.getVariables(), copy.getVariables());
+    assertArrayEquals(solution.getObjectives(), copy.getObjectives(), 0.0);
+    assertArrayEquals(solution.getConstraints(), copy.getConstraints(), 0.0);
+    assertEquals("value", copy.getAttribute("attribute"));
+    assertFalse(copy.hasAttribute("other attribute"));
+    assertEquals(0, pool.size());
+    assertEquals(1, pool.getNumberOfReusedSolutions());
+  }
+
+  @Test
+  public void shouldCopyOfWorkWithArrayDoubleSolutions() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution solution = new ArrayDoubleSolution(2, 0, bounds);
+    DoubleSolution recycledSolution = new ArrayDoubleSolution(2, 0, bounds);
+    pool.recycle(recycledSolution);
+
+    DoubleSolution copy = pool.copyOf(solution);
+
+    assertSame(recycledSolution, copy);
+    assertArrayEquals(solution.getDoubleVariables(), copy.getDoubleVariables(), 0.0);
+  }
+
+  @Test
+  public void shouldCopyOfCopyTheBitsOfBinarySolutionsWithoutSharingThem() {
+    SolutionPool<BinarySolution> pool = new SolutionPool<>();
+    BinarySolution solution = new DefaultBinarySolution(Arrays.asList(10, 70), 2);
+    BinarySolution recycledSolution = new DefaultBinarySolution(Arrays.asList(10, 70), 2);
+    pool.recycle(recycledSolution);
+
+    BinarySolution copy = pool.copyOf(solution);
+    assertSame(recycledSolution, copy);
+    assertEquals(solution.getVariables(), copy.getVariables());
+
+    copy.getVariable(1).flip(3);
+    assertNotEquals(solution.getVariable(1), copy.getVariable(1));
+  }
+
+  @Test
+  public void shouldCopyOfCreateANewSolutionIfTheRecycledSolutionHasAnotherSize() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution solution = new DefaultDoubleSolution(2, 1, bounds);
+    DoubleSolution recycledSolution = new DefaultDoubleSolution(3, 1, bounds);
+    pool.recycle(recycledSolution);
+
+    DoubleSolution copy = pool.copyOf(solution);
+
+    assertNotSame(recycledSolution, copy);
+    assertEquals(2, copy.getNumberOfObjectives());
+    assertEquals(1, pool.getNumberOfAllocatedSolutions());
+  }
+
+  @Test
+  public void shouldRecycleDiscardedOnlyRecycleTheSolutionsNotInTheNextPopulation() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution a = new DefaultDoubleSolution(2, 0, bounds);
+    DoubleSolution b = new DefaultDoubleSolution(2, 0, bounds);
+    DoubleSolution c = new DefaultDoubleSolution(2, 0, bounds);
+    DoubleSolution d = new DefaultDoubleSolution(2, 0, bounds);
+
+    pool.recycleDiscarded(Arrays.asList(a, b, b), Arrays.asList(c, d), Arrays.asList(a, c));
+
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void shouldRecycleNotExceedTheMaximumSize() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(1);
+    pool.recycle(new DefaultDoubleSolution(2, 0, bounds));
+    pool.recycle(new DefaultDoubleSolution(2, 0, bounds));
+
+    assertEquals(1, pool.size());
+  }
+}
@@ -0,0 +1,91 @@
+package org.uma.jmetal.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DenseMatrixTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private double[][] randomValues(Random random, int rows, int columns) {
+    double[][] values = new double[rows][columns];
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        values[i][j] = random.nextDouble() * 2.0 - 1.0;
+      }
+    }
+    return values;
+  }
+
+  @Test
+  public void shouldTheMatrixStoreTheValuesInRowMajorOrder() {
+    DenseMatrix matrix = new DenseMatrix(new double[][] {{1, 2, 3}, {4, 5, 6}});
+
+    assertEquals(2, matrix.getRows());
+    assertEquals(3, matrix.getColumns());
+    assertArrayEquals(new double[] {1, 2, 3, 4, 5, 6}, matrix.getData(), EPSILON);
+    assertEquals(6, matrix.get(1, 2), EPSILON);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldTheConstructorRaiseAnExceptionIfTheRowsHaveDifferentLengths() {
+    new DenseMatrix(new double[][] {{1, 2, 3}, {4, 5}});
+  }
+
+  @Test
+  public void shouldMultiplyReturnTheSameValuesAsTheNaiveProduct() {
+    Random random = new Random(1);
+    int[][] dimensions = {{1, 1, 1}, {4, 4, 256}, {19, 19, 256}, {70, 130, 65}};
+    for (int[] dimension : dimensions) {
+      double[][] a = randomValues(random, dimension[0], dimension[1]);
+      double[][] b = randomValues(random, dimension[1], dimension[2]);
+      DenseMatrix result = new DenseMatrix(dimension[0], dimension[2]);
+      result.fill(1.0);
+
+      DenseMatrix.multiply(new DenseMatrix(a), new DenseMatrix(b), result);
+
+      for (int i = 0; i < dimension[0]; i++) {
+        for (int j = 0; j < dimension[2]; j++) {
+          double expected = 0.0;
+          for (int k = 0; k < dimension[1]; k++) {
+            expected += a[i][k] * b[k][j];
+          }
+          assertEquals(expected, result.get(i, j), 0.0);
+        }
+      }
+    }
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldMultiplyRaiseAnExceptionIfTheResultIsAnOperand() {
+    DenseMatrix matrix = new DenseMatrix(2, 2);
+
+    DenseMatrix.multiply(matrix, new DenseMatrix(2, 2), matrix);
+  }
+
+  @Test
+  public void shouldTheRowStatisticsBeComputedCorrectly() {
+    DenseMatrix matrix = new DenseMatrix(new double[][] {{1, 2, 3, 4}, {2, 2, 2, 2}});
+
+    assertEquals(2.5, matrix.rowMean(0), EPSILON);
+    assertEquals(Math.sqrt(5.0 / 3.0), matrix.rowStandardDeviation(0, 2.5), EPSILON);
+    assertEquals(0.0, matrix.rowStandardDeviation(1, matrix.rowMean(1)), EPSILON);
+  }
+
+  @Test
+  public void shouldTheInPlaceOperationsModifyTheMatrix() {
+    DenseMatrix matrix = new DenseMatrix(2, 3);
+    matrix.copyFrom(new double[] {0, 1, 2, 3, 4, 5, 6}, 1);
+    DenseMatrix other = new DenseMatrix(new double[][] {{1, 1, 1}, {1, 1, 1}});
+
+    assertEquals(1 + 4 + 9 + 16 + 25, matrix.squaredDistance(other), EPSILON);
+    assertEquals(1 + 2 + 3, matrix.rowDotProduct(0, other, 1), EPSILON);
+
+    matrix.subtractFirstColumn();
+
+    assertArrayEquals(new double[] {0, 1, 2, 0, 1, 2}, matrix.getData(), EPSILON);
+  }
+}
@@ -0,0 +1,188 @@
+package org.uma.jmetal.util;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PopulationMatrixTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private List<DoubleSolution> createPopulation(int size, int numberOfObjectives, int numberOfConstraints) {
+    DoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, numberOfConstraints);
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // Rounded values to have repeated values and dominated solutions
+        solution.setObjective(j, JMetalRandom.getInstance().nextInt(0, 10) / 10.0);
+      }
+      for (int j = 0; j < numberOfConstraints; j++) {
+        solution.setConstraint(j, JMetalRandom.getInstance().nextInt(-2, 1));
+      }
+      population.add(solution);
+    }
+    return population;
+  }
+
+  @Test
+  public void shouldTheMatrixContainTheObjectivesInColumnMajorOrder() {
+    List<DoubleSolution> population = createPopulation(4, 3, 2);
+    PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+
+    assertEquals(4, matrix.size());
+    assertEquals(3, matrix.getNumberOfObjectives());
+    assertEquals(2, matrix.getNumberOfConstraints());
+    for (int i = 0; i < population.size(); i++) {
+      for (int j = 0; j < 3; j++) {
+        assertEquals(population.get(i).getObjective(j), matrix.getObjectiveValues()[j * 4 + i], EPSILON);
+      }
+      assertArrayEquals(population.get(i).getObjectives(), matrix.getObjectiveRow(i), EPSILON);
+      assertEquals(
+          ConstraintHandling.overallConstraintViolationDegree(population.get(i)),
+          matrix.getOverallConstraintViolation(i),
+          EPSILON);
+    }
+  }
+
+  @Test
+  public void shouldUpdateSynchronizeTheMatrixWithTheSolutionList() {
+    List<DoubleSolution> population = createPopulation(4, 2, 0);
+    PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+
+    population.get(2).setObjective(1, 25.0);
+    matrix.update(2);
+    assertEquals(25.0, matrix.getObjective(2, 1), EPSILON);
+
+    population.addAll(createPopulation(3, 2, 0));
+    matrix.update();
+    assertEquals(7, matrix.size());
+    assertEquals(population.get(6).getObjective(0), matrix.getObjective(6, 0), EPSILON);
+  }
+
+  @Test
+  public void shouldCompareBehaveAsTheDominanceComparator() {
+    List<DoubleSolution> population = createPopulation(40, 3, 2);
+    PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+    DominanceComparator<DoubleSolution> comparator = new DominanceComparator<>();
+
+    for (int i = 0; i < population.size(); i++) {
+      for (int j = 0; j < population.size(); j++) {
+        assertEquals(comparator.compare(population.get(i), population.get(j)), matrix.compare(i, j));
+      }
+    }
+  }
+
+  @Test
+  public void shouldSortByObjectiveBeStable() {
+    List<DoubleSolution> population = createPopulation(50, 2, 0);
+    PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+
+    int[] indices = new int[population.size()];
+    Arrays.setAll(indices, i -> i);
+    matrix.sortByObjective(indices, 1);
+
+    for (int i = 1; i < indices.length; i++) {
+      double previous = matrix.getObjective(indices[i - 1], 1);
+      double current = matrix.getObjective(indices[i], 1);
+      assertTrue(previous <= current);
+      if (previous == current) {
+        assertTrue(indices[i - 1] < indices[i]);
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheRankingComputedOnTheMatrixBeTheSameAsTheOneUsingTheComparator() {
+    List<DoubleSolution> population = createPopulation(100, 3, 1);
+
+    Ranking<DoubleSolution> comparatorRanking =
+        new FastNonDominatedSortRanking<DoubleSolution>(new DominanceComparator<>())
+            .computeRanking(population);
+    Ranking<DoubleSolution> matrixRanking =
+        new FastNonDominatedSortRanking<DoubleSolution>()
+            .computeRanking(new PopulationMatrix<>(population));
+
+    assertEquals(comparatorRanking.getNumberOfSubFronts(), matrixRanking.getNumberOfSubFronts());
+    for (int i = 0; i < comparatorRanking.getNumberOfSubFronts(); i++) {
+      assertEquals(comparatorRanking.getSubFront(i), matrixRanking.getSubFront(i));
+    }
+  }
+
+  @Test
+  public void shouldGetNonDominatedSolutionsReturnTheSameSolutionsAsTheListVersion() {
+    List<DoubleSolution> population = createPopulation(100, 2, 1);
+
+    List<DoubleSolution> expected = SolutionListUtils.getNonDominatedSolutions(population);
+    List<DoubleSolution> obtained =
+        SolutionListUtils.getNonDominatedSolutions(new PopulationMatrix<>(population));
+
+    assertEquals(expected.size(), obtained.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), obtained.get(i));
+    }
+  }
+
+  @Test
+  public void shouldTheIndicatorsComputedOnTheMatrixHaveTheSameValueAsTheOnesComputedOnAFront() {
+    List<DoubleSolution> population = createPopulation(30, 3, 0);
+    Front front = new ArrayFront(population);
+    List<DoubleSolution> referencePopulation = createPopulation(20, 3, 0);
+    Front referenceFront = new ArrayFront(referencePopulation);
+    double[][] referencePoints =
+        referencePopulation.stream().map(DoubleSolution::getObjectives).toArray(double[][]::new);
+    PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+
+    InvertedGenerationalDistance<DoubleSolution> igd = new InvertedGenerationalDistance<>(referenceFront);
+    assertEquals(
+        igd.invertedGenerationalDistance(front, referenceFront),
+        igd.invertedGenerationalDistance(matrix, referencePoints),
+        EPSILON);
+
+    GenerationalDistance<DoubleSolution> gd = new GenerationalDistance<>(referenceFront);
+    assertEquals(
+        gd.generationalDistance(front, referenceFront),
+        gd.generationalDistance(matrix, referencePoints),
+        EPSILON);
+
+    InvertedGenerationalDistancePlus<DoubleSolution> igdPlus =
+        new InvertedGenerationalDistancePlus<>(referenceFront);
+    assertEquals(
+        igdPlus.invertedGenerationalDistancePlus(front, referenceFront),
+        igdPlus.invertedGenerationalDistancePlus(matrix, referencePoints),
+        EPSILON);
+
+    Epsilon<DoubleSolution> epsilon = new Epsilon<>(referenceFront);
+    assertEquals(epsilon.evaluate(population), epsilon.epsilon(matrix, referencePoints), EPSILON);
+
+    WFGHypervolume<DoubleSolution> wfgHypervolume = new WFGHypervolume<>(referenceFront);
+    assertEquals(
+        wfgHypervolume.evaluate(population),
+        wfgHypervolume.hypervolume(matrix),
+        EPSILON);
+
+    PISAHypervolume<DoubleSolution> pisaHypervolume = new PISAHypervolume<>(referenceFront);
+    assertEquals(
+        pisaHypervolume.evaluate(population),
+        pisaHypervolume.hypervolume(matrix),
+        EPSILON);
+  }
+}
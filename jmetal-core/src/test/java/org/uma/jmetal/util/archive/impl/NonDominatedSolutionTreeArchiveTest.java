@@ -0,0 +1,117 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class NonDominatedSolutionTreeArchiveTest {
+  private DoubleSolution createSolution(double... objectives) {
+    DoubleSolution solution = new DummyDoubleProblem(2, objectives.length, 1).createSolution();
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution;
+  }
+
+  @Test
+  public void shouldConstructorCreateAnEmptyArchive() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
+
+    assertEquals(0, archive.size());
+    assertEquals(0, archive.getSolutionList().size());
+  }
+
+  @Test
+  public void shouldAddADominatedSolutionDiscardTheNewSolution() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
+    DoubleSolution solution = createSolution(1.0, 1.0);
+    archive.add(solution);
+
+    assertFalse(archive.add(createSolution(2.0, 2.0)));
+    assertEquals(1, archive.size());
+    assertSame(solution, archive.get(0));
+  }
+
+  @Test
+  public void shouldAddADominantSolutionDiscardTheDominatedSolutions() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
+    archive.add(createSolution(2.0, 1.0));
+    archive.add(createSolution(1.0, 3.0));
+    DoubleSolution solution = createSolution(1.0, 1.0);
+
+    assertTrue(archive.add(solution));
+    assertEquals(1, archive.size());
+    assertSame(solution, archive.get(0));
+  }
+
+  @Test
+  public void shouldAddASolutionEqualToAnExistingOneDiscardTheNewSolution() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
+    archive.add(createSolution(1.0, 2.0));
+
+    assertFalse(archive.add(createSolution(1.0, 2.0)));
+    assertEquals(1, archive.size());
+  }
+
+  @Test
+  public void shouldAddAFeasibleSolutionDiscardTheUnfeasibleSolutions() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
+    DoubleSolution unfeasibleSolution = createSolution(1.0, 1.0);
+    unfeasibleSolution.setConstraint(0, -1.0);
+    archive.add(unfeasibleSolution);
+    DoubleSolution feasibleSolution = createSolution(2.0, 2.0);
+
+    assertTrue(archive.add(feasibleSolution));
+    assertFalse(archive.add(unfeasibleSolution));
+    assertEquals(1, archive.size());
+    assertSame(feasibleSolution, archive.get(0));
+  }
+
+  @Test
+  public void shouldRemoveASolutionFromTheListUpdateTheArchive() {
+    NonDominatedSolutionTreeArchive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>(2);
+    for (int i = 0; i < 10; i++) {
+      archive.add(createSolution(i, 10 - i));
+    }
+    DoubleSolution removedSolution = archive.getSolutionList().remove(3);
+
+    assertEquals(9, archive.size());
+    assertFalse(archive.getSolutionList().contains(removedSolution));
+    assertTrue(archive.add(removedSolution));
+    assertSame(removedSolution, archive.get(9));
+  }
+
+  @Test
+  public void shouldTheArchiveContainTheSameSolutionsThanANonDominatedSolutionListArchive() {
+    Random random = new Random(1);
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      List<DoubleSolution> solutions = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        double[] objectives = new double[numberOfObjectives];
+        for (int j = 0; j < numberOfObjectives; j++) {
+          objectives[j] = random.nextInt(20);
+        }
+        solutions.add(createSolution(objectives));
+      }
+
+      NonDominatedSolutionListArchive<DoubleSolution> listArchive =
+          new NonDominatedSolutionListArchive<>();
+      NonDominatedSolutionTreeArchive<DoubleSolution> treeArchive =
+          new NonDominatedSolutionTreeArchive<>(4);
+      for (DoubleSolution solution : solutions) {
+        assertEquals(listArchive.add(solution), treeArchive.add(solution));
+      }
+
+      assertEquals(listArchive.getSolutionList(), treeArchive.getSolutionList());
+    }
+  }
+}
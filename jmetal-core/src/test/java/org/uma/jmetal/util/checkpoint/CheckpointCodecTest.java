@@ -0,0 +1,135 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.binaryproblem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttributeKey;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CheckpointCodecTest {
+  private static final DoubleAttributeKey KEY = DoubleAttributeKey.of("CheckpointCodecTest.key");
+
+  @Test
+  public void shouldDecodeReturnTheEncodedDoubleSolutions() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(5, 2, 1);
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      DoubleSolution solution = problem.createSolution();
+      solution.setObjective(0, i);
+      solution.setObjective(1, -i);
+      solution.setConstraint(0, 0.5 * i);
+      solution.setDoubleAttribute(KEY, 2.0 * i);
+      solution.setAttribute("rank", i % 3);
+      solution.setAttribute(CheckpointCodecTest.class, i % 2 == 0);
+      solution.setAttribute("notStored", new ArrayList<>());
+      population.add(solution);
+    }
+
+    Checkpoint<DoubleSolution> checkpoint = new Checkpoint<>(population, null);
+    checkpoint.getState().put("EVALUATIONS", 1000L);
+    checkpoint.setArchive(population.subList(0, 3));
+
+    Checkpoint<DoubleSolution> decoded =
+        CheckpointCodec.decode(CheckpointCodec.encode(checkpoint), problem);
+
+    assertEquals(Long.valueOf(1000), decoded.getState().get("EVALUATIONS"));
+    assertNull(decoded.getRandomGenerator());
+    assertEquals(10, decoded.getPopulation().size());
+    assertEquals(3, decoded.getArchive().size());
+    for (int i = 0; i < 10; i++) {
+      DoubleSolution solution = population.get(i);
+      DoubleSolution decodedSolution = decoded.getPopulation().get(i);
+      assertEquals(solution.getVariables(), decodedSolution.getVariables());
+      assertArrayEquals(solution.getObjectives(), decodedSolution.getObjectives(), 0.0);
+      assertArrayEquals(solution.getConstraints(), decodedSolution.getConstraints(), 0.0);
+      assertEquals(2.0 * i, decodedSolution.getDoubleAttribute(KEY), 0.0);
+      assertEquals(i % 3, decodedSolution.getAttribute("rank"));
+      assertEquals(i % 2 == 0, decodedSolution.getAttribute(CheckpointCodecTest.class));
+      assertFalse(decodedSolution.hasAttribute("notStored"));
+    }
+  }
+
+  @Test
+  public void shouldDecodeReturnTheEncodedBinarySolutions() {
+    BinaryProblem problem = new BinaryProblem();
+    List<BinarySolution> population = Arrays.asList(problem.createSolution(), problem.createSolution());
+
+    Checkpoint<BinarySolution> decoded =
+        CheckpointCodec.decode(
+            CheckpointCodec.encode(new Checkpoint<>(population, null)), problem);
+
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i).getVariables(), decoded.getPopulation().get(i).getVariables());
+      assertEquals(
+          70, decoded.getPopulation().get(i).getVariable(1).getBinarySetLength());
+    }
+    assertNull(decoded.getArchive());
+  }
+
+  @Test
+  public void shouldTheDecodedRandomGeneratorContinueTheSequence() {
+    JavaRandomGenerator randomGenerator = new JavaRandomGenerator(1);
+    randomGenerator.nextDouble();
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+
+    Checkpoint<DoubleSolution> decoded =
+        CheckpointCodec.decode(
+            CheckpointCodec.encode(new Checkpoint<>(new ArrayList<>(), randomGenerator)), problem);
+
+    for (int i = 0; i < 10; i++) {
+      assertEquals(randomGenerator.nextDouble(), decoded.getRandomGenerator().nextDouble(), 0.0);
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldDecodeFailIfTheDataAreCorrupted() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    byte[] bytes =
+        CheckpointCodec.encode(
+            new Checkpoint<>(Arrays.asList(problem.createSolution()), null));
+    bytes[bytes.length / 2] ^= 1;
+
+    CheckpointCodec.decode(bytes, problem);
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldDecodeFailIfTheSolutionsDoNotMatchTheProblem() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    byte[] bytes =
+        CheckpointCodec.encode(
+            new Checkpoint<>(Arrays.asList(problem.createSolution()), null));
+
+    CheckpointCodec.decode(bytes, new DummyDoubleProblem(3, 2, 0));
+  }
+
+  @SuppressWarnings("serial")
+  private static class BinaryProblem extends AbstractBinaryProblem {
+    BinaryProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+    }
+
+    @Override
+    public List<Integer> getListOfBitsPerVariable() {
+      return Arrays.asList(10, 70);
+    }
+
+    @Override
+    public BinarySolution createSolution() {
+      return new DefaultBinarySolution(getListOfBitsPerVariable(), getNumberOfObjectives());
+    }
+
+    @Override
+    public void evaluate(BinarySolution solution) {}
+  }
+}
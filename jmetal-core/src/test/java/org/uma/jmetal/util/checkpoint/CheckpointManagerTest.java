@@ -0,0 +1,124 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class CheckpointManagerTest {
+  private Path directory;
+  private DummyDoubleProblem problem;
+
+  @Before
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("CheckpointManagerTest");
+    problem = new DummyDoubleProblem(3, 2, 0);
+  }
+
+  @After
+  public void cleanup() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  private Checkpoint<DoubleSolution> checkpoint(long evaluations) {
+    Checkpoint<DoubleSolution> checkpoint =
+        new Checkpoint<>(Arrays.asList(problem.createSolution()), null);
+    checkpoint.getState().put("EVALUATIONS", evaluations);
+
+    return checkpoint;
+  }
+
+  private List<String> files() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+    }
+  }
+
+  @Test
+  public void shouldLoadLatestReturnNullIfThereAreNoCheckpoints() {
+    CheckpointManager<DoubleSolution> manager =
+        new CheckpointManager<>(directory.toString(), problem, 1000);
+
+    assertNull(manager.loadLatest());
+    manager.close();
+  }
+
+  @Test
+  public void shouldLoadLatestReturnTheLastCheckpointSaved() throws IOException {
+    CheckpointManager<DoubleSolution> manager =
+        new CheckpointManager<>(directory.toString(), problem, 0);
+    for (long evaluations = 100; evaluations <= 500; evaluations += 100) {
+      manager.save(checkpoint(evaluations));
+    }
+    manager.close();
+
+    assertEquals(CheckpointManager.DEFAULT_NUMBER_OF_CHECKPOINTS_KEPT, files().size());
+
+    CheckpointManager<DoubleSolution> newManager =
+        new CheckpointManager<>(directory.toString(), problem, 0);
+    assertEquals(Long.valueOf(500), newManager.loadLatest().getState().get("EVALUATIONS"));
+
+    newManager.save(checkpoint(600));
+    newManager.flush();
+    assertEquals(
+        "checkpoint-0000000000000000005.bin", files().get(files().size() - 1));
+    newManager.close();
+  }
+
+  @Test
+  public void shouldLoadLatestSkipTheInvalidCheckpoints() throws IOException {
+    CheckpointManager<DoubleSolution> manager =
+        new CheckpointManager<>(directory.toString(), problem, 0);
+    manager.save(checkpoint(100));
+    manager.save(checkpoint(200));
+    manager.flush();
+
+    List<String> files = new ArrayList<>(files());
+    Path latest = directory.resolve(files.get(files.size() - 1));
+    byte[] bytes = Files.readAllBytes(latest);
+    Files.write(latest, Arrays.copyOf(bytes, bytes.length / 2));
+
+    assertEquals(Long.valueOf(100), manager.loadLatest().getState().get("EVALUATIONS"));
+    manager.close();
+  }
+
+  @Test
+  public void shouldIsDueDependOnThePeriod() {
+    CheckpointManager<DoubleSolution> manager =
+        new CheckpointManager<>(directory.toString(), problem, 1000000);
+    assertFalse(manager.isDue());
+    manager.close();
+
+    manager = new CheckpointManager<>(directory.toString(), problem, 0);
+    assertTrue(manager.isDue());
+    manager.close();
+  }
+
+  @Test
+  public void shouldDeleteCheckpointsRemoveAllTheCheckpoints() throws IOException {
+    CheckpointManager<DoubleSolution> manager =
+        new CheckpointManager<>(directory.toString(), problem, 0);
+    manager.save(checkpoint(100));
+    manager.deleteCheckpoints();
+
+    assertTrue(files().isEmpty());
+    assertNull(manager.loadLatest());
+    manager.close();
+  }
+}
@@ -0,0 +1,111 @@
+package org.uma.jmetal.util.densityestimator;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.densityestimator.impl.IncrementalKnnDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class IncrementalKnnDensityEstimatorTest {
+  private List<DoubleSolution> randomSolutions(Random random, int numberOfSolutions) {
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution =
+          new DefaultDoubleSolution(Arrays.asList(new ImmutablePair<>(0.0, 1.0)), 2);
+      solution.setObjective(0, random.nextInt(10) / 10.0);
+      solution.setObjective(1, random.nextInt(10) / 10.0);
+      solutionList.add(solution);
+    }
+
+    return solutionList;
+  }
+
+  private void assertSameDensities(
+      List<DoubleSolution> solutionList,
+      DensityEstimator<DoubleSolution> expected,
+      DensityEstimator<DoubleSolution> actual) {
+    for (DoubleSolution solution : solutionList) {
+      assertEquals(
+          (double) solution.getAttribute(expected.getAttributeId()),
+          (double) solution.getAttribute(actual.getAttributeId()),
+          0.0);
+    }
+  }
+
+  @Test
+  public void shouldComputeDensityEstimatorReturnTheSameValuesAsTheKnnDensityEstimator() {
+    Random random = new Random(1);
+    for (int k = 1; k <= 3; k++) {
+      List<DoubleSolution> solutionList = randomSolutions(random, 50);
+      KnnDensityEstimator<DoubleSolution> knn = new KnnDensityEstimator<>(k);
+      IncrementalKnnDensityEstimator<DoubleSolution> incrementalKnn =
+          new IncrementalKnnDensityEstimator<>(k);
+
+      knn.computeDensityEstimator(solutionList);
+      incrementalKnn.computeDensityEstimator(solutionList);
+
+      assertSameDensities(solutionList, knn, incrementalKnn);
+    }
+  }
+
+  @Test
+  public void shouldTheSpatialIndexReturnTheSameValuesAsTheKnnDensityEstimator() {
+    List<DoubleSolution> solutionList = randomSolutions(new Random(1), 100);
+    KnnDensityEstimator<DoubleSolution> knn = new KnnDensityEstimator<>(2);
+    IncrementalKnnDensityEstimator<DoubleSolution> incrementalKnn =
+        new IncrementalKnnDensityEstimator<>(2, false, 10);
+
+    knn.computeDensityEstimator(solutionList);
+    incrementalKnn.computeDensityEstimator(solutionList);
+
+    assertSameDensities(solutionList, knn, incrementalKnn);
+  }
+
+  @Test
+  public void shouldTheSequentialTruncationReturnTheSameSolutionsAsTheKnnDensityEstimator() {
+    List<DoubleSolution> solutionList = randomSolutions(new Random(1), 60);
+    KnnDensityEstimator<DoubleSolution> knn = new KnnDensityEstimator<>(1);
+    IncrementalKnnDensityEstimator<DoubleSolution> incrementalKnn =
+        new IncrementalKnnDensityEstimator<>(1);
+
+    List<DoubleSolution> expected = new ArrayList<>(solutionList);
+    List<DoubleSolution> actual = new ArrayList<>(solutionList);
+    knn.computeDensityEstimator(expected);
+    incrementalKnn.computeDensityEstimator(actual);
+    while (expected.size() > 20) {
+      knn.sort(expected);
+      incrementalKnn.sort(actual);
+      assertEquals(expected, actual);
+
+      expected.remove(expected.size() - 1);
+      actual.remove(actual.size() - 1);
+      knn.computeDensityEstimator(expected);
+      incrementalKnn.computeDensityEstimator(actual);
+      assertSameDensities(actual, knn, incrementalKnn);
+    }
+  }
+
+  @Test
+  public void shouldComputeDensityEstimatorTakeIntoAccountTheChangesOfTheObjectives() {
+    List<DoubleSolution> solutionList = randomSolutions(new Random(1), 20);
+    KnnDensityEstimator<DoubleSolution> knn = new KnnDensityEstimator<>(1);
+    IncrementalKnnDensityEstimator<DoubleSolution> incrementalKnn =
+        new IncrementalKnnDensityEstimator<>(1);
+    incrementalKnn.computeDensityEstimator(solutionList);
+
+    solutionList.get(0).setObjective(0, 5.0);
+    List<DoubleSolution> subList = new ArrayList<>(solutionList.subList(0, 10));
+    knn.computeDensityEstimator(subList);
+    incrementalKnn.computeDensityEstimator(subList);
+
+    assertSameDensities(subList, knn, incrementalKnn);
+  }
+}
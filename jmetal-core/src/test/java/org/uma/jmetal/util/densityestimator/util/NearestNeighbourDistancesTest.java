@@ -0,0 +1,136 @@
+package org.uma.jmetal.util.densityestimator.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class NearestNeighbourDistancesTest {
+  private static final double EPSILON = 0.0000000001;
+
+  /*
+       5 0
+       4   1
+       3     2
+       2
+       1         3
+       0 1 2 3 4 5
+  */
+  private double[][] points = {{1.0, 5.0}, {2.0, 4.0}, {3.0, 3.0}, {5.0, 1.0}};
+
+  @Test
+  public void shouldGetKthNearestDistanceReturnTheRightValues() {
+    NearestNeighbourDistances distances = new NearestNeighbourDistances(points, null);
+
+    assertEquals(4, distances.getNumberOfPoints());
+    assertEquals(Math.sqrt(2), distances.getKthNearestDistance(0, 1), EPSILON);
+    assertEquals(Math.sqrt(8), distances.getKthNearestDistance(0, 2), EPSILON);
+    assertEquals(Math.sqrt(8), distances.getKthNearestDistance(3, 1), EPSILON);
+    assertEquals(Math.sqrt(32), distances.getKthNearestDistance(3, 3), EPSILON);
+  }
+
+  @Test
+  public void shouldRemoveUpdateTheDistancesOfTheRemainingPoints() {
+    NearestNeighbourDistances distances = new NearestNeighbourDistances(points, null);
+
+    distances.remove(1);
+
+    assertEquals(3, distances.getNumberOfPoints());
+    assertTrue(distances.isRemoved(1));
+    assertEquals(Math.sqrt(8), distances.getKthNearestDistance(0, 1), EPSILON);
+    assertEquals(Math.sqrt(8), distances.getKthNearestDistance(2, 1), EPSILON);
+    assertEquals(Math.sqrt(8), distances.getKthNearestDistance(2, 2), EPSILON);
+  }
+
+  @Test
+  public void shouldGetMostCrowdedPointBreakTheTiesWithTheSecondNearestDistance() {
+    NearestNeighbourDistances distances = new NearestNeighbourDistances(points, null);
+
+    assertEquals(1, distances.getMostCrowdedPoint());
+
+    distances.remove(1);
+
+    assertEquals(2, distances.getMostCrowdedPoint());
+  }
+
+  @Test
+  public void shouldResetComputeTheDistancesOfTheNewPoints() {
+    NearestNeighbourDistances distances = new NearestNeighbourDistances(points, null);
+    distances.remove(0);
+
+    distances.reset(new double[][] {{0.0, 0.0}, {3.0, 4.0}, {0.0, 1.0}});
+
+    assertEquals(3, distances.getNumberOfPoints());
+    assertFalse(distances.isRemoved(0));
+    assertEquals(1.0, distances.getKthNearestDistance(0, 1), EPSILON);
+    assertEquals(Math.sqrt(18), distances.getKthNearestDistance(1, 1), EPSILON);
+    assertTrue(distances.compareDistances(0, 2, 2) > 0);
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldGetKthNearestDistanceRaiseAnExceptionIfThePointHasBeenRemoved() {
+    NearestNeighbourDistances distances = new NearestNeighbourDistances(points, null);
+    distances.remove(2);
+
+    distances.getKthNearestDistance(2, 1);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldGetKthNearestDistanceRaiseAnExceptionIfKIsTooHigh() {
+    new NearestNeighbourDistances(points, null).getKthNearestDistance(0, 4);
+  }
+
+  @Test
+  public void shouldTheDistancesNotDependOnTheForkJoinPool() {
+    Random random = new Random(1);
+    double[][] randomPoints = new double[200][3];
+    for (double[] point : randomPoints) {
+      for (int j = 0; j < point.length; j++) {
+        point[j] = random.nextInt(10);
+      }
+    }
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    NearestNeighbourDistances sequential = new NearestNeighbourDistances(randomPoints, null);
+    NearestNeighbourDistances parallel = new NearestNeighbourDistances(randomPoints, pool);
+    while (sequential.getNumberOfPoints() > 10) {
+      int point = sequential.getMostCrowdedPoint();
+      assertEquals(point, parallel.getMostCrowdedPoint());
+      sequential.remove(point);
+      parallel.remove(point);
+    }
+    pool.shutdown();
+
+    for (int i = 0; i < randomPoints.length; i++) {
+      assertEquals(sequential.isRemoved(i), parallel.isRemoved(i));
+    }
+  }
+
+  @Test
+  public void shouldComputeKthNearestDistancesReturnTheValuesOfTheSortedDistances() {
+    Random random = new Random(1);
+    double[][] randomPoints = new double[50][2];
+    for (double[] point : randomPoints) {
+      point[0] = random.nextInt(5);
+      point[1] = random.nextInt(5);
+    }
+
+    for (int k = 1; k < randomPoints.length; k++) {
+      double[] kthNearestDistances =
+          NearestNeighbourDistances.computeKthNearestDistances(randomPoints, k, null);
+      for (int i = 0; i < randomPoints.length; i++) {
+        double[] row = new double[randomPoints.length];
+        for (int j = 0; j < randomPoints.length; j++) {
+          row[j] = NearestNeighbourDistances.distance(randomPoints[i], randomPoints[j]);
+        }
+        Arrays.sort(row);
+        assertEquals(row[k], kthNearestDistances[i], 0.0);
+      }
+    }
+  }
+}
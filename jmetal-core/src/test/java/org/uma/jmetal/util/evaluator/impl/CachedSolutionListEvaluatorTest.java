@@ -0,0 +1,148 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.binaryproblem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+import org.uma.jmetal.util.checking.exception.NullParameterException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CachedSolutionListEvaluatorTest {
+
+  /** Problem with two binary variables which counts its evaluations */
+  @SuppressWarnings("serial")
+  private static class CountingProblem extends AbstractBinaryProblem {
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    CountingProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setName("CountingProblem");
+    }
+
+    @Override
+    public List<Integer> getListOfBitsPerVariable() {
+      return Arrays.asList(10, 70);
+    }
+
+    @Override
+    public void evaluate(BinarySolution solution) {
+      evaluations.incrementAndGet();
+      solution.setObjective(0, solution.getVariable(0).cardinality());
+      solution.setObjective(1, -solution.getVariable(1).cardinality());
+    }
+  }
+
+  private BinarySolution createSolution(CountingProblem problem, int... bits) {
+    BinarySolution solution = problem.createSolution();
+    solution.getVariable(0).clear();
+    solution.getVariable(1).clear();
+    for (int bit : bits) {
+      if (bit < 10) {
+        solution.getVariable(0).set(bit);
+      } else {
+        solution.getVariable(1).set(bit - 10);
+      }
+    }
+    return solution;
+  }
+
+  @Test(expected = NullParameterException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheEvaluatorIsNull() {
+    new CachedSolutionListEvaluator<BinarySolution>(null);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheCacheSizeIsNotPositive() {
+    new CachedSolutionListEvaluator<BinarySolution>(new SequentialSolutionListEvaluator<>(), 0);
+  }
+
+  @Test
+  public void shouldEvaluateReuseTheEvaluationOfDuplicatedSolutions() {
+    CountingProblem problem = new CountingProblem();
+    CachedSolutionListEvaluator<BinarySolution> evaluator =
+        new CachedSolutionListEvaluator<>(new SequentialSolutionListEvaluator<>());
+
+    List<BinarySolution> solutions =
+        Arrays.asList(
+            createSolution(problem, 1, 2, 75),
+            createSolution(problem, 1, 2, 75),
+            createSolution(problem, 3, 20));
+    evaluator.evaluate(solutions, problem);
+
+    assertEquals(2, problem.evaluations.get());
+    assertEquals(2.0, solutions.get(1).getObjective(0), 0.0);
+    assertEquals(-1.0, solutions.get(1).getObjective(1), 0.0);
+
+    BinarySolution solution = createSolution(problem, 3, 20);
+    evaluator.evaluate(new ArrayList<>(Arrays.asList(solution)), problem);
+
+    assertEquals(2, problem.evaluations.get());
+    assertEquals(1.0, solution.getObjective(0), 0.0);
+    assertEquals(-1.0, solution.getObjective(1), 0.0);
+    assertEquals(2, evaluator.getNumberOfHits());
+    assertEquals(2, evaluator.getNumberOfMisses());
+    assertEquals(0.5, evaluator.getHitRate(), 0.0);
+  }
+
+  @Test
+  public void shouldEvaluateDistinguishTheBitsOfDifferentVariables() {
+    CountingProblem problem = new CountingProblem();
+    CachedSolutionListEvaluator<BinarySolution> evaluator =
+        new CachedSolutionListEvaluator<>(new SequentialSolutionListEvaluator<>());
+
+    evaluator.evaluate(
+        Arrays.asList(createSolution(problem, 9), createSolution(problem, 10)), problem);
+
+    assertEquals(2, problem.evaluations.get());
+  }
+
+  @Test
+  public void shouldEvaluateDiscardTheLeastRecentlyUsedEntryWhenTheCacheIsFull() {
+    CountingProblem problem = new CountingProblem();
+    CachedSolutionListEvaluator<BinarySolution> evaluator =
+        new CachedSolutionListEvaluator<>(new SequentialSolutionListEvaluator<>(), 2);
+
+    evaluator.evaluate(Arrays.asList(createSolution(problem, 1)), problem);
+    evaluator.evaluate(Arrays.asList(createSolution(problem, 2)), problem);
+    evaluator.evaluate(Arrays.asList(createSolution(problem, 1)), problem);
+    evaluator.evaluate(Arrays.asList(createSolution(problem, 3)), problem);
+    assertEquals(3, problem.evaluations.get());
+    assertEquals(2, evaluator.getCacheSize());
+
+    evaluator.evaluate(Arrays.asList(createSolution(problem, 1)), problem);
+    assertEquals(3, problem.evaluations.get());
+
+    evaluator.evaluate(Arrays.asList(createSolution(problem, 2)), problem);
+    assertEquals(4, problem.evaluations.get());
+  }
+
+  @Test
+  public void shouldEvaluateWorkWithAMultithreadedEvaluator() {
+    CountingProblem problem = new CountingProblem();
+    CachedSolutionListEvaluator<BinarySolution> evaluator =
+        new CachedSolutionListEvaluator<>(new MultithreadedSolutionListEvaluator<>(4));
+
+    List<BinarySolution> solutions = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      solutions.add(createSolution(problem, i % 10, 10 + i % 7));
+    }
+    evaluator.evaluate(solutions, problem);
+    evaluator.shutdown();
+
+    assertEquals(70, problem.evaluations.get());
+    for (BinarySolution solution : solutions) {
+      assertEquals(solution.getVariable(0).cardinality(), solution.getObjective(0), 0.0);
+      assertEquals(-solution.getVariable(1).cardinality(), solution.getObjective(1), 0.0);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package org.uma.jmetal.util.front.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.util.BinaryFrontUtils;
+import org.uma.jmetal.util.point.util.comparator.PointDimensionComparator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class MappedBinaryFrontTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private MappedBinaryFront createFront(double[][] points) throws IOException {
+    String fileName = temporaryFolder.newFile("front.bin").getPath();
+    BinaryFrontUtils.write(points, fileName);
+
+    return new MappedBinaryFront(fileName);
+  }
+
+  @Test
+  public void shouldSortChangeTheOrderOfThePoints() throws IOException {
+    MappedBinaryFront front = createFront(new double[][] {{3.0, 0.0}, {1.0, 2.0}, {2.0, 1.0}});
+
+    front.sort(new PointDimensionComparator(0));
+
+    assertArrayEquals(new double[] {1.0, 2.0}, front.getPoint(0).getValues(), 0.0);
+    assertArrayEquals(new double[] {2.0, 1.0}, front.getPoint(1).getValues(), 0.0);
+    assertEquals(0.0, front.getValue(2, 1), 0.0);
+  }
+
+  @Test
+  public void shouldAnEmptyFrontBeMapped() throws IOException {
+    MappedBinaryFront front = createFront(new double[0][]);
+
+    assertEquals(0, front.getNumberOfPoints());
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetPointRaiseAnException() throws IOException {
+    MappedBinaryFront front = createFront(new double[][] {{1.0, 2.0}});
+
+    front.setPoint(0, front.getPoint(0));
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldGetPointRaiseAnExceptionIfTheIndexIsTooLarge() throws IOException {
+    createFront(new double[][] {{1.0, 2.0}}).getPoint(1);
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheFileIsNotABinaryFront() throws IOException {
+    File file = temporaryFolder.newFile("front.csv");
+    try (PrintWriter writer = new PrintWriter(file)) {
+      for (int i = 0; i < 10; i++) {
+        writer.println("1.0,2.0");
+      }
+    }
+
+    new MappedBinaryFront(file.getPath());
+  }
+}
@@ -0,0 +1,109 @@
+package org.uma.jmetal.util.front.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.fileinput.VectorFileUtils;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.front.impl.MappedBinaryFront;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BinaryFrontUtilsTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final double[][] points = {{1.0, 2.0, 3.0}, {-4.5, 0.25, 1e-300}, {7.0, 8.0, 9.0}};
+
+  @Test
+  public void shouldTheWrittenPointsBeReadFromTheMappedFront() throws IOException {
+    String fileName = temporaryFolder.newFile("front.bin").getPath();
+
+    BinaryFrontUtils.write(points, fileName);
+    MappedBinaryFront front = new MappedBinaryFront(fileName);
+
+    assertEquals(3, front.getNumberOfPoints());
+    assertEquals(3, front.getPointDimensions());
+    assertArrayEquals(points, front.getMatrix());
+    assertEquals(1e-300, front.getPoint(1).getValue(2), 0.0);
+  }
+
+  @Test
+  public void shouldTheFileBeStoredByColumnsAfterTheHeader() throws IOException {
+    File file = temporaryFolder.newFile("front.bin");
+
+    BinaryFrontUtils.write(points, file.getPath());
+
+    assertEquals(BinaryFrontUtils.HEADER_SIZE + 9 * Double.BYTES, file.length());
+    assertTrue(BinaryFrontUtils.isBinaryFrontFile(file.getPath()));
+  }
+
+  @Test
+  public void shouldIsBinaryFrontFileReturnFalseWithATextFile() throws IOException {
+    File file = temporaryFolder.newFile("front.csv");
+    try (PrintWriter writer = new PrintWriter(file)) {
+      writer.println("1.0,2.0");
+    }
+
+    assertFalse(BinaryFrontUtils.isBinaryFrontFile(file.getPath()));
+  }
+
+  @Test
+  public void shouldTheConversionsKeepTheValues() throws IOException {
+    File textFile = temporaryFolder.newFile("front.csv");
+    try (PrintWriter writer = new PrintWriter(textFile)) {
+      for (double[] point : points) {
+        writer.println(point[0] + "," + point[1] + "," + point[2]);
+      }
+    }
+    String binaryFileName = temporaryFolder.newFile("front.bin").getPath();
+    String tsvFileName = temporaryFolder.newFile("front.tsv").getPath();
+
+    BinaryFrontUtils.convertTextFileToBinaryFile(textFile.getPath(), ",", binaryFileName);
+    BinaryFrontUtils.convertBinaryFileToTextFile(binaryFileName, tsvFileName, "\t");
+
+    assertArrayEquals(points, new MappedBinaryFront(binaryFileName).getMatrix());
+    assertArrayEquals(points, VectorFileUtils.readVectors(tsvFileName));
+    assertArrayEquals(points, VectorFileUtils.readVectors(binaryFileName));
+  }
+
+  @Test
+  public void shouldTheSolutionListOutputWriteTheObjectivesAndVariables() throws IOException {
+    DoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    for (double[] point : points) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < point.length; j++) {
+        solution.setObjective(j, point[j]);
+      }
+      solutionList.add(solution);
+    }
+    String funFileName = temporaryFolder.newFile("FUN.bin").getPath();
+    String varFileName = temporaryFolder.newFile("VAR.bin").getPath();
+
+    SolutionListOutput output = new SolutionListOutput(solutionList);
+    output.printObjectivesToBinaryFile(funFileName);
+    output.printVariablesToBinaryFile(varFileName);
+
+    Front front = new MappedBinaryFront(funFileName);
+    assertEquals(new ArrayFront(solutionList), new ArrayFront(front));
+    double[][] variables = new MappedBinaryFront(varFileName).getMatrix();
+    for (int i = 0; i < solutionList.size(); i++) {
+      assertEquals(solutionList.get(i).getVariable(0), variables[i][0], 0.0);
+      assertEquals(solutionList.get(i).getVariable(1), variables[i][1], 0.0);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package org.uma.jmetal.util.measure.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramMeasureTest {
+
+	@Test
+	public void testEmptyHistogram() {
+		LatencyHistogramMeasure measure = new LatencyHistogramMeasure("test", "");
+
+		LatencyHistogramMeasure.Snapshot snapshot = measure.get();
+		assertEquals(0, snapshot.getCount());
+		assertEquals(0, snapshot.getMin());
+		assertEquals(0, snapshot.getMax());
+		assertEquals(0.0, snapshot.getMean(), 0.0);
+		assertEquals(0, snapshot.getValueAtPercentile(50));
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		LatencyHistogramMeasure measure = new LatencyHistogramMeasure("test", "");
+		for (int i = 1; i <= 100; i++) {
+			measure.record(i);
+		}
+
+		LatencyHistogramMeasure.Snapshot snapshot = measure.get();
+		assertEquals(100, snapshot.getCount());
+		assertEquals(5050, snapshot.getSum());
+		assertEquals(1, snapshot.getMin());
+		assertEquals(100, snapshot.getMax());
+		assertEquals(50.5, snapshot.getMean(), 1e-10);
+		assertEquals(50, snapshot.getValueAtPercentile(50));
+		assertEquals(99, snapshot.getValueAtPercentile(99));
+		assertEquals(100, snapshot.getValueAtPercentile(100));
+		assertEquals(1, snapshot.getValueAtPercentile(0));
+	}
+
+	@Test
+	public void testLargeValuesHaveABoundedRelativeError() {
+		LatencyHistogramMeasure measure = new LatencyHistogramMeasure("test", "");
+		for (long value = 1000; value <= 1000000000L; value *= 10) {
+			measure.record(value);
+		}
+
+		LatencyHistogramMeasure.Snapshot snapshot = measure.get();
+		assertEquals(7, snapshot.getCount());
+		assertEquals(1000, snapshot.getMin());
+		assertEquals(1000000000L, snapshot.getMax());
+
+		long median = snapshot.getValueAtPercentile(50);
+		assertEquals(1000000, median, 1000000 / 128.0);
+	}
+
+	@Test
+	public void testNegativeValuesAreRecordedAsZero() {
+		LatencyHistogramMeasure measure = new LatencyHistogramMeasure("test", "");
+		measure.record(-5);
+
+		assertEquals(0, measure.get().getMax());
+		assertEquals(1, measure.get().getCount());
+	}
+
+	@Test
+	public void testConcurrentRecordsAreNotLost() {
+		LatencyHistogramMeasure measure = new LatencyHistogramMeasure("test", "");
+
+		IntStream.range(0, 100000).parallel().forEach(i -> measure.record(i));
+
+		assertEquals(100000, measure.get().getCount());
+		assertEquals(99999, measure.get().getMax());
+	}
+
+	@Test
+	public void testReset() {
+		LatencyHistogramMeasure measure = new LatencyHistogramMeasure("test", "");
+		measure.record(1000);
+
+		measure.reset();
+		assertEquals(0, measure.get().getCount());
+		assertEquals(0, measure.get().getSum());
+
+		measure.record(10);
+		assertEquals(10, measure.get().getMin());
+		assertEquals(10, measure.get().getMax());
+	}
+
+	@Test(expected = InvalidConditionException.class)
+	public void testInvalidPercentile() {
+		new LatencyHistogramMeasure("test", "").get().getValueAtPercentile(101);
+	}
+}
@@ -0,0 +1,39 @@
+package org.uma.jmetal.util.measure.impl;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class StripedCountingMeasureTest {
+
+	@Test
+	public void testIncrement() {
+		StripedCountingMeasure measure = new StripedCountingMeasure();
+
+		measure.increment();
+		assertEquals(1, (long) measure.get());
+
+		measure.increment(5);
+		assertEquals(6, (long) measure.get());
+	}
+
+	@Test
+	public void testConcurrentIncrementsAreNotLost() {
+		StripedCountingMeasure measure = new StripedCountingMeasure();
+
+		IntStream.range(0, 100000).parallel().forEach(i -> measure.increment());
+
+		assertEquals(100000, (long) measure.get());
+	}
+
+	@Test
+	public void testReset() {
+		StripedCountingMeasure measure = new StripedCountingMeasure();
+		measure.increment(10);
+
+		measure.reset();
+		assertEquals(0, (long) measure.get());
+	}
+}
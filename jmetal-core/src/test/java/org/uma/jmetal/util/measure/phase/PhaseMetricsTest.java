@@ -0,0 +1,87 @@
+package org.uma.jmetal.util.measure.phase;
+
+import org.junit.Test;
+import org.uma.jmetal.util.measure.PullMeasure;
+import org.uma.jmetal.util.measure.impl.LatencyHistogramMeasure;
+
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PhaseMetricsTest {
+
+  @Test
+  public void shouldRecordUpdateTheMetricsOfThePhase() {
+    PhaseMetrics phaseMetrics = new PhaseMetrics();
+    phaseMetrics.record(Phase.EVALUATION, 1000, 100);
+    phaseMetrics.record(Phase.EVALUATION, 3000, 50);
+
+    assertEquals(2, phaseMetrics.getInvocations(Phase.EVALUATION));
+    assertEquals(150, phaseMetrics.getSolutions(Phase.EVALUATION));
+    assertEquals(4000, phaseMetrics.getDurations(Phase.EVALUATION).getSum());
+    assertEquals(0, phaseMetrics.getInvocations(Phase.SELECTION));
+    assertEquals(Long.valueOf(2), phaseMetrics.getInvocations().get("EVALUATION"));
+    assertEquals(Long.valueOf(3000), phaseMetrics.getMaximumTime().get("EVALUATION"));
+  }
+
+  @Test
+  public void shouldTheMeasureManagerProvideTheMeasuresOfThePhases() {
+    PhaseMetrics phaseMetrics = new PhaseMetrics();
+    phaseMetrics.record(Phase.RANKING, 500, 10);
+
+    PullMeasure<Long> invocations =
+        phaseMetrics.getMeasureManager().getPullMeasure("RANKING_INVOCATIONS");
+    PullMeasure<LatencyHistogramMeasure.Snapshot> durations =
+        phaseMetrics.getMeasureManager().getPullMeasure("RANKING_DURATION");
+
+    assertEquals(1, (long) invocations.get());
+    assertEquals(500, durations.get().getMax());
+  }
+
+  @Test
+  public void shouldResetRemoveTheRecordedValues() {
+    PhaseMetrics phaseMetrics = new PhaseMetrics();
+    phaseMetrics.record(Phase.VARIATION, 500, 10);
+
+    phaseMetrics.reset();
+
+    assertEquals(0, phaseMetrics.getInvocations(Phase.VARIATION));
+    assertEquals(0, phaseMetrics.getDurations(Phase.VARIATION).getCount());
+  }
+
+  @Test
+  public void shouldTheMetricsBeAvailableThroughJMX() throws Exception {
+    PhaseMetrics phaseMetrics = new PhaseMetrics("PhaseMetricsTest");
+    phaseMetrics.record(Phase.SELECTION, 500, 10);
+
+    ObjectName name = phaseMetrics.registerMBean();
+    try {
+      Object invocations =
+          ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Invocations");
+      assertNotNull(invocations);
+      assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    } finally {
+      phaseMetrics.unregisterMBean();
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+  }
+
+  @Test
+  public void shouldTheExporterWriteARowPerPhase() throws IOException {
+    PhaseMetrics phaseMetrics = new PhaseMetrics();
+    phaseMetrics.record(Phase.REPLACEMENT, 2000, 100);
+
+    File file = File.createTempFile("PhaseMetricsTest", ".csv");
+    file.deleteOnExit();
+    new PhaseMetricsFileExporter(phaseMetrics, file.getPath()).export();
+
+    List<String> lines = Files.readAllLines(file.toPath());
+    assertEquals(Phase.values().length + 1, lines.size());
+    assertTrue(lines.contains("REPLACEMENT,1,100,2000,2000,2000,2000,2000,2000,2000"));
+  }
+}
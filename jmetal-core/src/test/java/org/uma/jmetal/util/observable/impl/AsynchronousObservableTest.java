@@ -0,0 +1,210 @@
+package org.uma.jmetal.util.observable.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.observable.impl.AsynchronousObservable.BackpressurePolicy;
+import org.uma.jmetal.util.observable.util.AttributesSnapshot;
+import org.uma.jmetal.util.observer.Observer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.UnaryOperator;
+
+import static org.junit.Assert.*;
+
+public class AsynchronousObservableTest {
+  /** Observer storing the received values; it waits for a latch before processing them */
+  private static class RecordingObserver implements Observer<Integer> {
+    private final List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch latch;
+
+    RecordingObserver(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void update(org.uma.jmetal.util.observable.Observable<Integer> observable, Integer data) {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      values.add(data);
+    }
+  }
+
+  private void notify(AsynchronousObservable<Integer> observable, int numberOfNotifications) {
+    for (int i = 0; i < numberOfNotifications; i++) {
+      observable.setChanged();
+      observable.notifyObservers(i);
+    }
+  }
+
+  @Test
+  public void shouldTheBlockPolicyDeliverAllTheNotificationsInOrder() throws InterruptedException {
+    AsynchronousObservable<Integer> observable =
+        new AsynchronousObservable<>("test", 2, BackpressurePolicy.BLOCK, UnaryOperator.identity());
+    RecordingObserver observer1 = new RecordingObserver(new CountDownLatch(0));
+    RecordingObserver observer2 = new RecordingObserver(new CountDownLatch(0));
+    observable.register(observer1);
+    observable.register(observer2);
+
+    notify(observable, 100);
+    observable.close();
+
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      expected.add(i);
+    }
+    assertEquals(expected, observer1.values);
+    assertEquals(expected, observer2.values);
+    assertEquals(0, observable.getNumberOfDroppedNotifications());
+    assertEquals(0, observable.numberOfRegisteredObservers());
+  }
+
+  @Test
+  public void shouldTheDropPolicyNotWaitForASlowObserver() throws InterruptedException {
+    AsynchronousObservable<Integer> observable =
+        new AsynchronousObservable<>("test", 2, BackpressurePolicy.DROP, UnaryOperator.identity());
+    CountDownLatch latch = new CountDownLatch(1);
+    RecordingObserver observer = new RecordingObserver(latch);
+    observable.register(observer);
+
+    notify(observable, 10);
+    long dropped = observable.getNumberOfDroppedNotifications();
+    latch.countDown();
+    observable.flush();
+
+    assertTrue(dropped >= 7);
+    assertEquals(10 - dropped, observer.values.size());
+    assertEquals(Integer.valueOf(0), observer.values.get(0));
+    observable.close();
+  }
+
+  @Test
+  public void shouldTheLatestPolicyDeliverTheLastNotification() throws InterruptedException {
+    AsynchronousObservable<Integer> observable =
+        new AsynchronousObservable<>("test", 1, BackpressurePolicy.LATEST, UnaryOperator.identity());
+    CountDownLatch latch = new CountDownLatch(1);
+    RecordingObserver observer = new RecordingObserver(latch);
+    observable.register(observer);
+
+    notify(observable, 10);
+    latch.countDown();
+    observable.flush();
+
+    assertEquals(Integer.valueOf(9), observer.values.get(observer.values.size() - 1));
+    assertEquals(10 - observable.getNumberOfDroppedNotifications(), observer.values.size());
+    observable.close();
+  }
+
+  @Test
+  public void shouldUnregisterReleaseANotifierBlockedByTheBlockPolicy() throws InterruptedException {
+    AsynchronousObservable<Integer> observable =
+        new AsynchronousObservable<>("test", 1, BackpressurePolicy.BLOCK, UnaryOperator.identity());
+    CountDownLatch latch = new CountDownLatch(1);
+    RecordingObserver observer = new RecordingObserver(latch);
+    observable.register(observer);
+
+    Thread notifier = new Thread(() -> notify(observable, 10));
+    notifier.start();
+    notifier.join(500);
+    assertTrue(notifier.isAlive());
+
+    observable.unregister(observer);
+    notifier.join(5000);
+
+    assertFalse(notifier.isAlive());
+    assertEquals(0, observable.numberOfRegisteredObservers());
+    latch.countDown();
+  }
+
+  @Test
+  public void shouldNotifyObserversDoNothingIfTheDataHaveNotChanged() throws InterruptedException {
+    AsynchronousObservable<Integer> observable =
+        new AsynchronousObservable<>("test", 2, BackpressurePolicy.LATEST, UnaryOperator.identity());
+    RecordingObserver observer = new RecordingObserver(new CountDownLatch(0));
+    observable.register(observer);
+
+    observable.notifyObservers(1);
+    observable.close();
+
+    assertTrue(observer.values.isEmpty());
+  }
+
+  @Test
+  public void shouldAFailingObserverNotStopTheDelivery() {
+    AsynchronousObservable<Integer> observable =
+        new AsynchronousObservable<>("test", 2, BackpressurePolicy.LATEST, UnaryOperator.identity());
+    List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+    observable.register(
+        (o, data) -> {
+          if (data == 0) {
+            throw new RuntimeException("Failing observer");
+          }
+          values.add(data);
+        });
+
+    notify(observable, 1);
+    notify(observable, 2);
+    observable.close();
+
+    assertTrue(values.contains(1));
+  }
+
+  @Test
+  public void shouldAnObservableOfAttributesDeliverASnapshotOfThePopulation()
+      throws InterruptedException {
+    AsynchronousObservable<Map<String, Object>> observable =
+        AsynchronousObservable.forAttributes("test");
+    CountDownLatch latch = new CountDownLatch(1);
+    List<Object> populations = Collections.synchronizedList(new ArrayList<>());
+    observable.register(
+        (o, data) -> {
+          try {
+            latch.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          populations.add(data.get("POPULATION"));
+        });
+
+    List<Integer> population = new ArrayList<>(List.of(1, 2, 3));
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("POPULATION", population);
+    observable.setChanged();
+    observable.notifyObservers(attributes);
+    population.clear();
+    latch.countDown();
+    observable.flush();
+
+    assertEquals(List.of(List.of(1, 2, 3)), populations);
+    observable.close();
+  }
+
+  @Test
+  public void shouldTheAttributesSnapshotNotChangeWhenThePopulationIsModified() {
+    List<Integer> population = new ArrayList<>(List.of(1, 2, 3));
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("POPULATION", population);
+    attributes.put("EVALUATIONS", 100);
+
+    Map<String, Object> snapshot = new AttributesSnapshot().apply(attributes);
+    population.clear();
+    attributes.put("EVALUATIONS", 200);
+
+    assertEquals(List.of(1, 2, 3), snapshot.get("POPULATION"));
+    assertEquals(100, snapshot.get("EVALUATIONS"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldTheAttributesSnapshotBeUnmodifiable() {
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("POPULATION", new ArrayList<>(List.of(1, 2, 3)));
+
+    ((List<Object>) new AttributesSnapshot().apply(attributes).get("POPULATION")).add(4);
+  }
+}
@@ -0,0 +1,108 @@
+package org.uma.jmetal.util.point.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.checking.exception.InvalidConditionException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class KDTreeTest {
+  private double[][] randomPoints(Random random, int numberOfPoints, int dimension) {
+    double[][] points = new double[numberOfPoints][dimension];
+    for (double[] point : points) {
+      for (int j = 0; j < dimension; j++) {
+        point[j] = random.nextInt(4) == 0 ? random.nextInt(3) / 2.0 : random.nextDouble();
+      }
+    }
+
+    return points;
+  }
+
+  private double bruteForceDistance(double[][] points, double[] query, KDTree.Metric metric) {
+    double[] coordinates = new double[query.length];
+    double distance = Double.POSITIVE_INFINITY;
+    for (double[] point : points) {
+      System.arraycopy(point, 0, coordinates, 0, query.length);
+      distance = Math.min(distance, metric.distance(coordinates, 0, query));
+    }
+
+    return distance;
+  }
+
+  @Test
+  public void shouldNearestDistanceReturnTheSquaredEuclideanDistanceToTheClosestPoint() {
+    double[][] points = {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}};
+
+    KDTree tree = new KDTree(points);
+
+    assertEquals(
+        0.02, tree.nearestDistance(new double[] {0.6, 0.6}, KDTree.Metric.SQUARED_EUCLIDEAN), 1e-15);
+  }
+
+  @Test
+  public void shouldNearestDistanceReturnTheSameValuesAsTheBruteForceSearch() {
+    Random random = new Random(1);
+    for (KDTree.Metric metric : KDTree.Metric.values()) {
+      for (int dimension = 1; dimension <= 6; dimension++) {
+        double[][] points = randomPoints(random, 1 + random.nextInt(500), dimension);
+        KDTree tree = new KDTree(points);
+
+        for (double[] query : randomPoints(random, 100, dimension)) {
+          assertEquals(
+              bruteForceDistance(points, query, metric), tree.nearestDistance(query, metric), 0.0);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldKthNearestDistanceReturnTheValuesOfTheSortedDistances() {
+    Random random = new Random(1);
+    for (int dimension = 1; dimension <= 4; dimension++) {
+      double[][] points = randomPoints(random, 1 + random.nextInt(200), dimension);
+      KDTree tree = new KDTree(points);
+
+      for (double[] query : randomPoints(random, 20, dimension)) {
+        double[] distances = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+          distances[i] = KDTree.Metric.SQUARED_EUCLIDEAN.distance(points[i], 0, query);
+        }
+        Arrays.sort(distances);
+
+        for (int k = 1; k <= points.length; k++) {
+          assertEquals(
+              distances[k - 1],
+              tree.kthNearestDistance(query, k, KDTree.Metric.SQUARED_EUCLIDEAN),
+              0.0);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheTreeNotBeAffectedByTheChangesOfThePoints() {
+    double[][] points = {{0.0, 0.0}, {1.0, 1.0}};
+    KDTree tree = new KDTree(points);
+
+    points[0][0] = 10.0;
+
+    assertEquals(
+        0.0, tree.nearestDistance(new double[] {0.0, 0.0}, KDTree.Metric.SQUARED_EUCLIDEAN), 0.0);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldConstructorRaiseAnExceptionIfThereAreNoPoints() {
+    new KDTree(new double[0][]);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldNearestDistanceRaiseAnExceptionIfTheQueryHasAWrongDimension() {
+    new KDTree(new double[][] {{0.0, 0.0}})
+        .nearestDistance(new double[] {0.0}, KDTree.Metric.SQUARED_EUCLIDEAN);
+  }
+}
@@ -0,0 +1,108 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class ThreadLocalRandomGeneratorTest {
+
+  private static double[] sequence(ThreadLocalRandomGenerator generator, int length) {
+    double[] values = new double[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = generator.nextDouble();
+    }
+    return values;
+  }
+
+  @Test
+  public void testThreadLocalRandomGeneratorProvidesTheSameSequenceForTheSameSeed() {
+    double[] first = sequence(new ThreadLocalRandomGenerator(123), 100);
+    double[] second = sequence(new ThreadLocalRandomGenerator(123), 100);
+
+    assertArrayEquals(first, second, 0.0);
+  }
+
+  @Test
+  public void testThreadLocalRandomGeneratorRestartsTheSequenceWhenTheSeedIsSet() {
+    ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator(123);
+    double[] first = sequence(generator, 100);
+
+    generator.setSeed(123);
+    double[] second = sequence(generator, 100);
+
+    assertArrayEquals(first, second, 0.0);
+    assertEquals(123, generator.getSeed());
+  }
+
+  @Test
+  public void testThreadLocalRandomGeneratorSequenceIsNotAffectedByOtherThreads() throws Exception {
+    double[] expected = sequence(new ThreadLocalRandomGenerator(123), 100);
+
+    ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator(123);
+    double first = generator.nextDouble();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<?> future = executor.submit(() -> sequence(generator, 1000));
+      future.get();
+    } finally {
+      executor.shutdown();
+    }
+    double[] rest = sequence(generator, 99);
+
+    assertEquals(expected[0], first, 0.0);
+    for (int i = 0; i < rest.length; i++) {
+      assertEquals(expected[i + 1], rest[i], 0.0);
+    }
+  }
+
+  @Test
+  public void testThreadLocalRandomGeneratorProvidesTheSameSequenceForTheSameStream()
+      throws Exception {
+    ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator(123);
+    generator.setStream(7);
+    double[] expected = sequence(generator, 100);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      double[] values =
+          executor
+              .submit(
+                  () -> {
+                    generator.setStream(7);
+                    return sequence(generator, 100);
+                  })
+              .get();
+      assertArrayEquals(expected, values, 0.0);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testThreadLocalRandomGeneratorProvidesDifferentSequencesForDifferentStreams() {
+    ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator(123);
+    double[] defaultSequence = sequence(generator, 10);
+    generator.setStream(0);
+    double[] stream0 = sequence(generator, 10);
+    generator.setStream(1);
+    double[] stream1 = sequence(generator, 10);
+
+    assertNotEquals(defaultSequence[0], stream0[0], 0.0);
+    assertNotEquals(stream0[0], stream1[0], 0.0);
+  }
+
+  @Test
+  public void testThreadLocalRandomGeneratorProvidesValuesInTheBounds() {
+    ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator(123);
+    for (int i = 0; i < 1000; i++) {
+      int value = generator.nextInt(-2, 3);
+      assertTrue(value >= -2 && value <= 3);
+      double doubleValue = generator.nextDouble(10.0, 20.0);
+      assertTrue(doubleValue >= 10.0 && doubleValue < 20.0);
+    }
+  }
+}
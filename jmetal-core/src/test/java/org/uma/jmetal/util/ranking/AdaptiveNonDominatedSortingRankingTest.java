@@ -0,0 +1,10 @@
+package org.uma.jmetal.util.ranking;
+
+import org.uma.jmetal.util.ranking.impl.AdaptiveNonDominatedSortRanking;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+public class AdaptiveNonDominatedSortingRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public AdaptiveNonDominatedSortingRankingTest() {
+    setRanking(new AdaptiveNonDominatedSortRanking<DoubleSolution>(0, AdaptiveNonDominatedSortRanking.DEFAULT_MANY_OBJECTIVES)) ;
+  }
+}
@@ -0,0 +1,55 @@
+package org.uma.jmetal.util.ranking;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.DivideAndConquerNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DivideAndConquerNonDominatedSortingRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public DivideAndConquerNonDominatedSortingRankingTest() {
+    setRanking(new DivideAndConquerNonDominatedSortRanking<DoubleSolution>()) ;
+  }
+
+  @Test
+  public void shouldTheRanksBeTheSameAsTheOnesOfTheFastNonDominatedSortRanking() {
+    JMetalRandom random = JMetalRandom.getInstance();
+    for (int numberOfObjectives = 1; numberOfObjectives <= 6; numberOfObjectives++) {
+      for (int numberOfConstraints = 0; numberOfConstraints <= 1; numberOfConstraints++) {
+        DoubleProblem problem = new DummyDoubleProblem(2, numberOfObjectives, numberOfConstraints);
+        List<DoubleSolution> population = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+          DoubleSolution solution = problem.createSolution();
+          for (int j = 0; j < numberOfObjectives; j++) {
+            // Few different values to have repeated values and duplicated solutions
+            solution.setObjective(j, random.nextInt(0, 5));
+          }
+          for (int j = 0; j < numberOfConstraints; j++) {
+            solution.setConstraint(j, random.nextInt(-2, 0));
+          }
+          population.add(solution);
+        }
+
+        Ranking<DoubleSolution> expected =
+            new FastNonDominatedSortRanking<DoubleSolution>(new DominanceComparator<>())
+                .computeRanking(population);
+        Ranking<DoubleSolution> ranking = getRanking().computeRanking(population);
+
+        assertEquals(expected.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+        for (DoubleSolution solution : population) {
+          assertEquals(
+              solution.getAttribute(expected.getAttributeId()),
+              solution.getAttribute(ranking.getAttributeId()));
+        }
+      }
+    }
+  }
+}
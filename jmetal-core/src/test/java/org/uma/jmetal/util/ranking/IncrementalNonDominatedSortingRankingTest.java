@@ -0,0 +1,137 @@
+package org.uma.jmetal.util.ranking;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncrementalNonDominatedSortingRankingTest
+    extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public IncrementalNonDominatedSortingRankingTest() {
+    setRanking(new IncrementalNonDominatedSortRanking<>());
+  }
+
+  private DoubleSolution createSolution(DoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution();
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution;
+  }
+
+  @Test
+  public void shouldAddMoveTheDominatedSolutionsToTheNextFront() {
+    DoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    DoubleSolution solution1 = createSolution(problem, 2.0, 2.0);
+    DoubleSolution solution2 = createSolution(problem, 3.0, 3.0);
+    IncrementalNonDominatedSortRanking<DoubleSolution> ranking =
+        new IncrementalNonDominatedSortRanking<>();
+    List<DoubleSolution> population = new ArrayList<>();
+    population.add(solution1);
+    population.add(solution2);
+    ranking.computeRanking(population);
+
+    DoubleSolution solution3 = createSolution(problem, 1.0, 1.0);
+    ranking.add(solution3);
+
+    assertEquals(3, ranking.getNumberOfSubFronts());
+    assertSame(solution3, ranking.getSubFront(0).get(0));
+    assertSame(solution1, ranking.getSubFront(1).get(0));
+    assertSame(solution2, ranking.getSubFront(2).get(0));
+  }
+
+  @Test
+  public void shouldRemovePromoteTheSolutionsDominatedOnlyByTheRemovedOne() {
+    DoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    DoubleSolution solution1 = createSolution(problem, 1.0, 1.0);
+    DoubleSolution solution2 = createSolution(problem, 2.0, 2.0);
+    DoubleSolution solution3 = createSolution(problem, 3.0, 3.0);
+    IncrementalNonDominatedSortRanking<DoubleSolution> ranking =
+        new IncrementalNonDominatedSortRanking<>();
+    List<DoubleSolution> population = new ArrayList<>();
+    population.add(solution3);
+    population.add(solution2);
+    population.add(solution1);
+    ranking.computeRanking(population);
+
+    assertTrue(ranking.remove(solution1));
+
+    assertEquals(2, ranking.getNumberOfSubFronts());
+    assertSame(solution2, ranking.getSubFront(0).get(0));
+    assertSame(solution3, ranking.getSubFront(1).get(0));
+    assertFalse(ranking.remove(solution1));
+  }
+
+  @Test
+  public void shouldGetWorstSolutionReturnTheMostCrowdedSolutionOfTheLastFront() {
+    DoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    IncrementalNonDominatedSortRanking<DoubleSolution> ranking =
+        new IncrementalNonDominatedSortRanking<>();
+    List<DoubleSolution> population = new ArrayList<>();
+    population.add(createSolution(problem, 0.0, 0.0));
+    population.add(createSolution(problem, 1.0, 4.0));
+    DoubleSolution mostCrowdedSolution = createSolution(problem, 1.5, 3.5);
+    population.add(mostCrowdedSolution);
+    population.add(createSolution(problem, 1.6, 3.4));
+    population.add(createSolution(problem, 4.0, 1.0));
+    ranking.computeRanking(population);
+
+    assertEquals(2, ranking.getNumberOfSubFronts());
+    assertSame(mostCrowdedSolution, ranking.getWorstSolution());
+  }
+
+  @Test
+  public void shouldTheIncrementalRankingBeEqualToTheRankingComputedFromScratch() {
+    DoubleProblem problem = new DummyDoubleProblem(2, 3, 0);
+    Random random = new Random(1);
+    IncrementalNonDominatedSortRanking<DoubleSolution> ranking =
+        new IncrementalNonDominatedSortRanking<>();
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      population.add(
+          createSolution(problem, random.nextDouble(), random.nextDouble(), random.nextDouble()));
+    }
+    ranking.computeRanking(new ArrayList<>(population));
+
+    for (int i = 0; i < 200; i++) {
+      DoubleSolution solution =
+          createSolution(problem, random.nextDouble(), random.nextDouble(), random.nextDouble());
+      population.add(solution);
+      ranking.add(solution);
+      DoubleSolution worstSolution = ranking.getWorstSolution();
+      population.remove(worstSolution);
+      ranking.remove(worstSolution);
+
+      Ranking<DoubleSolution> expectedRanking =
+          new FastNonDominatedSortRanking<DoubleSolution>().computeRanking(population);
+      assertEquals(expectedRanking.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+      for (int rank = 0; rank < ranking.getNumberOfSubFronts(); rank++) {
+        assertEquals(expectedRanking.getSubFront(rank).size(), ranking.getSubFront(rank).size());
+        for (DoubleSolution member : expectedRanking.getSubFront(rank)) {
+          assertTrue(ranking.getSubFront(rank).contains(member));
+        }
+      }
+    }
+
+    for (int rank = 0; rank < ranking.getNumberOfSubFronts(); rank++) {
+      List<DoubleSolution> front = new ArrayList<>(ranking.getSubFront(rank));
+      double[] distances = new double[front.size()];
+      for (int i = 0; i < front.size(); i++) {
+        distances[i] = ranking.getCrowdingDistance(front.get(i));
+      }
+      new CrowdingDistanceDensityEstimator<DoubleSolution>().computeDensityEstimator(front);
+      for (int i = 0; i < front.size(); i++) {
+        assertEquals(ranking.getCrowdingDistance(front.get(i)), distances[i], 1e-12);
+      }
+    }
+  }
+}
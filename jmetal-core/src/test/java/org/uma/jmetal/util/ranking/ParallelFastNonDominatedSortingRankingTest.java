@@ -0,0 +1,53 @@
+package org.uma.jmetal.util.ranking;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.ParallelFastNonDominatedSortRanking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParallelFastNonDominatedSortingRankingTest extends NonDominanceRankingTestCases<Ranking<DoubleSolution>> {
+  public ParallelFastNonDominatedSortingRankingTest() {
+    setRanking(new ParallelFastNonDominatedSortRanking<DoubleSolution>()) ;
+  }
+
+  @Test
+  public void shouldTheSubfrontsBeTheSameAsTheOnesOfTheFastNonDominatedSortRanking() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    DoubleProblem problem = new DummyDoubleProblem(2, 3, 1);
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < 3; j++) {
+        solution.setObjective(j, JMetalRandom.getInstance().nextInt(0, 20));
+      }
+      solution.setConstraint(0, JMetalRandom.getInstance().nextInt(-1, 0));
+      population.add(solution);
+    }
+
+    Ranking<DoubleSolution> expected =
+        new FastNonDominatedSortRanking<DoubleSolution>().computeRanking(population);
+    Ranking<DoubleSolution> ranking =
+        new ParallelFastNonDominatedSortRanking<DoubleSolution>(pool).computeRanking(population);
+    Ranking<DoubleSolution> rankingWithComparator =
+        new ParallelFastNonDominatedSortRanking<DoubleSolution>(new DominanceComparator<>(), pool, 64)
+            .computeRanking(population);
+
+    assertEquals(expected.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+    assertEquals(expected.getNumberOfSubFronts(), rankingWithComparator.getNumberOfSubFronts());
+    for (int i = 0; i < expected.getNumberOfSubFronts(); i++) {
+      assertEquals(expected.getSubFront(i), ranking.getSubFront(i));
+      assertEquals(expected.getSubFront(i), rankingWithComparator.getSubFront(i));
+    }
+    pool.shutdown();
+  }
+}
@@ -4,6 +4,7 @@ import org.uma.jmetal.experimental.auto.parameter.CategoricalParameter;
 import org.uma.jmetal.experimental.auto.parameter.Parameter;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.IncrementalKnnDensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
 import org.uma.jmetal.solution.Solution;
 
@@ -42,6 +43,9 @@ public class DensityEstimatorParameter<S extends Solution<?>> extends Categorica
       case "knn":
         result = new KnnDensityEstimator<>(1) ;
         break;
+      case "incrementalKnn":
+        result = new IncrementalKnnDensityEstimator<>(1) ;
+        break;
       //case "hypervolumeContribution":
         //result = new Hyper
         default:
@@ -4,6 +4,7 @@ import org.uma.jmetal.experimental.auto.parameter.CategoricalParameter;
 import org.uma.jmetal.experimental.auto.parameter.Parameter;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.IncrementalKnnDensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
@@ -59,6 +60,8 @@ public class ReplacementParameter extends CategoricalParameter<String> {
         DensityEstimator<Solution<?>> densityEstimator;
         if (densityEstimatorName.equals("crowdingDistance")) {
           densityEstimator = new CrowdingDistanceDensityEstimator<>();
+        } else if (densityEstimatorName.equals("incrementalKnn")) {
+          densityEstimator = new IncrementalKnnDensityEstimator<>(1);
         } else {
           densityEstimator = new KnnDensityEstimator<>(1);
         }
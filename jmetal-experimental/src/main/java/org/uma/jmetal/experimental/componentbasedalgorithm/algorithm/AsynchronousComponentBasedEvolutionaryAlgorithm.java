@@ -0,0 +1,247 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.MatingPoolSelection;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.solutionscreation.SolutionsCreation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.Termination;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.Variation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous version of {@link ComponentBasedEvolutionaryAlgorithm}. Instead of evaluating the
+ * offspring population as a whole, which forces all the threads to wait for the slowest evaluation
+ * of each generation, the algorithm keeps up to a given number of evaluations in flight in a
+ * dedicated pool of threads. Each time an evaluation finishes, the evaluated solution is inserted
+ * into the population by the replacement component and new offspring solutions are created, by
+ * using the selection and variation components, to fill the free slots. This way, the threads are
+ * kept busy when the evaluation times of the solutions vary.
+ *
+ * <p>The selection, variation and replacement components are only invoked by the thread running
+ * the algorithm; the problem must allow the evaluation of different solutions concurrently. The
+ * evaluation component is not used, as the solutions are evaluated one by one.
+ *
+ * <p>Besides the attributes of {@link ComponentBasedEvolutionaryAlgorithm}, the observers receive
+ * the number of evaluations per second ("THROUGHPUT") and the fraction of time the threads of the
+ * pool have been evaluating solutions ("UTILIZATION").
+ *
+ * @param <S> Solution
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
+    extends ComponentBasedEvolutionaryAlgorithm<S> {
+  protected int numberOfThreads;
+  protected int maximumNumberOfEvaluationsInFlight;
+
+  private transient ExecutorService executor;
+  private transient CompletionService<S> completionService;
+  private int numberOfEvaluationsInFlight;
+  private AtomicLong evaluationTime;
+  private long initNanoTime;
+
+  /**
+   * Constructor
+   *
+   * @param name
+   * @param problem Problem to solve; its evaluate method is invoked concurrently
+   * @param numberOfThreads Number of threads evaluating solutions
+   * @param maximumNumberOfEvaluationsInFlight Maximum number of solutions submitted for evaluation
+   *     and not yet inserted into the population. It must not be lower than the number of threads
+   * @param initialPopulationCreation
+   * @param termination
+   * @param selection
+   * @param variation
+   * @param replacement
+   */
+  public AsynchronousComponentBasedEvolutionaryAlgorithm(
+      String name,
+      Problem<S> problem,
+      int numberOfThreads,
+      int maximumNumberOfEvaluationsInFlight,
+      SolutionsCreation<S> initialPopulationCreation,
+      Termination termination,
+      MatingPoolSelection<S> selection,
+      Variation<S> variation,
+      Replacement<S> replacement) {
+    super(name, null, initialPopulationCreation, termination, selection, variation, replacement);
+    this.problem = problem;
+    setNumberOfThreads(numberOfThreads, maximumNumberOfEvaluationsInFlight);
+  }
+
+  /**
+   * Empty constructor that creates an empty instance. It is up to the subclasses the correct
+   * creation of the algorithm components, including the invocation of {@link
+   * #setNumberOfThreads(int, int)}.
+   */
+  public AsynchronousComponentBasedEvolutionaryAlgorithm() {}
+
+  protected void setNumberOfThreads(int numberOfThreads, int maximumNumberOfEvaluationsInFlight) {
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    Check.that(
+        maximumNumberOfEvaluationsInFlight >= numberOfThreads,
+        "The maximum number of evaluations in flight ("
+            + maximumNumberOfEvaluationsInFlight
+            + ") is lower than the number of threads ("
+            + numberOfThreads
+            + ")");
+    this.numberOfThreads = numberOfThreads;
+    this.maximumNumberOfEvaluationsInFlight = maximumNumberOfEvaluationsInFlight;
+  }
+
+  /** The run of this algorithm is not resumed from checkpoints */
+  @Override
+  public boolean supportsCheckpoints() {
+    return false;
+  }
+
+  @Override
+  public void run() {
+    initTime = System.currentTimeMillis();
+    initNanoTime = System.nanoTime();
+    evaluationTime = new AtomicLong();
+    numberOfEvaluationsInFlight = 0;
+    executor = Executors.newFixedThreadPool(numberOfThreads);
+    completionService = new ExecutorCompletionService<>(executor);
+
+    try {
+      population = createInitialPopulation();
+      population = evaluatePopulation(population);
+      initProgress();
+
+      submitOffspring();
+      while (!isStoppingConditionReached()) {
+        S solution = waitForEvaluation();
+        if (null != archive) {
+          archive.add(solution);
+        }
+        population = replacement(population, Collections.singletonList(solution));
+        updateProgress();
+
+        if (!isStoppingConditionReached()) {
+          submitOffspring();
+        }
+      }
+    } finally {
+      // The evaluations still in flight are discarded
+      executor.shutdownNow();
+      executor = null;
+      completionService = null;
+    }
+
+    totalComputingTime = System.currentTimeMillis() - initTime;
+  }
+
+  /** Evaluates the solutions in the pool of threads, waiting for all of them */
+  @Override
+  protected List<S> evaluatePopulation(List<S> population) {
+    for (S solution : population) {
+      submit(solution);
+    }
+
+    List<S> evaluatedSolutions = new ArrayList<>(population.size());
+    while (numberOfEvaluationsInFlight > 0) {
+      evaluatedSolutions.add(waitForEvaluation());
+    }
+
+    if (null != archive) {
+      evaluatedSolutions.forEach(archive::add);
+    }
+
+    return population;
+  }
+
+  /** Creates offspring solutions and submits them until the window of evaluations is full */
+  protected void submitOffspring() {
+    while (numberOfEvaluationsInFlight < maximumNumberOfEvaluationsInFlight) {
+      List<S> offspringPopulation = reproduction(selection(population));
+      for (S solution : offspringPopulation) {
+        submit(solution);
+      }
+    }
+  }
+
+  private void submit(S solution) {
+    completionService.submit(
+        () -> {
+          long start = System.nanoTime();
+          problem.evaluate(solution);
+          evaluationTime.addAndGet(System.nanoTime() - start);
+          return solution;
+        });
+    numberOfEvaluationsInFlight++;
+  }
+
+  private S waitForEvaluation() {
+    try {
+      S solution = completionService.take().get();
+      numberOfEvaluationsInFlight--;
+      return solution;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for an evaluation", e);
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error evaluating a solution", e);
+    }
+  }
+
+  @Override
+  protected void initProgress() {
+    evaluations = population.size();
+    notifyProgress();
+  }
+
+  @Override
+  protected void updateProgress() {
+    evaluations++;
+    notifyProgress();
+  }
+
+  private void notifyProgress() {
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", getCurrentComputingTime());
+    attributes.put("THROUGHPUT", getThroughput());
+    attributes.put("UTILIZATION", getUtilization());
+
+    observable.setChanged();
+    observable.notifyObservers(attributes);
+  }
+
+  /** Returns the number of evaluations per second since the start of the algorithm */
+  public double getThroughput() {
+    double elapsedTime = (System.nanoTime() - initNanoTime) / 1.0e9;
+    return elapsedTime > 0 ? evaluations / elapsedTime : 0.0;
+  }
+
+  /**
+   * Returns the fraction of time, between 0 and 1, the threads of the pool have been evaluating
+   * solutions since the start of the algorithm
+   */
+  public double getUtilization() {
+    long elapsedTime = System.nanoTime() - initNanoTime;
+    return elapsedTime > 0
+        ? Math.min(1.0, evaluationTime.get() / ((double) elapsedTime * numberOfThreads))
+        : 0.0;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  public int getMaximumNumberOfEvaluationsInFlight() {
+    return maximumNumberOfEvaluationsInFlight;
+  }
+}
@@ -9,7 +9,13 @@ import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.M
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.Termination;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.Variation;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
+import org.uma.jmetal.solution.util.pool.SolutionPoolAware;
 import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
+import org.uma.jmetal.util.measure.phase.Phase;
+import org.uma.jmetal.util.measure.phase.PhaseMetrics;
 import org.uma.jmetal.util.observable.Observable;
 import org.uma.jmetal.util.observable.impl.DefaultObservable;
 
@@ -46,6 +52,7 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
 
   protected String name;
   protected Archive<S> archive ;
+  protected SolutionPool<S> solutionPool ;
   /**
    * Constructor
    *
@@ -118,6 +125,45 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
     observable.notifyObservers(attributes);
   }
 
+  @Override
+  public boolean supportsCheckpoints() {
+    return true;
+  }
+
+  @Override
+  protected Checkpoint<S> createCheckpoint() {
+    Checkpoint<S> checkpoint = super.createCheckpoint();
+    checkpoint.getState().put("EVALUATIONS", (long) evaluations);
+    checkpoint.getState().put("COMPUTING_TIME", getCurrentComputingTime());
+    if (null != archive) {
+      checkpoint.setArchive(archive.getSolutionList());
+    }
+
+    return checkpoint;
+  }
+
+  /**
+   * Restores the population, the archive, the number of evaluations and the computing time, so
+   * that the termination conditions take into account the work done before the checkpoint, and
+   * notifies the observers as {@link #initProgress()} does
+   */
+  @Override
+  protected void restoreCheckpoint(Checkpoint<S> checkpoint) {
+    super.restoreCheckpoint(checkpoint);
+    evaluations = checkpoint.getState().get("EVALUATIONS").intValue();
+    initTime = System.currentTimeMillis() - checkpoint.getState().get("COMPUTING_TIME");
+    if ((null != archive) && (null != checkpoint.getArchive())) {
+      checkpoint.getArchive().forEach(archive::add);
+    }
+
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", getCurrentComputingTime());
+
+    observable.setChanged();
+    observable.notifyObservers(attributes);
+  }
+
   @Override
   protected boolean isStoppingConditionReached() {
     return this.termination.isMet(attributes);
@@ -130,12 +176,16 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
 
   @Override
   protected List<S> evaluatePopulation(List<S> population) {
-    var solutionList = evaluation.evaluate(population) ;
+    return evaluation.evaluate(population) ;
+  }
+
+  @Override
+  protected void updateArchive(List<S> solutionList) {
     if (null != archive) {
+      long startTime = System.nanoTime() ;
       solutionList.forEach(archive::add);
+      recordPhase(Phase.ARCHIVE, startTime, solutionList);
     }
-
-    return solutionList ;
   }
 
   @Override
@@ -153,6 +203,13 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
     return replacement.replace(population, offspringPopulation);
   }
 
+  @Override
+  protected void discard(List<S> population, List<S> offspringPopulation, List<S> newPopulation) {
+    if ((null != solutionPool) && (null == archive)) {
+      solutionPool.recycleDiscarded(population, offspringPopulation, newPopulation);
+    }
+  }
+
   @Override
   public List<S> getResult() {
     return null == archive ? population: archive.getSolutionList() ;
@@ -182,6 +239,22 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
     return this ;
   }
 
+  /**
+   * Sets a pool where the solutions discarded in each replacement are recycled, so that the
+   * variation component (if it is {@link SolutionPoolAware}) reuses them to create the offspring.
+   * The solutions are not recycled if an archive is used, as it keeps references to them; the pool
+   * must not be used either if an observer stores the solutions of the population.
+   */
+  @SuppressWarnings("unchecked")
+  public ComponentBasedEvolutionaryAlgorithm<S> withSolutionPool(SolutionPool<S> solutionPool) {
+    this.solutionPool = solutionPool ;
+    if (variation instanceof SolutionPoolAware) {
+      ((SolutionPoolAware<S>) variation).setSolutionPool(solutionPool);
+    }
+
+    return this ;
+  }
+
   public ComponentBasedEvolutionaryAlgorithm<S> withEvaluation(Evaluation<S> evaluation) {
     this.evaluation = evaluation;
 
@@ -219,12 +292,51 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
     return this ;
   }
 
+  /**
+   * Sets the metrics where the time spent in each phase of the algorithm is recorded. The time
+   * spent computing the ranking and the density estimator inside the replacement is only recorded
+   * if they are wrapped in a {@link org.uma.jmetal.util.measure.phase.MeasuredRanking} and a
+   * {@link org.uma.jmetal.util.measure.phase.MeasuredDensityEstimator}.
+   */
+  public ComponentBasedEvolutionaryAlgorithm<S> withPhaseMetrics(PhaseMetrics phaseMetrics) {
+    setPhaseMetrics(phaseMetrics);
+
+    return this ;
+  }
+
+  /**
+   * Sets the manager of the checkpoints, so that the algorithm is resumed from the latest checkpoint
+   * of its directory and saves checkpoints periodically
+   */
+  public ComponentBasedEvolutionaryAlgorithm<S> withCheckpointManager(
+      CheckpointManager<S> checkpointManager) {
+    setCheckpointManager(checkpointManager);
+
+    return this ;
+  }
+
   public ComponentBasedEvolutionaryAlgorithm<S> withName(String newName) {
     this.name = newName ;
 
     return this ;
   }
 
+  /**
+   * Replaces the observable notified in each iteration (e.g., by an {@link
+   * org.uma.jmetal.util.observable.impl.AsynchronousObservable}, so that the observers do not
+   * stall the algorithm). The observers registered in the previous observable are registered in
+   * the new one.
+   */
+  public ComponentBasedEvolutionaryAlgorithm<S> withObservable(
+      Observable<Map<String, Object>> observable) {
+    if (null != this.observable) {
+      this.observable.getObservers().forEach(observable::register);
+    }
+    this.observable = observable;
+
+    return this ;
+  }
+
   public Observable<Map<String, Object>> getObservable() {
     return observable;
   }
@@ -128,4 +128,10 @@ public class MOEAD<S extends Solution<?>> extends ComponentBasedEvolutionaryAlgo
 
     this.archive = null ;
   }
+
+  /** The aggregative function and the sequence of subproblems are not saved in the checkpoints */
+  @Override
+  public boolean supportsCheckpoints() {
+    return false;
+  }
 }
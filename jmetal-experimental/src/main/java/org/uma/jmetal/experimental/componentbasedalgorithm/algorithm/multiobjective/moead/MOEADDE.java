@@ -136,4 +136,10 @@ public class MOEADDE extends ComponentBasedEvolutionaryAlgorithm<DoubleSolution>
 
     this.archive = null ;
   }
+
+  /** The aggregative function and the sequence of subproblems are not saved in the checkpoints */
+  @Override
+  public boolean supportsCheckpoints() {
+    return false;
+  }
 }
@@ -0,0 +1,105 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.AsynchronousComponentBasedEvolutionaryAlgorithm;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.IncrementalRankingAndCrowdingDistanceReplacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.RankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.impl.NaryTournamentMatingPoolSelection;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.solutionscreation.impl.RandomSolutionsCreation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.Termination;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.impl.CrossoverAndMutationVariation;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.MultiComparator;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.observable.impl.DefaultObservable;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Steady-state NSGA-II in which the offspring solutions are evaluated asynchronously (see {@link
+ * AsynchronousComponentBasedEvolutionaryAlgorithm}): each evaluated solution replaces, as soon as
+ * its evaluation finishes, the worst solution of the population according to the ranking and the
+ * crowding distance.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousSteadyStateNSGAII<S extends Solution<?>>
+    extends AsynchronousComponentBasedEvolutionaryAlgorithm<S> {
+
+  /**
+   * Constructor. If the ranking is an {@link IncrementalNonDominatedSortRanking}, the ranks and
+   * crowding distances of the population are updated incrementally in each replacement, which is
+   * intended for steady-state configurations
+   */
+  public AsynchronousSteadyStateNSGAII(
+      Problem<S> problem,
+      int populationSize,
+      CrossoverOperator<S> crossoverOperator,
+      MutationOperator<S> mutationOperator,
+      Termination termination,
+      int numberOfThreads,
+      int maximumNumberOfEvaluationsInFlight,
+      Ranking<S> ranking) {
+    this.name = "Asynchronous steady-state NSGA-II";
+    this.problem = problem;
+    this.observable = new DefaultObservable<>(name);
+    this.attributes = new HashMap<>();
+    setNumberOfThreads(numberOfThreads, maximumNumberOfEvaluationsInFlight);
+
+    DensityEstimator<S> densityEstimator = new CrowdingDistanceDensityEstimator<>();
+
+    this.createInitialPopulation = new RandomSolutionsCreation<>(problem, populationSize);
+
+    if (ranking instanceof IncrementalNonDominatedSortRanking) {
+      this.replacement =
+          new IncrementalRankingAndCrowdingDistanceReplacement<>(
+              (IncrementalNonDominatedSortRanking<S>) ranking);
+    } else {
+      this.replacement =
+          new RankingAndDensityEstimatorReplacement<>(
+              ranking, densityEstimator, Replacement.RemovalPolicy.oneShot);
+    }
+
+    this.variation = new CrossoverAndMutationVariation<>(1, crossoverOperator, mutationOperator);
+
+    this.selection =
+        new NaryTournamentMatingPoolSelection<>(
+            2,
+            variation.getMatingPoolSize(),
+            new MultiComparator<>(
+                Arrays.asList(
+                    ranking.getSolutionComparator(), densityEstimator.getSolutionComparator())));
+
+    this.termination = termination;
+
+    this.archive = null;
+  }
+
+  /** Constructor */
+  public AsynchronousSteadyStateNSGAII(
+      Problem<S> problem,
+      int populationSize,
+      CrossoverOperator<S> crossoverOperator,
+      MutationOperator<S> mutationOperator,
+      Termination termination,
+      int numberOfThreads) {
+    this(
+        problem,
+        populationSize,
+        crossoverOperator,
+        mutationOperator,
+        termination,
+        numberOfThreads,
+        numberOfThreads,
+        new FastNonDominatedSortRanking<>());
+  }
+}
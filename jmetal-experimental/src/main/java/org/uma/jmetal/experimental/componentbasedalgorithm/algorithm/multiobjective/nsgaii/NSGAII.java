@@ -9,7 +9,9 @@ import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.solutionscr
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.solutionscreation.impl.RandomSolutionsCreation;
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.IncrementalRankingAndCrowdingDistanceReplacement;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.RankingAndDensityEstimatorReplacement;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.MatingPoolSelection;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.impl.NaryTournamentMatingPoolSelection;
@@ -56,7 +58,11 @@ public class NSGAII<S extends Solution<?>> extends ComponentBasedEvolutionaryAlg
         replacement);
   }
 
-  /** Constructor */
+  /**
+   * Constructor. If the ranking is an {@link IncrementalNonDominatedSortRanking}, the ranks and
+   * crowding distances of the population are updated incrementally in each replacement, which is
+   * intended for steady-state configurations
+   */
   public NSGAII(
       Problem<S> problem,
       int populationSize,
@@ -74,9 +80,15 @@ public class NSGAII<S extends Solution<?>> extends ComponentBasedEvolutionaryAlg
 
     this.createInitialPopulation = new RandomSolutionsCreation<>(problem, populationSize);
 
-    this.replacement =
-        new RankingAndDensityEstimatorReplacement<>(
-            ranking, densityEstimator, Replacement.RemovalPolicy.oneShot);
+    if (ranking instanceof IncrementalNonDominatedSortRanking) {
+      this.replacement =
+          new IncrementalRankingAndCrowdingDistanceReplacement<>(
+              (IncrementalNonDominatedSortRanking<S>) ranking);
+    } else {
+      this.replacement =
+          new RankingAndDensityEstimatorReplacement<>(
+              ranking, densityEstimator, Replacement.RemovalPolicy.oneShot);
+    }
 
     this.variation =
         new CrossoverAndMutationVariation<>(
@@ -98,4 +98,10 @@ public class SynchronousCellularGeneticAlgorithm<S extends Solution<?>>
 
     this.archive = null;
   }
+
+  /** The sequence of the solution indexes is not saved in the checkpoints */
+  @Override
+  public boolean supportsCheckpoints() {
+    return false;
+  }
 }
@@ -30,4 +30,9 @@ public abstract  class AbstractEvaluation<S extends Solution<?>> implements Eval
   public int getComputedEvaluations() {
     return numberOfComputedEvaluations ;
   }
+
+  /** Releases the resources (e.g., threads) of the evaluator */
+  public void shutdown() {
+    evaluator.shutdown() ;
+  }
 }
@@ -0,0 +1,41 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.CachedSolutionListEvaluator;
+
+/**
+ * Evaluation component that does not evaluate again the solutions whose variables have already been
+ * evaluated (see {@link CachedSolutionListEvaluator}). The solutions taken from the cache are
+ * included in the number of computed evaluations, so the stopping conditions of the algorithms are
+ * not affected by the cache.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CachedEvaluation<S extends Solution<?>> extends AbstractEvaluation<S> {
+  private final CachedSolutionListEvaluator<S> cachedEvaluator;
+
+  public CachedEvaluation(SolutionListEvaluator<S> evaluator, Problem<S> problem) {
+    this(new CachedSolutionListEvaluator<>(evaluator), problem);
+  }
+
+  public CachedEvaluation(
+      SolutionListEvaluator<S> evaluator, int maximumCacheSize, Problem<S> problem) {
+    this(new CachedSolutionListEvaluator<>(evaluator, maximumCacheSize), problem);
+  }
+
+  private CachedEvaluation(CachedSolutionListEvaluator<S> cachedEvaluator, Problem<S> problem) {
+    super(cachedEvaluator, problem);
+    this.cachedEvaluator = cachedEvaluator;
+  }
+
+  /** Returns the fraction of solutions whose evaluation has been taken from the cache */
+  public double getHitRate() {
+    return cachedEvaluator.getHitRate();
+  }
+
+  public CachedSolutionListEvaluator<S> getCachedEvaluator() {
+    return cachedEvaluator;
+  }
+}
@@ -4,8 +4,14 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator;
 
+import java.util.concurrent.ExecutorService;
+
 public class MultithreadedEvaluation<S extends Solution<?>> extends AbstractEvaluation<S> {
   public MultithreadedEvaluation(int numberOfThreads, Problem<S> problem) {
     super(new MultithreadedSolutionListEvaluator<S>(numberOfThreads), problem) ;
   }
+
+  public MultithreadedEvaluation(ExecutorService executor, Problem<S> problem) {
+    super(new MultithreadedSolutionListEvaluator<S>(executor), problem) ;
+  }
 }
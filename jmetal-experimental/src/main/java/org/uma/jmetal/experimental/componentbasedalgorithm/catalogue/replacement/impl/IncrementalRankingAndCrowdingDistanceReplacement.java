@@ -0,0 +1,52 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
+
+import java.util.List;
+
+/**
+ * Replacement of NSGA-II intended for steady-state algorithms. Instead of ranking the joint
+ * population from scratch, as {@link RankingAndDensityEstimatorReplacement} does, the population is
+ * kept in an {@link IncrementalNonDominatedSortRanking}: the offspring solutions are added to it and
+ * then the solutions with the lowest crowding distance of the last front are removed one by one,
+ * which corresponds to the sequential removal policy. The ranks and crowding distances of the
+ * solutions are updated only in the fronts affected by each change.
+ *
+ * <p>The ranking is reused when the list passed to {@link #replace(List, List)} is the one returned
+ * by the previous call; otherwise, it is computed from scratch.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalRankingAndCrowdingDistanceReplacement<S extends Solution<?>>
+    implements Replacement<S> {
+  private IncrementalNonDominatedSortRanking<S> ranking;
+  private List<S> population;
+
+  public IncrementalRankingAndCrowdingDistanceReplacement(
+      IncrementalNonDominatedSortRanking<S> ranking) {
+    this.ranking = ranking;
+  }
+
+  public IncrementalRankingAndCrowdingDistanceReplacement() {
+    this(new IncrementalNonDominatedSortRanking<>());
+  }
+
+  public List<S> replace(List<S> solutionList, List<S> offspringList) {
+    if ((solutionList != population) || (ranking.size() != solutionList.size())) {
+      ranking.computeRanking(solutionList);
+    }
+
+    for (S solution : offspringList) {
+      ranking.add(solution);
+    }
+    while (ranking.size() > solutionList.size()) {
+      ranking.remove(ranking.getWorstSolution());
+    }
+
+    population = ranking.getSolutions();
+
+    return population;
+  }
+}
@@ -4,6 +4,8 @@ import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.V
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
+import org.uma.jmetal.solution.util.pool.SolutionPoolAware;
 import org.uma.jmetal.util.JMetalException;
 
 import java.util.ArrayList;
@@ -13,7 +15,8 @@ import java.util.List;
  *
  * @param <S>
  */
-public class CrossoverAndMutationVariation<S extends Solution<?>> implements Variation<S> {
+public class CrossoverAndMutationVariation<S extends Solution<?>>
+    implements Variation<S>, SolutionPoolAware<S> {
   private CrossoverOperator<S> crossover ;
   private MutationOperator<S> mutation ;
   private int matingPoolSize ;
@@ -77,6 +80,15 @@ public class CrossoverAndMutationVariation<S extends Solution<?>> implements Var
     }
   }
 
+  /** Sets the pool used by the crossover operator, if it is {@link SolutionPoolAware} */
+  @Override
+  @SuppressWarnings("unchecked")
+  public void setSolutionPool(SolutionPool<S> solutionPool) {
+    if (crossover instanceof SolutionPoolAware) {
+      ((SolutionPoolAware<S>) crossover).setSolutionPool(solutionPool);
+    }
+  }
+
   @Override
   public int getMatingPoolSize() {
     return matingPoolSize ;
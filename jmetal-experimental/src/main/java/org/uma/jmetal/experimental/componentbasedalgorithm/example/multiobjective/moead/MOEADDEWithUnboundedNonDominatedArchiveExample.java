@@ -12,7 +12,7 @@ import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.aggregativefunction.AggregativeFunction;
 import org.uma.jmetal.util.aggregativefunction.impl.Tschebyscheff;
 import org.uma.jmetal.util.archive.Archive;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -52,7 +52,7 @@ public class MOEADDEWithUnboundedNonDominatedArchiveExample extends AbstractAlgo
 
     AggregativeFunction aggregativeFunction = new Tschebyscheff();
 
-    Archive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>();
+    Archive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
 
     algorithm =
         new MOEADDE(
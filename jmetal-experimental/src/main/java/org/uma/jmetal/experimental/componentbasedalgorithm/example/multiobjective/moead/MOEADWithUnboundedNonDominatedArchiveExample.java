@@ -16,7 +16,7 @@ import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.aggregativefunction.AggregativeFunction;
 import org.uma.jmetal.util.aggregativefunction.impl.PenaltyBoundaryIntersection;
 import org.uma.jmetal.util.archive.Archive;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -60,7 +60,7 @@ public class MOEADWithUnboundedNonDominatedArchiveExample extends AbstractAlgori
     int maximumNumberOfReplacedSolutions = 2;
     AggregativeFunction aggregativeFunction = new PenaltyBoundaryIntersection();
 
-    Archive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>();
+    Archive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
 
     algorithm =
         new MOEAD<>(
@@ -0,0 +1,79 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.example.multiobjective.nsgaii;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.AsynchronousSteadyStateNSGAII;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.Termination;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.AbstractAlgorithmRunner;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.io.FileNotFoundException;
+import java.util.List;
+
+/**
+ * Class to configure and run a steady-state version of the NSGA-II algorithm evaluating the
+ * solutions asynchronously in a pool of threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AsynchronousSteadyStateNSGAIIExample extends AbstractAlgorithmRunner {
+  public static void main(String[] args) throws JMetalException, FileNotFoundException {
+    Problem<DoubleSolution> problem;
+    AsynchronousSteadyStateNSGAII<DoubleSolution> algorithm;
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    String problemName = "org.uma.jmetal.problem.multiobjective.zdt.ZDT1";
+    String referenceParetoFront = "resources/referenceFrontsCSV/ZDT1.csv";
+
+    problem = ProblemUtils.<DoubleSolution>loadProblem(problemName);
+
+    double crossoverProbability = 0.9;
+    double crossoverDistributionIndex = 20.0;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex);
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables();
+    double mutationDistributionIndex = 20.0;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
+
+    int populationSize = 100;
+    int numberOfThreads = 8;
+
+    Termination termination = new TerminationByEvaluations(25000);
+
+    algorithm =
+        new AsynchronousSteadyStateNSGAII<>(
+            problem, populationSize, crossover, mutation, termination, numberOfThreads);
+
+    algorithm.run();
+
+    List<DoubleSolution> population = algorithm.getResult();
+    JMetalLogger.logger.info("Total execution time : " + algorithm.getTotalComputingTime() + "ms");
+    JMetalLogger.logger.info("Number of evaluations: " + algorithm.getEvaluations());
+    JMetalLogger.logger.info("Evaluations per second: " + algorithm.getThroughput());
+    JMetalLogger.logger.info("Thread utilization   : " + algorithm.getUtilization());
+
+    new SolutionListOutput(population)
+        .setVarFileOutputContext(new DefaultFileOutputContext("VAR.csv", ","))
+        .setFunFileOutputContext(new DefaultFileOutputContext("FUN.csv", ","))
+        .print();
+
+    JMetalLogger.logger.info("Random seed: " + JMetalRandom.getInstance().getSeed());
+    JMetalLogger.logger.info("Objectives values have been written to file FUN.csv");
+    JMetalLogger.logger.info("Variables values have been written to file VAR.csv");
+
+    if (!referenceParetoFront.equals("")) {
+      printQualityIndicators(population, referenceParetoFront);
+    }
+  }
+}
@@ -16,6 +16,7 @@ import org.uma.jmetal.util.ProblemUtils;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.impl.IncrementalNonDominatedSortRanking;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -52,7 +53,13 @@ public class NSGAIISteadyStateExample extends AbstractAlgorithmRunner {
 
     algorithm =
         new NSGAII<>(
-            problem, populationSize, offspringPopulationSize, crossover, mutation, termination);
+            problem,
+            populationSize,
+            offspringPopulationSize,
+            crossover,
+            mutation,
+            termination,
+            new IncrementalNonDominatedSortRanking<>());
 
     algorithm.run();
 
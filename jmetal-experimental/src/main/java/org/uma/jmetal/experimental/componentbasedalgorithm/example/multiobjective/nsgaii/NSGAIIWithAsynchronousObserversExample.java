@@ -0,0 +1,81 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.example.multiobjective.nsgaii;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.Termination;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.AbstractAlgorithmRunner;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.observable.impl.AsynchronousObservable;
+import org.uma.jmetal.util.observable.util.AttributesSnapshot;
+import org.uma.jmetal.util.observer.impl.EvaluationObserver;
+import org.uma.jmetal.util.observer.impl.RunTimeChartObserver;
+
+import java.util.Map;
+
+/**
+ * Class to configure and run the NSGA-II algorithm. A chart showing the front at the end of each
+ * iteration is displayed. The observers are notified asynchronously, so that redrawing the chart
+ * does not slow down the algorithm; the chart only shows the last front produced when it is
+ * redrawn.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class NSGAIIWithAsynchronousObserversExample extends AbstractAlgorithmRunner {
+  public static void main(String[] args) throws JMetalException, InterruptedException {
+    Problem<DoubleSolution> problem;
+    NSGAII<DoubleSolution> algorithm;
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    String problemName = "org.uma.jmetal.problem.multiobjective.zdt.ZDT1";
+    String referenceParetoFront = "resources/referenceFrontsCSV/ZDT1.csv";
+
+    problem = ProblemUtils.<DoubleSolution>loadProblem(problemName);
+
+    double crossoverProbability = 0.9;
+    double crossoverDistributionIndex = 20.0;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex);
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables();
+    double mutationDistributionIndex = 20.0;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
+
+    int populationSize = 100;
+    int offspringPopulationSize = 100;
+
+    Termination termination = new TerminationByEvaluations(25000);
+
+    algorithm =
+        new NSGAII<>(
+            problem, populationSize, offspringPopulationSize, crossover, mutation, termination);
+
+    AsynchronousObservable<Map<String, Object>> observable =
+        new AsynchronousObservable<>(
+            "NSGA-II", 1, AsynchronousObservable.BackpressurePolicy.LATEST, new AttributesSnapshot());
+    algorithm.withObservable(observable);
+
+    EvaluationObserver evaluationObserver = new EvaluationObserver(1000);
+    RunTimeChartObserver<DoubleSolution> runTimeChartObserver =
+        new RunTimeChartObserver<>("NSGA-II", 80, referenceParetoFront);
+
+    algorithm.getObservable().register(evaluationObserver);
+    algorithm.getObservable().register(runTimeChartObserver);
+
+    algorithm.run();
+
+    observable.close();
+    JMetalLogger.logger.info(
+        "Notifications not delivered to slow observers: "
+            + observable.getNumberOfDroppedNotifications());
+
+    System.exit(0);
+  }
+}
@@ -0,0 +1,120 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.example.multiobjective.nsgaii;
+
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.Evaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.SequentialEvaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.RankingAndDensityEstimatorReplacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.MatingPoolSelection;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.impl.NaryTournamentMatingPoolSelection;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.solutionscreation.SolutionsCreation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.solutionscreation.impl.RandomSolutionsCreation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.Termination;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.impl.CrossoverAndMutationVariation;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.AbstractAlgorithmRunner;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.comparator.MultiComparator;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.measure.phase.MeasuredDensityEstimator;
+import org.uma.jmetal.util.measure.phase.MeasuredRanking;
+import org.uma.jmetal.util.measure.phase.PhaseMetrics;
+import org.uma.jmetal.util.measure.phase.PhaseMetricsFileExporter;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+import java.util.Arrays;
+
+/**
+ * Class to configure and run the NSGA-II algorithm recording the time spent in each of its
+ * phases. The metrics are written every second to the file METRICS.csv and can be consulted in
+ * JConsole (MBean org.uma.jmetal:type=PhaseMetrics) while the algorithm is running.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class NSGAIIWithPhaseMetricsExample extends AbstractAlgorithmRunner {
+  public static void main(String[] args) throws JMetalException {
+    Problem<DoubleSolution> problem;
+    NSGAII<DoubleSolution> algorithm;
+
+    String problemName = "org.uma.jmetal.problem.multiobjective.zdt.ZDT1";
+
+    problem = ProblemUtils.<DoubleSolution>loadProblem(problemName);
+
+    int populationSize = 100;
+    int offspringPopulationSize = 100;
+    int maxNumberOfEvaluations = 25000;
+
+    PhaseMetrics phaseMetrics = new PhaseMetrics("NSGA-II");
+
+    DensityEstimator<DoubleSolution> densityEstimator =
+        new MeasuredDensityEstimator<>(new CrowdingDistanceDensityEstimator<>(), phaseMetrics);
+    Ranking<DoubleSolution> ranking =
+        new MeasuredRanking<>(new FastNonDominatedSortRanking<>(), phaseMetrics);
+
+    SolutionsCreation<DoubleSolution> initialSolutionsCreation =
+        new RandomSolutionsCreation<>(problem, populationSize);
+
+    RankingAndDensityEstimatorReplacement<DoubleSolution> replacement =
+        new RankingAndDensityEstimatorReplacement<>(
+            ranking, densityEstimator, Replacement.RemovalPolicy.oneShot);
+
+    double crossoverProbability = 0.9;
+    double crossoverDistributionIndex = 20.0;
+    CrossoverOperator<DoubleSolution> crossover =
+        new SBXCrossover(crossoverProbability, crossoverDistributionIndex);
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables();
+    double mutationDistributionIndex = 20.0;
+    MutationOperator<DoubleSolution> mutation =
+        new PolynomialMutation(mutationProbability, mutationDistributionIndex);
+
+    CrossoverAndMutationVariation<DoubleSolution> variation =
+        new CrossoverAndMutationVariation<>(offspringPopulationSize, crossover, mutation);
+
+    MatingPoolSelection<DoubleSolution> selection =
+        new NaryTournamentMatingPoolSelection<>(
+            2,
+            variation.getMatingPoolSize(),
+            new MultiComparator<>(
+                Arrays.asList(
+                    ranking.getSolutionComparator(), densityEstimator.getSolutionComparator())));
+
+    Termination termination = new TerminationByEvaluations(maxNumberOfEvaluations);
+
+    Evaluation<DoubleSolution> evaluation = new SequentialEvaluation<>(problem);
+
+    algorithm =
+        new NSGAII<>(
+            evaluation,
+            initialSolutionsCreation,
+            termination,
+            selection,
+            variation,
+            replacement);
+    algorithm.withPhaseMetrics(phaseMetrics);
+
+    PhaseMetricsFileExporter exporter =
+        new PhaseMetricsFileExporter(phaseMetrics, "METRICS.csv").start(1000);
+    phaseMetrics.registerMBean();
+    try {
+      algorithm.run();
+    } finally {
+      exporter.close();
+      phaseMetrics.unregisterMBean();
+    }
+
+    JMetalLogger.logger.info("Total execution time : " + algorithm.getTotalComputingTime() + "ms");
+    JMetalLogger.logger.info("Time spent in each phase:\n" + phaseMetrics.getReport());
+    JMetalLogger.logger.info("Metrics have been written to file METRICS.csv");
+  }
+}
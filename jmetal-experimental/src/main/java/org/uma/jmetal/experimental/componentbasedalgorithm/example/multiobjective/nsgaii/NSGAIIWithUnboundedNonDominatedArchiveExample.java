@@ -14,7 +14,7 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.*;
 import org.uma.jmetal.util.archive.Archive;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -52,7 +52,7 @@ public class NSGAIIWithUnboundedNonDominatedArchiveExample extends AbstractAlgor
 
     Termination termination = new TerminationByEvaluations(50000);
 
-    Archive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>();
+    Archive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
 
     Ranking<DoubleSolution> ranking = new MergeNonDominatedSortRanking<>();
 
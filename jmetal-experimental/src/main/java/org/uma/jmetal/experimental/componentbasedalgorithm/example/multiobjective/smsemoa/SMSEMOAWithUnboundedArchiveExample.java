@@ -12,7 +12,7 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.*;
 import org.uma.jmetal.util.archive.Archive;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.observer.impl.EvaluationObserver;
@@ -50,7 +50,7 @@ public class SMSEMOAWithUnboundedArchiveExample extends AbstractAlgorithmRunner
 
     Termination termination = new TerminationByEvaluations(25000);
 
-    Archive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>();
+    Archive<DoubleSolution> archive = new NonDominatedSolutionTreeArchive<>();
 
     algorithm =
         new SMSEMOAWithArchive<>(
@@ -0,0 +1,134 @@
+package org.uma.jmetal.experimental.qualityIndicator.impl.hypervolume.impl;
+
+import org.uma.jmetal.experimental.qualityIndicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeCalculator;
+import org.uma.jmetal.util.checking.Check;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Version of {@link WFGHypervolume} intended for large fronts. The value is the same (the
+ * objectives are assumed to be normalized, so they are truncated to [0, 1] and the reference point
+ * is [1, ..., 1]), but it is computed with a {@link HypervolumeCalculator}, which removes the
+ * dominated points before slicing the volume in parallel in a {@link ForkJoinPool}. Fronts stored
+ * in files can be evaluated without loading them in memory with {@link #compute(String)}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ParallelWFGHypervolume extends Hypervolume {
+  private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+  private int chunkSize = HypervolumeCalculator.DEFAULT_CHUNK_SIZE;
+
+  /** Default constructor */
+  public ParallelWFGHypervolume() {}
+
+  /**
+   * Constructor with reference point
+   *
+   * @param referencePoint
+   */
+  public ParallelWFGHypervolume(double[] referencePoint) {
+    super(referencePoint);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceFrontFile
+   */
+  public ParallelWFGHypervolume(String referenceFrontFile) {
+    super(referenceFrontFile);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceFront
+   */
+  public ParallelWFGHypervolume(double[][] referenceFront) {
+    super(referenceFront);
+  }
+
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  /**
+   * Sets the pool computing the hypervolume. By default, the common pool is used; a null value
+   * makes the computation sequential.
+   */
+  public ParallelWFGHypervolume setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+
+    return this;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Sets the number of points read from a front file before removing the dominated ones (see
+   * {@link #compute(String)})
+   */
+  public ParallelWFGHypervolume setChunkSize(int chunkSize) {
+    Check.that(chunkSize > 0, "The chunk size is not positive: " + chunkSize);
+    this.chunkSize = chunkSize;
+
+    return this;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Parallel WFG Hypervolume quality indicator";
+  }
+
+  @Override
+  public double compute(double[][] front) {
+    Check.isNotNull(front);
+
+    double[][] truncatedFront = new double[front.length][];
+    for (int i = 0; i < front.length; i++) {
+      truncatedFront[i] = truncate(front[i]);
+    }
+
+    return createHypervolumeCalculator().compute(truncatedFront);
+  }
+
+  /**
+   * Computes the hypervolume of a front stored in a file, which is read by chunks of {@link
+   * #getChunkSize()} points so that only the non-dominated points have to be kept in memory
+   *
+   * @param frontFile File containing a point per line
+   */
+  public double compute(String frontFile) {
+    Check.isNotNull(frontFile);
+
+    return createHypervolumeCalculator()
+        .compute(frontFile, chunkSize, ParallelWFGHypervolume::truncate);
+  }
+
+  private HypervolumeCalculator createHypervolumeCalculator() {
+    Check.isNotNull(referenceFront);
+
+    double[] referencePoint = new double[referenceFront[0].length];
+    Arrays.fill(referencePoint, 1.0);
+
+    return new HypervolumeCalculator(referencePoint).setForkJoinPool(forkJoinPool);
+  }
+
+  /**
+   * Truncates the values to [0, 1], as done by {@link
+   * org.uma.jmetal.util.VectorUtils#getInvertedFront(double[][])}
+   */
+  private static double[] truncate(double[] point) {
+    double[] truncatedPoint = new double[point.length];
+    for (int j = 0; j < point.length; j++) {
+      truncatedPoint[j] = Math.min(Math.max(point[j], 0.0), 1.0);
+    }
+
+    return truncatedPoint;
+  }
+}
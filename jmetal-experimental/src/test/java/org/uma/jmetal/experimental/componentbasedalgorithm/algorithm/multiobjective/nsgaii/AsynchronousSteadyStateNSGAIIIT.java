@@ -0,0 +1,43 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii;
+
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.Termination;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.Kursawe;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsynchronousSteadyStateNSGAIIIT {
+  @Test
+  public void shouldTheAlgorithmReturnANumberOfSolutionsWhenSolvingASimpleProblem() {
+    DoubleProblem problem = new Kursawe();
+    CrossoverOperator<DoubleSolution> crossover = new SBXCrossover(0.9, 20.0);
+    MutationOperator<DoubleSolution> mutation =
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0);
+
+    int populationSize = 100;
+    Termination termination = new TerminationByEvaluations(25000);
+
+    AsynchronousSteadyStateNSGAII<DoubleSolution> algorithm =
+        new AsynchronousSteadyStateNSGAII<>(
+            problem, populationSize, crossover, mutation, termination, 4);
+
+    algorithm.run();
+
+    List<DoubleSolution> population = algorithm.getResult();
+
+    assertEquals(25000, algorithm.getEvaluations());
+    assertTrue(population.size() >= 98);
+    assertTrue(algorithm.getUtilization() > 0.0);
+    assertTrue(algorithm.getUtilization() <= 1.0);
+  }
+}
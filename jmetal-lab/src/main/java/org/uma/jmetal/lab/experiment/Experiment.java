@@ -29,6 +29,8 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
 
   private int numberOfCores;
 
+  private long checkpointPeriod;
+
   /** Constructor */
   public Experiment(ExperimentBuilder<S, Result> builder) {
     this.experimentName = builder.getExperimentName();
@@ -41,6 +43,7 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     this.numberOfCores = builder.getNumberOfCores();
     this.referenceFrontDirectory = builder.getReferenceFrontDirectory();
     this.indicatorList = builder.getIndicatorList();
+    this.checkpointPeriod = builder.getCheckpointPeriod();
   }
 
   /* Getters */
@@ -76,6 +79,11 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     return numberOfCores;
   }
 
+  /** Returns the minimum time between two checkpoints of a run, or 0 if they are disabled */
+  public long getCheckpointPeriod() {
+    return checkpointPeriod;
+  }
+
   public String getReferenceFrontDirectory() {
     return referenceFrontDirectory;
   }
@@ -27,11 +27,14 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
 
   private int numberOfCores ;
 
+  private long checkpointPeriod ;
+
   public ExperimentBuilder(String experimentName) {
     this.experimentName = experimentName ;
     this.independentRuns = 1 ;
     this.numberOfCores = 1 ;
     this.referenceFrontDirectory = null ;
+    this.checkpointPeriod = 0 ;
   }
 
   public ExperimentBuilder<S, Result> setAlgorithmList(List<ExperimentAlgorithm<S, Result>> algorithmList) {
@@ -89,6 +92,24 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return this ;
   }
 
+  /**
+   * Sets the minimum time between two checkpoints of the runs of the evolutionary algorithms, so
+   * that an interrupted experiment resumes them from their latest checkpoint instead of starting
+   * them again. Only the algorithms which support checkpoints (see {@link
+   * org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm#supportsCheckpoints()}) are
+   * resumed; the others are run again. The checkpoints are disabled if the period is 0 (default).
+   *
+   * <p>The random generator of {@link org.uma.jmetal.util.pseudorandom.JMetalRandom} is shared by
+   * the runs, so its state is only saved in the checkpoints if the runs are executed one at a time
+   * (see {@link #setNumberOfCores(int)}). With several cores, a resumed run does not continue the
+   * sequence of random numbers of the interrupted one, so its results are not reproducible.
+   */
+  public ExperimentBuilder<S, Result> setCheckpointPeriod(long checkpointPeriodInMilliseconds) {
+    this.checkpointPeriod = checkpointPeriodInMilliseconds ;
+
+    return this ;
+  }
+
   public Experiment<S, Result> build() {
     return new Experiment<S, Result>(this);
   }
@@ -126,6 +147,10 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return numberOfCores;
   }
 
+  public long getCheckpointPeriod() {
+    return checkpointPeriod;
+  }
+
   public String getReferenceFrontDirectory() {
     return referenceFrontDirectory;
   }
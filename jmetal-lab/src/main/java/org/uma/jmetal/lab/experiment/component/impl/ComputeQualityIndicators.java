@@ -1,5 +1,6 @@
 package org.uma.jmetal.lab.experiment.component.impl;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.lab.experiment.Experiment;
@@ -13,13 +14,14 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.front.impl.MappedBinaryFront;
+import org.uma.jmetal.util.front.util.BinaryFrontUtils;
 import org.uma.jmetal.util.front.util.FrontNormalizer;
 import org.uma.jmetal.util.front.util.FrontUtils;
-import org.uma.jmetal.util.point.PointSolution;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -28,7 +30,16 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
@@ -40,92 +51,297 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
  * in the same directory of the FUN files.
  *
+ * <p>Each reference front is read and normalized only once, and it is released when all the fronts
+ * of its problems have been evaluated. The FUN files are read once and evaluated with all the
+ * indicators by the threads of an executor, which is either a {@link ForkJoinPool} with as many
+ * threads as the number of cores of the experiment or an executor provided by the user. The
+ * indicator files are written when all the values have been computed. FUN files can also be in the
+ * binary format of {@link BinaryFrontUtils}.
+ *
+ * <p>If the incremental computation is enabled, the values of the existing indicator files are kept
+ * for the runs whose FUN files have not been modified since the indicator file was written (and if
+ * the reference front has not been modified either), so that only the new runs are evaluated.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ComputeQualityIndicators<S extends Solution<?>, Result extends List<S>> implements ExperimentComponent {
   private final Experiment<S, Result> experiment;
+  private final ExecutorService executor;
+  private final boolean incrementalComputation;
+
+  private final Map<String, ReferenceFront> referenceFronts = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> pendingTasks = new ConcurrentHashMap<>();
 
+  /** Constructor */
   public ComputeQualityIndicators(Experiment<S, Result> experiment) {
+    this(experiment, null, false);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param experiment
+   * @param executor Executor computing the indicators. It is not shut down by this class
+   * @param incrementalComputation If true, only the runs without an up-to-date indicator value are
+   *     evaluated
+   */
+  public ComputeQualityIndicators(
+      Experiment<S, Result> experiment, ExecutorService executor, boolean incrementalComputation) {
     this.experiment = experiment;
+    this.executor = executor;
+    this.incrementalComputation = incrementalComputation;
   }
 
   @Override
   public void run() throws IOException {
     experiment.removeDuplicatedAlgorithms();
-    resetIndicatorFiles();
 
-    for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
-      JMetalLogger.logger.info("Computing indicator: " + indicator.getName());
+    List<GenericIndicator<S>> indicatorList = experiment.getIndicatorList();
+    List<ExperimentAlgorithm<S, Result>> algorithmList = experiment.getAlgorithmList();
+    List<ExperimentProblem<S>> problemList = experiment.getProblemList();
+    int independentRuns = experiment.getIndependentRuns();
+
+    double[][][][] indicatorValues =
+        new double[indicatorList.size()][algorithmList.size()][problemList.size()][independentRuns];
+    List<Callable<Object>> tasks = new ArrayList<>();
+
+    for (int problem = 0; problem < problemList.size(); problem++) {
+      for (int algorithm = 0; algorithm < algorithmList.size(); algorithm++) {
+        String problemDirectory =
+            getProblemDirectory(algorithmList.get(algorithm), problemList.get(problem));
+        List<List<Integer>> pendingIndicators = new ArrayList<>();
+        for (int run = 0; run < independentRuns; run++) {
+          pendingIndicators.add(new ArrayList<>());
+        }
 
-      for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-        String algorithmDirectory;
-        algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag();
-        for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-          String problemDirectory = algorithmDirectory + "/" + problem.getTag();
+        for (int indicator = 0; indicator < indicatorList.size(); indicator++) {
+          double[] values = indicatorValues[indicator][algorithm][problem];
+          boolean[] upToDate =
+              incrementalComputation
+                  ? readUpToDateValues(
+                      problemDirectory,
+                      indicatorList.get(indicator),
+                      problemList.get(problem),
+                      values)
+                  : new boolean[independentRuns];
+          for (int run = 0; run < independentRuns; run++) {
+            if (!upToDate[run]) {
+              pendingIndicators.get(run).add(indicator);
+            }
+          }
+        }
 
-          String referenceFrontDirectory = experiment.getReferenceFrontDirectory();
+        for (int run = 0; run < independentRuns; run++) {
+          if (!pendingIndicators.get(run).isEmpty()) {
+            pendingTasks
+                .computeIfAbsent(getReferenceFrontName(problemList.get(problem)), name -> new AtomicInteger())
+                .incrementAndGet();
+            tasks.add(
+                createTask(
+                    indicatorValues,
+                    pendingIndicators.get(run),
+                    algorithm,
+                    problem,
+                    run,
+                    problemDirectory));
+          }
+        }
+      }
+    }
 
-          String referenceFrontName = referenceFrontDirectory + "/" + problem.getReferenceFront();
+    JMetalLogger.logger.info("ComputeQualityIndicators: " + tasks.size() + " fronts to evaluate");
+    runTasks(tasks);
+    referenceFronts.clear();
+    pendingTasks.clear();
 
-          JMetalLogger.logger.info("RF: " + referenceFrontName);
+    writeQualityIndicatorFiles(indicatorValues);
+    findBestIndicatorFronts(experiment);
+    writeSummaryFile(indicatorValues);
+  }
 
-          Front referenceFront = new ArrayFront(referenceFrontName, ",");
+  /**
+   * Task reading a FUN file and computing the given indicators. The values are stored in disjoint
+   * positions of the array of values, so the tasks do not need to synchronize.
+   */
+  private Callable<Object> createTask(
+      double[][][][] indicatorValues,
+      List<Integer> indicators,
+      int algorithm,
+      int problem,
+      int run,
+      String problemDirectory) {
+    return () -> {
+      String referenceFrontName = getReferenceFrontName(experiment.getProblemList().get(problem));
+      ReferenceFront referenceFront =
+          referenceFronts.computeIfAbsent(referenceFrontName, ReferenceFront::new);
+
+      String frontFileName =
+          problemDirectory + "/" + experiment.getOutputParetoFrontFileName() + run + ".csv";
+      Front normalizedFront = referenceFront.frontNormalizer.normalize(readFront(frontFileName));
+
+      List<GenericIndicator<S>> indicatorList = referenceFront.acquireIndicators();
+      try {
+        for (int indicator : indicators) {
+          @SuppressWarnings("unchecked")
+          List<S> normalizedPopulation =
+              (List<S>) (List<?>) FrontUtils.convertFrontToSolutionList(normalizedFront);
+          double value = indicatorList.get(indicator).evaluate(normalizedPopulation);
+          JMetalLogger.logger.fine(
+              frontFileName + ". " + indicatorList.get(indicator).getName() + ": " + value);
+          indicatorValues[indicator][algorithm][problem][run] = value;
+        }
+      } finally {
+        referenceFront.releaseIndicators(indicatorList);
+      }
 
-          FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
-          Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+      if (pendingTasks.get(referenceFrontName).decrementAndGet() == 0) {
+        referenceFronts.remove(referenceFrontName);
+      }
+      return null;
+    };
+  }
 
-          String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
+  private void runTasks(List<Callable<Object>> tasks) {
+    ExecutorService indicatorExecutor =
+        null == executor ? new ForkJoinPool(experiment.getNumberOfCores()) : executor;
 
-          indicator.setReferenceParetoFront(normalizedReferenceFront);
+    try {
+      for (Future<Object> future : indicatorExecutor.invokeAll(tasks)) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while computing the quality indicators", e);
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error computing a quality indicator", e);
+    } finally {
+      if (indicatorExecutor != executor) {
+        indicatorExecutor.shutdown();
+      }
+    }
+  }
 
-          double[] indicatorValues = new double[experiment.getIndependentRuns()];
-          IntStream.range(0, experiment.getIndependentRuns()).forEach(run -> {
-            String frontFileName = problemDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + run + ".csv";
-            Front front = null;
-            try {
-              front = new ArrayFront(frontFileName, ",");
-            } catch (FileNotFoundException e) {
-              e.printStackTrace();
-            }
-            Front normalizedFront = frontNormalizer.normalize(front);
-            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
-            Double indicatorValue = indicator.evaluate((List<S>) normalizedPopulation);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
-            indicatorValues[run] = indicatorValue;
-          });
-
-          for (double indicatorValue : indicatorValues) {
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
-          }
+  private String getReferenceFrontName(ExperimentProblem<S> problem) {
+    return experiment.getReferenceFrontDirectory() + "/" + problem.getReferenceFront();
+  }
+
+  /**
+   * Reads the values of an existing indicator file which are still valid
+   *
+   * @param values Array where the valid values are stored
+   * @return Array indicating which runs have a valid value
+   */
+  private boolean[] readUpToDateValues(
+      String problemDirectory,
+      GenericIndicator<S> indicator,
+      ExperimentProblem<S> problem,
+      double[] values)
+      throws IOException {
+    boolean[] upToDate = new boolean[values.length];
+
+    File indicatorFile = new File(problemDirectory + "/" + indicator.getName());
+    File referenceFrontFile = new File(getReferenceFrontName(problem));
+    if (!indicatorFile.isFile() || referenceFrontFile.lastModified() > indicatorFile.lastModified()) {
+      return upToDate;
+    }
 
-          /*
-          for (int run = 0; run < experiment.getIndependentRuns(); run++) {
-            String frontFileName = problemDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + run + ".csv";
+    List<String> lines = Files.readAllLines(indicatorFile.toPath(), StandardCharsets.UTF_8);
+    for (int run = 0; run < Math.min(lines.size(), values.length); run++) {
+      File frontFile =
+          new File(problemDirectory + "/" + experiment.getOutputParetoFrontFileName() + run + ".csv");
+      if (frontFile.isFile() && frontFile.lastModified() <= indicatorFile.lastModified()) {
+        try {
+          values[run] = Double.parseDouble(lines.get(run));
+          upToDate[run] = true;
+        } catch (NumberFormatException e) {
+          JMetalLogger.logger.warning("Invalid value in " + indicatorFile + ": " + lines.get(run));
+        }
+      }
+    }
 
-            Front front = new ArrayFront(frontFileName, ",");
-            Front normalizedFront = frontNormalizer.normalize(front);
-            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
-            Double indicatorValue = (Double) indicator.evaluate((List<S>) normalizedPopulation);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
+    return upToDate;
+  }
 
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
+  private void writeQualityIndicatorFiles(double[][][][] indicatorValues) {
+    for (int indicator = 0; indicator < experiment.getIndicatorList().size(); indicator++) {
+      for (int algorithm = 0; algorithm < experiment.getAlgorithmList().size(); algorithm++) {
+        for (int problem = 0; problem < experiment.getProblemList().size(); problem++) {
+          String qualityIndicatorFile =
+              getProblemDirectory(
+                      experiment.getAlgorithmList().get(algorithm),
+                      experiment.getProblemList().get(problem))
+                  + "/"
+                  + experiment.getIndicatorList().get(indicator).getName();
+
+          try (BufferedWriter writer =
+              Files.newBufferedWriter(Paths.get(qualityIndicatorFile), StandardCharsets.UTF_8)) {
+            for (double indicatorValue : indicatorValues[indicator][algorithm][problem]) {
+              writer.write("" + indicatorValue + "\n");
+            }
+          } catch (IOException ex) {
+            throw new JMetalException("Error writing indicator file" + ex);
           }
-           */
         }
       }
     }
-    findBestIndicatorFronts(experiment);
-    writeSummaryFile(experiment);
   }
 
-  private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
+  private String getProblemDirectory(
+      ExperimentAlgorithm<?, Result> algorithm, ExperimentProblem<?> problem) {
+    return experiment.getExperimentBaseDirectory()
+        + "/data/"
+        + algorithm.getAlgorithmTag()
+        + "/"
+        + problem.getTag();
+  }
 
-    try (FileWriter os = new FileWriter(qualityIndicatorFile, true)) {
-      os.write("" + indicatorValue + "\n");
-    } catch (IOException ex) {
-      throw new JMetalException("Error writing indicator file" + ex);
+  /** Reads a front from a text (CSV) file or a binary one */
+  private static Front readFront(String fileName) {
+    if (BinaryFrontUtils.isBinaryFrontFile(fileName)) {
+      return new MappedBinaryFront(fileName);
+    }
+
+    try {
+      return new ArrayFront(fileName, ",");
+    } catch (FileNotFoundException e) {
+      throw new JMetalException("Error reading file " + fileName, e);
+    }
+  }
+
+  /**
+   * Normalized reference front of one or more problems. The indicators may modify their reference
+   * front (e.g., by sorting it), so each thread evaluating the fronts of the problems takes a copy of
+   * the indicators, with its own copy of the reference front, from a pool.
+   */
+  private class ReferenceFront {
+    private final FrontNormalizer frontNormalizer;
+    private final Front normalizedReferenceFront;
+    private final Queue<List<GenericIndicator<S>>> indicatorPool = new ConcurrentLinkedQueue<>();
+
+    ReferenceFront(String referenceFrontName) {
+      JMetalLogger.logger.info("RF: " + referenceFrontName);
+
+      Front referenceFront = readFront(referenceFrontName);
+      frontNormalizer = new FrontNormalizer(referenceFront);
+      normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+    }
+
+    List<GenericIndicator<S>> acquireIndicators() {
+      List<GenericIndicator<S>> indicatorList = indicatorPool.poll();
+      if (indicatorList == null) {
+        indicatorList = new ArrayList<>();
+        for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
+          GenericIndicator<S> copy = SerializationUtils.clone(indicator);
+          copy.setReferenceParetoFront(new ArrayFront(normalizedReferenceFront));
+          indicatorList.add(copy);
+        }
+      }
+
+      return indicatorList;
+    }
+
+    void releaseIndicators(List<GenericIndicator<S>> indicatorList) {
+      indicatorPool.offer(indicatorList);
     }
   }
 
@@ -194,24 +410,6 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     }
   }
 
-  /**
-   * Deletes the files containing the indicator values if the exist.
-   */
-  private void resetIndicatorFiles() {
-    for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
-      for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-        for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-          String algorithmDirectory;
-          algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag();
-          String problemDirectory = algorithmDirectory + "/" + problem.getTag();
-          String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
-
-          resetFile(qualityIndicatorFile);
-        }
-      }
-    }
-  }
-
   /**
    * Deletes a file or directory if it does exist
    *
@@ -242,38 +440,24 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     }
   }
 
-  private void writeSummaryFile(Experiment<S, Result> experiment) {
+  private void writeSummaryFile(double[][][][] indicatorValues) {
     JMetalLogger.logger.info("Writing org.uma.jmetal.experiment summary file");
     String headerOfCSVFile = "Algorithm,Problem,IndicatorName,ExecutionId,IndicatorValue";
     String csvFileName = this.experiment.getExperimentBaseDirectory() + "/QualityIndicatorSummary.csv";
     resetFile(csvFileName);
 
-    try (FileWriter os = new FileWriter(csvFileName, true)) {
+    try (BufferedWriter os = Files.newBufferedWriter(Paths.get(csvFileName), StandardCharsets.UTF_8)) {
       os.write("" + headerOfCSVFile + "\n");
 
-      for (GenericIndicator<?> indicator : experiment.getIndicatorList()) {
-        for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-          String algorithmDirectory;
-          algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-                  algorithm.getAlgorithmTag();
-
-          for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-            String indicatorFileName =
-                    algorithmDirectory + "/" + problem.getTag() + "/" + indicator.getName();
-            Path indicatorFile = Paths.get(indicatorFileName);
-            if (indicatorFile == null) {
-              throw new JMetalException("Indicator file " + indicator.getName() + " doesn't exist");
-            }
-            System.out.println("-----");
-            System.out.println(indicatorFileName);
-
-            List<String> fileArray;
-            fileArray = Files.readAllLines(indicatorFile, StandardCharsets.UTF_8);
-            System.out.println(fileArray);
-            System.out.println("++++++");
-
-            for (int i = 0; i < fileArray.size(); i++) {
-              String row = algorithm.getAlgorithmTag() + "," + problem.getTag() + "," + indicator.getName() + "," + i + "," + fileArray.get(i);
+      for (int indicator = 0; indicator < experiment.getIndicatorList().size(); indicator++) {
+        String indicatorName = experiment.getIndicatorList().get(indicator).getName();
+        for (int algorithm = 0; algorithm < experiment.getAlgorithmList().size(); algorithm++) {
+          String algorithmTag = experiment.getAlgorithmList().get(algorithm).getAlgorithmTag();
+          for (int problem = 0; problem < experiment.getProblemList().size(); problem++) {
+            String problemTag = experiment.getProblemList().get(problem).getTag();
+            double[] values = indicatorValues[indicator][algorithm][problem];
+            for (int i = 0; i < values.length; i++) {
+              String row = algorithmTag + "," + problemTag + "," + indicatorName + "," + i + "," + values[i];
               os.write("" + row + "\n");
             }
           }
@@ -284,4 +468,3 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     }
   }
 }
-
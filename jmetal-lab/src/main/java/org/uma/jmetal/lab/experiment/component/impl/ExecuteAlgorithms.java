@@ -6,28 +6,56 @@ import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.ThreadLocalRandomGenerator;
 
 import java.io.File;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class {@link
- * Experiment}. Java 8 parallel streams are used to run the algorithms in parallel.
+ * Experiment}. The algorithms are run in parallel by the threads of an executor, which is either a
+ * {@link ForkJoinPool} with as many threads as the number of cores of the experiment, created and
+ * shut down by this class, or an executor provided by the user.
  *
  * <p>The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per
  * org.uma.jmetal.experiment, which are stored in the directory {@link Experiment
  * #getExperimentBaseDirectory()}/algorithmName/problemName.
  *
+ * <p>The runs whose FUNrunId file exists are skipped, so an interrupted experiment can be executed
+ * again to complete it. If the experiment has a checkpoint period (see {@link
+ * org.uma.jmetal.lab.experiment.ExperimentBuilder#setCheckpointPeriod(long)}), the unfinished runs
+ * of evolutionary algorithms are resumed from their latest checkpoint.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     implements ExperimentComponent {
   private Experiment<S, Result> experiment;
+  private ExecutorService executor;
 
   /** Constructor */
   public ExecuteAlgorithms(Experiment<S, Result> configuration) {
+    this(configuration, null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param configuration
+   * @param executor Executor running the algorithms. It is not shut down by this class
+   */
+  public ExecuteAlgorithms(Experiment<S, Result> configuration, ExecutorService executor) {
     this.experiment = configuration;
+    this.executor = executor;
   }
 
   @Override
@@ -35,10 +63,19 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
     prepareOutputDirectory();
 
-    System.setProperty(
-        "java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + this.experiment.getNumberOfCores());
+    ExecutorService algorithmExecutor =
+        null == executor ? new ForkJoinPool(experiment.getNumberOfCores()) : executor;
 
+    try {
+      runPendingAlgorithms(algorithmExecutor);
+    } finally {
+      if (algorithmExecutor != executor) {
+        algorithmExecutor.shutdown();
+      }
+    }
+  }
+
+  private void runPendingAlgorithms(ExecutorService algorithmExecutor) {
     int retryCounter = 0 ;
     int maxRetries = 5 ;
     boolean computationNotFinished = true ;
@@ -50,9 +87,7 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
       } else {
         JMetalLogger.logger.info(
             "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
-        unfinishedAlgorithmList
-            .parallelStream()
-            .forEach(algorithm -> algorithm.runAlgorithm(experiment));
+        runAlgorithms(unfinishedAlgorithmList, algorithmExecutor);
         retryCounter++;
       }
     }
@@ -87,7 +122,55 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
   }
 
   public void runMissingExecutions(List<ExperimentAlgorithm<?, ?>> experimentAlgorithms) {
-    experimentAlgorithms.parallelStream().forEach(algorithm -> algorithm.runAlgorithm(experiment));
+    if (null == executor) {
+      ExecutorService algorithmExecutor = new ForkJoinPool(experiment.getNumberOfCores());
+      try {
+        runAlgorithms(experimentAlgorithms, algorithmExecutor);
+      } finally {
+        algorithmExecutor.shutdown();
+      }
+    } else {
+      runAlgorithms(experimentAlgorithms, executor);
+    }
+  }
+
+  private void runAlgorithms(
+      List<ExperimentAlgorithm<?, ?>> experimentAlgorithms, ExecutorService algorithmExecutor) {
+    List<Callable<Object>> tasks =
+        experimentAlgorithms.stream()
+            .map(
+                algorithm ->
+                    (Callable<Object>)
+                        () -> {
+                          selectRandomStream(algorithm);
+                          algorithm.runAlgorithm(experiment);
+                          return null;
+                        })
+            .collect(Collectors.toList());
+
+    try {
+      for (Future<Object> future : algorithmExecutor.invokeAll(tasks)) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while running the algorithms", e);
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error running an algorithm", e);
+    }
+  }
+
+  /**
+   * If the random generator is a {@link ThreadLocalRandomGenerator}, the thread running an algorithm
+   * uses the stream given by the position of the algorithm in the experiment, so that the result of
+   * each run does not depend on the thread running it
+   */
+  private void selectRandomStream(ExperimentAlgorithm<?, ?> algorithm) {
+    PseudoRandomGenerator randomGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    if (randomGenerator instanceof ThreadLocalRandomGenerator) {
+      ((ThreadLocalRandomGenerator) randomGenerator)
+          .setStream(experiment.getAlgorithmList().indexOf(algorithm));
+    }
   }
 
   private void prepareOutputDirectory() {
@@ -5,7 +5,7 @@ import org.uma.jmetal.lab.experiment.component.ExperimentComponent;
 import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
 import org.uma.jmetal.util.JMetalLogger;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionTreeArchive;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
@@ -50,8 +50,8 @@ public class GenerateReferenceParetoFront implements ExperimentComponent {
 
     List<String> referenceFrontFileNames = new LinkedList<>() ;
     for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-      NonDominatedSolutionListArchive<PointSolution> nonDominatedSolutionArchive =
-          new NonDominatedSolutionListArchive<PointSolution>() ;
+      NonDominatedSolutionTreeArchive<PointSolution> nonDominatedSolutionArchive =
+          new NonDominatedSolutionTreeArchive<PointSolution>() ;
 
       for (ExperimentAlgorithm<?,?> algorithm : experiment.getAlgorithmList()) {
         String problemDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
@@ -1,24 +1,39 @@
 package org.uma.jmetal.lab.experiment.util;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm;
 import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.checkpoint.CheckpointManager;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 
 /**
  * Class defining tasks for the execution of algorithms in parallel.
  *
+ * <p>If the experiment has a checkpoint period and the algorithm is an {@link
+ * AbstractEvolutionaryAlgorithm} which {@link AbstractEvolutionaryAlgorithm#supportsCheckpoints()},
+ * the run saves checkpoints in the directory checkpoints/algorithmTag/problemTag/runId of the
+ * experiment, and a run which was interrupted is resumed from its latest checkpoint. The front file is written last and renamed once it is
+ * complete, so that its existence means that the run has finished.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>> {
   private Algorithm<Result> algorithm;
   private String algorithmTag;
   private String problemTag;
+  private Problem<S> problem;
   private int runId;
 
   /** Constructor */
@@ -27,6 +42,7 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
     this.algorithm = algorithm;
     this.algorithmTag = algorithmTag;
     this.problemTag = problem.getTag();
+    this.problem = problem.getProblem();
     this.runId = runId;
   }
 
@@ -63,16 +79,65 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
             + ", funFile: "
             + funFile);
 
+    CheckpointManager<S> checkpointManager = createCheckpointManager(experimentData);
     try {
       algorithm.run();
       Result population = algorithm.getResult();
 
       new SolutionListOutput(population)
-          .setVarFileOutputContext(new DefaultFileOutputContext(varFile, ","))
-          .setFunFileOutputContext(new DefaultFileOutputContext(funFile, ","))
+          .setVarFileOutputContext(new DefaultFileOutputContext(varFile + ".tmp", ","))
+          .setFunFileOutputContext(new DefaultFileOutputContext(funFile + ".tmp", ","))
           .print();
+      commit(varFile);
+      commit(funFile);
+
+      if (null != checkpointManager) {
+        checkpointManager.deleteCheckpoints();
+      }
     } catch (Exception exception) {
       JMetalLogger.logger.warning("Execution failed: " + funFile + " has not been created.");
+    } finally {
+      if (null != checkpointManager) {
+        checkpointManager.close();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private CheckpointManager<S> createCheckpointManager(Experiment<?, ?> experimentData) {
+    if ((experimentData.getCheckpointPeriod() <= 0)
+        || !(algorithm instanceof AbstractEvolutionaryAlgorithm)
+        || !((AbstractEvolutionaryAlgorithm<S, ?>) algorithm).supportsCheckpoints()) {
+      return null;
+    }
+
+    String checkpointDirectory =
+        experimentData.getExperimentBaseDirectory()
+            + "/checkpoints/"
+            + algorithmTag
+            + "/"
+            + problemTag
+            + "/"
+            + runId;
+    CheckpointManager<S> checkpointManager =
+        new CheckpointManager<>(checkpointDirectory, problem, experimentData.getCheckpointPeriod());
+    checkpointManager.setRandomGeneratorSaved(experimentData.getNumberOfCores() == 1);
+    ((AbstractEvolutionaryAlgorithm<S, ?>) algorithm).setCheckpointManager(checkpointManager);
+
+    return checkpointManager;
+  }
+
+  /** Renames the temporary file of an output file */
+  private void commit(String fileName) throws IOException {
+    try {
+      Files.move(
+          Paths.get(fileName + ".tmp"),
+          Paths.get(fileName),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(
+          Paths.get(fileName + ".tmp"), Paths.get(fileName), StandardCopyOption.REPLACE_EXISTING);
     }
   }
 
@@ -4,6 +4,7 @@ import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ3;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +45,14 @@ public class C1_DTLZ3 extends DTLZ3 {
     this.evaluateConstraints(solution);
   }
 
+  @Override
+  public void evaluate(List<DoubleSolution> solutionList) {
+    super.evaluate(solutionList);
+    for (DoubleSolution solution : solutionList) {
+      this.evaluateConstraints(solution);
+    }
+  }
+
   public void evaluateConstraints(DoubleSolution solution) {
 
     double sum1 = 0 ;
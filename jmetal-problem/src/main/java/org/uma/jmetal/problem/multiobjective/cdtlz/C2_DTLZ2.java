@@ -3,6 +3,8 @@ package org.uma.jmetal.problem.multiobjective.cdtlz;
 import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
+import java.util.List;
+
 /**
  * Problem C2-DTLZ2, defined in:
  * Jain, H. and K. Deb.  "An Evolutionary Many-Objective Optimization Algorithm Using Reference-Point-Based
@@ -37,6 +39,14 @@ public class C2_DTLZ2 extends DTLZ2 {
     evaluateConstraints(solution);
   }
 
+  @Override
+  public void evaluate(List<DoubleSolution> solutionList) {
+    super.evaluate(solutionList);
+    for (DoubleSolution solution : solutionList) {
+      evaluateConstraints(solution);
+    }
+  }
+
   public void evaluateConstraints(DoubleSolution solution) {
     double sum2 = 0 ;
     double maxSum1 = Double.MIN_VALUE ;
@@ -3,6 +3,8 @@ package org.uma.jmetal.problem.multiobjective.cdtlz;
 import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ1;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
+import java.util.List;
+
 /**
  * Problem C3-DTLZ1, defined in:
  * Jain, H. and K. Deb.  "An Evolutionary Many-Objective Optimization Algorithm Using Reference-Point-Based
@@ -30,6 +32,14 @@ public class C3_DTLZ1 extends DTLZ1 {
     this.evaluateConstraints(solution);
   }
 
+  @Override
+  public void evaluate(List<DoubleSolution> solutionList) {
+    super.evaluate(solutionList);
+    for (DoubleSolution solution : solutionList) {
+      this.evaluateConstraints(solution);
+    }
+  }
+
   public void evaluateConstraints(DoubleSolution solution) {
     double[] constraint = new double[this.getNumberOfConstraints()];
 
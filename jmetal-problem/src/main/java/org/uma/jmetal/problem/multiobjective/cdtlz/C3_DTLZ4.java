@@ -3,6 +3,8 @@ package org.uma.jmetal.problem.multiobjective.cdtlz;
 import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ4;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
+import java.util.List;
+
 /**
  * Problem C3-DTLZ4, defined in: Jain, H. and K. Deb. "An Evolutionary Many-Objective Optimization
  * Algorithm Using Reference-Point-Based Nondominated Sorting Approach, Part II: Handling
@@ -31,6 +33,14 @@ public class C3_DTLZ4 extends DTLZ4 {
     this.evaluateConstraints(solution);
   }
 
+  @Override
+  public void evaluate(List<DoubleSolution> solutionList) {
+    super.evaluate(solutionList);
+    for (DoubleSolution solution : solutionList) {
+      this.evaluateConstraints(solution);
+    }
+  }
+
   public void evaluateConstraints(DoubleSolution solution) {
     double[] constraint = new double[this.getNumberOfConstraints()];
 
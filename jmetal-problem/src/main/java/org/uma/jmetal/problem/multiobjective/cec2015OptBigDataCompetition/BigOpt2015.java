@@ -2,6 +2,7 @@ package org.uma.jmetal.problem.multiobjective.cec2015OptBigDataCompetition;
 
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.DenseMatrix;
 import org.uma.jmetal.util.JMetalException;
 
 import static java.lang.Double.*;
@@ -16,12 +17,21 @@ import java.util.StringTokenizer;
 
 /**
  * Created by ajnebro on 14/1/15.
+ *
+ * The matrices of the instance are stored in {@link DenseMatrix}es, and the values which only depend
+ * on them (the mean, standard deviation and centered values of the rows of the mixed signal) are
+ * computed when the instance is loaded. Each thread evaluating solutions reuses its own working
+ * matrices, so an evaluation does not allocate memory.
  */
 @SuppressWarnings("serial")
 public class BigOpt2015 extends AbstractDoubleProblem {
-  private List<List<Double>> mixed ;
-  private List<List<Double>> matrixA ;
-  private List<List<Double>> icaComponent ;
+  private DenseMatrix mixed ;
+  private DenseMatrix matrixA ;
+  private DenseMatrix icaComponent ;
+
+  private DenseMatrix centeredMixed ;
+  private double[] mixedStandardDeviation ;
+  private transient ThreadLocal<Workspace> workspace ;
 
   double f1max = -1000000;
   double f2max = -1000000;
@@ -55,31 +65,23 @@ public class BigOpt2015 extends AbstractDoubleProblem {
   /** Evaluate() method */
   @Override
   public void evaluate(DoubleSolution solution) {
-    List<List<Double>> s1 ;
-    List<Double> s1Temp ;
-
-    s1 = new ArrayList<>() ;
-
-    for (int i = 0 ; i < dTypeG; i++) {
-      s1Temp = new ArrayList<>() ;
-      for (int j = 0 ; j < icaComponent.get(0).size(); j++) {
-        s1Temp.add(solution.getVariable(i*(icaComponent.get(0).size())+j)) ;
-      }
-      s1.add(s1Temp) ;
+    Workspace w = getWorkspace() ;
+    DenseMatrix s1 = w.s1 ;
+    int numberOfSignals = s1.getRows() ;
+    int signalLength = s1.getColumns() ;
+
+    double[] s1Data = s1.getData() ;
+    for (int i = 0 ; i < s1Data.length; i++) {
+      s1Data[i] = solution.getDoubleVariable(i) ;
     }
 
-    List<List<Double>> x1 = multiplyWithOutAMP(matrixA, s1) ;
-    List<List<Double>> cor1 = correlation(x1, mixed) ;
+    DenseMatrix.multiply(matrixA, s1, w.x1);
+    correlation(w) ;
 
-    double sum = 0.0 ;
-    for (int i = 0 ; i < icaComponent.size(); i++) {
-      for (int j = 0 ; j < icaComponent.get(i).size(); j++) {
-        sum += Math.pow(icaComponent.get(i).get(j) - s1.get(i).get(j), 2) ;
-      }
-    }
+    double sum = icaComponent.squaredDistance(s1) ;
 
-    double obj1 = diagonal1(cor1)+diagonal2(cor1) ;
-    double obj2 = sum/(icaComponent.size() * icaComponent.get(0).size()) ;
+    double obj1 = diagonal1(w.correlation)+diagonal2(w.correlation) ;
+    double obj2 = sum/(numberOfSignals * signalLength) ;
 
     if (obj1 > f1max) {
       f1max = obj1 ;
@@ -102,8 +104,20 @@ public class BigOpt2015 extends AbstractDoubleProblem {
     solution.setObjective(1, obj2);
   }
 
+  private Workspace getWorkspace() {
+    if (workspace == null) {
+      synchronized (this) {
+        if (workspace == null) {
+          workspace = ThreadLocal.withInitial(Workspace::new) ;
+        }
+      }
+    }
+
+    return workspace.get() ;
+  }
+
   private void loadData(String problemId, String fName, int dType, int dLength) {
-    List<List<Double>> list ;
+    List<double[]> list ;
     String fileName = "/cec2015Comp/"+problemId+fName ;
 
     InputStream inputStream = createInputStream(fileName) ;
@@ -118,12 +132,11 @@ public class BigOpt2015 extends AbstractDoubleProblem {
 
       while (aux != null) {
         StringTokenizer tokenizer = new StringTokenizer(aux);
-        List<Double> doubleList = new ArrayList<>();
-        while (tokenizer.hasMoreTokens()) {
-          double value = parseDouble(tokenizer.nextToken());
-          doubleList.add(value) ;
+        double[] values = new double[tokenizer.countTokens()] ;
+        for (int i = 0 ; i < values.length; i++) {
+          values[i] = parseDouble(tokenizer.nextToken());
         }
-        list.add(doubleList);
+        list.add(values);
         aux = br.readLine();
       }
       br.close();
@@ -133,12 +146,13 @@ public class BigOpt2015 extends AbstractDoubleProblem {
       throw new JMetalException("Format number exception when reading file", e);
     }
 
+    DenseMatrix matrix = new DenseMatrix(list.toArray(new double[0][])) ;
     if (fName.equals("X.txt")) {
-      mixed = list ;
+      mixed = matrix ;
     } else if (fName.equals("S.txt")) {
-      icaComponent = list ;
+      icaComponent = matrix ;
     } else if (fName.equals("A.txt")) {
-      matrixA = list ;
+      matrixA = matrix ;
     } else {
       throw new JMetalException("Wrong name: " + fName) ;
     }
@@ -170,6 +184,14 @@ public class BigOpt2015 extends AbstractDoubleProblem {
     loadData(problemId, "X.txt", dType, 256);
     loadData(problemId, "S.txt", dType, 256);
     loadData(problemId, "A.txt", dType, dType);
+
+    mixedStandardDeviation = new double[mixed.getRows()] ;
+    for (int i = 0 ; i < mixed.getRows(); i++) {
+      mixedStandardDeviation[i] = mixed.rowStandardDeviation(i, mixed.rowMean(i)) ;
+    }
+    centeredMixed = new DenseMatrix(mixed.getRows(), mixed.getColumns()) ;
+    centeredMixed.copyFrom(mixed.getData(), 0) ;
+    centeredMixed.subtractFirstColumn() ;
   }
 
   private InputStream createInputStream(String fileName) {
@@ -178,120 +200,57 @@ public class BigOpt2015 extends AbstractDoubleProblem {
     return inputStream ;
   }
 
-  List<Double> newMeanStandardDeviation(List<Double> list) {
-    List<Double> result = new ArrayList<>();
-
-    double sum = 0 ;
-    for (double value : list) {
-      sum += value ;
-    }
-
-    double mean = sum / list.size() ;
-
-    double accum = 0 ;
-    for (double value : list) {
-      accum += (value - mean) * (value - mean) ;
+  /**
+   * Computes the correlation of each row of x1 with each row of the mixed signal. As in the original
+   * implementation of the competition, the values are centered on the first value of each row.
+   */
+  private void correlation(Workspace w) {
+    DenseMatrix x1 = w.x1 ;
+    for (int i = 0 ; i < x1.getRows(); i++) {
+      w.x1StandardDeviation[i] = x1.rowStandardDeviation(i, x1.rowMean(i)) ;
     }
-
-    double stdev = Math.sqrt(accum/(list.size()-1)) ;
-    result.add(mean) ;
-    result.add(stdev) ;
-
-    return result ;
-  }
-
-  double vectorCorrelation(List<Double> list1, List<Double> list2) {
-    List<Double> a1 = newMeanStandardDeviation(list1) ;
-    List<Double> b1 = newMeanStandardDeviation(list2) ;
-
-    double c1 = 0;
-    double temp1, temp2;
-
-    double a = a1.get(1) * b1.get(1) ;
-    if (Math.abs(a) > 0.00001){
-      for (int i = 0; i < list1.size(); i++){
-        temp1 = ((list1.get(i) - list1.get(0)) );
-        temp2 = ((list2.get(i) - list2.get(0)) );
-
-        c1 += temp1*temp2;
-
-      }
-      c1 /= (list1.size()*a);
-      return c1;
-    }
-    else
-      return 0;
-  }
-
-  List<List<Double>> correlation(List<List<Double>> list1, List<List<Double>> list2) {
-    List<List<Double>> m ;
-    List<Double> temp ;
-
-    m = new ArrayList<>() ;
-
-    for (List<Double> i : list1) {
-      temp = new ArrayList<>() ;
-      for (List<Double> j : list2) {
-        temp.add(vectorCorrelation(i, j)) ;
+    x1.subtractFirstColumn() ;
+
+    for (int i = 0 ; i < x1.getRows(); i++) {
+      for (int j = 0 ; j < centeredMixed.getRows(); j++) {
+        double a = w.x1StandardDeviation[i] * mixedStandardDeviation[j] ;
+        double c1 = 0 ;
+        if (Math.abs(a) > 0.00001) {
+          c1 = x1.rowDotProduct(i, centeredMixed, j) / (x1.getColumns() * a) ;
+        }
+        w.correlation.set(i, j, c1) ;
       }
-
-      m.add(temp) ;
     }
-
-    return m ;
   }
 
-  double diagonal1(List<List<Double>> list){
+  double diagonal1(DenseMatrix matrix){
     double sum = 0;
 
-    for (int i = 0; i < list.size(); i++){
-      for (int j = 0; j < list.size(); j++){
-        if (i == j){
-          sum += Math.pow(1 - list.get(i).get(j), 2);
-        }
-      }
+    for (int i = 0; i < matrix.getRows(); i++){
+      double value = 1 - matrix.get(i, i) ;
+      sum += value * value;
     }
-    return sum/list.size();
+    return sum/matrix.getRows();
   }
 
-  double diagonal2(List<List<Double>> list){
+  double diagonal2(DenseMatrix matrix){
     double sum = 0;
 
-    for (int i = 0; i < list.size(); i++){
-      for (int j = 0; j < list.size(); j++){
-        if (i == j){
-
-        }
-        else{
-          sum += Math.pow(list.get(i).get(j), 2);
-
+    for (int i = 0; i < matrix.getRows(); i++){
+      for (int j = 0; j < matrix.getRows(); j++){
+        if (i != j){
+          sum += matrix.get(i, j) * matrix.get(i, j);
         }
       }
     }
-    return sum/list.size()/(list.size()-1);
+    return sum/matrix.getRows()/(matrix.getRows()-1);
   }
 
-  List<List<Double>> multiplyWithOutAMP(List<List<Double>> list1, List<List<Double>> list2) {
-    List<List<Double>> c ;
-    List<Double> cTemp;
-
-    c = new ArrayList<>() ;
-    for (int row = 0; row < list1.size(); row++) {
-      cTemp = new ArrayList<>() ;
-      for (int col = 0; col < list2.get(0).size(); col++) {
-        cTemp.add(0.0);
-      }
-      c.add(cTemp);
-    }
-
-    for (int row = 0; row < list1.size(); row++) {
-      for (int col = 0; col < list2.get(row).size(); col++) {
-        for (int inner = 0; inner < list1.get(0).size(); inner++) {
-          double val = c.get(row).get(col) ;
-          c.get(row).set(col, val + list1.get(row).get(inner) * list2.get(inner).get(col));
-        }
-      }
-    }
-    return c;
+  /** Working matrices of the evaluations of a thread */
+  private class Workspace {
+    private final DenseMatrix s1 = new DenseMatrix(icaComponent.getRows(), icaComponent.getColumns()) ;
+    private final DenseMatrix x1 = new DenseMatrix(matrixA.getRows(), icaComponent.getColumns()) ;
+    private final DenseMatrix correlation = new DenseMatrix(matrixA.getRows(), mixed.getRows()) ;
+    private final double[] x1StandardDeviation = new double[matrixA.getRows()] ;
   }
 }
@@ -1,7 +1,7 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
+import org.uma.jmetal.problem.doubleproblem.DoubleBatchProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 
 import java.util.ArrayList;
@@ -11,7 +11,7 @@ import java.util.List;
  * Class representing problem DTLZ1
  */
 @SuppressWarnings("serial")
-public class DTLZ1 extends AbstractDoubleProblem {
+public class DTLZ1 extends AbstractDoubleProblem implements DoubleBatchProblem {
   /**
    * Creates a default DTLZ1 problem (7 variables and 3 objectives)
    */
@@ -42,42 +42,37 @@ public class DTLZ1 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public void evaluate(DoubleSolution solution) {
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
     int numberOfVariables = getNumberOfVariables();
     int numberOfObjectives = getNumberOfObjectives() ;
-
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
-
     int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.getVariable(i) ;
-    }
-
-    double g = 0.0;
-    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
-      g += (x[i] - 0.5) * (x[i] - 0.5) - Math.cos(20.0 * Math.PI * (x[i] - 0.5));
-    }
+    for (int row = 0; row < variables.length; row++) {
+      double[] x = variables[row];
+      double[] f = objectives[row];
 
-    g = 100 * (k + g);
-    for (int i = 0; i < numberOfObjectives; i++) {
-      f[i] = (1.0 + g) * 0.5;
-    }
-
-    for (int i = 0; i < numberOfObjectives; i++) {
-      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
-        f[i] *= x[j];
+      double g = 0.0;
+      for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+        g += (x[i] - 0.5) * (x[i] - 0.5) - Math.cos(20.0 * Math.PI * (x[i] - 0.5));
       }
-      if (i != 0) {
-        int aux = numberOfObjectives - (i + 1);
-        f[i] *= 1 - x[aux];
+
+      g = 100 * (k + g);
+      for (int i = 0; i < numberOfObjectives; i++) {
+        f[i] = (1.0 + g) * 0.5;
       }
-    }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.setObjective(i, f[i]);
+      for (int i = 0; i < numberOfObjectives; i++) {
+        for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+          f[i] *= x[j];
+        }
+        if (i != 0) {
+          int aux = numberOfObjectives - (i + 1);
+          f[i] *= 1 - x[aux];
+        }
+      }
     }
   }
+
 }
 
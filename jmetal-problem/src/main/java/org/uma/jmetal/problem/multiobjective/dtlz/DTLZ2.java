@@ -1,7 +1,7 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
+import org.uma.jmetal.problem.doubleproblem.DoubleBatchProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 
 import java.util.ArrayList;
@@ -11,7 +11,7 @@ import java.util.List;
  * Class representing problem DTLZ1
  */
 @SuppressWarnings("serial")
-public class DTLZ2 extends AbstractDoubleProblem {
+public class DTLZ2 extends AbstractDoubleProblem implements DoubleBatchProblem {
   /**
    * Creates a default DTLZ2 problem (12 variables and 3 objectives)
    */
@@ -42,39 +42,35 @@ public class DTLZ2 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public void evaluate(DoubleSolution solution) {
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
     int numberOfVariables = getNumberOfVariables();
     int numberOfObjectives = getNumberOfObjectives();
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
-
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.getVariable(i) ;
-    }
-
     int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
 
-    double g = 0.0;
-    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
-      g += (x[i] - 0.5) * (x[i] - 0.5);
-    }
-
-    for (int i = 0; i < numberOfObjectives; i++) {
-      f[i] = 1.0 + g;
-    }
+    for (int row = 0; row < variables.length; row++) {
+      double[] x = variables[row];
+      double[] f = objectives[row];
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
-        f[i] *= Math.cos(x[j] * 0.5 * Math.PI);
+      double g = 0.0;
+      for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+        g += (x[i] - 0.5) * (x[i] - 0.5);
       }
-      if (i != 0) {
-        int aux = numberOfObjectives - (i + 1);
-        f[i] *= Math.sin(x[aux] * 0.5 * Math.PI);
+
+      for (int i = 0; i < numberOfObjectives; i++) {
+        f[i] = 1.0 + g;
       }
-    }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.setObjective(i, f[i]);
+      for (int i = 0; i < numberOfObjectives; i++) {
+        for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+          f[i] *= Math.cos(x[j] * 0.5 * Math.PI);
+        }
+        if (i != 0) {
+          int aux = numberOfObjectives - (i + 1);
+          f[i] *= Math.sin(x[aux] * 0.5 * Math.PI);
+        }
+      }
     }
   }
+
 }
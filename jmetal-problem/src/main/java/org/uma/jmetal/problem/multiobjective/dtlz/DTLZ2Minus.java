@@ -2,6 +2,8 @@ package org.uma.jmetal.problem.multiobjective.dtlz;
 
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
+import java.util.List;
+
 /**
  * Class representing problem DTLZ2 Minus (DTLZ2 where all the objective vales are multiplied by -1
  */
@@ -33,4 +35,14 @@ public class DTLZ2Minus extends DTLZ2 {
       solution.setObjective(i, -1.0 * solution.getObjective(i));
     }
   }
+
+  @Override
+  public void evaluate(List<DoubleSolution> solutionList) {
+    super.evaluate(solutionList);
+    for (DoubleSolution solution : solutionList) {
+      for (int i = 0; i < getNumberOfObjectives(); i++) {
+        solution.setObjective(i, -1.0 * solution.getObjective(i));
+      }
+    }
+  }
 }
@@ -1,7 +1,7 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
+import org.uma.jmetal.problem.doubleproblem.DoubleBatchProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 
 import java.util.ArrayList;
@@ -11,7 +11,7 @@ import java.util.List;
  * Class representing problem DTLZ6
  */
 @SuppressWarnings("serial")
-public class DTLZ6 extends AbstractDoubleProblem {
+public class DTLZ6 extends AbstractDoubleProblem implements DoubleBatchProblem {
   /**
    * Creates a default DTLZ6 problem (12 variables and 3 objectives)
    */
@@ -42,47 +42,43 @@ public class DTLZ6 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public void evaluate(DoubleSolution solution) {
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
     int numberOfVariables = getNumberOfVariables();
     int numberOfObjectives = getNumberOfObjectives() ;
-    double[] theta = new double[numberOfObjectives - 1];
-
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
-
     int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
+    double[] theta = new double[numberOfObjectives - 1];
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.getVariable(i) ;
-    }
-
-    double g = 0.0;
-    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
-      g += java.lang.Math.pow(x[i], 0.1);
-    }
+    for (int row = 0; row < variables.length; row++) {
+      double[] x = variables[row];
+      double[] f = objectives[row];
 
-    double t = java.lang.Math.PI / (4.0 * (1.0 + g));
-    theta[0] = x[0] * java.lang.Math.PI / 2;
-    for (int i = 1; i < (numberOfObjectives - 1); i++) {
-      theta[i] = t * (1.0 + 2.0 * g * x[i]);
-    }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      f[i] = 1.0 + g;
-    }
+      double g = 0.0;
+      for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+        g += java.lang.Math.pow(x[i], 0.1);
+      }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
-        f[i] *= java.lang.Math.cos(theta[j]);
+      double t = java.lang.Math.PI / (4.0 * (1.0 + g));
+      theta[0] = x[0] * java.lang.Math.PI / 2;
+      for (int i = 1; i < (numberOfObjectives - 1); i++) {
+        theta[i] = t * (1.0 + 2.0 * g * x[i]);
       }
-      if (i != 0) {
-        int aux = numberOfObjectives - (i + 1);
-        f[i] *= java.lang.Math.sin(theta[aux]);
+
+      for (int i = 0; i < numberOfObjectives; i++) {
+        f[i] = 1.0 + g;
       }
-    }
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.setObjective(i, f[i]);
+      for (int i = 0; i < numberOfObjectives; i++) {
+        for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+          f[i] *= java.lang.Math.cos(theta[j]);
+        }
+        if (i != 0) {
+          int aux = numberOfObjectives - (i + 1);
+          f[i] *= java.lang.Math.sin(theta[aux]);
+        }
+      }
     }
   }
+
 }
@@ -1,7 +1,7 @@
 package org.uma.jmetal.problem.multiobjective.dtlz;
 
+import org.uma.jmetal.problem.doubleproblem.DoubleBatchProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 
 import java.util.ArrayList;
@@ -11,7 +11,7 @@ import java.util.List;
  * Class representing problem DTLZ7
  */
 @SuppressWarnings("serial")
-public class DTLZ7 extends AbstractDoubleProblem {
+public class DTLZ7 extends AbstractDoubleProblem implements DoubleBatchProblem {
   /**
    * Creates a default DTLZ7 problem (22 variables and 3 objectives)
    */
@@ -42,39 +42,34 @@ public class DTLZ7 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public void evaluate(DoubleSolution solution) {
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
     int numberOfVariables = getNumberOfVariables();
     int numberOfObjectives = getNumberOfObjectives() ;
-
-    double[] f = new double[numberOfObjectives];
-    double[] x = new double[numberOfVariables] ;
-
     int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.getVariable(i) ;
-    }
+    for (int row = 0; row < variables.length; row++) {
+      double[] x = variables[row];
+      double[] f = objectives[row];
 
-    double g = 0.0;
-    for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
-      g += x[i];
-    }
+      double g = 0.0;
+      for (int i = numberOfVariables - k; i < numberOfVariables; i++) {
+        g += x[i];
+      }
 
-    g = 1 + (9.0 * g) / k;
+      g = 1 + (9.0 * g) / k;
 
-    System.arraycopy(x, 0, f, 0, numberOfObjectives - 1);
+      System.arraycopy(x, 0, f, 0, numberOfObjectives - 1);
 
-    double h = 0.0;
-    for (int i = 0; i < numberOfObjectives - 1; i++) {
-      h += (f[i] / (1.0 + g)) * (1 + Math.sin(3.0 * Math.PI * f[i]));
-    }
-
-    h = numberOfObjectives - h;
+      double h = 0.0;
+      for (int i = 0; i < numberOfObjectives - 1; i++) {
+        h += (f[i] / (1.0 + g)) * (1 + Math.sin(3.0 * Math.PI * f[i]));
+      }
 
-    f[numberOfObjectives - 1] = (1 + g) * h;
+      h = numberOfObjectives - h;
 
-    for (int i = 0; i < numberOfObjectives; i++) {
-      solution.setObjective(i, f[i]);
+      f[numberOfObjectives - 1] = (1 + g) * h;
     }
   }
+
 }
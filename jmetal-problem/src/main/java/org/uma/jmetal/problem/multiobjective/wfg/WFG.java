@@ -1,5 +1,6 @@
 package org.uma.jmetal.problem.multiobjective.wfg;
 
+import org.uma.jmetal.problem.doubleproblem.DoubleBatchProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 
 import java.util.ArrayList;
@@ -15,7 +16,7 @@ import java.util.Random;
  * Proceedings, volume 3410 of Lecture Notes in Computer Science
  */
 @SuppressWarnings("serial")
-public abstract class WFG extends AbstractDoubleProblem {
+public abstract class WFG extends AbstractDoubleProblem implements DoubleBatchProblem {
 
   /**
    * stores a epsilon default value
@@ -129,4 +130,24 @@ public abstract class WFG extends AbstractDoubleProblem {
    * @return a double [] with the evaluation results
    */
   abstract public float[] evaluate(float[] variables);
+
+  /**
+   * Evaluates a set of solutions by converting their variables to float and invoking
+   * {@link #evaluate(float[])}
+   */
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
+    float[] x = new float[getNumberOfVariables()];
+    for (int row = 0; row < variables.length; row++) {
+      for (int i = 0; i < x.length; i++) {
+        x[i] = (float) variables[row][i];
+      }
+
+      float[] f = evaluate(x);
+
+      for (int i = 0; i < f.length; i++) {
+        objectives[row][i] = f[i];
+      }
+    }
+  }
 }
@@ -1,6 +1,5 @@
 package org.uma.jmetal.problem.multiobjective.wfg;
 
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 
@@ -148,29 +147,4 @@ public class WFG1 extends WFG {
 
     return result;
   }
-
-  /**
-   * Evaluates a solution
-   *
-   * @param solution The solution to runAlgorithm
-   * @throws org.uma.jmetal.util.JMetalException
-   */
-  public void evaluate(DoubleSolution solution) {
-    float[] variables = new float[getNumberOfVariables()];
-    double[] x = new double[getNumberOfVariables()];
-
-    for (int i = 0; i < getNumberOfVariables(); i++) {
-      x[i] = solution.getVariable(i);
-    }
-
-    for (int i = 0; i < getNumberOfVariables(); i++) {
-      variables[i] = (float) x[i] ;
-    }
-
-    float[] f = evaluate(variables);
-
-    for (int i = 0; i < f.length; i++) {
-      solution.setObjective(i, f[i]);
-    }
-  }
 }
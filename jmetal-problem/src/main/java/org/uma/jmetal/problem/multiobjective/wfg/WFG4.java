@@ -1,6 +1,5 @@
 package org.uma.jmetal.problem.multiobjective.wfg;
 
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
 /**
  * This class implements the WFG4 problem
@@ -104,29 +103,4 @@ public class WFG4 extends WFG {
 
     return result;
   }
-
-  /**
-   * Evaluates a solution
-   *
-   * @param solution The solution to runAlgorithm
-   * @throws org.uma.jmetal.util.JMetalException
-   */
-  public void evaluate(DoubleSolution solution) {
-    float[] variables = new float[this.getNumberOfVariables()];
-    double[] x = new double[getNumberOfVariables()];
-
-    for (int i = 0; i < getNumberOfVariables(); i++) {
-      x[i] = solution.getVariable(i);
-    }
-
-    for (int i = 0; i < getNumberOfVariables(); i++) {
-      variables[i] = (float) x[i] ;
-    }
-
-    float[] sol2 = evaluate(variables);
-
-    for (int i = 0; i < sol2.length; i++) {
-      solution.setObjective(i, sol2[i]);
-    }
-  }
 }
@@ -1,5 +1,6 @@
 package org.uma.jmetal.problem.multiobjective.zdt;
 
+import org.uma.jmetal.problem.doubleproblem.DoubleBatchProblem;
 import org.uma.jmetal.problem.doubleproblem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
@@ -8,7 +9,7 @@ import java.util.List;
 
 /** Class representing problem ZDT1 */
 @SuppressWarnings("serial")
-public class ZDT1 extends AbstractDoubleProblem {
+public class ZDT1 extends AbstractDoubleProblem implements DoubleBatchProblem {
 
   /** Constructor. Creates default instance of problem ZDT1 (30 decision variables) */
   public ZDT1() {
@@ -37,33 +38,53 @@ public class ZDT1 extends AbstractDoubleProblem {
   }
 
   /** Evaluate() method */
-  public void evaluate(DoubleSolution solution) {
-    double[] f = new double[getNumberOfObjectives()];
+  @Override
+  public void evaluate(double[][] variables, double[][] objectives) {
+    for (int i = 0; i < variables.length; i++) {
+      double[] x = variables[i];
 
-    f[0] = solution.getVariable(0);
-    double g = this.evalG(solution);
-    double h = this.evalH(f[0], g);
-    f[1] = h * g;
+      double f = this.evalF(x[0]);
+      double g = this.evalG(x);
+      double h = this.evalH(f, g);
 
-    solution.setObjective(0, f[0]);
-    solution.setObjective(1, f[1]);
+      objectives[i][0] = f;
+      objectives[i][1] = h * g;
+    }
+  }
+
+  /**
+   * Returns the value of the first objective.
+   *
+   * @param x First variable
+   */
+  protected double evalF(double x) {
+    return x;
   }
 
   /**
    * Returns the value of the ZDT1 function G.
    *
-   * @param solution Solution
+   * @param x Variables of the solution
    */
-  protected double evalG(DoubleSolution solution) {
+  protected double evalG(double[] x) {
     double g = 0.0;
-    for (int i = 1; i < solution.getNumberOfVariables(); i++) {
-      g += solution.getVariable(i);
+    for (int i = 1; i < x.length; i++) {
+      g += x[i];
     }
-    double constant = 9.0 / (solution.getNumberOfVariables() - 1);
+    double constant = 9.0 / (x.length - 1);
 
     return constant * g + 1.0;
   }
 
+  /**
+   * Returns the value of the function G of a solution.
+   *
+   * @param solution Solution
+   */
+  protected double evalG(DoubleSolution solution) {
+    return evalG(solution.getDoubleVariables());
+  }
+
   /**
    * Returns the value of the ZDT1 function H.
    *
@@ -40,19 +40,29 @@ public class ZDT4 extends ZDT1 {
   /**
    * Returns the value of the ZDT4 function G.
    *
-   * @param solution Solution
+   * @param x Variables of the solution
    */
-  public double evalG(DoubleSolution solution) {
+  public double evalG(double[] x) {
     double g = 0.0;
-    for (int var = 1; var < solution.getNumberOfVariables(); var++) {
-      g += Math.pow(solution.getVariable(var), 2.0) +
-        -10.0 * Math.cos(4.0 * Math.PI * solution.getVariable(var));
+    for (int var = 1; var < x.length; var++) {
+      g += Math.pow(x[var], 2.0) +
+        -10.0 * Math.cos(4.0 * Math.PI * x[var]);
     }
 
-    double constant = 1.0 + 10.0 * (solution.getNumberOfVariables() - 1);
+    double constant = 1.0 + 10.0 * (x.length - 1);
     return g + constant;
   }
 
+  /**
+   * Returns the value of the ZDT4 function G.
+   *
+   * @param solution Solution
+   */
+  @Override
+  public double evalG(DoubleSolution solution) {
+    return evalG(solution.getDoubleVariables());
+  }
+
   /**
    * Returns the value of the ZDT4 function H.
    *
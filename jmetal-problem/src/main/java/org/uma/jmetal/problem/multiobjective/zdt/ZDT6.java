@@ -1,7 +1,5 @@
 package org.uma.jmetal.problem.multiobjective.zdt;
 
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-
 /**
  * Class representing problem ZDT6 Difined in E. Zitzler, K. Deb, and L. Thiele, "Comparison of
  * Multiobjective Evolutionary Algorithms: Empirical Results," Evolutionary Computation, vol. 8, no.
@@ -25,32 +23,26 @@ public class ZDT6 extends ZDT1 {
     setName("ZDT6");
   }
 
-  /** Evaluate() method */
-  public void evaluate(DoubleSolution solution) {
-    double[] f = new double[getNumberOfObjectives()];
-
-    double x1;
-    x1 = solution.getVariable(0);
-    f[0] = 1 - Math.exp(-4 * x1) * Math.pow(Math.sin(6 * Math.PI * x1), 6);
-    double g = this.evalG(solution);
-    double h = this.evalH(f[0], g);
-    f[1] = h * g;
-
-    solution.setObjective(0, f[0]);
-    solution.setObjective(1, f[1]);
+  /**
+   * Returns the value of the first objective.
+   *
+   * @param x1 First variable
+   */
+  protected double evalF(double x1) {
+    return 1 - Math.exp(-4 * x1) * Math.pow(Math.sin(6 * Math.PI * x1), 6);
   }
 
   /**
    * Returns the value of the ZDT6 function G.
    *
-   * @param solution Solution
+   * @param x Variables of the solution
    */
-  protected double evalG(DoubleSolution solution) {
+  protected double evalG(double[] x) {
     double g = 0.0;
-    for (int var = 1; var < solution.getNumberOfVariables(); var++) {
-      g += solution.getVariable(var);
+    for (int var = 1; var < x.length; var++) {
+      g += x[var];
     }
-    g = g / (solution.getNumberOfVariables() - 1);
+    g = g / (x.length - 1);
     g = Math.pow(g, 0.25);
     g = 9.0 * g;
     g = 1.0 + g;